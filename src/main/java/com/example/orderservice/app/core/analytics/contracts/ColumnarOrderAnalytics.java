@@ -0,0 +1,54 @@
+package com.example.orderservice.app.core.analytics.contracts;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.orderservice.app.core.analytics.entities.ColumnarOrderTable;
+import com.example.orderservice.app.core.analytics.interfaces.OrderAnalyticsService;
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.orders.interfaces.OrderChangeListener;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * {@link OrderAnalyticsService} over a {@link ColumnarOrderTable}, fed with
+ * every saved order and status change.
+ */
+@Component
+public class ColumnarOrderAnalytics implements OrderAnalyticsService, OrderChangeListener {
+
+    private final ColumnarOrderTable table;
+
+    public ColumnarOrderAnalytics(MetricsService metricsService,
+            @Value("${orderservice.analytics.max-rows:1000000}") long maxRows) {
+        this.table = new ColumnarOrderTable(maxRows);
+        metricsService.gauge("analytics_rows", table::size);
+    }
+
+    @Override
+    public void orderCreated(Order order) {
+        table.append(order.getId(), order.getStatus(), order.getCurrency(), order.getCustomerId(),
+                order.getTotalAmountMinor(), EpochNanos.of(order.getCreatedAt()));
+    }
+
+    @Override
+    public void orderStatusChanged(Order order, OrderStatus previous) {
+        table.updateStatus(order.getId(), order.getStatus());
+    }
+
+    @Override
+    public Aggregate aggregate(OrderFilter filter) {
+        return table.aggregate(filter);
+    }
+
+    @Override
+    public List<Aggregate> aggregate(OrderFilter filter, GroupBy groupBy) {
+        return table.aggregate(filter, groupBy);
+    }
+}
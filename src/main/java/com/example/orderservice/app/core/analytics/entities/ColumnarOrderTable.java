@@ -0,0 +1,349 @@
+package com.example.orderservice.app.core.analytics.entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+/**
+ * Column-oriented table of orders for aggregate queries.
+ *
+ * <p>
+ * Rows are appended to blocks of {@value #BLOCK_ROWS} rows. Each block holds
+ * one primitive array per column: status as a byte (the ordinal), currency
+ * and customer as int codes from a {@link StringDictionary}, and total and
+ * creation time as longs (minor units and {@code EpochNanos}). Queries run a
+ * branch-free loop over the arrays of each block, which the JIT can unroll
+ * and vectorize, and skip blocks whose creation-time range lies outside the
+ * filter. Once {@code maxRows} is reached the oldest block is dropped.
+ * </p>
+ *
+ * <p>
+ * Customer codes are never reused, so a dropped block can leave most of the
+ * customer dictionary unreferenced. When fewer than half of its entries are
+ * still in use after a drop, the dictionary is rebuilt from the kept rows and
+ * their customer column re-encoded; blocks carry the dictionary they were
+ * encoded with, so queries already running keep a consistent view.
+ * </p>
+ *
+ * <p>
+ * Appends and status updates are serialized; queries take no lock and see
+ * every row appended before they start. A query racing a status update may
+ * see either status.
+ * </p>
+ */
+public final class ColumnarOrderTable {
+
+    public static final int BLOCK_ROWS = 1 << 14;
+
+    /** Status stored for orders without one; matched by every status mask of -1. */
+    static final byte NO_STATUS = 31;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final int maxBlocks;
+    private final StringDictionary currencies = new StringDictionary();
+    /** Dictionary of the newest blocks; replaced when compacted. */
+    private StringDictionary customers = new StringDictionary();
+    /** Global row number of each order, for status updates. */
+    private final Map<String, Long> rows = new HashMap<>();
+    /** Oldest block first; every block but the last is full. */
+    private volatile Block[] blocks = new Block[0];
+    private long nextRow;
+
+    /**
+     * @param maxRows rows kept before the oldest are dropped, rounded up to
+     *                whole blocks
+     */
+    public ColumnarOrderTable(long maxRows) {
+        this.maxBlocks = (int) Math.max(1, (maxRows + BLOCK_ROWS - 1) / BLOCK_ROWS);
+    }
+
+    static final class Block {
+        final long firstRow;
+        /** Dictionary of {@link #customer}; shared by every block of one {@code blocks} array. */
+        final StringDictionary customers;
+        final String[] orderIds;
+        final byte[] status;
+        final int[] currency;
+        final int[] customer;
+        final long[] totalMinor;
+        final long[] createdAt;
+        long minCreatedAt = Long.MAX_VALUE;
+        long maxCreatedAt = Long.MIN_VALUE;
+        volatile int size;
+
+        Block(long firstRow, StringDictionary customers) {
+            this.firstRow = firstRow;
+            this.customers = customers;
+            this.orderIds = new String[BLOCK_ROWS];
+            this.status = new byte[BLOCK_ROWS];
+            this.currency = new int[BLOCK_ROWS];
+            this.customer = new int[BLOCK_ROWS];
+            this.totalMinor = new long[BLOCK_ROWS];
+            this.createdAt = new long[BLOCK_ROWS];
+        }
+
+        /**
+         * A full block with its customer column re-encoded; every other
+         * column, including the status updated in place, is shared.
+         */
+        Block(Block block, StringDictionary customers, int[] customer) {
+            this.firstRow = block.firstRow;
+            this.customers = customers;
+            this.orderIds = block.orderIds;
+            this.status = block.status;
+            this.currency = block.currency;
+            this.customer = customer;
+            this.totalMinor = block.totalMinor;
+            this.createdAt = block.createdAt;
+            this.minCreatedAt = block.minCreatedAt;
+            this.maxCreatedAt = block.maxCreatedAt;
+            this.size = block.size;
+        }
+    }
+
+    public synchronized void append(String orderId, OrderStatus status, String currency, String customerId,
+            long totalMinor, long createdAt) {
+        Block[] current = blocks;
+        Block block = current.length == 0 ? null : current[current.length - 1];
+        if (block == null || block.size == BLOCK_ROWS) {
+            block = addBlock(current);
+        }
+        int i = block.size;
+        block.orderIds[i] = orderId;
+        block.status[i] = status != null ? (byte) status.ordinal() : NO_STATUS;
+        block.currency[i] = currencies.encode(currency != null ? currency : "");
+        block.customer[i] = customers.encode(customerId != null ? customerId : "");
+        block.totalMinor[i] = totalMinor;
+        block.createdAt[i] = createdAt;
+        block.minCreatedAt = Math.min(block.minCreatedAt, createdAt);
+        block.maxCreatedAt = Math.max(block.maxCreatedAt, createdAt);
+        if (orderId != null) {
+            rows.put(orderId, nextRow);
+        }
+        nextRow++;
+        block.size = i + 1;
+    }
+
+    /**
+     * @return false if the order is not in the table
+     */
+    public synchronized boolean updateStatus(String orderId, OrderStatus status) {
+        Long row = rows.get(orderId);
+        if (row == null) {
+            return false;
+        }
+        Block[] current = blocks;
+        Block block = current[(int) ((row - current[0].firstRow) / BLOCK_ROWS)];
+        block.status[(int) (row - block.firstRow)] = status != null ? (byte) status.ordinal() : NO_STATUS;
+        return true;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Block block : blocks) {
+            size += block.size;
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of customers the dictionary holds codes for,
+     *         including ones only in dropped blocks
+     */
+    synchronized int customerDictionarySize() {
+        return customers.size();
+    }
+
+    public Aggregate aggregate(OrderFilter filter) {
+        Block[] snapshot = blocks;
+        Scan scan = scan(filter, snapshot);
+        if (scan == null) {
+            return new Aggregate(null, 0, 0);
+        }
+        long count = 0;
+        long total = 0;
+        for (Block block : snapshot) {
+            int n = block.size;
+            if (n == 0 || scan.skips(block)) {
+                continue;
+            }
+            byte[] status = block.status;
+            int[] currency = block.currency;
+            int[] customer = block.customer;
+            long[] totalMinor = block.totalMinor;
+            long[] createdAt = block.createdAt;
+            for (int i = 0; i < n; i++) {
+                long match = scan.match(status[i], currency[i], customer[i], createdAt[i]);
+                count -= match;
+                total += totalMinor[i] & match;
+            }
+        }
+        return new Aggregate(null, count, total);
+    }
+
+    public List<Aggregate> aggregate(OrderFilter filter, GroupBy groupBy) {
+        // Snapshot the rows before the dictionaries, so every code in them
+        // is below the dictionary size
+        Block[] snapshot = blocks;
+        Scan scan = scan(filter, snapshot);
+        if (scan == null) {
+            return List.of();
+        }
+        StringDictionary customerCodes = snapshot[0].customers;
+        int[] sizes = new int[snapshot.length];
+        for (int b = 0; b < snapshot.length; b++) {
+            sizes[b] = snapshot[b].size;
+        }
+        int groups = switch (groupBy) {
+            case STATUS -> NO_STATUS + 1;
+            case CURRENCY -> currencies.size();
+            case CUSTOMER -> customerCodes.size();
+        };
+        long[] counts = new long[groups];
+        long[] totals = new long[groups];
+        for (int b = 0; b < snapshot.length; b++) {
+            Block block = snapshot[b];
+            int n = sizes[b];
+            if (n == 0 || scan.skips(block)) {
+                continue;
+            }
+            byte[] status = block.status;
+            int[] currency = block.currency;
+            int[] customer = block.customer;
+            long[] totalMinor = block.totalMinor;
+            long[] createdAt = block.createdAt;
+            if (groupBy == GroupBy.STATUS) {
+                for (int i = 0; i < n; i++) {
+                    long match = scan.match(status[i], currency[i], customer[i], createdAt[i]);
+                    counts[status[i]] -= match;
+                    totals[status[i]] += totalMinor[i] & match;
+                }
+            } else {
+                int[] keys = groupBy == GroupBy.CURRENCY ? currency : customer;
+                for (int i = 0; i < n; i++) {
+                    long match = scan.match(status[i], currency[i], customer[i], createdAt[i]);
+                    counts[keys[i]] -= match;
+                    totals[keys[i]] += totalMinor[i] & match;
+                }
+            }
+        }
+
+        List<Aggregate> result = new ArrayList<>();
+        for (int key = 0; key < groups; key++) {
+            if (counts[key] > 0) {
+                result.add(new Aggregate(keyName(groupBy, key, customerCodes), counts[key], totals[key]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter resolved to the column codes of {@code snapshot}, or null if it
+     * can match nothing.
+     */
+    private Scan scan(OrderFilter filter, Block[] snapshot) {
+        if (snapshot.length == 0) {
+            return null;
+        }
+        int currency = filter.currency() == null ? -1 : currencies.lookup(filter.currency());
+        int customer = filter.customerId() == null ? -1 : snapshot[0].customers.lookup(filter.customerId());
+        if ((filter.currency() != null && currency < 0) || (filter.customerId() != null && customer < 0)) {
+            return null;
+        }
+        return new Scan(filter.statusMask(), currency, customer, filter.createdFrom(), filter.createdUntil());
+    }
+
+    private record Scan(int statusMask, int currency, int customer, long from, long until) {
+
+        boolean skips(Block block) {
+            return block.maxCreatedAt < from || block.minCreatedAt >= until;
+        }
+
+        /**
+         * @return -1 (all bits set) if the row matches, else 0
+         */
+        long match(byte status, int currencyCode, int customerCode, long createdAt) {
+            int matches = (statusMask >>> status) & 1
+                    & (currency < 0 | currencyCode == currency ? 1 : 0)
+                    & (customer < 0 | customerCode == customer ? 1 : 0)
+                    & (createdAt >= from ? 1 : 0)
+                    & (createdAt < until ? 1 : 0);
+            return -(long) matches;
+        }
+    }
+
+    private String keyName(GroupBy groupBy, int key, StringDictionary customerCodes) {
+        return switch (groupBy) {
+            case STATUS -> key == NO_STATUS ? null : STATUSES[key].name();
+            case CURRENCY -> currencies.decode(key);
+            case CUSTOMER -> customerCodes.decode(key);
+        };
+    }
+
+    private Block addBlock(Block[] current) {
+        Block[] next;
+        if (current.length == maxBlocks) {
+            Block dropped = current[0];
+            for (String orderId : dropped.orderIds) {
+                Long row = orderId != null ? rows.get(orderId) : null;
+                // The id may have been appended again since
+                if (row != null && row < dropped.firstRow + BLOCK_ROWS) {
+                    rows.remove(orderId);
+                }
+            }
+            next = Arrays.copyOfRange(current, 1, current.length + 1);
+            compactCustomers(next, next.length - 1);
+        } else {
+            next = Arrays.copyOf(current, current.length + 1);
+        }
+        Block block = new Block(nextRow, customers);
+        next[next.length - 1] = block;
+        blocks = next;
+        return block;
+    }
+
+    /**
+     * Rebuild the customer dictionary from the first {@code kept} blocks of
+     * {@code next}, all full, if fewer than half of its codes are still used.
+     * The re-encoded blocks replace the originals in {@code next}.
+     */
+    private void compactCustomers(Block[] next, int kept) {
+        int size = customers.size();
+        // Old code + 1 for each code still in use, 0 for the rest
+        int[] remap = new int[size];
+        int used = 0;
+        for (int b = 0; b < kept; b++) {
+            for (int code : next[b].customer) {
+                if (remap[code] == 0) {
+                    remap[code] = ++used;
+                }
+            }
+        }
+        if (used * 2 >= size) {
+            return;
+        }
+        StringDictionary compacted = new StringDictionary();
+        for (int code = 0; code < size; code++) {
+            if (remap[code] != 0) {
+                remap[code] = compacted.encode(customers.decode(code));
+            }
+        }
+        for (int b = 0; b < kept; b++) {
+            int[] customer = next[b].customer;
+            int[] recoded = new int[BLOCK_ROWS];
+            for (int i = 0; i < BLOCK_ROWS; i++) {
+                recoded[i] = remap[customer[i]];
+            }
+            next[b] = new Block(next[b], compacted, recoded);
+        }
+        customers = compacted;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.orderservice.app.core.analytics.entities;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary encoding of strings as dense int codes 0, 1, 2, ... in order of
+ * first appearance. Codes are never reused.
+ *
+ * <p>
+ * {@link #encode} is called by a single writer at a time; {@link #lookup}
+ * and {@link #decode} may be called concurrently with it.
+ * </p>
+ */
+public final class StringDictionary {
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int size;
+
+    /**
+     * @return the code of {@code value}, adding it if new
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        int next = size;
+        String[] current = values;
+        if (next == current.length) {
+            current = Arrays.copyOf(current, next * 2);
+        }
+        current[next] = value;
+        values = current;
+        codes.put(value, next);
+        size = next + 1;
+        return next;
+    }
+
+    /**
+     * @return the code of {@code value}, or -1 if it has never been encoded
+     */
+    public int lookup(String value) {
+        Integer code = codes.get(value);
+        return code != null ? code : -1;
+    }
+
+    public String decode(int code) {
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+}
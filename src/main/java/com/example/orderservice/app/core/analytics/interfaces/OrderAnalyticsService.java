@@ -0,0 +1,23 @@
+package com.example.orderservice.app.core.analytics.interfaces;
+
+import java.util.List;
+
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+
+/**
+ * Aggregate queries over recent orders.
+ */
+public interface OrderAnalyticsService {
+
+    /**
+     * @return the number and summed total of matching orders
+     */
+    Aggregate aggregate(OrderFilter filter);
+
+    /**
+     * @return one aggregate per group with at least one matching order
+     */
+    List<Aggregate> aggregate(OrderFilter filter, GroupBy groupBy);
+}
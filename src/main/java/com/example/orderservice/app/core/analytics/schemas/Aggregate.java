@@ -0,0 +1,12 @@
+package com.example.orderservice.app.core.analytics.schemas;
+
+/**
+ * Count and summed total of the orders in one group.
+ *
+ * @param key        the group, e.g. the currency code; null when not grouped
+ * @param count      number of matching orders
+ * @param totalMinor sum of their totals in minor units; only meaningful
+ *                   within one currency
+ */
+public record Aggregate(String key, long count, long totalMinor) {
+}
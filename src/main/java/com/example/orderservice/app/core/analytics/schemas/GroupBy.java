@@ -0,0 +1,10 @@
+package com.example.orderservice.app.core.analytics.schemas;
+
+/**
+ * Column that aggregates are grouped by.
+ */
+public enum GroupBy {
+    STATUS,
+    CURRENCY,
+    CUSTOMER
+}
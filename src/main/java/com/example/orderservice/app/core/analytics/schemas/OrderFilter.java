@@ -0,0 +1,51 @@
+package com.example.orderservice.app.core.analytics.schemas;
+
+import java.time.LocalDateTime;
+
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+
+/**
+ * Conjunction of conditions on orders. Null fields and the defaults of
+ * {@link #ALL} match everything.
+ *
+ * <pre>{@code
+ * OrderFilter.ALL.withStatus(OrderStatus.PENDING).withCurrency("EUR")
+ *         .createdSince(LocalDateTime.now().minusHours(1));
+ * }</pre>
+ *
+ * @param statusMask   bit {@code 1 << ordinal} for each accepted status
+ * @param currency     the currency code, or null for any
+ * @param customerId   the customer, or null for any
+ * @param createdFrom  earliest creation time, inclusive, in {@link EpochNanos}
+ * @param createdUntil latest creation time, exclusive, in {@link EpochNanos}
+ */
+public record OrderFilter(int statusMask, String currency, String customerId, long createdFrom,
+        long createdUntil) {
+
+    public static final OrderFilter ALL = new OrderFilter(-1, null, null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+    public OrderFilter withStatus(OrderStatus... statuses) {
+        int mask = 0;
+        for (OrderStatus status : statuses) {
+            mask |= 1 << status.ordinal();
+        }
+        return new OrderFilter(mask, currency, customerId, createdFrom, createdUntil);
+    }
+
+    public OrderFilter withCurrency(String currency) {
+        return new OrderFilter(statusMask, currency, customerId, createdFrom, createdUntil);
+    }
+
+    public OrderFilter withCustomer(String customerId) {
+        return new OrderFilter(statusMask, currency, customerId, createdFrom, createdUntil);
+    }
+
+    public OrderFilter createdSince(LocalDateTime from) {
+        return new OrderFilter(statusMask, currency, customerId, EpochNanos.of(from), createdUntil);
+    }
+
+    public OrderFilter createdBefore(LocalDateTime until) {
+        return new OrderFilter(statusMask, currency, customerId, createdFrom, EpochNanos.of(until));
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.orderservice.app.core.inventory.contracts;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.inventory.entities.Reservation;
+import com.example.orderservice.app.core.inventory.entities.StripedInventoryLedger;
+import com.example.orderservice.app.core.inventory.exceptions.InsufficientStockException;
+import com.example.orderservice.app.core.inventory.interfaces.InventoryService;
+import com.example.orderservice.app.core.inventory.spring.InventoryProperties;
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.orders.interfaces.OrderChangeListener;
+import com.example.orderservice.app.infra.inventorystore.interfaces.InventoryCheckpointStore;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@link InventoryService} over a {@link StripedInventoryLedger}.
+ *
+ * <p>
+ * Reservations live in memory, keyed by order id. They are released when the
+ * order is cancelled or after {@code orderservice.inventory.reservation-timeout},
+ * and kept as sold once the order is confirmed. No endpoint changes an order's
+ * status yet, so until one calls {@link #orderStatusChanged}, held stock only
+ * comes back on timeout. Every
+ * {@code checkpoint-interval} (and at shutdown) the units on hand, available
+ * plus held, are written to the database; at startup the ledger is loaded
+ * from the last checkpoint, or from {@code initial-stock} if there is none.
+ * Held units thus go back to stock after a restart. A checkpoint is not a
+ * consistent cut: reservations made while it is taken may be counted twice.
+ * </p>
+ */
+@Service
+public class InventoryServiceContractV0 implements InventoryService, OrderChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryServiceContractV0.class);
+
+    private final StripedInventoryLedger ledger;
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final InventoryCheckpointStore checkpointStore;
+    private final long timeoutNanos;
+
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Counter confirmed;
+    private final Counter cancelled;
+    private final Counter expired;
+
+    public InventoryServiceContractV0(InventoryProperties properties, InventoryCheckpointStore checkpointStore,
+            MetricsService metricsService) {
+        this.ledger = new StripedInventoryLedger(properties.stripes());
+        this.checkpointStore = checkpointStore;
+        this.timeoutNanos = properties.reservationTimeout().toNanos();
+
+        Map<String, Long> stock = checkpointStore.load();
+        if (stock.isEmpty()) {
+            stock = properties.initialStock();
+        }
+        stock.forEach(ledger::adjust);
+        logger.info("Inventory ledger loaded with {} SKUs", ledger.skuCount());
+
+        this.reserved = metricsService.counter("inventory_reservations_total", "result", "reserved");
+        this.rejected = metricsService.counter("inventory_reservations_total", "result", "rejected");
+        this.confirmed = metricsService.counter("inventory_reservations_closed_total", "reason", "confirmed");
+        this.cancelled = metricsService.counter("inventory_reservations_closed_total", "reason", "cancelled");
+        this.expired = metricsService.counter("inventory_reservations_closed_total", "reason", "expired");
+        metricsService.gauge("inventory_reservations_active", reservations::size);
+        metricsService.gauge("inventory_skus", ledger::skuCount);
+    }
+
+    @Override
+    public void reserve(Order order) {
+        // One entry per product, even if it appears on several items
+        List<OrderItem> items = order.getItems();
+        Map<String, Long> units = new LinkedHashMap<>(items.size() * 2);
+        for (OrderItem item : items) {
+            units.merge(item.getProductId(), (long) item.getQuantity(), Long::sum);
+        }
+        String[] skus = new String[units.size()];
+        long[] quantities = new long[units.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> entry : units.entrySet()) {
+            skus[i] = entry.getKey();
+            quantities[i++] = entry.getValue();
+        }
+
+        Reservation reservation = new Reservation(order.getId(), skus, quantities, System.nanoTime() + timeoutNanos);
+        int shortIndex = ledger.reserve(reservation);
+        if (shortIndex >= 0) {
+            rejected.increment();
+            throw new InsufficientStockException(skus[shortIndex]);
+        }
+        reserved.increment();
+        Reservation previous = reservations.put(order.getId(), reservation);
+        if (previous != null) {
+            ledger.release(previous);
+        }
+    }
+
+    @Override
+    public boolean release(String orderId) {
+        Reservation reservation = reservations.remove(orderId);
+        if (reservation == null) {
+            return false;
+        }
+        ledger.release(reservation);
+        cancelled.increment();
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String orderId) {
+        if (reservations.remove(orderId) == null) {
+            return false;
+        }
+        confirmed.increment();
+        return true;
+    }
+
+    @Override
+    public void orderCreated(Order order) {
+        // Reserved by the create pipeline before the order is saved
+    }
+
+    @Override
+    public void orderStatusChanged(Order order, OrderStatus previous) {
+        if (order.getStatus() == null) {
+            return;
+        }
+        switch (order.getStatus()) {
+            case CANCELLED -> release(order.getId());
+            case CONFIRMED, PROCESSING, SHIPPED, DELIVERED -> confirm(order.getId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Release the reservations of orders that were neither confirmed nor
+     * cancelled in time.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.inventory.sweep-interval:1s}")
+    public void releaseExpired() {
+        long now = System.nanoTime();
+        for (Map.Entry<String, Reservation> entry : reservations.entrySet()) {
+            Reservation reservation = entry.getValue();
+            if (now - reservation.expiresAtNanos() >= 0 && reservations.remove(entry.getKey(), reservation)) {
+                ledger.release(reservation);
+                expired.increment();
+            }
+        }
+    }
+
+    /**
+     * Write the units on hand of every SKU to the database.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.inventory.checkpoint-interval:10s}")
+    @PreDestroy
+    public void checkpoint() {
+        Map<String, Long> onHand = ledger.snapshot();
+        for (Reservation reservation : reservations.values()) {
+            for (int i = 0; i < reservation.skus().length; i++) {
+                long held = reservation.quantities()[i];
+                onHand.computeIfPresent(reservation.skus()[i], (sku, units) -> units + held);
+            }
+        }
+        try {
+            checkpointStore.save(onHand);
+            logger.debug("Inventory checkpoint written for {} SKUs", onHand.size());
+        } catch (RuntimeException e) {
+            logger.error("Inventory checkpoint failed, will retry", e);
+        }
+    }
+
+    /**
+     * @return the units available, or -1 if the SKU is not tracked
+     */
+    public long available(String sku) {
+        return ledger.available(sku);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.app.core.inventory.entities;
+
+/**
+ * Stock held for one order until it is confirmed, cancelled or expires.
+ *
+ * @param orderId        the order
+ * @param skus           distinct SKUs
+ * @param quantities     units held of each SKU
+ * @param expiresAtNanos {@link System#nanoTime()} after which the stock is
+ *                       released
+ */
+public record Reservation(
+        String orderId,
+        String[] skus,
+        long[] quantities,
+        long expiresAtNanos) {
+}
@@ -0,0 +1,162 @@
+package com.example.orderservice.app.core.inventory.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory count of available units per SKU, updated with lock-free
+ * compare-and-set.
+ *
+ * <p>
+ * Each SKU's count is split over a power-of-two number of stripes, each on
+ * its own cache line, and threads start at different stripes, so concurrent
+ * reservations of a hot SKU mostly update different cells. A reservation
+ * takes what it needs from its own stripe and moves on to the others only
+ * when that stripe runs short. SKUs without a count are not tracked and are
+ * never short.
+ * </p>
+ *
+ * <p>
+ * {@link #reserve(Reservation)} is all or nothing: if any SKU is short, what
+ * was already taken is given back. While that rollback is in flight, a
+ * concurrent reservation of the last units may fail although the units come
+ * back; no units are ever lost or created.
+ * </p>
+ */
+public final class StripedInventoryLedger {
+
+    /** Longs per 64-byte cache line. */
+    private static final int PAD = 8;
+
+    private final int stripes;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param stripes cells per SKU, rounded up to a power of two
+     */
+    public StripedInventoryLedger(int stripes) {
+        this.stripes = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    private final class Counter {
+        final AtomicLongArray cells = new AtomicLongArray(stripes * PAD);
+
+        long available() {
+            long sum = 0;
+            for (int i = 0; i < stripes; i++) {
+                sum += cells.get(i * PAD);
+            }
+            return sum;
+        }
+
+        /**
+         * @return the units taken, at most {@code quantity}
+         */
+        long take(long quantity, int start) {
+            long remaining = quantity;
+            for (int k = 0; k < stripes && remaining > 0; k++) {
+                int cell = ((start + k) & (stripes - 1)) * PAD;
+                long current;
+                long taken;
+                do {
+                    current = cells.get(cell);
+                    if (current <= 0) {
+                        taken = 0;
+                        break;
+                    }
+                    taken = Math.min(current, remaining);
+                } while (!cells.compareAndSet(cell, current, current - taken));
+                remaining -= taken;
+            }
+            return quantity - remaining;
+        }
+
+        void give(long quantity, int stripe) {
+            cells.getAndAdd((stripe & (stripes - 1)) * PAD, quantity);
+        }
+    }
+
+    /**
+     * Take every item of the reservation, or none.
+     *
+     * @return -1 on success, else the index of the first SKU that was short
+     */
+    public int reserve(Reservation reservation) {
+        String[] skus = reservation.skus();
+        long[] quantities = reservation.quantities();
+        int stripe = stripe();
+        for (int i = 0; i < skus.length; i++) {
+            Counter counter = counters.get(skus[i]);
+            if (counter == null) {
+                continue;
+            }
+            long taken = counter.take(quantities[i], stripe);
+            if (taken < quantities[i]) {
+                counter.give(taken, stripe);
+                for (int j = 0; j < i; j++) {
+                    Counter previous = counters.get(skus[j]);
+                    if (previous != null) {
+                        previous.give(quantities[j], stripe);
+                    }
+                }
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Give back every item of a reservation made with
+     * {@link #reserve(Reservation)}.
+     */
+    public void release(Reservation reservation) {
+        int stripe = stripe();
+        for (int i = 0; i < reservation.skus().length; i++) {
+            Counter counter = counters.get(reservation.skus()[i]);
+            if (counter != null) {
+                counter.give(reservation.quantities()[i], stripe);
+            }
+        }
+    }
+
+    /**
+     * Add (or with a negative {@code delta}, remove) units of a SKU, starting
+     * to track it if needed.
+     */
+    public void adjust(String sku, long delta) {
+        counters.computeIfAbsent(sku, k -> new Counter()).give(delta, stripe());
+    }
+
+    /**
+     * @return the units available, or -1 if the SKU is not tracked
+     */
+    public long available(String sku) {
+        Counter counter = counters.get(sku);
+        return counter == null ? -1 : counter.available();
+    }
+
+    /**
+     * @return the units available of every tracked SKU; each count is read
+     *         separately, so concurrent reservations may show in some
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new HashMap<>(counters.size() * 2);
+        counters.forEach((sku, counter) -> snapshot.put(sku, counter.available()));
+        return snapshot;
+    }
+
+    public int skuCount() {
+        return counters.size();
+    }
+
+    public int stripes() {
+        return stripes;
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().threadId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40);
+    }
+}
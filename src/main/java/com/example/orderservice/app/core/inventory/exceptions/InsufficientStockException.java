@@ -0,0 +1,22 @@
+package com.example.orderservice.app.core.inventory.exceptions;
+
+import com.example.orderservice.app.core.origin.exceptions.AppException;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Thrown when an order asks for more units of a SKU than are available.
+ */
+public class InsufficientStockException extends AppException {
+
+    private final String sku;
+
+    public InsufficientStockException(String sku) {
+        // Frequent during flash sales, so skip the stack trace
+        super(ServiceStatus.CONFLICT, "Insufficient stock for product " + sku, false);
+        this.sku = sku;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+}
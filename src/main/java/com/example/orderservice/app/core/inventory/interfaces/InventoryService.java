@@ -0,0 +1,33 @@
+package com.example.orderservice.app.core.inventory.interfaces;
+
+import com.example.orderservice.app.core.inventory.exceptions.InsufficientStockException;
+import com.example.orderservice.app.core.orders.entities.Order;
+
+/**
+ * Stock reservations for orders.
+ */
+public interface InventoryService {
+
+    /**
+     * Hold stock for every item of an order, or for none. Reserving an order
+     * again replaces its previous reservation.
+     *
+     * @param order the order; its id must be set
+     * @throws InsufficientStockException if any product is short
+     */
+    void reserve(Order order);
+
+    /**
+     * Give the order's held stock back.
+     *
+     * @return false if the order holds no reservation
+     */
+    boolean release(String orderId);
+
+    /**
+     * Keep the order's held stock as sold.
+     *
+     * @return false if the order holds no reservation
+     */
+    boolean confirm(String orderId);
+}
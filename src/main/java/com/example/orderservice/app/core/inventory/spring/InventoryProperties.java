@@ -0,0 +1,29 @@
+package com.example.orderservice.app.core.inventory.spring;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Inventory ledger settings, bound from {@code orderservice.inventory}.
+ *
+ * @param initialStock       units on hand per SKU when the database holds no
+ *                           checkpoint; SKUs not listed are not tracked
+ * @param reservationTimeout how long stock is held for an order that is
+ *                           neither confirmed nor cancelled
+ * @param stripes            counter cells per SKU; defaults to the number of
+ *                           processors
+ */
+@ConfigurationProperties(prefix = "orderservice.inventory")
+public record InventoryProperties(
+        Map<String, Long> initialStock,
+        Duration reservationTimeout,
+        Integer stripes) {
+
+    public InventoryProperties {
+        initialStock = initialStock == null ? Map.of() : initialStock;
+        reservationTimeout = reservationTimeout == null ? Duration.ofMinutes(15) : reservationTimeout;
+        stripes = stripes == null ? Runtime.getRuntime().availableProcessors() : stripes;
+    }
+}
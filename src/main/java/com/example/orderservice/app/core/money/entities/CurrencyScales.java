@@ -0,0 +1,60 @@
+package com.example.orderservice.app.core.money.entities;
+
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Number of minor-unit digits per currency: the ISO 4217 exponent, e.g. 2 for
+ * USD, 0 for JPY, 3 for BHD.
+ *
+ * <p>
+ * Scales come from {@link Currency#getDefaultFractionDigits()} and are cached
+ * after the first lookup. Codes that are not ISO 4217 currencies, or that
+ * have no minor unit (such as XAU), use {@value #DEFAULT_SCALE} unless
+ * {@link #register registered} explicitly.
+ * </p>
+ */
+public final class CurrencyScales {
+
+    public static final int DEFAULT_SCALE = 2;
+
+    private static final Map<String, Integer> SCALES = new ConcurrentHashMap<>();
+
+    private CurrencyScales() {
+    }
+
+    /**
+     * @param currency the currency code, or null
+     * @return its number of minor-unit digits
+     */
+    public static int scaleOf(String currency) {
+        if (currency == null) {
+            return DEFAULT_SCALE;
+        }
+        Integer scale = SCALES.get(currency);
+        if (scale == null) {
+            scale = SCALES.computeIfAbsent(currency, CurrencyScales::lookup);
+        }
+        return scale;
+    }
+
+    /**
+     * Override or add the scale of a currency, e.g. for codes outside ISO 4217.
+     */
+    public static void register(String currency, int scale) {
+        if (scale < 0 || scale > MoneyMath.MAX_SCALE) {
+            throw new IllegalArgumentException("Scale out of range for " + currency + ": " + scale);
+        }
+        SCALES.put(currency, scale);
+    }
+
+    private static int lookup(String currency) {
+        try {
+            int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_SCALE : digits;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_SCALE;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.orderservice.app.core.money.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic on amounts held as {@code long} minor units at a
+ * given scale (number of decimal digits), e.g. 12.34 USD is 1234 at scale 2.
+ *
+ * <p>
+ * Every operation throws {@link ArithmeticException} instead of silently
+ * overflowing, and rounding always uses banker's rounding
+ * ({@link RoundingMode#HALF_EVEN}). {@link BigDecimal} only appears in the
+ * conversions used at the API boundary.
+ * </p>
+ */
+public final class MoneyMath {
+
+    /** Highest supported scale; 10^18 is the largest power of ten in a long. */
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private MoneyMath() {
+    }
+
+    /**
+     * Convert a decimal amount to minor units, rounding half-even if it has
+     * more digits than {@code scale}.
+     *
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long toMinor(BigDecimal amount, int scale) {
+        return amount.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert minor units back to a decimal amount with exactly
+     * {@code scale} digits.
+     */
+    public static BigDecimal toDecimal(long minor, int scale) {
+        return BigDecimal.valueOf(minor, scale);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Multiply an amount by a quantity. The scale is unchanged.
+     */
+    public static long multiply(long minor, long quantity) {
+        return Math.multiplyExact(minor, quantity);
+    }
+
+    /**
+     * Change the scale of an amount, rounding half-even when digits are
+     * dropped.
+     *
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long rescale(long minor, int fromScale, int toScale) {
+        if (fromScale == toScale) {
+            return minor;
+        }
+        if (toScale > fromScale) {
+            return Math.multiplyExact(minor, powerOfTen(toScale - fromScale));
+        }
+        return divideHalfEven(minor, powerOfTen(fromScale - toScale));
+    }
+
+    /**
+     * Divide with banker's rounding.
+     */
+    public static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        // Compare |remainder| with |divisor| / 2 without overflowing
+        long absRemainder = Math.abs(remainder);
+        long halfDiff = absRemainder - (Math.abs(divisor) - absRemainder);
+        boolean roundAway = halfDiff > 0 || (halfDiff == 0 && (quotient & 1) != 0);
+        if (!roundAway) {
+            return quotient;
+        }
+        return (dividend < 0) == (divisor < 0) ? quotient + 1 : quotient - 1;
+    }
+
+    /**
+     * @throws ArithmeticException if {@code exponent} is above
+     *                             {@value #MAX_SCALE}
+     */
+    public static long powerOfTen(int exponent) {
+        if (exponent < 0 || exponent > MAX_SCALE) {
+            throw new ArithmeticException("Scale out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+}
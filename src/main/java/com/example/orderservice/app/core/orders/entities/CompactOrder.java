@@ -0,0 +1,258 @@
+package com.example.orderservice.app.core.orders.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.example.orderservice.app.core.money.entities.CurrencyScales;
+import com.example.orderservice.app.core.money.entities.MoneyMath;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.origin.entities.Interner;
+import com.example.orderservice.app.core.origin.entities.Uuids;
+
+/**
+ * Read-only, memory-compact copy of an {@link Order}, for caches that keep
+ * millions of orders resident.
+ *
+ * <p>
+ * Items are packed into parallel primitive arrays instead of one object per
+ * item. Currency codes and product ids are interned, item ids that are UUIDs
+ * are stored as two longs, timestamps as nanoseconds since the epoch and
+ * amounts as minor units. Arrays that would only repeat the default (no item
+ * ids, item order ids equal to the order id, no product names) are not
+ * allocated. Product names are free text with no bound on distinct values,
+ * so each order keeps its own.
+ * </p>
+ *
+ * <p>
+ * {@link #from(Order)} and {@link #toOrder()} are lossless: the rebuilt order
+ * has the same field values, prices at the same scale and the same total.
+ * </p>
+ */
+public final class CompactOrder {
+
+    private static final Interner CURRENCIES = new Interner();
+    private static final Interner PRODUCT_IDS = new Interner();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private static final byte NO_STATUS = -1;
+    private static final int SCALE_MASK = 0x0F;
+    private static final byte PRICED = 0x10;
+    private static final byte TOTALLED = 0x20;
+
+    private static final int[] NO_INTS = new int[0];
+    private static final long[] NO_LONGS = new long[0];
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final String[] NO_STRINGS = new String[0];
+
+    private final String id;
+    private final String customerId;
+    private final String currency;
+    private final byte status;
+    private final long totalAmountMinor;
+    private final long createdAtNanos;
+    private final long updatedAtNanos;
+
+    private final String[] productIds;
+    private final int[] quantities;
+    private final long[] unitPriceMinor;
+    private final long[] totalPriceMinor;
+    /** Per item: scale, plus {@link #PRICED} and {@link #TOTALLED}. */
+    private final byte[] priceFlags;
+    /** Two longs per item if every item id is a UUID, else null. */
+    private final long[] itemUuids;
+    /** Item ids when they are not all UUIDs or all null, else null. */
+    private final String[] itemIds;
+    /** Item order ids when any differs from {@link #id}, else null. */
+    private final String[] itemOrderIds;
+    /** Product names when any is set, else null. */
+    private final String[] productNames;
+
+    private CompactOrder(Order order) {
+        this.id = order.getId();
+        this.customerId = order.getCustomerId();
+        this.currency = CURRENCIES.intern(order.getCurrency());
+        this.status = order.getStatus() != null ? (byte) order.getStatus().ordinal() : NO_STATUS;
+        this.totalAmountMinor = order.getTotalAmountMinor();
+        this.createdAtNanos = EpochNanos.of(order.getCreatedAt());
+        this.updatedAtNanos = EpochNanos.of(order.getUpdatedAt());
+
+        List<OrderItem> items = order.getItems();
+        int n = items.size();
+        if (n == 0) {
+            this.productIds = NO_STRINGS;
+            this.quantities = NO_INTS;
+            this.unitPriceMinor = NO_LONGS;
+            this.totalPriceMinor = NO_LONGS;
+            this.priceFlags = NO_BYTES;
+            this.itemUuids = null;
+            this.itemIds = null;
+            this.itemOrderIds = null;
+            this.productNames = null;
+            return;
+        }
+
+        this.productIds = new String[n];
+        this.quantities = new int[n];
+        this.unitPriceMinor = new long[n];
+        this.totalPriceMinor = new long[n];
+        this.priceFlags = new byte[n];
+        boolean allIdsNull = true;
+        boolean allIdsUuids = true;
+        boolean orderIdsMatch = true;
+        boolean anyName = false;
+        for (int i = 0; i < n; i++) {
+            OrderItem item = items.get(i);
+            productIds[i] = PRODUCT_IDS.intern(item.getProductId());
+            quantities[i] = item.getQuantity();
+            unitPriceMinor[i] = item.getUnitPriceMinor();
+            totalPriceMinor[i] = item.getTotalPriceMinor();
+            priceFlags[i] = (byte) (item.getScale()
+                    | (item.hasUnitPrice() ? PRICED : 0)
+                    | (item.hasTotalPrice() ? TOTALLED : 0));
+            allIdsNull &= item.getId() == null;
+            allIdsUuids &= Uuids.isCanonical(item.getId());
+            orderIdsMatch &= Objects.equals(item.getOrderId(), id);
+            anyName |= item.getProductName() != null;
+        }
+
+        if (allIdsNull) {
+            this.itemUuids = null;
+            this.itemIds = null;
+        } else if (allIdsUuids) {
+            this.itemUuids = new long[2 * n];
+            this.itemIds = null;
+            for (int i = 0; i < n; i++) {
+                UUID uuid = UUID.fromString(items.get(i).getId());
+                itemUuids[2 * i] = uuid.getMostSignificantBits();
+                itemUuids[2 * i + 1] = uuid.getLeastSignificantBits();
+            }
+        } else {
+            this.itemUuids = null;
+            this.itemIds = new String[n];
+            for (int i = 0; i < n; i++) {
+                itemIds[i] = items.get(i).getId();
+            }
+        }
+
+        if (orderIdsMatch) {
+            this.itemOrderIds = null;
+        } else {
+            this.itemOrderIds = new String[n];
+            for (int i = 0; i < n; i++) {
+                itemOrderIds[i] = items.get(i).getOrderId();
+            }
+        }
+
+        if (anyName) {
+            this.productNames = new String[n];
+            for (int i = 0; i < n; i++) {
+                productNames[i] = items.get(i).getProductName();
+            }
+        } else {
+            this.productNames = null;
+        }
+    }
+
+    public static CompactOrder from(Order order) {
+        return new CompactOrder(order);
+    }
+
+    /**
+     * @return a new, mutable {@link Order} equal to the one this was built from
+     */
+    public Order toOrder() {
+        int n = quantities.length;
+        List<OrderItem> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            OrderItem item = new OrderItem();
+            item.setId(getItemId(i));
+            item.setOrderId(itemOrderIds != null ? itemOrderIds[i] : id);
+            item.setProductId(productIds[i]);
+            item.setProductName(productNames != null ? productNames[i] : null);
+            item.setQuantity(quantities[i]);
+            byte flags = priceFlags[i];
+            item.restorePrices(flags & SCALE_MASK, (flags & PRICED) != 0, unitPriceMinor[i],
+                    (flags & TOTALLED) != 0, totalPriceMinor[i]);
+            items.add(item);
+        }
+
+        Order order = new Order(id, customerId, currency, items, getStatus(),
+                EpochNanos.toDateTime(createdAtNanos), EpochNanos.toDateTime(updatedAtNanos));
+        order.setTotalAmountMinor(totalAmountMinor);
+        return order;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public OrderStatus getStatus() {
+        return status == NO_STATUS ? null : STATUSES[status];
+    }
+
+    public long getTotalAmountMinor() {
+        return totalAmountMinor;
+    }
+
+    public int getScale() {
+        return CurrencyScales.scaleOf(currency);
+    }
+
+    public BigDecimal getTotalAmount() {
+        return MoneyMath.toDecimal(totalAmountMinor, getScale());
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return EpochNanos.toDateTime(createdAtNanos);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return EpochNanos.toDateTime(updatedAtNanos);
+    }
+
+    public int getItemCount() {
+        return quantities.length;
+    }
+
+    public String getItemId(int index) {
+        if (itemUuids != null) {
+            return new UUID(itemUuids[2 * index], itemUuids[2 * index + 1]).toString();
+        }
+        return itemIds != null ? itemIds[index] : null;
+    }
+
+    public String getProductId(int index) {
+        return productIds[index];
+    }
+
+    public int getQuantity(int index) {
+        return quantities[index];
+    }
+
+    public long getUnitPriceMinor(int index) {
+        return unitPriceMinor[index];
+    }
+
+    public long getTotalPriceMinor(int index) {
+        return totalPriceMinor[index];
+    }
+
+    /**
+     * @return the scale of the item's unit and total price
+     */
+    public int getPriceScale(int index) {
+        return priceFlags[index] & SCALE_MASK;
+    }
+}
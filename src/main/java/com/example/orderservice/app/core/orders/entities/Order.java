@@ -5,8 +5,19 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.example.orderservice.app.core.money.entities.CurrencyScales;
+import com.example.orderservice.app.core.money.entities.MoneyMath;
+
 /**
  * Entity representing an order in the system.
+ *
+ * <p>
+ * The total is held as {@code long} minor units of the order currency (see
+ * {@link CurrencyScales}) and kept up to date as items are added or removed,
+ * without walking the item list. Each item total is rounded half-even to the
+ * currency scale before it is added. Items should not be modified after they
+ * are added; call {@link #setItems} to recompute the total if they are.
+ * </p>
  */
 public class Order {
 
@@ -14,7 +25,8 @@ public class Order {
     private String customerId;
     private List<OrderItem> items;
     private OrderStatus status;
-    private BigDecimal totalAmount;
+    private long totalAmountMinor;
+    private int scale;
     private String currency;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -22,6 +34,7 @@ public class Order {
     public Order() {
         this.items = new ArrayList<>();
         this.status = OrderStatus.CREATED;
+        this.scale = CurrencyScales.DEFAULT_SCALE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -30,7 +43,24 @@ public class Order {
         this();
         this.id = id;
         this.customerId = customerId;
+        setCurrency(currency);
+    }
+
+    /**
+     * Rebuild a stored order. Unlike the other constructors it does not read
+     * the clock; the total is computed from {@code items}.
+     */
+    public Order(String id, String customerId, String currency, List<OrderItem> items,
+            OrderStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.items = items;
+        this.status = status;
         this.currency = currency;
+        this.scale = CurrencyScales.scaleOf(currency);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        recalculateTotalAmount();
     }
 
     // Currency getter/setter
@@ -40,6 +70,14 @@ public class Order {
 
     public void setCurrency(String currency) {
         this.currency = currency;
+        int newScale = CurrencyScales.scaleOf(currency);
+        if (newScale != scale) {
+            this.totalAmountMinor = MoneyMath.rescale(totalAmountMinor, scale, newScale);
+            this.scale = newScale;
+            if (!items.isEmpty()) {
+                recalculateTotalAmount();
+            }
+        }
     }
 
     // Getters and Setters
@@ -79,11 +117,29 @@ public class Order {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return MoneyMath.toDecimal(totalAmountMinor, scale);
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
-        this.totalAmount = totalAmount;
+        this.totalAmountMinor = MoneyMath.toMinor(totalAmount, scale);
+    }
+
+    /**
+     * @return the total in minor units of the currency, at {@link #getScale()}
+     */
+    public long getTotalAmountMinor() {
+        return totalAmountMinor;
+    }
+
+    public void setTotalAmountMinor(long totalAmountMinor) {
+        this.totalAmountMinor = totalAmountMinor;
+    }
+
+    /**
+     * @return the number of minor-unit digits of the currency
+     */
+    public int getScale() {
+        return scale;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -106,17 +162,24 @@ public class Order {
 
     public void addItem(OrderItem item) {
         this.items.add(item);
-        recalculateTotalAmount();
+        this.totalAmountMinor = MoneyMath.add(totalAmountMinor, itemTotal(item));
     }
 
     public void removeItem(OrderItem item) {
-        this.items.remove(item);
-        recalculateTotalAmount();
+        if (this.items.remove(item)) {
+            this.totalAmountMinor = MoneyMath.subtract(totalAmountMinor, itemTotal(item));
+        }
     }
 
     private void recalculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = 0;
+        for (OrderItem item : items) {
+            total = MoneyMath.add(total, itemTotal(item));
+        }
+        this.totalAmountMinor = total;
+    }
+
+    private long itemTotal(OrderItem item) {
+        return item.hasTotalPrice() ? MoneyMath.rescale(item.getTotalPriceMinor(), item.getScale(), scale) : 0;
     }
 }
@@ -2,18 +2,33 @@ package com.example.orderservice.app.core.orders.entities;
 
 import java.math.BigDecimal;
 
+import com.example.orderservice.app.core.money.entities.MoneyMath;
+
 /**
  * Entity representing an individual item within an order.
+ *
+ * <p>
+ * Prices are held as {@code long} minor units at the scale of the unit price
+ * (capped at {@value #MAX_PRICE_SCALE} digits, so fractional-cent prices keep
+ * their precision); the {@link BigDecimal} accessors convert at the API
+ * boundary.
+ * </p>
  */
 public class OrderItem {
 
+    /** Digits kept for unit prices; more precise prices are rounded half-even. */
+    public static final int MAX_PRICE_SCALE = 6;
+
     private String id;
     private String orderId;
     private String productId;
     private String productName;
     private int quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal totalPrice;
+    private int scale;
+    private boolean priced;
+    private long unitPriceMinor;
+    private boolean totalled;
+    private long totalPriceMinor;
 
     public OrderItem() {
     }
@@ -25,8 +40,7 @@ public class OrderItem {
         this.productId = productId;
         this.productName = productName;
         this.quantity = quantity;
-        this.unitPrice = unitPrice;
-        this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        setUnitPrice(unitPrice);
     }
 
     // Getters and Setters
@@ -73,25 +87,110 @@ public class OrderItem {
     }
 
     public BigDecimal getUnitPrice() {
-        return unitPrice;
+        return priced ? MoneyMath.toDecimal(unitPriceMinor, scale) : null;
     }
 
     public void setUnitPrice(BigDecimal unitPrice) {
-        this.unitPrice = unitPrice;
+        this.priced = unitPrice != null;
+        if (priced) {
+            this.scale = scaleOf(unitPrice);
+            this.unitPriceMinor = MoneyMath.toMinor(unitPrice, scale);
+        }
+        recalculateTotalPrice();
+    }
+
+    /**
+     * Set the unit price directly in minor units.
+     *
+     * @param unitPriceMinor the price in units of 10^-scale
+     * @param scale          number of decimal digits, at most
+     *                       {@value #MAX_PRICE_SCALE}
+     */
+    public void setUnitPrice(long unitPriceMinor, int scale) {
+        if (scale < 0 || scale > MAX_PRICE_SCALE) {
+            throw new IllegalArgumentException("Price scale out of range: " + scale);
+        }
+        this.priced = true;
+        this.scale = scale;
+        this.unitPriceMinor = unitPriceMinor;
         recalculateTotalPrice();
     }
 
     public BigDecimal getTotalPrice() {
-        return totalPrice;
+        return totalled ? MoneyMath.toDecimal(totalPriceMinor, scale) : null;
     }
 
     public void setTotalPrice(BigDecimal totalPrice) {
-        this.totalPrice = totalPrice;
+        this.totalled = totalPrice != null;
+        if (totalled) {
+            if (!priced) {
+                this.scale = scaleOf(totalPrice);
+            }
+            this.totalPriceMinor = MoneyMath.toMinor(totalPrice, scale);
+        }
+    }
+
+    /**
+     * Set the total directly in minor units, e.g. after discounts and tax.
+     * Changing the quantity or unit price afterwards recalculates it.
+     *
+     * @param totalPriceMinor the total in units of 10^-{@link #getScale()}
+     */
+    public void setTotalPrice(long totalPriceMinor) {
+        this.totalled = true;
+        this.totalPriceMinor = totalPriceMinor;
+    }
+
+    /**
+     * @return the scale of {@link #getUnitPriceMinor()} and
+     *         {@link #getTotalPriceMinor()}
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    public long getUnitPriceMinor() {
+        return unitPriceMinor;
+    }
+
+    public long getTotalPriceMinor() {
+        return totalPriceMinor;
+    }
+
+    /**
+     * @return true once a unit price or total has been set
+     */
+    public boolean hasTotalPrice() {
+        return totalled;
+    }
+
+    /**
+     * @return true once a unit price has been set
+     */
+    public boolean hasUnitPrice() {
+        return priced;
+    }
+
+    /**
+     * Restore the price state exactly as read from the getters, for stores
+     * that keep prices as minor units (such as {@link CompactOrder}).
+     */
+    public void restorePrices(int scale, boolean priced, long unitPriceMinor, boolean totalled, long totalPriceMinor) {
+        this.scale = scale;
+        this.priced = priced;
+        this.unitPriceMinor = unitPriceMinor;
+        this.totalled = totalled;
+        this.totalPriceMinor = totalPriceMinor;
     }
 
     private void recalculateTotalPrice() {
-        if (unitPrice != null) {
-            this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        if (priced) {
+            this.totalPriceMinor = MoneyMath.multiply(unitPriceMinor, quantity);
+            this.totalled = true;
         }
     }
+
+    private static int scaleOf(BigDecimal amount) {
+        return Math.clamp(amount.scale(), 0, MAX_PRICE_SCALE);
+    }
 }
@@ -1,54 +1,103 @@
 package com.example.orderservice.app.core.orders.features.createOrder.contracts;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.example.orderservice.app.core.inventory.interfaces.InventoryService;
 import com.example.orderservice.app.core.orders.entities.Order;
 import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.interfaces.OrderChangeListener;
 import com.example.orderservice.app.core.orders.features.createOrder.exceptions.InvalidOrderException;
 import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.origin.entities.ValidationResult;
+import com.example.orderservice.app.core.origin.entities.Validator;
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+import com.example.orderservice.app.core.pricing.interfaces.PricingService;
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.catalog.interfaces.CatalogService;
 import com.example.orderservice.app.infra.events.entities.Event;
 import com.example.orderservice.app.infra.events.interfaces.EventService;
+import com.example.orderservice.app.infra.logger.entities.LogSite;
 import com.example.orderservice.app.infra.logger.interfaces.LoggerService;
-
-import lombok.RequiredArgsConstructor;
+import com.example.orderservice.app.infra.orderstore.interfaces.OrderStoreService;
 
 @Component
-@RequiredArgsConstructor
 public class CONTRACT_HELPER_CreateOrder_V0 implements INTERFACE_HELPER_CreateOrder {
 
+    /** Log sites of the per-order lines, sampled under load. */
+    public static final String LOG_SITE_CREATED = "orders.created";
+    public static final String LOG_SITE_PUBLISHED = "orders.published";
+
+    private static final String UNIT_PRICE_MESSAGE = "Unit price must be greater than zero";
+
+    /** Items priced from the catalog; the client's unit price is ignored. */
+    private static final Validator<InputOrderItem> ITEM_VALIDATOR = Validator.of((item, result) -> {
+        result.notBlank("productId", item.productId(), "Product ID is required for all items");
+        result.positive("quantity", item.quantity(), "Quantity must be greater than zero");
+    });
+
+    /** Items that keep the client's unit price, because there is no catalog. */
+    private static final Validator<InputOrderItem> CLIENT_PRICED_ITEM_VALIDATOR = Validator.of((item, result) -> {
+        result.notBlank("productId", item.productId(), "Product ID is required for all items");
+        result.positive("quantity", item.quantity(), "Quantity must be greater than zero");
+        result.positive("unitPrice", item.unitPrice(), UNIT_PRICE_MESSAGE);
+    });
+
+    private static final Validator<INPUT_CreateOrder> VALIDATOR = orderValidator(ITEM_VALIDATOR);
+    private static final Validator<INPUT_CreateOrder> CLIENT_PRICED_VALIDATOR = orderValidator(
+            CLIENT_PRICED_ITEM_VALIDATOR);
+
+    // Reused by each thread's validations; the exception copies the errors
+    // before the next reset
+    private static final ThreadLocal<ValidationResult> VALIDATION_RESULT = ThreadLocal
+            .withInitial(ValidationResult::new);
+
     private final LoggerService loggerService;
     private final EventService eventService;
+    private final OrderStoreService orderStore;
+    private final PricingService pricingService;
+    private final CatalogService catalogService;
+    private final InventoryService inventoryService;
+    private final List<OrderChangeListener> orderChangeListeners;
+
+    // Resolved once; a site keeps its identity across sampling reloads
+    private final LogSite createdSite;
+    private final LogSite publishedSite;
+
+    public CONTRACT_HELPER_CreateOrder_V0(LoggerService loggerService, EventService eventService,
+            OrderStoreService orderStore, PricingService pricingService, CatalogService catalogService,
+            InventoryService inventoryService, List<OrderChangeListener> orderChangeListeners) {
+        this.loggerService = loggerService;
+        this.eventService = eventService;
+        this.orderStore = orderStore;
+        this.pricingService = pricingService;
+        this.catalogService = catalogService;
+        this.inventoryService = inventoryService;
+        this.orderChangeListeners = orderChangeListeners;
+        this.createdSite = loggerService.site(LOG_SITE_CREATED);
+        this.publishedSite = loggerService.site(LOG_SITE_PUBLISHED);
+    }
 
+    /**
+     * The unit price is only required when there is no catalog to price
+     * items from.
+     */
     @Override
     public void validateInput(INPUT_CreateOrder input) {
-        if (input.customerId() == null || input.customerId().isBlank()) {
-            throw new InvalidOrderException("Customer ID is required");
-        }
-        if (input.items() == null || input.items().isEmpty()) {
-            throw new InvalidOrderException("Order must contain at least one item");
-        }
-        if (input.currency() == null || input.currency().isBlank()) {
-            throw new InvalidOrderException("Currency is required");
-        }
-
-        // Validate each item
-        for (InputOrderItem item : input.items()) {
-            if (item.productId() == null || item.productId().isBlank()) {
-                throw new InvalidOrderException("Product ID is required for all items");
-            }
-            if (item.quantity() <= 0) {
-                throw new InvalidOrderException("Quantity must be greater than zero");
-            }
-            if (item.unitPrice() == null || item.unitPrice().signum() <= 0) {
-                throw new InvalidOrderException("Unit price must be greater than zero");
-            }
+        ValidationResult result = VALIDATION_RESULT.get();
+        result.reset();
+        Validator<INPUT_CreateOrder> validator = pricingService.hasCatalogPrices() ? VALIDATOR
+                : CLIENT_PRICED_VALIDATOR;
+        if (!validator.validate(input, result)) {
+            throw new InvalidOrderException(result.errors());
         }
     }
 
@@ -57,16 +106,47 @@ public class CONTRACT_HELPER_CreateOrder_V0 implements INTERFACE_HELPER_CreateOr
         Order order = new Order();
         order.setCustomerId(input.customerId());
         order.setCurrency(input.currency());
+        long pricedAt = EpochNanos.of(order.getCreatedAt());
 
-        // Convert input items to OrderItem entities
-        for (InputOrderItem inputItem : input.items()) {
+        // Resolve every product of the order in one catalog call
+        List<InputOrderItem> inputItems = input.items();
+        List<String> productIds = new ArrayList<>(inputItems.size());
+        for (InputOrderItem inputItem : inputItems) {
+            productIds.add(inputItem.productId());
+        }
+        Map<String, CatalogProduct> products = catalogService.findProducts(productIds);
+
+        // Convert input items to OrderItem entities, priced server-side
+        List<FieldError> rejectedItems = null;
+        for (int i = 0; i < inputItems.size(); i++) {
+            InputOrderItem inputItem = inputItems.get(i);
+            CatalogProduct product = products.get(inputItem.productId());
+            if (product == null) {
+                rejectedItems = add(rejectedItems, new FieldError("items[" + i + "].productId", "unknown",
+                        "Unknown product: " + inputItem.productId()));
+                continue;
+            }
             OrderItem orderItem = new OrderItem();
             orderItem.setProductId(inputItem.productId());
+            orderItem.setProductName(product.name());
             orderItem.setQuantity(inputItem.quantity());
             orderItem.setUnitPrice(inputItem.unitPrice());
-            orderItem.setTotalPrice(inputItem.unitPrice().multiply(BigDecimal.valueOf(inputItem.quantity())));
+            if (!pricingService.price(orderItem, input.currency(), input.region(), pricedAt)) {
+                rejectedItems = add(rejectedItems, new FieldError("items[" + i + "].productId", "unpriced",
+                        "No price for product " + inputItem.productId() + " in " + input.currency()));
+                continue;
+            }
+            if (!orderItem.hasUnitPrice()) {
+                // The catalog was removed by a reload after validation
+                rejectedItems = add(rejectedItems, new FieldError("items[" + i + "].unitPrice",
+                        ValidationResult.CODE_POSITIVE, UNIT_PRICE_MESSAGE));
+                continue;
+            }
             order.addItem(orderItem);
         }
+        if (rejectedItems != null) {
+            throw new InvalidOrderException(rejectedItems);
+        }
 
         return order;
     }
@@ -74,8 +154,7 @@ public class CONTRACT_HELPER_CreateOrder_V0 implements INTERFACE_HELPER_CreateOr
     @Override
     public Order saveOrder(Order order) {
         // Generate UUID for the order
-        // String orderId = UUID.randomUUID().toString();
-        String orderId = "2";
+        String orderId = UUID.randomUUID().toString();
         order.setId(orderId);
 
         // Generate UUIDs for each order item
@@ -84,10 +163,21 @@ public class CONTRACT_HELPER_CreateOrder_V0 implements INTERFACE_HELPER_CreateOr
             item.setOrderId(orderId);
         }
 
+        // Hold stock for every item, or reject the order
+        inventoryService.reserve(order);
+
         // Here you could use jdbcTemplate to save to DB
-        loggerService.info("Creating order: " + orderId + " for customer " + order.getCustomerId()
-                + " with " + order.getItems().size() + " items, total: " + order.getTotalAmount()
-                + " " + order.getCurrency());
+        loggerService.atInfo(createdSite, "Creating order")
+                .kv("orderId", orderId)
+                .kv("customerId", order.getCustomerId())
+                .kv("items", order.getItems().size())
+                .kv("total", order.getTotalAmount())
+                .kv("currency", order.getCurrency())
+                .log();
+        orderStore.put(order);
+        for (OrderChangeListener listener : orderChangeListeners) {
+            listener.orderCreated(order);
+        }
 
         return order;
     }
@@ -112,6 +202,25 @@ public class CONTRACT_HELPER_CreateOrder_V0 implements INTERFACE_HELPER_CreateOr
         Event event = new Event(order.getId(), "OrderCreated", eventData);
         eventService.publishEvent(event);
 
-        loggerService.info("Published OrderCreated event to Kafka - orderId: " + order.getId());
+        loggerService.atInfo(publishedSite, "Published OrderCreated event to Kafka")
+                .kv("orderId", order.getId())
+                .log();
+    }
+
+    private static Validator<INPUT_CreateOrder> orderValidator(Validator<InputOrderItem> itemValidator) {
+        return Validator.of((input, result) -> {
+            result.notBlank("customerId", input.customerId(), "Customer ID is required");
+            result.notEmpty("items", input.items(), "Order must contain at least one item");
+            result.notBlank("currency", input.currency(), "Currency is required");
+            result.each("items", input.items(), itemValidator, "Item is required");
+        });
+    }
+
+    private static List<FieldError> add(List<FieldError> errors, FieldError error) {
+        if (errors == null) {
+            errors = new ArrayList<>();
+        }
+        errors.add(error);
+        return errors;
     }
 }
@@ -0,0 +1,91 @@
+package com.example.orderservice.app.core.orders.features.createOrder.contracts;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Wraps a helper contract to time each of its phases into
+ * {@value #METRIC}{service, helper, mode, phase}, so helper versions can be
+ * compared side by side.
+ *
+ * <p>
+ * In {@link #MODE_SHADOW} the side-effecting phases are disabled:
+ * {@link #saveOrder(Order)} returns the order untouched and
+ * {@link #publishEvent(Order)} does nothing. They are not timed either, so
+ * shadow metrics only cover {@code validateInput} and {@code buildOrder};
+ * persistence and publishing can only be compared by giving the candidate a
+ * share of the primary traffic.
+ * </p>
+ *
+ * <p>
+ * Deliberately not a Spring bean, so it never shows up in the helper map.
+ * </p>
+ */
+public class DECORATOR_HELPER_CreateOrder implements INTERFACE_HELPER_CreateOrder {
+
+    public static final String METRIC = "helper_phase_latency_seconds";
+    public static final String MODE_PRIMARY = "primary";
+    public static final String MODE_SHADOW = "shadow";
+
+    private final INTERFACE_HELPER_CreateOrder delegate;
+    private final boolean shadow;
+    private final LatencyHistogram validateInputLatency;
+    private final LatencyHistogram buildOrderLatency;
+    private final LatencyHistogram saveOrderLatency;
+    private final LatencyHistogram publishEventLatency;
+
+    public DECORATOR_HELPER_CreateOrder(INTERFACE_HELPER_CreateOrder delegate, String serviceName,
+            String helperKey, String mode, MetricsService metricsService) {
+        this.delegate = delegate;
+        this.shadow = MODE_SHADOW.equals(mode);
+        this.validateInputLatency = metricsService.latency(METRIC,
+                "service", serviceName, "helper", helperKey, "mode", mode, "phase", "validateInput");
+        this.buildOrderLatency = metricsService.latency(METRIC,
+                "service", serviceName, "helper", helperKey, "mode", mode, "phase", "buildOrder");
+        this.saveOrderLatency = shadow ? null
+                : metricsService.latency(METRIC,
+                        "service", serviceName, "helper", helperKey, "mode", mode, "phase", "saveOrder");
+        this.publishEventLatency = shadow ? null
+                : metricsService.latency(METRIC,
+                        "service", serviceName, "helper", helperKey, "mode", mode, "phase", "publishEvent");
+    }
+
+    @Override
+    public void validateInput(INPUT_CreateOrder input) {
+        long start = System.nanoTime();
+        delegate.validateInput(input);
+        validateInputLatency.recordSince(start);
+    }
+
+    @Override
+    public Order buildOrder(INPUT_CreateOrder input) {
+        long start = System.nanoTime();
+        Order order = delegate.buildOrder(input);
+        buildOrderLatency.recordSince(start);
+        return order;
+    }
+
+    @Override
+    public Order saveOrder(Order order) {
+        if (shadow) {
+            return order;
+        }
+        long start = System.nanoTime();
+        Order saved = delegate.saveOrder(order);
+        saveOrderLatency.recordSince(start);
+        return saved;
+    }
+
+    @Override
+    public void publishEvent(Order order) {
+        if (shadow) {
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.publishEvent(order);
+        publishEventLatency.recordSince(start);
+    }
+}
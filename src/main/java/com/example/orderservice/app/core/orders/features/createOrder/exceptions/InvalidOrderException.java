@@ -1,10 +1,16 @@
 package com.example.orderservice.app.core.orders.features.createOrder.exceptions;
 
-import com.example.orderservice.app.core.origin.exceptions.AppException;
-import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+import java.util.List;
 
-public class InvalidOrderException extends AppException {
+import com.example.orderservice.app.core.origin.exceptions.ValidationException;
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+
+public class InvalidOrderException extends ValidationException {
     public InvalidOrderException(String message) {
-        super(ServiceStatus.VALIDATION_ERROR, message);
+        super(message, List.of());
+    }
+
+    public InvalidOrderException(List<FieldError> errors) {
+        super(errors);
     }
 }
@@ -4,9 +4,16 @@ import java.util.List;
 
 /**
  * Input schema for creating an order.
+ *
+ * @param region optional tax region; the configured default when null
  */
 public record INPUT_CreateOrder(
         String customerId,
         List<InputOrderItem> items,
-        String currency) {
+        String currency,
+        String region) {
+
+    public INPUT_CreateOrder(String customerId, List<InputOrderItem> items, String currency) {
+        this(customerId, items, currency, null);
+    }
 }
@@ -1,24 +1,79 @@
 package com.example.orderservice.app.core.orders.features.createOrder.services;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import com.example.orderservice.app.core.orders.features.createOrder.contracts.DECORATOR_HELPER_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.usecases.USECASE_CreateOrder;
 import com.example.orderservice.app.core.origin.entities.AbstractService;
 import com.example.orderservice.app.core.origin.entities.AbstractUsecase;
+import com.example.orderservice.app.core.origin.entities.HelperRouter;
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
 import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
 
 public class SERVICE_CreateOrder extends AbstractService<INPUT_CreateOrder, OUTPUT_CreateOrder> {
 
+    public static final String ROUTING_KEY = "create-order";
+    public static final String DEFAULT_HELPER = "CONTRACT_HELPER_CreateOrder_V0";
+
     private static final String SERVICE_NAME = "Orders.CreateOrder";
-    private final Map<String, INTERFACE_HELPER_CreateOrder> helpers;
 
+    private final HelperRouter<INTERFACE_HELPER_CreateOrder> router;
+    private final Executor shadowExecutor;
+    private final Counter shadowRuns;
+    private final Counter shadowFailures;
+
+    /**
+     * @param dependencies   shared service dependencies
+     * @param helpers        helper contracts keyed by bean name
+     * @param route          weights and shadow settings, or null to send all
+     *                       traffic to {@value #DEFAULT_HELPER}
+     * @param shadowExecutor where shadow executions run, off the request
+     *                       thread; it must drop work it cannot take rather
+     *                       than throw, as the ShadowExecutorConfig one does
+     */
+    public SERVICE_CreateOrder(ServiceDependency dependencies,
+            Map<String, INTERFACE_HELPER_CreateOrder> helpers,
+            HelperRoute route,
+            Executor shadowExecutor) {
+        this(dependencies, helpers, route, shadowExecutor, DECORATOR_HELPER_CreateOrder.MODE_PRIMARY);
+    }
+
+    /**
+     * @param dependencies   shared service dependencies
+     * @param helpers        helper contracts keyed by bean name
+     * @param route          weights and shadow settings, or null to send all
+     *                       traffic to {@value #DEFAULT_HELPER}
+     * @param shadowExecutor where shadow executions run, off the request
+     *                       thread; it must drop work it cannot take rather
+     *                       than throw, as the ShadowExecutorConfig one does
+     * @param helperMode     mode the routed helpers run in;
+     *                       {@link DECORATOR_HELPER_CreateOrder#MODE_SHADOW}
+     *                       stubs out persisting and publishing, e.g. for
+     *                       warmup
+     */
     public SERVICE_CreateOrder(ServiceDependency dependencies,
-            Map<String, INTERFACE_HELPER_CreateOrder> helpers) {
+            Map<String, INTERFACE_HELPER_CreateOrder> helpers,
+            HelperRoute route,
+            Executor shadowExecutor,
+            String helperMode) {
         super(dependencies);
-        this.helpers = helpers;
+        this.router = new HelperRouter<>(
+                decorate(helpers, helperMode),
+                decorate(helpers, DECORATOR_HELPER_CreateOrder.MODE_SHADOW),
+                route, DEFAULT_HELPER);
+        this.shadowExecutor = shadowExecutor;
+        String shadowKey = router.shadowKey() == null ? "none" : router.shadowKey();
+        this.shadowRuns = metricsService.counter("helper_shadow_runs_total",
+                "service", SERVICE_NAME, "helper", shadowKey);
+        this.shadowFailures = metricsService.counter("helper_shadow_failures_total",
+                "service", SERVICE_NAME, "helper", shadowKey);
     }
 
     @Override
@@ -26,15 +81,66 @@ public class SERVICE_CreateOrder extends AbstractService<INPUT_CreateOrder, OUTP
         return SERVICE_NAME;
     }
 
+    /**
+     * Orders of one customer are saved one at a time, in arrival order, so the
+     * customer's update stream sees them in that order. None of the state the
+     * save touches is partitioned by customer: stock is kept per SKU, and an
+     * order spans several SKUs, so it cannot be keyed by SKU either. The
+     * inventory ledger, order store and analytics table therefore stay
+     * thread-safe on their own. Sharding only orders and bounds each
+     * customer's saves; it does not make them lock-free.
+     */
+    @Override
+    protected Object shardKey(INPUT_CreateOrder input) {
+        return input.customerId();
+    }
+
+    /**
+     * Each customer gets its own request rate limit.
+     */
+    @Override
+    protected Object rateLimitKey(INPUT_CreateOrder input) {
+        return input.customerId();
+    }
+
     @Override
     protected AbstractUsecase<INPUT_CreateOrder, OUTPUT_CreateOrder> build(INPUT_CreateOrder input) {
-        String helperKey = "CONTRACT_HELPER_CreateOrder_V0";
-        INTERFACE_HELPER_CreateOrder usecaseHelper = helpers.get(helperKey);
+        INTERFACE_HELPER_CreateOrder usecaseHelper = router.select();
 
-        if (usecaseHelper == null) {
-            throw new RuntimeException("Helper not found: " + helperKey);
+        INTERFACE_HELPER_CreateOrder candidate = router.shadowCandidate();
+        if (candidate != null) {
+            shadow(candidate, input);
         }
 
         return new USECASE_CreateOrder(usecaseHelper);
     }
+
+    /**
+     * Run the whole usecase with the candidate helper on a copy of the input,
+     * in the background. The candidate runs in shadow mode, so it does not
+     * persist or publish anything, and its outcome never affects the caller.
+     */
+    private void shadow(INTERFACE_HELPER_CreateOrder candidate, INPUT_CreateOrder input) {
+        INPUT_CreateOrder copy = new INPUT_CreateOrder(
+                input.customerId(),
+                input.items() == null ? null : new ArrayList<>(input.items()),
+                input.currency(),
+                input.region());
+        shadowExecutor.execute(() -> {
+            shadowRuns.increment();
+            try {
+                new USECASE_CreateOrder(candidate).execute(copy);
+            } catch (RuntimeException e) {
+                shadowFailures.increment();
+            }
+        });
+    }
+
+    private Map<String, INTERFACE_HELPER_CreateOrder> decorate(Map<String, INTERFACE_HELPER_CreateOrder> helpers,
+            String mode) {
+        Map<String, INTERFACE_HELPER_CreateOrder> decorated = new HashMap<>();
+        helpers.forEach((key, helper) -> decorated.put(key,
+                new DECORATOR_HELPER_CreateOrder(helper, SERVICE_NAME, key, mode, metricsService)));
+        return decorated;
+    }
 }
@@ -1,31 +1,81 @@
 package com.example.orderservice.app.core.orders.features.createOrder.spring;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import com.example.orderservice.app.core.orders.features.createOrder.contracts.DECORATOR_HELPER_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.services.SERVICE_CreateOrder;
-import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
 import com.example.orderservice.app.core.origin.spring.AbstractBean;
+import com.example.orderservice.app.core.origin.spring.HelperRoutingProperties;
+import com.example.orderservice.app.core.origin.spring.ShadowExecutorConfig;
 
 @Service
 public class BEAN_CreateOrder
         extends AbstractBean<INPUT_CreateOrder, OUTPUT_CreateOrder, SERVICE_CreateOrder> {
 
+    private static final String[] WARMUP_CURRENCIES = { "USD", "EUR", "JPY" };
+    /** Products of the bundled catalog seed, so warmup orders resolve. */
+    private static final String[] WARMUP_PRODUCTS = { "PROD-001", "PROD-002", "PROD-003", "PROD-004", "PROD-005" };
+
     private final Map<String, INTERFACE_HELPER_CreateOrder> helpers;
+    private final HelperRoutingProperties routingProperties;
+    private final Executor shadowExecutor;
 
     public BEAN_CreateOrder(
-            UsecaseAuthorizationService authorizationService,
-            Map<String, INTERFACE_HELPER_CreateOrder> helpers) {
-        super(authorizationService);
+            ServiceDependency dependencies,
+            Map<String, INTERFACE_HELPER_CreateOrder> helpers,
+            HelperRoutingProperties routingProperties,
+            @Qualifier(ShadowExecutorConfig.SHADOW_EXECUTOR) Executor shadowExecutor) {
+        super(dependencies);
         this.helpers = helpers;
+        this.routingProperties = routingProperties;
+        this.shadowExecutor = shadowExecutor;
     }
 
     @Override
     protected SERVICE_CreateOrder createService() {
-        return new SERVICE_CreateOrder(dependencies, helpers);
+        return new SERVICE_CreateOrder(dependencies, helpers,
+                routingProperties.routeFor(SERVICE_CreateOrder.ROUTING_KEY), shadowExecutor);
+    }
+
+    /**
+     * Same routing as the live service, with saving and publishing stubbed out
+     * and shadowing disabled.
+     */
+    @Override
+    protected SERVICE_CreateOrder createWarmupService(ServiceDependency warmupDependencies) {
+        HelperRoute route = routingProperties.routeFor(SERVICE_CreateOrder.ROUTING_KEY);
+        HelperRoute warmupRoute = route == null ? null : new HelperRoute(route.weights(), null, 0);
+        return new SERVICE_CreateOrder(warmupDependencies, helpers, warmupRoute, Runnable::run,
+                DECORATOR_HELPER_CreateOrder.MODE_SHADOW);
+    }
+
+    /**
+     * Orders of one to five items across a few currencies; every 16th order is
+     * invalid so the validation failure path is compiled too.
+     */
+    @Override
+    protected INPUT_CreateOrder warmupInput(int iteration) {
+        int itemCount = 1 + iteration % 5;
+        List<InputOrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            int quantity = iteration % 16 == 15 && i == 0 ? 0 : 1 + i;
+            items.add(new InputOrderItem(WARMUP_PRODUCTS[i], quantity,
+                    BigDecimal.valueOf(100 + iteration % 1000, 2)));
+        }
+        return new INPUT_CreateOrder("warmup-customer-" + iteration % 100, items,
+                WARMUP_CURRENCIES[iteration % WARMUP_CURRENCIES.length]);
     }
 }
@@ -0,0 +1,36 @@
+package com.example.orderservice.app.core.orders.features.createOrder.spring;
+
+import org.springframework.stereotype.Component;
+
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.origin.entities.JsonByteWriter;
+import com.example.orderservice.app.core.origin.interfaces.JsonDataWriter;
+
+/**
+ * Writes {@link OUTPUT_CreateOrder} as Jackson would, with its fields in
+ * declaration order.
+ */
+@Component
+public class OUTPUT_CreateOrderJsonWriter implements JsonDataWriter<OUTPUT_CreateOrder> {
+
+    private static final byte[] ORDER_ID = JsonByteWriter.ascii("{\"orderId\":");
+    private static final byte[] STATUS = JsonByteWriter.ascii(",\"status\":");
+    private static final byte[] TOTAL_AMOUNT = JsonByteWriter.ascii(",\"totalAmount\":");
+    private static final byte[] CURRENCY = JsonByteWriter.ascii(",\"currency\":");
+    private static final byte[] CREATED_AT = JsonByteWriter.ascii(",\"createdAt\":");
+
+    @Override
+    public Class<OUTPUT_CreateOrder> type() {
+        return OUTPUT_CreateOrder.class;
+    }
+
+    @Override
+    public void write(OUTPUT_CreateOrder data, JsonByteWriter out) {
+        out.raw(ORDER_ID).string(data.orderId())
+                .raw(STATUS).string(data.status())
+                .raw(TOTAL_AMOUNT).number(data.totalAmount())
+                .raw(CURRENCY).string(data.currency())
+                .raw(CREATED_AT).instant(data.createdAt())
+                .raw('}');
+    }
+}
@@ -13,21 +13,38 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class USECASE_CreateOrder extends AbstractUsecase<INPUT_CreateOrder, OUTPUT_CreateOrder> {
 
+    public static final String PHASE_VALIDATE_INPUT = "validateInput";
+    public static final String PHASE_BUILD_ORDER = "buildOrder";
+    public static final String PHASE_SAVE_ORDER = "saveOrder";
+    public static final String PHASE_PUBLISH_EVENT = "publishEvent";
+
     private final INTERFACE_HELPER_CreateOrder helper;
 
     @Override
     public OUTPUT_CreateOrder execute(INPUT_CreateOrder input) {
+        long phaseStart = startPhase();
+
         // Validate input
         helper.validateInput(input);
+        phaseStart = endPhase(PHASE_VALIDATE_INPUT, phaseStart);
 
         // Build Order entity from input
+        checkDeadline(PHASE_BUILD_ORDER);
         Order order = helper.buildOrder(input);
-
-        // Save order using helper
-        Order savedOrder = helper.saveOrder(order);
-
-        // Publish event
+        phaseStart = endPhase(PHASE_BUILD_ORDER, phaseStart);
+
+        // Save order using helper. Reserving stock and storing the order are
+        // the only in-memory updates, so only they run on the customer's
+        // shard; the catalog lookups above and the publish below do not
+        checkDeadline(PHASE_SAVE_ORDER);
+        Order savedOrder = onShard(() -> helper.saveOrder(order));
+        phaseStart = endPhase(PHASE_SAVE_ORDER, phaseStart);
+
+        // Publish event. No deadline check here: once the order is saved its
+        // event must go out, and the send does not wait for the broker, so
+        // the response is never failed after the save
         helper.publishEvent(savedOrder);
+        endPhase(PHASE_PUBLISH_EVENT, phaseStart);
 
         // Return output
         return new OUTPUT_CreateOrder(
@@ -0,0 +1,20 @@
+package com.example.orderservice.app.core.orders.interfaces;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+/**
+ * Receives orders as they are saved or change status. Every listener bean is
+ * called synchronously on the request thread, so implementations must be
+ * quick and must not throw.
+ */
+public interface OrderChangeListener {
+
+    void orderCreated(Order order);
+
+    /**
+     * @param order    the order, already carrying its new status
+     * @param previous the status before the change
+     */
+    void orderStatusChanged(Order order, OrderStatus previous);
+}
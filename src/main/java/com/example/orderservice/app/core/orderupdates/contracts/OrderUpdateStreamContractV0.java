@@ -0,0 +1,92 @@
+package com.example.orderservice.app.core.orderupdates.contracts;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.orders.interfaces.OrderChangeListener;
+import com.example.orderservice.app.core.orderupdates.entities.SubscriptionRegistry;
+import com.example.orderservice.app.core.orderupdates.entities.SubscriptionRegistry.Subscription;
+import com.example.orderservice.app.core.orderupdates.interfaces.OrderUpdateStream;
+import com.example.orderservice.app.core.orderupdates.interfaces.UpdateSink;
+import com.example.orderservice.app.core.orderupdates.schemas.OrderStatusUpdate;
+import com.example.orderservice.app.core.orderupdates.spring.OrderUpdatesProperties;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@link OrderUpdateStream} over a {@link SubscriptionRegistry}, fed with every
+ * saved order and status change. Each update is published under the order's
+ * key and its customer's key. Deliveries run on virtual threads.
+ */
+@Service
+public class OrderUpdateStreamContractV0 implements OrderUpdateStream, OrderChangeListener {
+
+    private static final String ORDER_KEY = "order:";
+    private static final String CUSTOMER_KEY = "customer:";
+
+    private final ExecutorService delivery = Executors.newVirtualThreadPerTaskExecutor();
+    private final SubscriptionRegistry<OrderStatusUpdate> registry;
+
+    public OrderUpdateStreamContractV0(OrderUpdatesProperties properties, MetricsService metricsService) {
+        this.registry = new SubscriptionRegistry<>(properties.bufferCapacity(), properties.overflowPolicy(),
+                properties.maxSubscriptions(), delivery);
+        metricsService.gauge("order_updates_subscriptions", registry::size);
+        metricsService.counter("order_updates_delivered_total", registry::delivered);
+        metricsService.counter("order_updates_dropped_total", registry::dropped);
+        metricsService.counter("order_updates_disconnected_total", registry::overflowDisconnects, "reason", "overflow");
+        metricsService.counter("order_updates_disconnected_total", registry::errorDisconnects, "reason", "error");
+    }
+
+    @Override
+    public Subscription<OrderStatusUpdate> subscribeToOrder(String orderId, UpdateSink<OrderStatusUpdate> sink) {
+        return registry.subscribe(ORDER_KEY + orderId, sink);
+    }
+
+    @Override
+    public Subscription<OrderStatusUpdate> subscribeToCustomer(String customerId,
+            UpdateSink<OrderStatusUpdate> sink) {
+        return registry.subscribe(CUSTOMER_KEY + customerId, sink);
+    }
+
+    @Override
+    public void orderCreated(Order order) {
+        publish(order, null);
+    }
+
+    @Override
+    public void orderStatusChanged(Order order, OrderStatus previous) {
+        publish(order, previous);
+    }
+
+    private void publish(Order order, OrderStatus previous) {
+        Instant changedAt = order.getUpdatedAt() == null ? Instant.now()
+                : order.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        OrderStatusUpdate update = new OrderStatusUpdate(order.getId(), order.getCustomerId(), order.getStatus(),
+                previous, changedAt);
+        registry.publish(ORDER_KEY + order.getId(), update);
+        if (order.getCustomerId() != null) {
+            registry.publish(CUSTOMER_KEY + order.getCustomerId(), update);
+        }
+    }
+
+    /**
+     * Let idle streams notice clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.order-updates.heartbeat-interval:30s}")
+    public void heartbeat() {
+        registry.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        delivery.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.orderservice.app.core.orderupdates.entities;
+
+/**
+ * What to do when an update arrives for a subscriber whose buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest buffered update to make room. */
+    DROP_OLDEST,
+    /** Close the subscription; the client reconnects and resyncs. */
+    DISCONNECT
+}
@@ -0,0 +1,296 @@
+package com.example.orderservice.app.core.orderupdates.entities;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.orderservice.app.core.orderupdates.interfaces.UpdateSink;
+
+/**
+ * Subscriptions indexed by key, e.g. an order or customer id. Publishing an
+ * update only appends it to the buffer of each subscription on that key and
+ * never waits for a client: each subscription is drained by its own task on
+ * the delivery executor, started when its buffer goes from empty to
+ * non-empty. A slow client thus only delays itself, and an idle subscription
+ * holds no thread and no buffer.
+ *
+ * <p>
+ * Each buffer holds at most {@code bufferCapacity} updates; past that, the
+ * {@link OverflowPolicy} decides whether the oldest update is dropped or the
+ * subscription is closed. A subscription whose sink throws is closed.
+ * </p>
+ */
+public class SubscriptionRegistry<E> {
+
+    private final Map<String, Set<Subscription<E>>> byKey = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxSubscriptions;
+    private final Executor delivery;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflowDisconnects = new LongAdder();
+    private final LongAdder errorDisconnects = new LongAdder();
+
+    /**
+     * @param bufferCapacity   updates each subscription can have waiting
+     * @param overflowPolicy   what to do when a buffer is full
+     * @param maxSubscriptions subscriptions allowed at once
+     * @param delivery         runs the drain tasks; virtual threads suit it,
+     *                         since a task blocks while its client is slow
+     */
+    public SubscriptionRegistry(int bufferCapacity, OverflowPolicy overflowPolicy, int maxSubscriptions,
+            Executor delivery) {
+        if (bufferCapacity < 1 || maxSubscriptions < 1) {
+            throw new IllegalArgumentException("bufferCapacity and maxSubscriptions must be at least 1");
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.maxSubscriptions = maxSubscriptions;
+        this.delivery = delivery;
+    }
+
+    /**
+     * @throws RejectedExecutionException if {@code maxSubscriptions} are open
+     */
+    public Subscription<E> subscribe(String key, UpdateSink<E> sink) {
+        if (size.incrementAndGet() > maxSubscriptions) {
+            size.decrementAndGet();
+            throw new RejectedExecutionException("Subscription limit of " + maxSubscriptions + " reached");
+        }
+        Subscription<E> subscription = new Subscription<>(this, key, sink);
+        // Add under the key's lock, so a concurrent remove cannot drop the set
+        byKey.compute(key, (k, subscriptions) -> {
+            if (subscriptions == null) {
+                subscriptions = ConcurrentHashMap.newKeySet();
+            }
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+        return subscription;
+    }
+
+    /**
+     * Queue an update for every subscription on {@code key}.
+     *
+     * @return the number of subscriptions it was queued for
+     */
+    public int publish(String key, E update) {
+        Set<Subscription<E>> subscriptions = byKey.get(key);
+        if (subscriptions == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Subscription<E> subscription : subscriptions) {
+            if (subscription.offer(update)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Queue a heartbeat for every subscription that has nothing waiting.
+     */
+    public void heartbeat() {
+        for (Set<Subscription<E>> subscriptions : byKey.values()) {
+            for (Subscription<E> subscription : subscriptions) {
+                subscription.requestHeartbeat();
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int keyCount() {
+        return byKey.size();
+    }
+
+    /**
+     * @return updates handed to a sink without error
+     */
+    public long delivered() {
+        return delivered.sum();
+    }
+
+    /**
+     * @return updates discarded under {@link OverflowPolicy#DROP_OLDEST}
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return subscriptions closed under {@link OverflowPolicy#DISCONNECT}
+     */
+    public long overflowDisconnects() {
+        return overflowDisconnects.sum();
+    }
+
+    /**
+     * @return subscriptions closed because their sink threw
+     */
+    public long errorDisconnects() {
+        return errorDisconnects.sum();
+    }
+
+    private void remove(Subscription<E> subscription) {
+        byKey.computeIfPresent(subscription.key, (k, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        size.decrementAndGet();
+    }
+
+    /**
+     * One subscriber on one key.
+     */
+    public static final class Subscription<E> {
+
+        private final SubscriptionRegistry<E> registry;
+        private final String key;
+        private final UpdateSink<E> sink;
+
+        // Guarded by this; the buffer only exists while updates are waiting
+        private ArrayDeque<E> buffer;
+        private boolean heartbeatDue;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscription(SubscriptionRegistry<E> registry, String key, UpdateSink<E> sink) {
+            this.registry = registry;
+            this.key = key;
+            this.sink = sink;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * Remove the subscription without touching the sink, e.g. once its
+         * connection has completed. Updates still buffered are discarded.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer = null;
+            }
+            registry.remove(this);
+        }
+
+        private boolean offer(E update) {
+            boolean startDrain;
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (buffer == null) {
+                    buffer = new ArrayDeque<>(Math.min(registry.bufferCapacity, 16));
+                } else if (buffer.size() >= registry.bufferCapacity) {
+                    if (registry.overflowPolicy == OverflowPolicy.DISCONNECT) {
+                        registry.overflowDisconnects.increment();
+                        disconnect();
+                        return false;
+                    }
+                    buffer.pollFirst();
+                    registry.dropped.increment();
+                }
+                buffer.addLast(update);
+                startDrain = !draining;
+                draining = true;
+            }
+            if (startDrain) {
+                startDrain();
+            }
+            return true;
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                if (closed || draining) {
+                    // A drain in progress shows the connection is in use
+                    return;
+                }
+                heartbeatDue = true;
+                draining = true;
+            }
+            startDrain();
+        }
+
+        private void startDrain() {
+            try {
+                registry.delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Delivery is shutting down
+                cancel();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                E update;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (closed) {
+                        draining = false;
+                        return;
+                    }
+                    update = buffer == null ? null : buffer.pollFirst();
+                    heartbeat = update == null && heartbeatDue;
+                    heartbeatDue = false;
+                    if (update == null && !heartbeat) {
+                        buffer = null;
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    if (heartbeat) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(update);
+                        registry.delivered.increment();
+                    }
+                } catch (Exception e) {
+                    registry.errorDisconnects.increment();
+                    synchronized (this) {
+                        draining = false;
+                        disconnect();
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Close from the server side. Called holding the lock; the sink is
+         * closed on the delivery executor, since a slow client can block it.
+         */
+        private void disconnect() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer = null;
+            registry.remove(this);
+            try {
+                registry.delivery.execute(sink::close);
+            } catch (RejectedExecutionException e) {
+                sink.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.orderservice.app.core.orderupdates.interfaces;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import com.example.orderservice.app.core.orderupdates.entities.SubscriptionRegistry.Subscription;
+import com.example.orderservice.app.core.orderupdates.schemas.OrderStatusUpdate;
+
+/**
+ * Pushes order status transitions to subscribers as they happen.
+ */
+public interface OrderUpdateStream {
+
+    /**
+     * @throws RejectedExecutionException if the node has no room for another
+     *                                    subscription
+     */
+    Subscription<OrderStatusUpdate> subscribeToOrder(String orderId, UpdateSink<OrderStatusUpdate> sink);
+
+    /**
+     * Receive the transitions of every order of a customer.
+     *
+     * @throws RejectedExecutionException if the node has no room for another
+     *                                    subscription
+     */
+    Subscription<OrderStatusUpdate> subscribeToCustomer(String customerId, UpdateSink<OrderStatusUpdate> sink);
+}
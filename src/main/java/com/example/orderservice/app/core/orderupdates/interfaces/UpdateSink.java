@@ -0,0 +1,24 @@
+package com.example.orderservice.app.core.orderupdates.interfaces;
+
+/**
+ * The connection of one subscriber, e.g. an SSE response. Calls come from a
+ * delivery thread, one at a time per sink, and may block on a slow client.
+ */
+public interface UpdateSink<E> {
+
+    /**
+     * @throws Exception if the client is gone; the subscription is then closed
+     */
+    void send(E update) throws Exception;
+
+    /**
+     * Send something the client ignores, so dead connections are noticed
+     * while no updates flow.
+     */
+    void heartbeat() throws Exception;
+
+    /**
+     * End the connection from the server side.
+     */
+    void close();
+}
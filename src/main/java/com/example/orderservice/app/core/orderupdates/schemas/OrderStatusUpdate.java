@@ -0,0 +1,18 @@
+package com.example.orderservice.app.core.orderupdates.schemas;
+
+import java.time.Instant;
+
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+/**
+ * One status transition of an order, as pushed to subscribers.
+ *
+ * @param previousStatus null when the order was just created
+ */
+public record OrderStatusUpdate(
+        String orderId,
+        String customerId,
+        OrderStatus status,
+        OrderStatus previousStatus,
+        Instant changedAt) {
+}
@@ -0,0 +1,32 @@
+package com.example.orderservice.app.core.orderupdates.spring;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.orderservice.app.core.orderupdates.entities.OverflowPolicy;
+
+/**
+ * Order update stream settings, bound from {@code orderservice.order-updates}.
+ *
+ * @param bufferCapacity   updates each subscriber can have waiting
+ * @param overflowPolicy   what to do when a subscriber's buffer is full
+ * @param maxSubscriptions subscriptions allowed per node; more are refused
+ *                         with {@code 503}
+ * @param timeout          how long a stream stays open before the client has
+ *                         to reconnect
+ */
+@ConfigurationProperties(prefix = "orderservice.order-updates")
+public record OrderUpdatesProperties(
+        Integer bufferCapacity,
+        OverflowPolicy overflowPolicy,
+        Integer maxSubscriptions,
+        Duration timeout) {
+
+    public OrderUpdatesProperties {
+        bufferCapacity = bufferCapacity == null ? 64 : bufferCapacity;
+        overflowPolicy = overflowPolicy == null ? OverflowPolicy.DROP_OLDEST : overflowPolicy;
+        maxSubscriptions = maxSubscriptions == null ? 100_000 : maxSubscriptions;
+        timeout = timeout == null ? Duration.ofMinutes(30) : timeout;
+    }
+}
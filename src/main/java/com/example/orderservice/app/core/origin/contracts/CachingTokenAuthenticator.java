@@ -0,0 +1,184 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.interfaces.TokenAuthenticator;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.AuthenticationKeysReloadedEvent;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Caching decorator in front of token verification.
+ *
+ * <p>
+ * Clients send the same token with every request until it expires, so a
+ * verified token is remembered under the SHA-256 of its text (the token
+ * itself is not kept) and its signature is not checked again. An entry lives
+ * until the token's {@code exp} or for {@code orderservice.authentication.cache.ttl},
+ * whichever comes first. The cache holds at most {@code max-size} tokens;
+ * when full, expired entries are purged first and then arbitrary ones.
+ * Rejected tokens are not cached. Everything is dropped when the key set is
+ * reloaded, and a verification that raced with the reload is not cached, so
+ * a token signed with a removed key is never served from the cache.
+ * </p>
+ */
+@Service
+@Primary
+public class CachingTokenAuthenticator implements TokenAuthenticator {
+
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+    }
+
+    private record Entry(AuthenticatedToken token, long expiresAtNanos) {
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final TokenAuthenticator verifier;
+    private final Map<TokenHash, Entry> tokens = new ConcurrentHashMap<>();
+    // Bumped before each invalidation
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+    private final Counter evictions;
+    private final LatencyHistogram verifyLatency;
+
+    public CachingTokenAuthenticator(
+            @Qualifier("jwtTokenAuthenticatorContractV0") TokenAuthenticator verifier,
+            MetricsService metricsService,
+            @Value("${orderservice.authentication.cache.ttl:5m}") Duration ttl,
+            @Value("${orderservice.authentication.cache.max-size:100000}") int maxSize) {
+        this.verifier = verifier;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+
+        this.hits = metricsService.counter("authentication_cache_requests_total", "result", "hit");
+        this.misses = metricsService.counter("authentication_cache_requests_total", "result", "miss");
+        this.rejected = metricsService.counter("authentication_rejected_total");
+        this.evictions = metricsService.counter("authentication_cache_evictions_total");
+        this.verifyLatency = metricsService.latency("authentication_verify_latency_seconds");
+        metricsService.gauge("authentication_cache_hit_ratio", this::hitRatio);
+        metricsService.gauge("authentication_cache_size", tokens::size);
+    }
+
+    @Override
+    public AuthenticatedToken authenticate(String token) {
+        return authenticate(token, System.nanoTime(), System.currentTimeMillis() / 1000);
+    }
+
+    AuthenticatedToken authenticate(String token, long nowNanos, long nowEpochSecond) {
+        if (token == null) {
+            return verifyUncached(null);
+        }
+
+        TokenHash key = hash(token);
+        Entry cached = tokens.get(key);
+        if (cached != null && nowNanos - cached.expiresAtNanos() < 0) {
+            hits.increment();
+            return cached.token();
+        }
+
+        misses.increment();
+        long seen = generation.get();
+        long start = System.nanoTime();
+        AuthenticatedToken verified = verifyUncached(token);
+        verifyLatency.recordValue(System.nanoTime() - start);
+
+        long untilExpiry = TimeUnit.SECONDS.toNanos(Math.max(0, verified.expiresAtEpochSecond() - nowEpochSecond));
+        long lifetime = Math.min(ttlNanos, untilExpiry);
+        if (lifetime > 0) {
+            if (tokens.size() >= maxSize) {
+                evict(nowNanos);
+            }
+            Entry entry = new Entry(verified, nowNanos + lifetime);
+            tokens.put(key, entry);
+            // Keys reloaded while verifying: the put may have missed the clear
+            if (generation.get() != seen) {
+                tokens.remove(key, entry);
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * Drop all cached tokens.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        tokens.clear();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    @EventListener
+    public void onKeysReloaded(AuthenticationKeysReloadedEvent event) {
+        invalidateAll();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private AuthenticatedToken verifyUncached(String token) {
+        try {
+            return verifier.authenticate(token);
+        } catch (AuthenticationException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private static TokenHash hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new TokenHash(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    private void evict(long now) {
+        tokens.values().removeIf(entry -> now - entry.expiresAtNanos() >= 0);
+        if (tokens.size() < maxSize) {
+            return;
+        }
+        // Still full of live entries: make room for a batch of inserts at once
+        int excess = tokens.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<TokenHash> keys = tokens.keySet().iterator();
+        while (excess > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            excess--;
+            evictions.increment();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.AuthorizationPolicyReloadedEvent;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Caching decorator in front of the authorization policy source.
+ *
+ * <p>
+ * Decisions are cached per (user id, role, service name). Grants live for
+ * {@code orderservice.authorization.cache.ttl}, denials for the usually
+ * shorter {@code negative-ttl}. The cache holds at most {@code max-size}
+ * entries; when full, expired entries are purged first and then arbitrary
+ * ones. Concurrent misses for the same key may both reach the policy source,
+ * which is cheaper than holding a lock across a remote lookup. A decision
+ * fetched while any invalidation ran is returned but not cached, so it cannot
+ * outlive the policy it was made under.
+ * </p>
+ */
+@Service
+@Primary
+public class CachingUsecaseAuthorizationService implements UsecaseAuthorizationService {
+
+    private record DecisionKey(String userId, String role, String serviceName) {
+    }
+
+    private record Decision(boolean authorized, long expiresAtNanos) {
+    }
+
+    private final UsecaseAuthorizationService policySource;
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+    // Bumped before each invalidation
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter nanosSaved;
+    private final LatencyHistogram policyLatency;
+    private volatile long averageMissNanos;
+
+    public CachingUsecaseAuthorizationService(
+            @Qualifier("usecaseAuthorizationServiceContractV0") UsecaseAuthorizationService policySource,
+            MetricsService metricsService,
+            @Value("${orderservice.authorization.cache.ttl:60s}") Duration ttl,
+            @Value("${orderservice.authorization.cache.negative-ttl:10s}") Duration negativeTtl,
+            @Value("${orderservice.authorization.cache.max-size:10000}") int maxSize) {
+        this.policySource = policySource;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxSize = maxSize;
+
+        this.hits = metricsService.counter("authorization_cache_requests_total", "result", "hit");
+        this.misses = metricsService.counter("authorization_cache_requests_total", "result", "miss");
+        this.evictions = metricsService.counter("authorization_cache_evictions_total");
+        this.nanosSaved = metricsService.counter("authorization_cache_saved_nanoseconds_total");
+        this.policyLatency = metricsService.latency("authorization_policy_latency_seconds");
+        metricsService.gauge("authorization_cache_hit_ratio", this::hitRatio);
+        metricsService.gauge("authorization_cache_size", decisions::size);
+    }
+
+    @Override
+    public boolean isAuthorized(User user, String serviceName) {
+        return isAuthorized(user, serviceName, System.nanoTime());
+    }
+
+    boolean isAuthorized(User user, String serviceName, long nowNanos) {
+        if (user == null) {
+            return policySource.isAuthorized(null, serviceName);
+        }
+
+        DecisionKey key = new DecisionKey(user.id(), user.role(), serviceName);
+        Decision cached = decisions.get(key);
+        if (cached != null && nowNanos - cached.expiresAtNanos() < 0) {
+            hits.increment();
+            nanosSaved.add(averageMissNanos);
+            return cached.authorized();
+        }
+
+        misses.increment();
+        long seen = generation.get();
+        long start = System.nanoTime();
+        boolean authorized = policySource.isAuthorized(user, serviceName);
+        long elapsed = System.nanoTime() - start;
+        policyLatency.recordValue(elapsed);
+        averageMissNanos = averageMissNanos == 0 ? elapsed : (averageMissNanos * 7 + elapsed) >> 3;
+
+        if (decisions.size() >= maxSize) {
+            evict(nowNanos);
+        }
+        Decision decision = new Decision(authorized, nowNanos + (authorized ? ttlNanos : negativeTtlNanos));
+        decisions.put(key, decision);
+        // Policy reloaded while deciding: the put may have missed the clear
+        if (generation.get() != seen) {
+            decisions.remove(key, decision);
+        }
+        return authorized;
+    }
+
+    @Override
+    public UsecaseAuthorizationService uncached() {
+        return policySource.uncached();
+    }
+
+    /**
+     * Drop the cached decision for one user and service.
+     */
+    public void invalidate(User user, String serviceName) {
+        Objects.requireNonNull(user, "User cannot be null");
+        generation.incrementAndGet();
+        decisions.remove(new DecisionKey(user.id(), user.role(), serviceName));
+    }
+
+    /**
+     * Drop every cached decision for a user, e.g. after a role change.
+     */
+    public void invalidateUser(String userId) {
+        generation.incrementAndGet();
+        decisions.keySet().removeIf(key -> Objects.equals(key.userId(), userId));
+    }
+
+    /**
+     * Drop every cached decision for a service, e.g. after its policy changed.
+     */
+    public void invalidateService(String serviceName) {
+        generation.incrementAndGet();
+        decisions.keySet().removeIf(key -> Objects.equals(key.serviceName(), serviceName));
+    }
+
+    /**
+     * Drop all cached decisions.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        decisions.clear();
+    }
+
+    public int size() {
+        return decisions.size();
+    }
+
+    @EventListener
+    public void onPolicyReloaded(AuthorizationPolicyReloadedEvent event) {
+        invalidateAll();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void evict(long now) {
+        decisions.values().removeIf(decision -> now - decision.expiresAtNanos() >= 0);
+        if (decisions.size() < maxSize) {
+            return;
+        }
+        // Still full of live entries: make room for a batch of inserts at once
+        int excess = decisions.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<DecisionKey> keys = decisions.keySet().iterator();
+        while (excess > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            excess--;
+            evictions.increment();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import java.io.File;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.origin.entities.JsonWebKeySet;
+import com.example.orderservice.app.core.origin.entities.JwtVerifier;
+import com.example.orderservice.app.core.origin.interfaces.TokenAuthenticator;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.AuthenticationKeysReloadedEvent;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.core.origin.spring.AuthenticationProperties;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Verifies every bearer token it is given with a {@link JwtVerifier}.
+ *
+ * <p>
+ * The keys come from {@code orderservice.authentication.jwks-file}. A reload
+ * builds a new verifier and swaps it in with a single volatile write, then
+ * announces the new keys so cached verifications made with a removed key
+ * are dropped.
+ * </p>
+ *
+ * <p>
+ * Controllers do not call this directly: {@link CachingTokenAuthenticator}
+ * sits in front of it and only consults it for tokens it has not seen.
+ * </p>
+ */
+@Service
+public class JwtTokenAuthenticatorContractV0 implements TokenAuthenticator {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenAuthenticatorContractV0.class);
+
+    /** Runs every request when authentication is disabled. */
+    private static final AuthenticatedToken LOCAL_USER = new AuthenticatedToken(
+            new User("1", "api-user@example.com", "USER"), Long.MAX_VALUE);
+
+    private final AuthenticationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+
+    private volatile JwtVerifier verifier;
+    private volatile long jwksFileLastModified;
+
+    public JwtTokenAuthenticatorContractV0(AuthenticationProperties properties,
+            ApplicationEventPublisher eventPublisher, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.verifier = newVerifier(JsonWebKeySet.EMPTY);
+        if (!properties.enabled()) {
+            logger.warn("Authentication is disabled, every request runs as user {}", LOCAL_USER.user().id());
+        } else if (properties.jwksFile() == null) {
+            logger.warn("No orderservice.authentication.jwks-file is set, every bearer token will be rejected");
+        } else {
+            reloadFromFile();
+        }
+    }
+
+    @Override
+    public AuthenticatedToken authenticate(String token) {
+        if (!properties.enabled()) {
+            return LOCAL_USER;
+        }
+        return verifier.verify(token, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Swap in a new key set.
+     */
+    public void reload(JsonWebKeySet keys) {
+        this.verifier = newVerifier(keys);
+        logger.debug("Token keys reloaded: {} keys", keys.size());
+        eventPublisher.publishEvent(new AuthenticationKeysReloadedEvent(keys.size()));
+    }
+
+    /**
+     * Reload the key set file if it changed since it was last read.
+     * A file that fails to parse leaves the current keys in place.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.authentication.reload-interval:30s}")
+    public void reloadFromFile() {
+        if (!properties.enabled() || properties.jwksFile() == null) {
+            return;
+        }
+        File file = new File(properties.jwksFile());
+        long lastModified = file.lastModified();
+        if (lastModified == 0 || lastModified == jwksFileLastModified) {
+            return;
+        }
+        try {
+            JsonWebKeySet keys = JsonWebKeySet.parse(jsonMapper.readTree(file));
+            jwksFileLastModified = lastModified;
+            reload(keys);
+            logger.info("Token keys loaded from {}: {} keys", properties.jwksFile(), keys.size());
+        } catch (JacksonException | IllegalArgumentException e) {
+            logger.error("Failed to load token keys from {}, keeping current keys", properties.jwksFile(), e);
+        }
+    }
+
+    private JwtVerifier newVerifier(JsonWebKeySet keys) {
+        return new JwtVerifier(jsonMapper, keys, properties.issuer(), properties.audience(), properties.roleClaim(),
+                properties.clockSkew().toSeconds());
+    }
+}
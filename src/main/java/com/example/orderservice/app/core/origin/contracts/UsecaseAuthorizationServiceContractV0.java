@@ -1,20 +1,112 @@
 package com.example.orderservice.app.core.origin.contracts;
 
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.example.orderservice.app.core.origin.entities.PermissionMatrix;
 import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.AuthorizationPolicyReloadedEvent;
 import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.core.origin.spring.AuthorizationPolicyProperties;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
 
+/**
+ * Role-based policy engine for usecase authorization.
+ *
+ * <p>
+ * Grants are loaded from {@code orderservice.authorization.policy} (or the
+ * JSON policy file it points to) and compiled into a {@link PermissionMatrix}.
+ * A reload compiles a new matrix and swaps it in with a single volatile write,
+ * so checks never block and never observe a half-built policy.
+ * </p>
+ *
+ * <p>
+ * Services do not call this directly: {@link CachingUsecaseAuthorizationService}
+ * sits in front of it and only consults it on cache misses.
+ * </p>
+ */
 @Service
 public class UsecaseAuthorizationServiceContractV0 implements UsecaseAuthorizationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UsecaseAuthorizationServiceContractV0.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final String policyFile;
+    private final JsonMapper jsonMapper;
+
+    private volatile PermissionMatrix matrix;
+    private volatile long policyFileLastModified;
+
+    public UsecaseAuthorizationServiceContractV0(
+            AuthorizationPolicyProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            JsonMapper jsonMapper) {
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.policyFile = properties.policyFile();
+        this.matrix = PermissionMatrix.compile(properties.grants());
+        if (policyFile != null && !policyFile.isBlank()) {
+            reloadFromFile();
+        }
+    }
+
     @Override
     public boolean isAuthorized(User user, String usecaseName) {
-        // Custom authorization: allow all authenticated users
-        // Or implement role-based check: return "ADMIN".equals(user.role());
-        System.out.println("Inside UsecaseAuthorizationServiceContractV0");
-        System.out.println("Authorizing user " + user.email() + " for usecase " + usecaseName);
-        return user != null && user.id() != null;
+        return user != null && user.id() != null && matrix.isGranted(user.role(), usecaseName);
+    }
+
+    /**
+     * Compile and atomically swap in a new set of grants.
+     *
+     * @param grantsByRole service names granted to each role
+     */
+    public void reload(Map<String, ? extends Collection<String>> grantsByRole) {
+        PermissionMatrix compiled = PermissionMatrix.compile(grantsByRole);
+        this.matrix = compiled;
+        logger.debug("Authorization policy reloaded: {} roles, {} services", compiled.roleCount(),
+                compiled.serviceCount());
+        eventPublisher.publishEvent(
+                new AuthorizationPolicyReloadedEvent(compiled.roleCount(), compiled.serviceCount()));
     }
 
+    /**
+     * Reload the policy file if it changed since it was last read.
+     * A file that fails to parse leaves the current policy in place.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.authorization.policy.reload-interval:30s}")
+    public void reloadFromFile() {
+        if (policyFile == null || policyFile.isBlank()) {
+            return;
+        }
+        File file = new File(policyFile);
+        long lastModified = file.lastModified();
+        if (lastModified == 0 || lastModified == policyFileLastModified) {
+            return;
+        }
+        try {
+            Map<String, List<String>> grants = jsonMapper.readValue(file,
+                    new TypeReference<Map<String, List<String>>>() {
+                    });
+            policyFileLastModified = lastModified;
+            reload(grants);
+            logger.info("Authorization policy loaded from {}", policyFile);
+        } catch (JacksonException e) {
+            logger.error("Failed to load authorization policy from {}, keeping current policy", policyFile, e);
+        }
+    }
+
+    public PermissionMatrix currentMatrix() {
+        return matrix;
+    }
 }
@@ -1,21 +1,108 @@
 package com.example.orderservice.app.core.origin.entities;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import com.example.orderservice.app.core.origin.exceptions.AppException;
+import com.example.orderservice.app.core.origin.exceptions.DeadlineExceededException;
+import com.example.orderservice.app.core.origin.exceptions.OverloadedException;
+import com.example.orderservice.app.core.origin.exceptions.ValidationException;
 import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.interfaces.ServiceTimeouts;
+import com.example.orderservice.app.core.origin.interfaces.UsecasePhaseRecorder;
+import com.example.orderservice.app.core.origin.interfaces.UsecaseShardRunner;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
 import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
 import com.example.orderservice.app.core.origin.schemas.ServiceInput;
 import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
 import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.logger.entities.RequestContext;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
 
 /**
  * Abstract service that handles authorization and usecase execution.
  *
+ * <p>
+ * Every run is timed per phase ({@code authorize}, {@code build},
+ * {@code execute}, the use case's own phases, and {@code total}) into the
+ * {@value #PHASE_LATENCY_METRIC} histogram, labelled with the service name.
+ * </p>
+ *
+ * <p>
+ * Every run has a deadline: the caller's, or else the service's default time
+ * budget. Once it passes, the remaining phases are abandoned, the run returns
+ * {@code DEADLINE_EXCEEDED} and {@value #DEADLINE_EXCEEDED_METRIC} is
+ * incremented. During the usecase the deadline is available to
+ * infrastructure through {@link DeadlineContext}.
+ * </p>
+ *
+ * <p>
+ * When the dependencies carry a {@link ShardedExecutor} and the service
+ * returns a {@link #shardKey(Object) shard key} for an input, the sections
+ * the use case runs with {@link AbstractUsecase#onShard} are handed to the
+ * shard that owns the key: sections for the same key never overlap and run
+ * in arrival order, so state partitioned by that key can be updated without
+ * locks. The rest of the run, I/O included, stays on the caller's thread, so
+ * a slow database or broker never stalls a shard. Time a section waits in
+ * the shard's mailbox is recorded as the {@code queue} phase and counts
+ * against the deadline; a section that has started is always waited for, so
+ * its changes are never left unreported. A full mailbox fails the run with
+ * {@code OVERLOADED} and increments {@value #SHARD_REJECTED_METRIC}. The
+ * caller's {@link RequestContext} and deadline are bound again on the shard
+ * thread.
+ * </p>
+ *
+ * <p>
+ * When the dependencies carry a {@link RateLimiter}, every run first takes a
+ * token from its user's bucket and, if the service returns a
+ * {@link #rateLimitKey(Object) rate limit key} for the input, from that key's
+ * bucket. A request that finds either empty does not run: it returns
+ * {@code RATE_LIMITED} with the time until that bucket has a token again,
+ * and increments {@value #RATE_LIMITED_METRIC}, labelled with the limit it
+ * exceeded.
+ * </p>
+ *
  * @param <I> Usecase input type
  * @param <O> Usecase output type
  */
 public abstract class AbstractService<I, O> {
 
+    public static final String PHASE_LATENCY_METRIC = "service_phase_latency_seconds";
+    public static final String PHASE_AUTHORIZE = "authorize";
+    public static final String PHASE_BUILD = "build";
+    public static final String PHASE_EXECUTE = "execute";
+    public static final String PHASE_TOTAL = "total";
+    public static final String PHASE_QUEUE = "queue";
+    public static final String DEADLINE_EXCEEDED_METRIC = "deadline_exceeded_total";
+    public static final String SHARD_REJECTED_METRIC = "shard_mailbox_rejected_total";
+    public static final String RATE_LIMITED_METRIC = "rate_limit_rejected_total";
+
+    // States of a shard section
+    private static final int QUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int ABANDONED = 2;
+
     protected final UsecaseAuthorizationService authorizationService;
+    protected final MetricsService metricsService;
+    protected final ServiceTimeouts timeouts;
+    protected final ShardedExecutor shards;
+    protected final RateLimiter rateLimiter;
+
+    private final Map<String, LatencyHistogram> phaseLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Counter> deadlinesExceeded = new ConcurrentHashMap<>();
+    private final UsecasePhaseRecorder phaseRecorder = this::recordPhase;
+    private final Map<String, Counter> rateLimited = new ConcurrentHashMap<>();
+    private volatile Counter shardRejected;
 
     /**
      * Constructor to inject service dependencies.
@@ -24,6 +111,10 @@ public abstract class AbstractService<I, O> {
      */
     public AbstractService(ServiceDependency dependencies) {
         this.authorizationService = dependencies.authorizationService();
+        this.metricsService = dependencies.metricsService();
+        this.timeouts = dependencies.timeouts();
+        this.shards = dependencies.shards();
+        this.rateLimiter = dependencies.rateLimiter();
     }
 
     /**
@@ -36,13 +127,36 @@ public abstract class AbstractService<I, O> {
 
     /**
      * Build the usecase with its dependencies.
-     * 
+     *
      * @param input The usecase input, can be used to determine and fetch
      *              the right dependencies based on input values.
      * @return The configured usecase instance
      */
     protected abstract AbstractUsecase<I, O> build(I input);
 
+    /**
+     * Key of the state this input mutates, e.g. a customer or order id. The
+     * use case's shard sections for equal keys are serialized on one shard
+     * when sharding is enabled.
+     *
+     * @param input The usecase input
+     * @return the shard key, or null to run on the caller's thread
+     */
+    protected Object shardKey(I input) {
+        return null;
+    }
+
+    /**
+     * Key of the party this input acts for, e.g. a customer id, which gets its
+     * own request rate limit besides the user's.
+     *
+     * @param input The usecase input
+     * @return the rate limit key, or null to only limit the user
+     */
+    protected Object rateLimitKey(I input) {
+        return null;
+    }
+
     /**
      * Authorize the user for this usecase.
      * Uses the authorization service to check if the user is authorized.
@@ -65,23 +179,179 @@ public abstract class AbstractService<I, O> {
      * @return ServiceOutput with status, data, and error message
      */
     public ServiceOutput<O> run(ServiceInput<I> input) {
-        // Authorization check
-        if (!authorize(input.user())) {
-            return ServiceOutput.unauthorized("User is not authorized to perform this action");
+        ServiceOutput<O> limited = checkRateLimit(input);
+        if (limited != null) {
+            return limited;
         }
+        return runUsecase(input);
+    }
 
-        // Build and execute usecase
+    private ServiceOutput<O> checkRateLimit(ServiceInput<I> input) {
+        if (rateLimiter == null) {
+            return null;
+        }
+        RateLimiter.Rejection rejection = rateLimiter.tryAcquire(
+                input.user() == null ? null : input.user().id(),
+                input.data() == null ? null : rateLimitKey(input.data()));
+        if (rejection == null) {
+            return null;
+        }
+        Counter counter = rateLimited.get(rejection.limit());
+        if (counter == null) {
+            counter = rateLimited.computeIfAbsent(rejection.limit(),
+                    l -> metricsService.counter(RATE_LIMITED_METRIC, "service", detectServiceName(), "limit", l));
+        }
+        counter.increment();
+        return ServiceOutput.rateLimited("Rate limit per " + rejection.limit() + " exceeded, retry in "
+                + Math.max(1, TimeUnit.NANOSECONDS.toMillis(rejection.waitNanos())) + " ms",
+                Duration.ofNanos(rejection.waitNanos()));
+    }
+
+    private Object shardKeyOf(ServiceInput<I> input) {
+        if (shards == null || input.data() == null || shards.isShardThread()) {
+            return null;
+        }
+        return shardKey(input.data());
+    }
+
+    private Deadline deadlineOf(ServiceInput<I> input) {
+        return input.deadline() != null
+                ? input.deadline()
+                : Deadline.after(timeouts.timeoutFor(detectServiceName()));
+    }
+
+    private UsecaseShardRunner shardRunner(Object key, Deadline deadline) {
+        return new UsecaseShardRunner() {
+            @Override
+            public <T> T run(Supplier<T> section) {
+                return runOnShard(key, deadline, section);
+            }
+        };
+    }
+
+    /**
+     * Run a section on the shard that owns {@code key} and wait for it, at
+     * most until the deadline unless it has started.
+     */
+    private <T> T runOnShard(Object key, Deadline deadline, Supplier<T> section) {
+        long submitted = System.nanoTime();
+        RequestContext context = RequestContext.current();
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        CompletableFuture<T> future;
+        try {
+            future = shards.submit(key, () -> {
+                recordPhase(PHASE_QUEUE, submitted);
+                if (!state.compareAndSet(QUEUED, STARTED)) {
+                    return null;
+                }
+                Supplier<T> bound = deadline.isBounded() ? () -> DeadlineContext.callWith(deadline, section) : section;
+                return context == null ? bound.get() : RequestContext.callWith(context, bound);
+            });
+        } catch (RejectedExecutionException e) {
+            Counter counter = shardRejected;
+            if (counter == null) {
+                counter = metricsService.counter(SHARD_REJECTED_METRIC, "service", detectServiceName());
+                shardRejected = counter;
+            }
+            counter.increment();
+            throw new OverloadedException(e.getMessage());
+        }
+        try {
+            if (deadline.isBounded()) {
+                try {
+                    return future.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (state.compareAndSet(QUEUED, ABANDONED)) {
+                        throw new DeadlineExceededException(PHASE_QUEUE);
+                    }
+                    // Started in time: wait for the in-memory work to finish
+                }
+            }
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard section failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard", e);
+        }
+    }
+
+    private ServiceOutput<O> runUsecase(ServiceInput<I> input) {
+        long start = System.nanoTime();
         try {
-            // Decouple service orchestration from business logic by using a factory method
-            // to build the usecase, allowing for dynamic dependency injection based on
-            // input.
-            AbstractUsecase<I, O> usecase = build(input.data());
-            O result = usecase.execute(input.data());
-            return ServiceOutput.success(result);
-        } catch (AppException e) {
-            return new ServiceOutput<>(e.getStatus(), null, e.getMessage());
-        } catch (Exception e) {
-            return ServiceOutput.failure(e.getMessage());
+            Deadline deadline = deadlineOf(input);
+
+            // Authorization check
+            boolean authorized = authorize(input.user());
+            long phaseStart = recordPhase(PHASE_AUTHORIZE, start);
+            if (!authorized) {
+                return ServiceOutput.unauthorized("User is not authorized to perform this action");
+            }
+
+            // Build and execute usecase
+            try {
+                if (deadline.isExpired()) {
+                    throw new DeadlineExceededException(PHASE_BUILD);
+                }
+
+                // Decouple service orchestration from business logic by using a factory method
+                // to build the usecase, allowing for dynamic dependency injection based on
+                // input.
+                AbstractUsecase<I, O> usecase = build(input.data());
+                usecase.setPhaseRecorder(phaseRecorder);
+                usecase.setDeadline(deadline);
+                Object key = shardKeyOf(input);
+                if (key != null) {
+                    usecase.setShardRunner(shardRunner(key, deadline));
+                }
+                phaseStart = recordPhase(PHASE_BUILD, phaseStart);
+
+                O result = deadline.isBounded()
+                        ? DeadlineContext.callWith(deadline, () -> usecase.execute(input.data()))
+                        : usecase.execute(input.data());
+                recordPhase(PHASE_EXECUTE, phaseStart);
+                return ServiceOutput.success(result);
+            } catch (DeadlineExceededException e) {
+                countDeadlineExceeded(e.getPhase());
+                return ServiceOutput.deadlineExceeded(e.getMessage());
+            } catch (ValidationException e) {
+                return ServiceOutput.validationError(e.getMessage(), e.getErrors());
+            } catch (AppException e) {
+                return new ServiceOutput<>(e.getStatus(), null, e.getMessage());
+            } catch (Exception e) {
+                return ServiceOutput.failure(e.getMessage());
+            }
+        } finally {
+            recordPhase(PHASE_TOTAL, start);
+        }
+    }
+
+    private void countDeadlineExceeded(String phase) {
+        Counter counter = deadlinesExceeded.get(phase);
+        if (counter == null) {
+            counter = deadlinesExceeded.computeIfAbsent(phase,
+                    p -> metricsService.counter(DEADLINE_EXCEEDED_METRIC, "service", detectServiceName(), "phase", p));
+        }
+        counter.increment();
+    }
+
+    /**
+     * Record the latency of one phase of this service.
+     *
+     * @param phase      the phase name; should be a constant so the lookup does
+     *                   not allocate
+     * @param startNanos the {@link System#nanoTime()} at which the phase started
+     * @return the current {@link System#nanoTime()}
+     */
+    protected long recordPhase(String phase, long startNanos) {
+        LatencyHistogram histogram = phaseLatencies.get(phase);
+        if (histogram == null) {
+            histogram = phaseLatencies.computeIfAbsent(phase,
+                    p -> metricsService.latency(PHASE_LATENCY_METRIC, "service", detectServiceName(), "phase", p));
         }
+        return histogram.recordSince(startNanos);
     }
 }
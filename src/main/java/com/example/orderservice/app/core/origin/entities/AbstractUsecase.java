@@ -1,5 +1,12 @@
 package com.example.orderservice.app.core.origin.entities;
 
+import java.util.function.Supplier;
+
+import com.example.orderservice.app.core.origin.exceptions.DeadlineExceededException;
+import com.example.orderservice.app.core.origin.interfaces.UsecasePhaseRecorder;
+import com.example.orderservice.app.core.origin.interfaces.UsecaseShardRunner;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
+
 /**
  * Abstract base class for all use cases in the application.
  * 
@@ -22,6 +29,10 @@ package com.example.orderservice.app.core.origin.entities;
  */
 public abstract class AbstractUsecase<I, O> {
 
+    private UsecasePhaseRecorder phaseRecorder = UsecasePhaseRecorder.NOOP;
+    private Deadline deadline = Deadline.NONE;
+    private UsecaseShardRunner shardRunner = UsecaseShardRunner.INLINE;
+
     /**
      * Executes the use case with the given input.
      * 
@@ -37,4 +48,82 @@ public abstract class AbstractUsecase<I, O> {
      */
     public abstract O execute(I input);
 
+    /**
+     * Attach the recorder that phase timings are reported to.
+     * Called by {@link AbstractService} before {@link #execute(Object)}.
+     *
+     * @param phaseRecorder the recorder, or null to disable recording
+     */
+    public void setPhaseRecorder(UsecasePhaseRecorder phaseRecorder) {
+        this.phaseRecorder = phaseRecorder != null ? phaseRecorder : UsecasePhaseRecorder.NOOP;
+    }
+
+    /**
+     * Attach the deadline of the request being executed.
+     * Called by {@link AbstractService} before {@link #execute(Object)}.
+     *
+     * @param deadline the deadline, or null for none
+     */
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline != null ? deadline : Deadline.NONE;
+    }
+
+    /**
+     * Attach the runner of the sections that must run on the request's shard.
+     * Called by {@link AbstractService} before {@link #execute(Object)}.
+     *
+     * @param shardRunner the runner, or null to run sections inline
+     */
+    public void setShardRunner(UsecaseShardRunner shardRunner) {
+        this.shardRunner = shardRunner != null ? shardRunner : UsecaseShardRunner.INLINE;
+    }
+
+    /**
+     * Run a section that reads or updates state partitioned by the request's
+     * shard key. When the service is sharded, the section runs on the shard
+     * that owns the key, so sections for one key never overlap; the rest of
+     * the use case stays on the caller's thread. Sections must not do I/O: a
+     * section that blocks stalls every key of its shard.
+     *
+     * @param section the in-memory work
+     * @return the section's result
+     */
+    protected <T> T onShard(Supplier<T> section) {
+        return shardRunner.run(section);
+    }
+
+    /**
+     * Abandon the execution if the deadline has passed. Call before phases
+     * that are expensive or have side effects.
+     *
+     * @param nextPhase the phase about to start; should be a constant
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    protected void checkDeadline(String nextPhase) {
+        if (deadline.isExpired()) {
+            throw new DeadlineExceededException(nextPhase);
+        }
+    }
+
+    /**
+     * Mark the start of the first phase.
+     *
+     * @return the current {@link System#nanoTime()}
+     */
+    protected long startPhase() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Mark the end of a phase and the start of the next one.
+     *
+     * @param phase      the phase name; should be a constant
+     * @param startNanos the value returned by the previous
+     *                   {@link #startPhase()}/{@code endPhase} call
+     * @return the current {@link System#nanoTime()}
+     */
+    protected long endPhase(String phase, long startNanos) {
+        return phaseRecorder.record(phase, startNanos);
+    }
+
 }
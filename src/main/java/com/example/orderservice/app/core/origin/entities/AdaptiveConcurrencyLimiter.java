@@ -0,0 +1,179 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to the measured round-trip time of the work it
+ * admits, in the style of the gradient limiters used by Netflix and Envoy.
+ *
+ * <p>
+ * RTT samples are averaged over short windows. At the end of each window the
+ * average is compared to a slowly moving long-term average: when requests get
+ * slower than usual they are queueing somewhere downstream, and the limit
+ * shrinks in proportion (by at most half per window); otherwise it grows by
+ * about {@code sqrt(limit)}. Requests over the limit are rejected right away
+ * instead of joining a queue.
+ * </p>
+ *
+ * <p>
+ * {@link #tryAcquire()} and {@link #release(long, boolean)} are lock-free; the
+ * limit is recomputed by whichever thread completes a window first.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** Number of windows the long-term RTT averages over. */
+    private static final int LONG_WINDOWS = 20;
+    /** How much slower than the long-term RTT requests may get before the limit shrinks. */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+    private volatile long windowStart = System.nanoTime();
+
+    // Guarded by updateLock
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * @param initialLimit limit before any RTT has been measured
+     * @param minLimit     the limit never drops below this
+     * @param maxLimit     the limit never grows above this
+     * @param windowNanos  length of a sampling window
+     * @param smoothing    weight (0-1] of each new estimate against the current
+     *                     limit
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long windowNanos,
+            double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit range: " + minLimit + ".." + maxLimit);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be in (0, 1]: " + smoothing);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowNanos;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * A limiter that never adapts, e.g. to disable limiting with
+     * {@link Integer#MAX_VALUE}.
+     */
+    public static AdaptiveConcurrencyLimiter fixed(int limit) {
+        return new AdaptiveConcurrencyLimiter(limit, limit, limit, Long.MAX_VALUE, 1);
+    }
+
+    /**
+     * Try to admit one request.
+     *
+     * @return true if admitted, in which case {@link #release(long, boolean)}
+     *         must be called when it completes
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which it was admitted
+     * @param sample     whether its RTT should be measured; false for requests
+     *                   that did not complete normally
+     */
+    public void release(long startNanos, boolean sample) {
+        release(startNanos, System.nanoTime(), sample);
+    }
+
+    /**
+     * Release an admitted request that completed at {@code nowNanos}.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which it was admitted
+     * @param nowNanos   the current {@link System#nanoTime()}
+     * @param sample     whether its RTT should be measured
+     */
+    public void release(long startNanos, long nowNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (!sample) {
+            return;
+        }
+        long now = nowNanos;
+        windowRttSum.add(now - startNanos);
+        windowSamples.increment();
+        windowMaxInFlight.accumulateAndGet(inFlightBefore, Math::max);
+
+        if (now - windowStart >= windowNanos && updateLock.tryLock()) {
+            try {
+                if (now - windowStart >= windowNanos) {
+                    update(now);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void update(long now) {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+        windowStart = now;
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = (double) rttSum / samples;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOWS;
+        }
+        // After a latency spike the long-term average lags behind; pull it
+        // down so the limit can recover
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+
+        // Don't grow a limit the traffic is not using
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
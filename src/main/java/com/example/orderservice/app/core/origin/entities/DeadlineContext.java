@@ -0,0 +1,43 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.function.Supplier;
+
+import com.example.orderservice.app.core.origin.schemas.Deadline;
+
+/**
+ * The deadline of the request the current thread is working on, for code
+ * that cannot have it passed in explicitly, such as infrastructure adapters
+ * that set JDBC or Kafka timeouts.
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    /**
+     * @return the current deadline, or {@link Deadline#NONE} outside a request
+     */
+    public static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline : Deadline.NONE;
+    }
+
+    /**
+     * Run {@code action} with {@code deadline} as the current deadline.
+     */
+    public static <T> T callWith(Deadline deadline, Supplier<T> action) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Lossless encoding of a {@link LocalDateTime} as one long: nanoseconds since
+ * 1970-01-01T00:00 (the wall-clock reading, without time zone), with
+ * {@link #NONE} for null. Covers the years 1677 to 2262.
+ */
+public final class EpochNanos {
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private EpochNanos() {
+    }
+
+    /**
+     * @throws ArithmeticException outside the supported years
+     */
+    public static long of(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NONE;
+        }
+        long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), dateTime.getNano());
+    }
+
+    public static LocalDateTime toDateTime(long nanos) {
+        if (nanos == NONE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
+
+/**
+ * Weighted dispatch table over the helper contracts of one feature.
+ *
+ * <p>
+ * Helper keys are resolved against the available helpers once, at
+ * construction, so {@link #select()} is a random draw and a short scan over
+ * a few array slots: no string lookups and no allocation per request.
+ * Unknown keys fail fast at startup rather than on the first request.
+ * </p>
+ *
+ * @param <H> the helper interface type
+ */
+public class HelperRouter<H> {
+
+    private final Object[] targets;
+    private final String[] keys;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final H shadow;
+    private final String shadowKey;
+    private final int shadowPercent;
+
+    /**
+     * @param helpers    available helpers keyed by bean name
+     * @param route      routing configuration, or null to route everything to
+     *                   {@code defaultKey}
+     * @param defaultKey helper used when no weights are configured
+     */
+    public HelperRouter(Map<String, ? extends H> helpers, HelperRoute route, String defaultKey) {
+        this(helpers, helpers, route, defaultKey);
+    }
+
+    /**
+     * @param helpers       available helpers keyed by bean name
+     * @param shadowHelpers the same helpers as they should run when shadowed,
+     *                      e.g. with side effects disabled
+     * @param route         routing configuration, or null to route everything
+     *                      to {@code defaultKey}
+     * @param defaultKey    helper used when no weights are configured
+     */
+    public HelperRouter(Map<String, ? extends H> helpers, Map<String, ? extends H> shadowHelpers,
+            HelperRoute route, String defaultKey) {
+        Map<String, Integer> weights = route == null || route.weights().isEmpty()
+                ? Map.of(defaultKey, 1)
+                : route.weights();
+
+        List<String> routedKeys = new ArrayList<>();
+        List<Integer> routedWeights = new ArrayList<>();
+        weights.forEach((key, weight) -> {
+            if (weight != null && weight > 0) {
+                routedKeys.add(key);
+                routedWeights.add(weight);
+            }
+        });
+        if (routedKeys.isEmpty()) {
+            throw new IllegalStateException("Helper route has no positive weights: " + weights);
+        }
+
+        this.targets = new Object[routedKeys.size()];
+        this.keys = routedKeys.toArray(String[]::new);
+        this.cumulativeWeights = new int[routedKeys.size()];
+        int total = 0;
+        for (int i = 0; i < keys.length; i++) {
+            targets[i] = resolve(helpers, keys[i]);
+            total += routedWeights.get(i);
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+
+        if (route != null && route.shadow() != null && !route.shadow().isBlank() && route.shadowPercent() > 0) {
+            this.shadowKey = route.shadow();
+            this.shadow = resolve(shadowHelpers, shadowKey);
+            this.shadowPercent = Math.min(100, route.shadowPercent());
+        } else {
+            this.shadowKey = null;
+            this.shadow = null;
+            this.shadowPercent = 0;
+        }
+    }
+
+    /**
+     * Pick the helper for the current request according to the weights.
+     */
+    @SuppressWarnings("unchecked")
+    public H select() {
+        if (targets.length == 1) {
+            return (H) targets[0];
+        }
+        int draw = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return (H) targets[i];
+            }
+        }
+        return (H) targets[targets.length - 1];
+    }
+
+    /**
+     * Decide whether the current request should also be shadowed.
+     *
+     * @return the shadow candidate for this request, or null
+     */
+    public H shadowCandidate() {
+        if (shadow == null) {
+            return null;
+        }
+        return ThreadLocalRandom.current().nextInt(100) < shadowPercent ? shadow : null;
+    }
+
+    public List<String> routedKeys() {
+        return List.of(keys);
+    }
+
+    public String shadowKey() {
+        return shadowKey;
+    }
+
+    private static <H> H resolve(Map<String, ? extends H> helpers, String key) {
+        H helper = helpers.get(key);
+        if (helper == null) {
+            throw new IllegalStateException("Helper not found: " + key + " (available: " + helpers.keySet() + ")");
+        }
+        return helper;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances for a bounded set of strings, such as currency codes
+ * or product ids, so that many long-lived objects can share one copy instead
+ * of each holding its own.
+ *
+ * <p>
+ * Unlike {@link String#intern()} the pool is owned by the caller and does not
+ * grow the JVM string table. Entries are never evicted, so it must only be
+ * used for values with a bounded number of distinct strings.
+ * </p>
+ */
+public final class Interner {
+
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+
+    /**
+     * @param value the string, or null
+     * @return the canonical instance equal to {@code value}, or null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = pool.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 buffer that JSON is written into token by token, for
+ * hand-written serializers of hot response types. Its output is byte for
+ * byte what Jackson's default {@code JsonMapper} writes for the same values:
+ * strings escaped the same way, {@link BigDecimal} as {@code toString()} and
+ * {@link Instant} as ISO-8601 with the fraction in groups of three digits.
+ *
+ * <p>
+ * Field names and other constant fragments should be precomputed once with
+ * {@link #ascii(String)}. A writer is reused through {@link #acquire()}, one
+ * per thread, so writing a response does not allocate in the common case.
+ * Not thread-safe.
+ * </p>
+ */
+public final class JsonByteWriter {
+
+    private static final int INITIAL_CAPACITY = 4096;
+    /** Buffers grown past this are not kept for reuse. */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = ascii("null");
+
+    /**
+     * Escape for each ASCII char: 0 to write as is, -1 for a six-char hex
+     * escape, otherwise the char to write after a backslash.
+     */
+    private static final int[] ESCAPES = new int[128];
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private static final ThreadLocal<JsonByteWriter> LOCAL = ThreadLocal.withInitial(JsonByteWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return this thread's writer, emptied
+     */
+    public static JsonByteWriter acquire() {
+        JsonByteWriter writer = LOCAL.get();
+        if (writer.buffer.length > MAX_RETAINED_CAPACITY) {
+            writer.buffer = new byte[INITIAL_CAPACITY];
+        }
+        writer.size = 0;
+        return writer;
+    }
+
+    /**
+     * Encode a constant fragment, e.g. {@code ascii("\"orderId\":")}.
+     */
+    public static byte[] ascii(String fragment) {
+        return fragment.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public JsonByteWriter raw(byte[] fragment) {
+        ensure(fragment.length);
+        System.arraycopy(fragment, 0, buffer, size, fragment.length);
+        size += fragment.length;
+        return this;
+    }
+
+    public JsonByteWriter raw(char c) {
+        ensure(1);
+        buffer[size++] = (byte) c;
+        return this;
+    }
+
+    public JsonByteWriter nullValue() {
+        return raw(NULL);
+    }
+
+    /**
+     * Write a quoted, escaped string, or {@code null}.
+     */
+    public JsonByteWriter string(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        int length = value.length();
+        // Worst case: a six-char escape for every char
+        ensure(length * 6 + 2);
+        byte[] b = buffer;
+        int n = size;
+        b[n++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                int escape = ESCAPES[c];
+                if (escape == 0) {
+                    b[n++] = (byte) c;
+                } else if (escape > 0) {
+                    b[n++] = '\\';
+                    b[n++] = (byte) escape;
+                } else {
+                    b[n++] = '\\';
+                    b[n++] = 'u';
+                    b[n++] = '0';
+                    b[n++] = '0';
+                    b[n++] = HEX[c >> 4];
+                    b[n++] = HEX[c & 0xF];
+                }
+            } else if (c < 0x800) {
+                b[n++] = (byte) (0xC0 | (c >> 6));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                b[n++] = (byte) (0xF0 | (cp >> 18));
+                b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, written as String.getBytes(UTF_8) would
+                b[n++] = '?';
+            } else {
+                b[n++] = (byte) (0xE0 | (c >> 12));
+                b[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        b[n++] = '"';
+        size = n;
+        return this;
+    }
+
+    public JsonByteWriter number(long value) {
+        ensure(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return text(Long.toString(value));
+            }
+            buffer[size++] = '-';
+            value = -value;
+        }
+        digits(value, digitCount(value));
+        return this;
+    }
+
+    /**
+     * Write a number as {@link BigDecimal#toString()} does, or {@code null}.
+     */
+    public JsonByteWriter number(BigDecimal value) {
+        if (value == null) {
+            return nullValue();
+        }
+        int scale = value.scale();
+        int precision = value.precision();
+        // toString() uses scientific notation when scale < 0 or the adjusted
+        // exponent is below -6; leave those and very long values to it
+        if (scale < 0 || scale > 18 || precision > 18 || precision - scale - 1 < -6) {
+            return text(value.toString());
+        }
+        long unscaled = value.scaleByPowerOfTen(scale).longValueExact();
+        ensure(precision + 3 + scale);
+        if (unscaled < 0) {
+            buffer[size++] = '-';
+            unscaled = -unscaled;
+        }
+        if (scale == 0) {
+            digits(unscaled, precision);
+            return this;
+        }
+        long pow = POWERS_OF_TEN[scale];
+        long integer = unscaled / pow;
+        digits(integer, digitCount(integer));
+        buffer[size++] = '.';
+        long fraction = unscaled - integer * pow;
+        int fractionDigits = fraction == 0 ? 0 : digitCount(fraction);
+        for (int i = fractionDigits; i < scale; i++) {
+            buffer[size++] = '0';
+        }
+        if (fraction != 0) {
+            digits(fraction, fractionDigits);
+        }
+        return this;
+    }
+
+    /**
+     * Write a quoted ISO-8601 instant as {@link Instant#toString()} does, or
+     * {@code null}.
+     */
+    public JsonByteWriter instant(Instant value) {
+        if (value == null) {
+            return nullValue();
+        }
+        long seconds = value.getEpochSecond();
+        int nanos = value.getNano();
+        long days = Math.floorDiv(seconds, 86_400);
+        int secondOfDay = (int) Math.floorMod(seconds, 86_400);
+
+        // Civil date from days since 1970-01-01 (H. Hinnant's algorithm)
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            raw('"');
+            text(value.toString());
+            return raw('"');
+        }
+
+        ensure(32);
+        buffer[size++] = '"';
+        digits(year, 4);
+        buffer[size++] = '-';
+        digits(month, 2);
+        buffer[size++] = '-';
+        digits(day, 2);
+        buffer[size++] = 'T';
+        digits(secondOfDay / 3600, 2);
+        buffer[size++] = ':';
+        digits(secondOfDay / 60 % 60, 2);
+        buffer[size++] = ':';
+        digits(secondOfDay % 60, 2);
+        if (nanos != 0) {
+            buffer[size++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                digits(nanos / 1_000_000, 3);
+            } else if (nanos % 1000 == 0) {
+                digits(nanos / 1000, 6);
+            } else {
+                digits(nanos, 9);
+            }
+        }
+        buffer[size++] = 'Z';
+        buffer[size++] = '"';
+        return this;
+    }
+
+    private JsonByteWriter text(String text) {
+        int length = text.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * Write a non-negative value as exactly {@code count} digits, zero-padded.
+     */
+    private void digits(long value, int count) {
+        int end = size + count;
+        for (int i = end - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size = end;
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (count < 19 && value >= POWERS_OF_TEN[count]) {
+            count++;
+        }
+        return count;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Immutable set of public keys that tokens may be signed with, read from a
+ * JSON Web Key Set ({@code {"keys": [...]}}). RSA keys and EC keys on P-256,
+ * P-384 and P-521 are supported; other entries, and keys marked for
+ * encryption only, are skipped.
+ */
+public final class JsonWebKeySet {
+
+    /**
+     * @param kid the key id, or null
+     * @param kty {@code RSA} or {@code EC}
+     * @param alg the only algorithm the key may be used with, or null for any
+     *            that fits {@code kty}
+     */
+    public record Key(String kid, String kty, String alg, PublicKey publicKey) {
+    }
+
+    public static final JsonWebKeySet EMPTY = new JsonWebKeySet(List.of());
+
+    private static final Map<String, String> CURVES = Map.of(
+            "P-256", "secp256r1",
+            "P-384", "secp384r1",
+            "P-521", "secp521r1");
+
+    private final List<Key> keys;
+    private final Map<String, Key> byKid = new HashMap<>();
+
+    private JsonWebKeySet(List<Key> keys) {
+        this.keys = List.copyOf(keys);
+        for (Key key : keys) {
+            if (key.kid() != null) {
+                byKid.put(key.kid(), key);
+            }
+        }
+    }
+
+    /**
+     * @param jwks the parsed key set document
+     * @throws IllegalArgumentException if a supported key is malformed
+     */
+    public static JsonWebKeySet parse(JsonNode jwks) {
+        List<Key> keys = new ArrayList<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            if ("enc".equals(text(jwk, "use"))) {
+                continue;
+            }
+            String kty = text(jwk, "kty");
+            try {
+                PublicKey publicKey = switch (kty == null ? "" : kty) {
+                    case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                            unsigned(jwk, "n"), unsigned(jwk, "e")));
+                    case "EC" -> ecKey(jwk);
+                    default -> null;
+                };
+                if (publicKey != null) {
+                    keys.add(new Key(text(jwk, "kid"), kty, text(jwk, "alg"), publicKey));
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException("Invalid " + kty + " key " + text(jwk, "kid"), e);
+            }
+        }
+        return new JsonWebKeySet(keys);
+    }
+
+    /**
+     * Find the key a token header points to: by {@code kid} when it has one,
+     * otherwise the only key of the right type.
+     *
+     * @return the key, or null if none matches
+     */
+    public Key find(String kid, String kty) {
+        if (kid != null) {
+            Key key = byKid.get(kid);
+            return key != null && key.kty().equals(kty) ? key : null;
+        }
+        Key match = null;
+        for (Key key : keys) {
+            if (key.kty().equals(kty)) {
+                if (match != null) {
+                    // Ambiguous without a kid
+                    return null;
+                }
+                match = key;
+            }
+        }
+        return match;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private static PublicKey ecKey(JsonNode jwk) throws GeneralSecurityException {
+        String curve = CURVES.get(text(jwk, "crv"));
+        if (curve == null) {
+            throw new GeneralSecurityException("Unsupported curve " + text(jwk, "crv"));
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curve));
+        ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+        ECPoint point = new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y"));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, spec));
+    }
+
+    private static BigInteger unsigned(JsonNode jwk, String field) throws GeneralSecurityException {
+        String value = text(jwk, field);
+        if (value == null) {
+            throw new GeneralSecurityException("Missing " + field);
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || !value.isString() ? null : value.stringValue();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Map;
+
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.User;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Verifies compact JWS tokens (JWTs) signed with RSA or ECDSA against a
+ * {@link JsonWebKeySet}, and builds the {@link User} from their claims:
+ * {@code sub} as the id, {@code email}, and the role from a configurable
+ * claim.
+ *
+ * <p>
+ * Only RS256/384/512 and ES256/384/512 are accepted, so unsigned and
+ * HMAC-signed tokens are rejected, and the algorithm must fit the type of
+ * the key it names. {@code exp} is required; {@code nbf}, and {@code iss}
+ * and {@code aud} when configured, are checked too, with some clock skew.
+ * Thread-safe.
+ * </p>
+ */
+public final class JwtVerifier {
+
+    private record Algorithm(String kty, String jcaName) {
+    }
+
+    private static final Map<String, Algorithm> ALGORITHMS = Map.of(
+            "RS256", new Algorithm("RSA", "SHA256withRSA"),
+            "RS384", new Algorithm("RSA", "SHA384withRSA"),
+            "RS512", new Algorithm("RSA", "SHA512withRSA"),
+            // JWS carries ECDSA signatures as R || S, not DER
+            "ES256", new Algorithm("EC", "SHA256withECDSAinP1363Format"),
+            "ES384", new Algorithm("EC", "SHA384withECDSAinP1363Format"),
+            "ES512", new Algorithm("EC", "SHA512withECDSAinP1363Format"));
+
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    private final ObjectMapper mapper;
+    private final JsonWebKeySet keys;
+    private final String issuer;
+    private final String audience;
+    private final String roleClaim;
+    private final long clockSkewSeconds;
+
+    /**
+     * @param mapper   parses the token header and claims
+     * @param issuer   required {@code iss}, or null to accept any
+     * @param audience value {@code aud} must be or contain, or null to accept
+     *                 any
+     */
+    public JwtVerifier(ObjectMapper mapper, JsonWebKeySet keys, String issuer, String audience, String roleClaim,
+            long clockSkewSeconds) {
+        this.mapper = mapper;
+        this.keys = keys;
+        this.issuer = issuer;
+        this.audience = audience;
+        this.roleClaim = roleClaim;
+        this.clockSkewSeconds = clockSkewSeconds;
+    }
+
+    /**
+     * @param token          the compact token
+     * @param nowEpochSecond the current time
+     * @throws AuthenticationException if the token is malformed, not signed
+     *                                 by a known key, or its claims do not
+     *                                 hold
+     */
+    public AuthenticatedToken verify(String token, long nowEpochSecond) {
+        if (token == null || token.isEmpty()) {
+            throw new AuthenticationException("Missing bearer token");
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new AuthenticationException("Malformed token");
+        }
+
+        JsonNode header = decodeJson(token.substring(0, headerEnd));
+        if (header.has("crit")) {
+            throw new AuthenticationException("Unsupported critical token header");
+        }
+        String alg = header.path("alg").asString("");
+        Algorithm algorithm = ALGORITHMS.get(alg);
+        if (algorithm == null) {
+            throw new AuthenticationException("Unsupported token algorithm");
+        }
+        String kid = header.hasNonNull("kid") ? header.get("kid").asString(null) : null;
+        JsonWebKeySet.Key key = keys.find(kid, algorithm.kty());
+        if (key == null || (key.alg() != null && !key.alg().equals(alg))) {
+            throw new AuthenticationException("Unknown token signing key");
+        }
+        if (!signatureValid(token, headerEnd, payloadEnd, algorithm, key)) {
+            throw new AuthenticationException("Invalid token signature");
+        }
+
+        JsonNode claims = decodeJson(token.substring(headerEnd + 1, payloadEnd));
+        JsonNode exp = claims.get("exp");
+        if (exp == null || !exp.isNumber()) {
+            throw new AuthenticationException("Token has no expiry");
+        }
+        if (nowEpochSecond - clockSkewSeconds >= exp.asLong()) {
+            throw new AuthenticationException("Token expired");
+        }
+        JsonNode nbf = claims.get("nbf");
+        if (nbf != null && nbf.isNumber() && nowEpochSecond + clockSkewSeconds < nbf.asLong()) {
+            throw new AuthenticationException("Token not yet valid");
+        }
+        if (issuer != null && !issuer.equals(claims.path("iss").asString(null))) {
+            throw new AuthenticationException("Token issuer not accepted");
+        }
+        if (audience != null && !hasAudience(claims.get("aud"))) {
+            throw new AuthenticationException("Token audience not accepted");
+        }
+
+        String subject = claims.path("sub").asString(null);
+        String role = claims.path(roleClaim).asString(null);
+        if (subject == null || role == null) {
+            throw new AuthenticationException("Token has no subject or role");
+        }
+        return new AuthenticatedToken(new User(subject, claims.path("email").asString(null), role), exp.asLong());
+    }
+
+    private static boolean signatureValid(String token, int headerEnd, int payloadEnd, Algorithm algorithm,
+            JsonWebKeySet.Key key) {
+        try {
+            byte[] signature = BASE64URL.decode(token.substring(payloadEnd + 1));
+            Signature verifier = Signature.getInstance(algorithm.jcaName());
+            verifier.initVerify(key.publicKey());
+            verifier.update(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            return verifier.verify(signature);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            // Bad base64, or a signature of the wrong length for the key
+            return false;
+        }
+    }
+
+    private boolean hasAudience(JsonNode aud) {
+        if (aud == null) {
+            return false;
+        }
+        if (aud.isArray()) {
+            for (JsonNode value : aud) {
+                if (audience.equals(value.asString(null))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return audience.equals(aud.asString(null));
+    }
+
+    private JsonNode decodeJson(String segment) {
+        try {
+            JsonNode node = mapper.readTree(BASE64URL.decode(segment));
+            if (node == null || !node.isObject()) {
+                throw new AuthenticationException("Malformed token");
+            }
+            return node;
+        } catch (IllegalArgumentException | JacksonException e) {
+            throw new AuthenticationException("Malformed token");
+        }
+    }
+}
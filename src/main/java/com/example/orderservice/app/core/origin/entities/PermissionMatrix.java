@@ -0,0 +1,113 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, precompiled role-to-service grant matrix.
+ *
+ * <p>
+ * Role and service names are numbered with dense integer ids at compile
+ * time and grants are stored as one bitset row per role, so
+ * {@link #isGranted(String, String)} is two hash lookups and a bit test with
+ * no allocation. A role granted {@value #WILDCARD} may access every service,
+ * including ones not named anywhere in the configuration.
+ * </p>
+ */
+public final class PermissionMatrix {
+
+    public static final String WILDCARD = "*";
+
+    private final Map<String, Integer> roleIds;
+    private final Map<String, Integer> serviceIds;
+    private final int wordsPerRole;
+    private final long[] grants;
+    private final boolean[] wildcardRoles;
+
+    private PermissionMatrix(Map<String, Integer> roleIds, Map<String, Integer> serviceIds, long[] grants,
+            boolean[] wildcardRoles) {
+        this.roleIds = roleIds;
+        this.serviceIds = serviceIds;
+        this.wordsPerRole = (serviceIds.size() + 63) >>> 6;
+        this.grants = grants;
+        this.wildcardRoles = wildcardRoles;
+    }
+
+    /**
+     * Compile a grant table.
+     *
+     * @param grantsByRole service names granted to each role; {@value #WILDCARD}
+     *                     grants every service
+     * @return the compiled matrix
+     */
+    public static PermissionMatrix compile(Map<String, ? extends Collection<String>> grantsByRole) {
+        Map<String, Integer> roleIds = new HashMap<>();
+        Set<String> serviceNames = new LinkedHashSet<>();
+        grantsByRole.forEach((role, services) -> {
+            roleIds.putIfAbsent(role, roleIds.size());
+            if (services != null) {
+                services.stream().filter(s -> !WILDCARD.equals(s)).forEach(serviceNames::add);
+            }
+        });
+
+        Map<String, Integer> serviceIds = new HashMap<>();
+        for (String service : serviceNames) {
+            serviceIds.put(service, serviceIds.size());
+        }
+
+        int words = (serviceIds.size() + 63) >>> 6;
+        long[] grants = new long[Math.max(1, roleIds.size() * words)];
+        boolean[] wildcardRoles = new boolean[roleIds.size()];
+        grantsByRole.forEach((role, services) -> {
+            int roleId = roleIds.get(role);
+            for (String service : services == null ? List.<String>of() : services) {
+                if (WILDCARD.equals(service)) {
+                    wildcardRoles[roleId] = true;
+                } else {
+                    int serviceId = serviceIds.get(service);
+                    grants[roleId * words + (serviceId >>> 6)] |= 1L << serviceId;
+                }
+            }
+        });
+
+        return new PermissionMatrix(Map.copyOf(roleIds), Map.copyOf(serviceIds), grants, wildcardRoles);
+    }
+
+    /**
+     * Check whether a role may access a service.
+     *
+     * @param role        the role name
+     * @param serviceName the service name
+     * @return true if granted explicitly or through a wildcard
+     */
+    public boolean isGranted(String role, String serviceName) {
+        if (role == null) {
+            return false;
+        }
+        Integer roleId = roleIds.get(role);
+        if (roleId == null) {
+            return false;
+        }
+        if (wildcardRoles[roleId]) {
+            return true;
+        }
+        Integer serviceId = serviceIds.get(serviceName);
+        if (serviceId == null) {
+            return false;
+        }
+        int id = serviceId;
+        return (grants[roleId * wordsPerRole + (id >>> 6)] & (1L << id)) != 0;
+    }
+
+    public int roleCount() {
+        return roleIds.size();
+    }
+
+    public int serviceCount() {
+        return serviceIds.size();
+    }
+}
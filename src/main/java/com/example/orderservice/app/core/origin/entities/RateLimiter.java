@@ -0,0 +1,71 @@
+package com.example.orderservice.app.core.origin.entities;
+
+/**
+ * Per-user and per-key request rate limits, each a {@link TokenBucketStore}.
+ * A request is admitted only if both its user's bucket and its key's bucket
+ * have a token; when the key's bucket is empty, the token already taken from
+ * the user's bucket is put back.
+ */
+public final class RateLimiter {
+
+    public static final String LIMIT_USER = "user";
+    public static final String LIMIT_KEY = "key";
+
+    /**
+     * Why a request was refused.
+     *
+     * @param limit     {@link #LIMIT_USER} or {@link #LIMIT_KEY}
+     * @param waitNanos time until the bucket has a token again
+     */
+    public record Rejection(String limit, long waitNanos) {
+    }
+
+    private final TokenBucketStore perUser;
+    private final TokenBucketStore perKey;
+
+    /**
+     * @param perUser buckets keyed by user id, or null for no per-user limit
+     * @param perKey  buckets keyed by the service's rate limit key, or null
+     *                for no per-key limit
+     */
+    public RateLimiter(TokenBucketStore perUser, TokenBucketStore perKey) {
+        this.perUser = perUser;
+        this.perKey = perKey;
+    }
+
+    /**
+     * @param userId the caller's id, or null to skip the per-user limit
+     * @param key    the service's rate limit key, or null to skip the
+     *               per-key limit
+     * @return null if the request is admitted, otherwise the limit it exceeds
+     */
+    public Rejection tryAcquire(String userId, Object key) {
+        long now = System.nanoTime();
+        boolean userCharged = false;
+        if (perUser != null && userId != null) {
+            long wait = perUser.tryAcquire(userId, now);
+            if (wait > 0) {
+                return new Rejection(LIMIT_USER, wait);
+            }
+            userCharged = true;
+        }
+        if (perKey != null && key != null) {
+            long wait = perKey.tryAcquire(key, now);
+            if (wait > 0) {
+                if (userCharged) {
+                    perUser.release(userId);
+                }
+                return new Rejection(LIMIT_KEY, wait);
+            }
+        }
+        return null;
+    }
+
+    public TokenBucketStore perUser() {
+        return perUser;
+    }
+
+    public TokenBucketStore perKey() {
+        return perKey;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of single-threaded workers, each draining its own bounded
+ * mailbox. Tasks are routed by the hash of a shard key, so all tasks for one
+ * key run one after the other, in submission order, on the same thread: state
+ * owned by a shard can be read and updated without locks.
+ *
+ * <p>
+ * A task submitted to a full mailbox is rejected at once rather than
+ * blocking the caller. A task that throws completes its future exceptionally
+ * and does not stop the worker.
+ * </p>
+ */
+public class ShardedExecutor {
+
+    private final Worker[] workers;
+    private volatile boolean stopped;
+
+    /**
+     * @param shards          number of workers, typically the number of cores
+     * @param mailboxCapacity tasks each worker can have waiting
+     * @param namePrefix      worker threads are named {@code namePrefix + index}
+     */
+    public ShardedExecutor(int shards, int mailboxCapacity, String namePrefix) {
+        if (shards < 1 || mailboxCapacity < 1) {
+            throw new IllegalArgumentException("shards and mailboxCapacity must be at least 1");
+        }
+        this.workers = new Worker[shards];
+        for (int i = 0; i < shards; i++) {
+            workers[i] = new Worker(namePrefix + i, new ArrayBlockingQueue<>(mailboxCapacity));
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Run {@code task} on the shard that owns {@code key}.
+     *
+     * @return a future completed with the task's result on the shard thread
+     * @throws RejectedExecutionException if the shard's mailbox is full or the
+     *                                    executor is shut down
+     */
+    public <T> CompletableFuture<T> submit(Object key, Supplier<T> task) {
+        if (stopped) {
+            throw new RejectedExecutionException("Sharded executor is shut down");
+        }
+        Task<T> queued = new Task<>(task, new CompletableFuture<>());
+        Worker worker = workers[shardOf(key)];
+        if (!worker.mailbox.offer(queued)) {
+            throw new RejectedExecutionException("Mailbox of shard " + worker.getName() + " is full");
+        }
+        return queued.future;
+    }
+
+    /**
+     * @return the index of the shard that owns {@code key}
+     */
+    public int shardOf(Object key) {
+        int h = key.hashCode();
+        // Spread the bits so keys differing only in high bits still spread out
+        h ^= h >>> 16;
+        h *= 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), workers.length);
+    }
+
+    /**
+     * @return whether the calling thread is a worker of this executor
+     */
+    public boolean isShardThread() {
+        return Thread.currentThread() instanceof Worker worker && worker.owner() == this;
+    }
+
+    public int shardCount() {
+        return workers.length;
+    }
+
+    /**
+     * @return the number of tasks waiting in the shard's mailbox
+     */
+    public int queueDepth(int shard) {
+        return workers[shard].mailbox.size();
+    }
+
+    /**
+     * Stop the workers once their current task is done. Tasks still waiting
+     * complete exceptionally with a {@link RejectedExecutionException}.
+     */
+    public void shutdown() {
+        stopped = true;
+        for (Worker worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    private record Task<T>(Supplier<T> task, CompletableFuture<T> future) {
+
+        void run() {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class Worker extends Thread {
+
+        final BlockingQueue<Task<?>> mailbox;
+
+        Worker(String name, BlockingQueue<Task<?>> mailbox) {
+            super(name);
+            this.mailbox = mailbox;
+            setDaemon(true);
+        }
+
+        ShardedExecutor owner() {
+            return ShardedExecutor.this;
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                try {
+                    mailbox.take().run();
+                } catch (InterruptedException e) {
+                    // Shutdown, or a stray interrupt left by a task
+                }
+            }
+            // Also catches tasks offered while shutdown was in progress
+            List<Task<?>> pending = new ArrayList<>();
+            mailbox.drainTo(pending);
+            for (Task<?> task : pending) {
+                task.future.completeExceptionally(new RejectedExecutionException("Sharded executor is shut down"));
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One token bucket per key, each holding at most {@code capacity} tokens and
+ * refilled at {@code refillPerSecond}.
+ *
+ * <p>
+ * A bucket is a single {@code long}: the time at which it will be full again
+ * (the "theoretical arrival time" of the generic cell rate algorithm). Taking
+ * a token pushes that time one refill interval further, with a
+ * compare-and-set, and is refused if it would end up more than
+ * {@code capacity} intervals ahead of now. Refill is therefore implied by the
+ * clock; no thread ever visits a bucket to top it up.
+ * </p>
+ *
+ * <p>
+ * A bucket whose time has passed is full, which is exactly how an absent
+ * bucket behaves, so such buckets can be dropped without changing any
+ * outcome. Keys are spread over a power-of-two number of stripes, each
+ * allowed {@code maxKeys / stripes} buckets. A stripe that reaches its share
+ * first drops its full buckets, and if it is still at its share, an
+ * arbitrary tenth of the rest; those keys start over with a full bucket. A
+ * request racing with the removal of its bucket may have its token
+ * forgotten, which at worst admits one extra request.
+ * </p>
+ */
+public final class TokenBucketStore {
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int stripeShift;
+    private final int maxKeysPerStripe;
+    private final Map<Object, AtomicLong>[] stripes;
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * @param capacity        tokens a full bucket holds, i.e. the largest
+     *                        burst admitted at once
+     * @param refillPerSecond tokens added per second
+     * @param stripes         number of stripes, rounded up to a power of two
+     * @param maxKeys         buckets kept at most, over all stripes
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketStore(long capacity, double refillPerSecond, int stripes, int maxKeys) {
+        if (capacity < 1 || !(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("Token bucket needs a positive capacity and refill rate");
+        }
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / refillPerSecond));
+        this.burstNanos = capacity > Long.MAX_VALUE / 4 / intervalNanos
+                ? Long.MAX_VALUE / 4
+                : capacity * intervalNanos;
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Take a token from the key's bucket.
+     *
+     * @param key      the key, never null
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one
+     *         will be available
+     */
+    public long tryAcquire(Object key, long nowNanos) {
+        AtomicLong bucket = bucket(key, nowNanos);
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Put back a token taken by {@link #tryAcquire} for a request that was
+     * then refused for another reason.
+     */
+    public void release(Object key) {
+        AtomicLong bucket = stripeOf(key).get(key);
+        if (bucket != null) {
+            bucket.addAndGet(-intervalNanos);
+        }
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of buckets currently kept.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Object, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Buckets dropped while not yet full, since creation.
+     */
+    public long evicted() {
+        return evicted.sum();
+    }
+
+    private AtomicLong bucket(Object key, long nowNanos) {
+        Map<Object, AtomicLong> stripe = stripeOf(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            evict(stripe, nowNanos);
+        }
+        AtomicLong created = new AtomicLong(nowNanos);
+        bucket = stripe.putIfAbsent(key, created);
+        return bucket != null ? bucket : created;
+    }
+
+    private Map<Object, AtomicLong> stripeOf(Object key) {
+        // The stripe takes the high bits of the mixed hash, the map inside it the low ones
+        return stripes[(key.hashCode() * 0x9E3779B9) >>> stripeShift & (stripes.length - 1)];
+    }
+
+    private void evict(Map<Object, AtomicLong> stripe, long nowNanos) {
+        stripe.values().removeIf(bucket -> bucket.get() - nowNanos <= 0);
+        if (stripe.size() < maxKeysPerStripe) {
+            return;
+        }
+        // Still full of busy keys: make room for a batch of new ones at once
+        int excess = stripe.size() - maxKeysPerStripe + Math.max(1, maxKeysPerStripe / 10);
+        Iterator<Object> keys = stripe.keySet().iterator();
+        while (excess > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            excess--;
+            evicted.increment();
+        }
+    }
+}
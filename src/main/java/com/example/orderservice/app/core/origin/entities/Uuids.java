@@ -0,0 +1,37 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.UUID;
+
+/**
+ * Helpers for ids that are usually UUIDs, so they can be stored as two longs.
+ */
+public final class Uuids {
+
+    private Uuids() {
+    }
+
+    /**
+     * @return true if {@code value} is a UUID in the canonical lowercase form
+     *         produced by {@link UUID#toString()}, so that parsing and
+     *         formatting it again gives back the same string
+     */
+    public static boolean isCanonical(String value) {
+        return parseCanonical(value) != null;
+    }
+
+    /**
+     * @return {@code value} parsed, if it is {@link #isCanonical canonical};
+     *         otherwise null
+     */
+    public static UUID parseCanonical(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
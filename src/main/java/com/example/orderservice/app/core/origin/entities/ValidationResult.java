@@ -0,0 +1,159 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+
+/**
+ * Violations collected by a {@link Validator}, and the checks that record
+ * them.
+ *
+ * <p>
+ * Each check returns whether the value passed, so rules can skip checks that
+ * depend on it. Valid input allocates nothing: the error list is only created
+ * on the first violation, and field paths such as {@code items[2].quantity}
+ * are only built for violations. A result can be {@link #reset()} and reused
+ * across validations.
+ * </p>
+ */
+public class ValidationResult {
+
+    public static final String CODE_REQUIRED = "required";
+    public static final String CODE_NOT_EMPTY = "not_empty";
+    public static final String CODE_POSITIVE = "positive";
+
+    private List<FieldError> errors;
+
+    // Collection element currently being validated, see each()
+    private String parent;
+    private int index;
+
+    /**
+     * The value must be a non-null string with at least one non-whitespace
+     * character.
+     */
+    public boolean notBlank(String field, String value, String message) {
+        if (value == null || value.isBlank()) {
+            add(field, CODE_REQUIRED, message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The value must be a non-null, non-empty collection.
+     */
+    public boolean notEmpty(String field, Collection<?> value, String message) {
+        if (value == null || value.isEmpty()) {
+            add(field, CODE_NOT_EMPTY, message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The value must be greater than zero.
+     */
+    public boolean positive(String field, long value, String message) {
+        if (value <= 0) {
+            add(field, CODE_POSITIVE, message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The value must be non-null and greater than zero.
+     */
+    public boolean positive(String field, BigDecimal value, String message) {
+        if (value == null || value.signum() <= 0) {
+            add(field, CODE_POSITIVE, message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Validate every element of a list. A null list is skipped; combine with
+     * {@link #notEmpty} if it should be a violation. Violations inside an
+     * element are reported as {@code field[index].subfield}.
+     *
+     * @param nullElementMessage message for null elements
+     * @return true if every element passed
+     */
+    public <E> boolean each(String field, List<E> elements, Validator<E> validator, String nullElementMessage) {
+        if (elements == null) {
+            return true;
+        }
+        int errorsBefore = errorCount();
+        String outerParent = parent;
+        int outerIndex = index;
+        // Nested collections need the full path; top-level ones use the field
+        // name as is, so valid input allocates nothing
+        String path = outerParent == null ? field : path(outerParent, outerIndex, field);
+        try {
+            for (int i = 0, n = elements.size(); i < n; i++) {
+                E element = elements.get(i);
+                parent = path;
+                index = i;
+                if (element == null) {
+                    add(null, CODE_REQUIRED, nullElementMessage);
+                } else {
+                    validator.check(element, this);
+                }
+            }
+        } finally {
+            parent = outerParent;
+            index = outerIndex;
+        }
+        return errorCount() == errorsBefore;
+    }
+
+    /**
+     * Record a violation of a custom rule.
+     *
+     * @param field   the field name, or null for the current element itself
+     * @param code    machine-readable rule name
+     * @param message human-readable description
+     */
+    public void add(String field, String code, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        String fieldPath = parent == null ? field : path(parent, index, field);
+        errors.add(new FieldError(fieldPath, code, message));
+    }
+
+    public boolean isValid() {
+        return errors == null || errors.isEmpty();
+    }
+
+    /**
+     * @return the violations so far, as a read-only view that changes with
+     *         this result; copy it before resetting
+     */
+    public List<FieldError> errors() {
+        return errors == null ? List.of() : Collections.unmodifiableList(errors);
+    }
+
+    public void reset() {
+        if (errors != null) {
+            errors.clear();
+        }
+        parent = null;
+        index = 0;
+    }
+
+    private int errorCount() {
+        return errors == null ? 0 : errors.size();
+    }
+
+    private static String path(String parent, int index, String field) {
+        String element = parent + "[" + index + "]";
+        return field == null ? element : element + "." + field;
+    }
+}
@@ -13,6 +13,16 @@ public abstract class AppException extends RuntimeException {
         this.status = status;
     }
 
+    /**
+     * @param writableStackTrace false for exceptions used as control flow on
+     *                           hot paths, where capturing the stack would
+     *                           cost more than the work they abort
+     */
+    protected AppException(ServiceStatus status, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+    }
+
     public ServiceStatus getStatus() {
         return status;
     }
@@ -0,0 +1,15 @@
+package com.example.orderservice.app.core.origin.exceptions;
+
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Thrown when a bearer token is missing, malformed, expired or not signed by
+ * a trusted key.
+ */
+public class AuthenticationException extends AppException {
+
+    public AuthenticationException(String message) {
+        // Cheap to throw at whoever sends bad tokens
+        super(ServiceStatus.UNAUTHENTICATED, message, false);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.orderservice.app.core.origin.exceptions;
+
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Thrown when a request runs out of time budget. Work that has not started
+ * yet is abandoned.
+ */
+public class DeadlineExceededException extends AppException {
+
+    private final String phase;
+
+    /**
+     * @param phase the phase that was about to start, or that timed out
+     */
+    public DeadlineExceededException(String phase) {
+        // Thrown under overload, so skip the stack trace
+        super(ServiceStatus.DEADLINE_EXCEEDED, "Deadline exceeded at " + phase, false);
+        this.phase = phase;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+}
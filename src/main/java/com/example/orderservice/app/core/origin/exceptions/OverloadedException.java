@@ -0,0 +1,14 @@
+package com.example.orderservice.app.core.origin.exceptions;
+
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Thrown when work is shed because a queue it needs is full.
+ */
+public class OverloadedException extends AppException {
+
+    public OverloadedException(String message) {
+        // Raised under overload, when a stack trace would only add to it
+        super(ServiceStatus.OVERLOADED, message, false);
+    }
+}
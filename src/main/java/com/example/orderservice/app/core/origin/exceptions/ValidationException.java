@@ -0,0 +1,33 @@
+package com.example.orderservice.app.core.origin.exceptions;
+
+import java.util.List;
+
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Rejects an input with all of its violations. Thrown once per rejected
+ * input, after validation has finished, and without a stack trace: rejected
+ * inputs are an expected outcome, not a bug to debug.
+ */
+public class ValidationException extends AppException {
+
+    private final List<FieldError> errors;
+
+    public ValidationException(String message, List<FieldError> errors) {
+        super(ServiceStatus.VALIDATION_ERROR, message, false);
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * @param errors the violations, at least one; the first one's message
+     *               becomes the exception message
+     */
+    public ValidationException(List<FieldError> errors) {
+        this(errors.get(0).message(), errors);
+    }
+
+    public List<FieldError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+import com.example.orderservice.app.core.origin.entities.JsonByteWriter;
+
+/**
+ * Hand-written JSON serializer for the {@code data} of a service output.
+ * Beans of this type are picked up by the {@code ServiceOutput} message
+ * converter, which then writes responses of that output type without going
+ * through Jackson. The output must match what Jackson writes for the same
+ * value, byte for byte.
+ *
+ * @param <O> the usecase output type
+ */
+public interface JsonDataWriter<O> {
+
+    /**
+     * @return the output type this writer handles
+     */
+    Class<O> type();
+
+    /**
+     * Write {@code data}, never null, as a JSON object.
+     */
+    void write(O data, JsonByteWriter out);
+}
@@ -0,0 +1,22 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+import java.time.Duration;
+
+/**
+ * Default time budget of each service, for requests that do not bring their
+ * own deadline.
+ */
+@FunctionalInterface
+public interface ServiceTimeouts {
+
+    /**
+     * No service has a budget.
+     */
+    ServiceTimeouts NONE = serviceName -> null;
+
+    /**
+     * @param serviceName the service name
+     * @return the service's budget, or null if it has none
+     */
+    Duration timeoutFor(String serviceName);
+}
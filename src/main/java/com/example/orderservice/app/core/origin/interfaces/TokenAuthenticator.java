@@ -0,0 +1,17 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+
+/**
+ * Turns a bearer token into the user it was issued to.
+ */
+public interface TokenAuthenticator {
+
+    /**
+     * @param token the compact token, without the {@code Bearer} prefix; may
+     *              be null
+     * @throws AuthenticationException if the token is missing or invalid
+     */
+    AuthenticatedToken authenticate(String token);
+}
@@ -16,4 +16,14 @@ public interface UsecaseAuthorizationService {
      * @return true if authorized, false otherwise
      */
     boolean isAuthorized(User user, String serviceName);
+
+    /**
+     * The same policy without any caching in front of it, for callers whose
+     * checks should leave no trace, such as warmup.
+     *
+     * @return the uncached service; this service if it does not cache
+     */
+    default UsecaseAuthorizationService uncached() {
+        return this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+/**
+ * Callback used by use cases to report how long each of their phases took.
+ * Implementations must not allocate, since this is called several times per
+ * request.
+ */
+@FunctionalInterface
+public interface UsecasePhaseRecorder {
+
+    /**
+     * Recorder used when a use case runs outside of a service, e.g. in tests.
+     */
+    UsecasePhaseRecorder NOOP = (phase, startNanos) -> System.nanoTime();
+
+    /**
+     * Record the end of a phase.
+     *
+     * @param phase      the phase name; expected to be a constant
+     * @param startNanos the {@link System#nanoTime()} at which the phase started
+     * @return the current {@link System#nanoTime()}, to be used as the start of
+     *         the next phase
+     */
+    long record(String phase, long startNanos);
+}
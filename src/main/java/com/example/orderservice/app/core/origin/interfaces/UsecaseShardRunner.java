@@ -0,0 +1,29 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the sections of a use case that update state partitioned by the
+ * request's shard key, on the thread that owns the key.
+ */
+public interface UsecaseShardRunner {
+
+    /**
+     * Runner used when a use case is not sharded: sections run on the
+     * calling thread.
+     */
+    UsecaseShardRunner INLINE = new UsecaseShardRunner() {
+        @Override
+        public <T> T run(Supplier<T> section) {
+            return section.get();
+        }
+    };
+
+    /**
+     * Run a section and wait for its result.
+     *
+     * @param section the section; should do no I/O
+     * @return the section's result
+     */
+    <T> T run(Supplier<T> section);
+}
@@ -0,0 +1,20 @@
+package com.example.orderservice.app.core.origin.interfaces;
+
+import com.example.orderservice.app.core.origin.entities.ValidationResult;
+
+/**
+ * The checks for one type, written as straight-line code against the check
+ * methods of {@link ValidationResult}, which record violations instead of
+ * throwing.
+ *
+ * @param <T> the validated type
+ */
+@FunctionalInterface
+public interface ValidationRule<T> {
+
+    /**
+     * @param target the object to check, never null
+     * @param result where violations are recorded
+     */
+    void check(T target, ValidationResult result);
+}
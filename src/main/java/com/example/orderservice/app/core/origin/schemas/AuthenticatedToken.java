@@ -0,0 +1,12 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+/**
+ * A bearer token whose signature and claims have been checked.
+ *
+ * @param user                 the user built from the token's claims
+ * @param expiresAtEpochSecond the token's {@code exp} claim
+ */
+public record AuthenticatedToken(
+        User user,
+        long expiresAtEpochSecond) {
+}
@@ -0,0 +1,11 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+/**
+ * Published after a new token key set has been swapped in, so anything
+ * caching verified tokens can drop them: a key may have been revoked.
+ *
+ * @param keys number of keys in the new key set
+ */
+public record AuthenticationKeysReloadedEvent(
+        int keys) {
+}
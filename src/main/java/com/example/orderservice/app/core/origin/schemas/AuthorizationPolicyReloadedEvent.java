@@ -0,0 +1,13 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+/**
+ * Published after the authorization policy has been recompiled and swapped
+ * in, so anything caching decisions can drop them.
+ *
+ * @param roles    number of roles in the new policy
+ * @param services number of explicitly granted services in the new policy
+ */
+public record AuthorizationPolicyReloadedEvent(
+        int roles,
+        int services) {
+}
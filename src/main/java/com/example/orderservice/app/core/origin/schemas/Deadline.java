@@ -0,0 +1,57 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a request must be done, on the
+ * {@link System#nanoTime()} clock.
+ *
+ * @param expiresAtNanos the {@link System#nanoTime()} at which the deadline
+ *                       expires, or {@link Long#MAX_VALUE} for none
+ */
+public record Deadline(long expiresAtNanos) {
+
+    public static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+    /**
+     * Deadline that expires {@code timeout} from now.
+     *
+     * @param timeout the time budget, or null for no deadline
+     */
+    public static Deadline after(Duration timeout) {
+        return after(timeout, System.nanoTime());
+    }
+
+    /**
+     * Deadline that expires {@code timeout} after {@code nowNanos}, which may
+     * be negative like any {@link System#nanoTime()} reading.
+     */
+    static Deadline after(Duration timeout, long nowNanos) {
+        if (timeout == null) {
+            return NONE;
+        }
+        try {
+            return new Deadline(Math.addExact(nowNanos, timeout.toNanos()));
+        } catch (ArithmeticException e) {
+            // Saturate instead of wrapping around: a budget too long to
+            // represent means no deadline, one too negative an expired one
+            return timeout.isNegative() ? new Deadline(nowNanos) : NONE;
+        }
+    }
+
+    public boolean isBounded() {
+        return expiresAtNanos != Long.MAX_VALUE;
+    }
+
+    /**
+     * @return nanoseconds left, negative once expired, or
+     *         {@link Long#MAX_VALUE} if unbounded
+     */
+    public long remainingNanos() {
+        return isBounded() ? expiresAtNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return isBounded() && expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
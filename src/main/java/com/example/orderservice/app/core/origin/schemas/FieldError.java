@@ -0,0 +1,14 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+/**
+ * One validation violation.
+ *
+ * @param field   path of the offending field, e.g. {@code items[2].quantity}
+ * @param code    machine-readable rule name, e.g. {@code required}
+ * @param message human-readable description
+ */
+public record FieldError(
+        String field,
+        String code,
+        String message) {
+}
@@ -0,0 +1,21 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+import java.util.Map;
+
+/**
+ * Routing configuration for the helper contracts of one feature.
+ *
+ * @param weights       relative share of traffic for each helper key
+ * @param shadow        optional helper key to shadow-execute next to the
+ *                      routed helper
+ * @param shadowPercent percentage of requests (0-100) that are also shadowed
+ */
+public record HelperRoute(
+        Map<String, Integer> weights,
+        String shadow,
+        int shadowPercent) {
+
+    public HelperRoute {
+        weights = weights == null ? Map.of() : weights;
+    }
+}
@@ -1,13 +1,33 @@
 package com.example.orderservice.app.core.origin.schemas;
 
+import com.example.orderservice.app.core.origin.entities.RateLimiter;
+import com.example.orderservice.app.core.origin.entities.ShardedExecutor;
+import com.example.orderservice.app.core.origin.interfaces.ServiceTimeouts;
 import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
 
 /**
  * Container for service dependencies.
  * Encapsulates all common dependencies required by services.
  *
  * @param authorizationService The service used for user authorization
+ * @param metricsService       The registry services record their latencies in
+ * @param timeouts             Default time budgets per service, or null for
+ *                             none
+ * @param shards               Where the shard sections of services with a
+ *                             shard key run, or null to run them on the
+ *                             caller's thread
+ * @param rateLimiter          Request rate limits checked before every run,
+ *                             or null for none
  */
 public record ServiceDependency(
-        UsecaseAuthorizationService authorizationService) {
+        UsecaseAuthorizationService authorizationService,
+        MetricsService metricsService,
+        ServiceTimeouts timeouts,
+        ShardedExecutor shards,
+        RateLimiter rateLimiter) {
+
+    public ServiceDependency {
+        timeouts = timeouts == null ? ServiceTimeouts.NONE : timeouts;
+    }
 }
@@ -5,8 +5,17 @@ package com.example.orderservice.app.core.origin.schemas;
  * input.
  *
  * @param <I> The usecase input type
+ * @param user     the caller
+ * @param data     the usecase input
+ * @param deadline the caller's deadline, or null to apply the service's
+ *                 default time budget
  */
 public record ServiceInput<I>(
         User user,
-        I data) {
+        I data,
+        Deadline deadline) {
+
+    public ServiceInput(User user, I data) {
+        this(user, data, null);
+    }
 }
@@ -1,14 +1,34 @@
 package com.example.orderservice.app.core.origin.schemas;
 
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Generic service output wrapper with status, data, and error message.
+ * Validation errors also list every violation in {@code errors}. Rate
+ * limited outputs carry the time until the caller may retry in
+ * {@code retryAfter}, which is sent as a header rather than in the body.
  *
  * @param <O> The usecase output type
  */
 public record ServiceOutput<O>(
         ServiceStatus status,
         O data,
-        String errorMessage) {
+        String errorMessage,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) List<FieldError> errors,
+        @JsonIgnore Duration retryAfter) {
+
+    public ServiceOutput(ServiceStatus status, O data, String errorMessage) {
+        this(status, data, errorMessage, null, null);
+    }
+
+    public ServiceOutput(ServiceStatus status, O data, String errorMessage, List<FieldError> errors) {
+        this(status, data, errorMessage, errors, null);
+    }
+
     /**
      * Create a successful response.
      */
@@ -23,6 +43,14 @@ public record ServiceOutput<O>(
         return new ServiceOutput<>(ServiceStatus.FAILURE, null, errorMessage);
     }
 
+    /**
+     * Create an unauthenticated response: the caller's credentials are
+     * missing or invalid.
+     */
+    public static <O> ServiceOutput<O> unauthenticated(String errorMessage) {
+        return new ServiceOutput<>(ServiceStatus.UNAUTHENTICATED, null, errorMessage);
+    }
+
     /**
      * Create an unauthorized response.
      */
@@ -44,6 +72,13 @@ public record ServiceOutput<O>(
         return new ServiceOutput<>(ServiceStatus.VALIDATION_ERROR, null, errorMessage);
     }
 
+    /**
+     * Create a validation error response listing every violation.
+     */
+    public static <O> ServiceOutput<O> validationError(String errorMessage, List<FieldError> errors) {
+        return new ServiceOutput<>(ServiceStatus.VALIDATION_ERROR, null, errorMessage, errors);
+    }
+
     /**
      * Create a conflict response.
      */
@@ -57,4 +92,34 @@ public record ServiceOutput<O>(
     public static <O> ServiceOutput<O> internalError(String errorMessage) {
         return new ServiceOutput<>(ServiceStatus.INTERNAL_ERROR, null, errorMessage);
     }
+
+    /**
+     * Create an overloaded response: the request was shed without running.
+     */
+    public static <O> ServiceOutput<O> overloaded(String errorMessage) {
+        return new ServiceOutput<>(ServiceStatus.OVERLOADED, null, errorMessage);
+    }
+
+    /**
+     * Create a rate limited response: the caller sent more requests than its
+     * limit allows.
+     */
+    public static <O> ServiceOutput<O> rateLimited(String errorMessage) {
+        return new ServiceOutput<>(ServiceStatus.RATE_LIMITED, null, errorMessage);
+    }
+
+    /**
+     * Create a rate limited response that knows when the caller's limit
+     * admits a request again.
+     */
+    public static <O> ServiceOutput<O> rateLimited(String errorMessage, Duration retryAfter) {
+        return new ServiceOutput<>(ServiceStatus.RATE_LIMITED, null, errorMessage, null, retryAfter);
+    }
+
+    /**
+     * Create a deadline exceeded response: the caller's time budget ran out.
+     */
+    public static <O> ServiceOutput<O> deadlineExceeded(String errorMessage) {
+        return new ServiceOutput<>(ServiceStatus.DEADLINE_EXCEEDED, null, errorMessage);
+    }
 }
@@ -6,9 +6,13 @@ package com.example.orderservice.app.core.origin.schemas;
 public enum ServiceStatus {
     SUCCESS,
     FAILURE,
+    UNAUTHENTICATED,
     UNAUTHORIZED,
     NOT_FOUND,
     VALIDATION_ERROR,
     CONFLICT,
-    INTERNAL_ERROR
+    INTERNAL_ERROR,
+    OVERLOADED,
+    RATE_LIMITED,
+    DEADLINE_EXCEEDED
 }
@@ -1,14 +1,28 @@
 package com.example.orderservice.app.core.origin.spring;
 
+import java.util.function.Consumer;
+
 import com.example.orderservice.app.core.origin.entities.AbstractService;
 import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
 import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.core.origin.schemas.ServiceInput;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
 
 /**
  * Abstract base class for Spring beans that wrap services.
  * Provides common functionality for creating service dependencies
  * and exposing the service instance.
  *
+ * <p>
+ * Beans that can produce synthetic inputs ({@link #warmupInput(int)}) and a
+ * side-effect free service ({@link #createWarmupService(ServiceDependency)})
+ * are exercised by {@link ServiceWarmupRunner} before the application reports
+ * itself ready.
+ * </p>
+ *
  * @param <I> The service input type
  * @param <O> The service output type
  * @param <S> The concrete service type extending AbstractService
@@ -17,31 +31,103 @@ public abstract class AbstractBean<I, O, S extends AbstractService<I, O>> {
 
     protected final UsecaseAuthorizationService authorizationService;
     protected final ServiceDependency dependencies;
-    protected S service;
+    private volatile S service;
 
     /**
      * Constructor that sets up common dependencies.
      * Subclasses should call this and then create their specific service.
      *
-     * @param authorizationService the authorization service injected by Spring
+     * @param dependencies the shared service dependencies injected by Spring
      */
-    protected AbstractBean(UsecaseAuthorizationService authorizationService) {
-        this.authorizationService = authorizationService;
-        this.dependencies = new ServiceDependency(authorizationService);
+    protected AbstractBean(ServiceDependency dependencies) {
+        this.authorizationService = dependencies.authorizationService();
+        this.dependencies = dependencies;
     }
 
     /**
      * Factory method for subclasses to create their specific service instance.
-     * Called during construction after dependencies are set up.
+     * Called once, on the first {@link #getService()}.
      *
      * @return the concrete service instance
      */
     protected abstract S createService();
 
+    /**
+     * Factory method for the service instance used during warmup. It should
+     * run the same code as {@link #createService()}, with side-effecting
+     * helpers stubbed out.
+     *
+     * @param warmupDependencies dependencies whose metrics and authorization
+     *                           decisions are kept out of the live registry
+     *                           and cache
+     * @return the warmup service, or null if this bean does not support warmup
+     */
+    protected S createWarmupService(ServiceDependency warmupDependencies) {
+        return null;
+    }
+
+    /**
+     * Synthetic input for one warmup request. Inputs should vary with
+     * {@code iteration} so the JIT sees realistic shapes and branches.
+     *
+     * @param iteration the warmup request number
+     * @return the input, or null if this bean does not support warmup
+     */
+    protected I warmupInput(int iteration) {
+        return null;
+    }
+
     public S getService() {
-        if (this.service == null) {
-            this.service = createService();
+        S current = service;
+        if (current == null) {
+            synchronized (this) {
+                current = service;
+                if (current == null) {
+                    current = createService();
+                    service = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Create the warmup service for this bean.
+     *
+     * @return the service, or null if this bean does not support warmup
+     */
+    S warmupService() {
+        if (warmupInput(0) == null) {
+            return null;
+        }
+        // No shards or rate limits: warmup runs inline and is never throttled.
+        // Uncached authorization keeps warmup decisions and their hit/miss
+        // counts out of the live authorization cache
+        return createWarmupService(new ServiceDependency(dependencies.authorizationService().uncached(),
+                new MetricsServiceContractV0(), dependencies.timeouts(), null, null));
+    }
+
+    /**
+     * Run synthetic requests through the full service pipeline.
+     *
+     * @param warmupService the service from {@link #warmupService()}
+     * @param user          the user the requests run as
+     * @param firstIteration number of the first request, passed to
+     *                      {@link #warmupInput(int)}
+     * @param iterations    number of requests to run
+     * @param latencies     where to record each request's latency, or null
+     * @param outputSink    receives each output, e.g. to serialize it
+     */
+    void warmup(S warmupService, User user, int firstIteration, int iterations,
+            LatencyHistogram latencies, Consumer<ServiceOutput<O>> outputSink) {
+        for (int i = firstIteration; i < firstIteration + iterations; i++) {
+            ServiceInput<I> input = new ServiceInput<>(user, warmupInput(i));
+            long start = System.nanoTime();
+            ServiceOutput<O> output = warmupService.run(input);
+            if (latencies != null) {
+                latencies.recordSince(start);
+            }
+            outputSink.accept(output);
         }
-        return service;
     }
 }
@@ -0,0 +1,38 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bearer token settings, bound from {@code orderservice.authentication}.
+ *
+ * @param enabled   when false, every request runs as a fixed local user, as
+ *                  before authentication existed; for local development only
+ * @param jwksFile  JSON Web Key Set of the keys tokens may be signed with,
+ *                  reloaded whenever it changes; without it every token is
+ *                  rejected
+ * @param issuer    required {@code iss} claim, or unset to accept any
+ * @param audience  value the {@code aud} claim must hold, or unset to accept
+ *                  any
+ * @param roleClaim claim holding the user's role
+ * @param clockSkew tolerance when checking {@code exp} and {@code nbf}
+ */
+@ConfigurationProperties(prefix = "orderservice.authentication")
+public record AuthenticationProperties(
+        Boolean enabled,
+        String jwksFile,
+        String issuer,
+        String audience,
+        String roleClaim,
+        Duration clockSkew) {
+
+    public AuthenticationProperties {
+        enabled = enabled == null || enabled;
+        jwksFile = jwksFile == null || jwksFile.isBlank() ? null : jwksFile;
+        issuer = issuer == null || issuer.isBlank() ? null : issuer;
+        audience = audience == null || audience.isBlank() ? null : audience;
+        roleClaim = roleClaim == null ? "role" : roleClaim;
+        clockSkew = clockSkew == null ? Duration.ofSeconds(30) : clockSkew;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Role-to-usecase grants, bound from {@code orderservice.authorization.policy}.
+ *
+ * @param grants     service names granted to each role; {@code "*"} grants all
+ * @param policyFile optional JSON file with the same shape as {@code grants};
+ *                   when set, it overrides {@code grants} and is reloaded
+ *                   whenever it changes
+ */
+@ConfigurationProperties(prefix = "orderservice.authorization.policy")
+public record AuthorizationPolicyProperties(
+        Map<String, List<String>> grants,
+        String policyFile) {
+
+    public AuthorizationPolicyProperties {
+        grants = grants == null ? Map.of() : grants;
+    }
+}
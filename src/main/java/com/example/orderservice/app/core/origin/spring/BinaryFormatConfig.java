@@ -0,0 +1,39 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary encodings of request and response bodies, next to JSON. Endpoints
+ * that list these media types in {@code consumes} / {@code produces} accept
+ * and return CBOR or Smile by {@code Content-Type} and {@code Accept}, with
+ * JSON as the default.
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+
+    public BinaryFormatConfig(ObjectProvider<CBORMapper> cborMapper, ObjectProvider<SmileMapper> smileMapper) {
+        this.cborMapper = cborMapper.getIfAvailable(CBORMapper::new);
+        this.smileMapper = smileMapper.getIfAvailable(SmileMapper::new);
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
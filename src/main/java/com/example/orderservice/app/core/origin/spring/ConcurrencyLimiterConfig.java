@@ -0,0 +1,36 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.orderservice.app.core.origin.entities.AdaptiveConcurrencyLimiter;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Adaptive concurrency limit applied by {@link ControllerServiceExecutor}.
+ * The current limit and in-flight count are exported as gauges; admitted and
+ * shed requests are counted in {@code concurrency_limit_requests_total}.
+ */
+@Configuration
+public class ConcurrencyLimiterConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            MetricsService metricsService,
+            @Value("${orderservice.concurrency.enabled:true}") boolean enabled,
+            @Value("${orderservice.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${orderservice.concurrency.min-limit:4}") int minLimit,
+            @Value("${orderservice.concurrency.max-limit:500}") int maxLimit,
+            @Value("${orderservice.concurrency.window:100ms}") Duration window,
+            @Value("${orderservice.concurrency.smoothing:0.2}") double smoothing) {
+        AdaptiveConcurrencyLimiter limiter = enabled
+                ? new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, window.toNanos(), smoothing)
+                : AdaptiveConcurrencyLimiter.fixed(Integer.MAX_VALUE);
+        metricsService.gauge("concurrency_limit", limiter::getLimit);
+        metricsService.gauge("concurrency_in_flight", limiter::getInFlight);
+        return limiter;
+    }
+}
@@ -1,14 +1,26 @@
 package com.example.orderservice.app.core.origin.spring;
 
+import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import com.example.orderservice.app.core.origin.entities.AdaptiveConcurrencyLimiter;
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.interfaces.TokenAuthenticator;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
 import com.example.orderservice.app.core.origin.schemas.ServiceInput;
 import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
 import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.logger.entities.RequestContext;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
 
 /**
  * Generic controller service executor that abstracts the common pattern of:
@@ -18,10 +30,60 @@ import com.example.orderservice.app.core.origin.schemas.User;
  * 4. Returning a proper ResponseEntity
  * 
  * This eliminates boilerplate code in controllers.
+ *
+ * Services only run when the {@link AdaptiveConcurrencyLimiter} admits them;
+ * excess requests are answered at once with 503 and a Retry-After header.
+ * Requests over their user's or key's rate limit are answered with 429 and
+ * a Retry-After header holding the time until their bucket refills, rounded
+ * up to whole seconds. A rate limited request holds its concurrency slot
+ * only for the bucket check and is released without an RTT sample.
+ *
+ * Requests carrying a bearer token are authenticated through the
+ * {@link TokenAuthenticator}; a missing or invalid token is answered with 401.
+ * Authentication runs inside the admitted section, so verifying tokens,
+ * bogus ones included, never runs beyond the concurrency limit; a rejected
+ * token is released without an RTT sample.
+ *
+ * Each request runs with its own {@link RequestContext}, carrying the
+ * caller's {@value #CORRELATION_ID_HEADER} or a generated one, and the
+ * authenticated user's ID.
  */
 @Component
 public class ControllerServiceExecutor {
 
+    /**
+     * Request header carrying the caller's remaining time budget in
+     * milliseconds.
+     */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    /**
+     * Request header carrying the caller's correlation ID.
+     */
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    private static final String USER_ID_KEY = "userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final TokenAuthenticator tokenAuthenticator;
+    private final String retryAfterSeconds;
+    private final Counter admitted;
+    private final Counter shed;
+
+    public ControllerServiceExecutor(
+            AdaptiveConcurrencyLimiter limiter,
+            TokenAuthenticator tokenAuthenticator,
+            MetricsService metricsService,
+            @Value("${orderservice.concurrency.retry-after:1s}") Duration retryAfter) {
+        this.limiter = limiter;
+        this.tokenAuthenticator = tokenAuthenticator;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.admitted = metricsService.counter("concurrency_limit_requests_total", "result", "admitted");
+        this.shed = metricsService.counter("concurrency_limit_requests_total", "result", "shed");
+    }
+
     /**
      * Executes a service operation and returns an appropriate ResponseEntity.
      *
@@ -38,11 +100,108 @@ public class ControllerServiceExecutor {
             I input,
             User user) {
 
-        ServiceInput<I> serviceInput = new ServiceInput<>(user, input);
-        ServiceOutput<O> output = serviceRunner.apply(serviceInput);
+        return execute(serviceRunner, new ServiceInput<>(user, input));
+    }
 
-        HttpStatus status = mapStatus(output);
-        return new ResponseEntity<>(output, status);
+    /**
+     * Executes a service operation within the caller's time budget.
+     *
+     * @param <I>           the input type
+     * @param <O>           the output type
+     * @param serviceRunner function that takes ServiceInput and returns
+     *                      ServiceOutput
+     * @param input         the input data for the service
+     * @param user          the user context for authorization
+     * @param timeoutMillis the value of {@value #REQUEST_TIMEOUT_HEADER}, or
+     *                      null to use the service's default budget
+     * @return ResponseEntity with appropriate HTTP status based on service result
+     */
+    public <I, O> ResponseEntity<ServiceOutput<O>> execute(
+            Function<ServiceInput<I>, ServiceOutput<O>> serviceRunner,
+            I input,
+            User user,
+            Long timeoutMillis) {
+
+        return execute(serviceRunner, new ServiceInput<>(user, input, deadlineOf(timeoutMillis)));
+    }
+
+    private static Deadline deadlineOf(Long timeoutMillis) {
+        return timeoutMillis == null ? null : Deadline.after(Duration.ofMillis(Math.max(0, timeoutMillis)));
+    }
+
+    /**
+     * Executes a service operation as the user a bearer token was issued to,
+     * within the caller's time budget.
+     *
+     * @param <I>           the input type
+     * @param <O>           the output type
+     * @param serviceRunner function that takes ServiceInput and returns
+     *                      ServiceOutput
+     * @param input         the input data for the service
+     * @param authorization the value of the Authorization header, or null
+     * @param timeoutMillis the value of {@value #REQUEST_TIMEOUT_HEADER}, or
+     *                      null to use the service's default budget
+     * @return ResponseEntity with appropriate HTTP status based on service
+     *         result, or 401 if the token is missing or invalid
+     */
+    public <I, O> ResponseEntity<ServiceOutput<O>> executeAuthenticated(
+            Function<ServiceInput<I>, ServiceOutput<O>> serviceRunner,
+            I input,
+            String authorization,
+            Long timeoutMillis) {
+
+        return executeAuthenticated(serviceRunner, input, authorization, timeoutMillis, null);
+    }
+
+    /**
+     * Executes a service operation as the user a bearer token was issued to,
+     * within the caller's time budget, under the caller's correlation ID.
+     *
+     * @param <I>           the input type
+     * @param <O>           the output type
+     * @param serviceRunner function that takes ServiceInput and returns
+     *                      ServiceOutput
+     * @param input         the input data for the service
+     * @param authorization the value of the Authorization header, or null
+     * @param timeoutMillis the value of {@value #REQUEST_TIMEOUT_HEADER}, or
+     *                      null to use the service's default budget
+     * @param correlationId the value of {@value #CORRELATION_ID_HEADER}, or
+     *                      null to generate one
+     * @return ResponseEntity with appropriate HTTP status based on service
+     *         result, or 401 if the token is missing or invalid
+     */
+    public <I, O> ResponseEntity<ServiceOutput<O>> executeAuthenticated(
+            Function<ServiceInput<I>, ServiceOutput<O>> serviceRunner,
+            I input,
+            String authorization,
+            Long timeoutMillis,
+            String correlationId) {
+
+        Deadline deadline = deadlineOf(timeoutMillis);
+        return inRequestContext(correlationId, () -> admitAndExecute(() -> {
+            User user;
+            try {
+                user = authenticate(authorization);
+            } catch (AuthenticationException e) {
+                return ServiceOutput.unauthenticated(e.getMessage());
+            }
+            RequestContext.current().put(USER_ID_KEY, user.id());
+            return serviceRunner.apply(new ServiceInput<>(user, input, deadline));
+        }));
+    }
+
+    /**
+     * Authenticates a request that does not run a service, such as a query
+     * or an event stream, through the same {@link TokenAuthenticator}.
+     *
+     * @param authorization the value of the Authorization header, or null
+     * @return the user the bearer token was issued to
+     * @throws AuthenticationException if the token is missing or invalid
+     */
+    public User authenticate(String authorization) {
+        String token = authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0,
+                BEARER_PREFIX.length()) ? authorization.substring(BEARER_PREFIX.length()).trim() : null;
+        return tokenAuthenticator.authenticate(token).user();
     }
 
     /**
@@ -60,11 +219,75 @@ public class ControllerServiceExecutor {
             Function<ServiceInput<I>, ServiceOutput<O>> serviceRunner,
             ServiceInput<I> serviceInput) {
 
-        ServiceOutput<O> output = serviceRunner.apply(serviceInput);
+        return inRequestContext(null, () -> admitAndExecute(() -> serviceRunner.apply(serviceInput)));
+    }
+
+    private <O> ResponseEntity<ServiceOutput<O>> admitAndExecute(Supplier<ServiceOutput<O>> action) {
+
+        if (!limiter.tryAcquire()) {
+            shed.increment();
+            return toResponse(ServiceOutput.overloaded("Server is at its concurrency limit, retry later"));
+        }
+        admitted.increment();
+
+        long start = System.nanoTime();
+        boolean sample = false;
+        ServiceOutput<O> output;
+        try {
+            output = action.get();
+            sample = !isFastRejection(output);
+        } finally {
+            limiter.release(start, sample);
+        }
+        return toResponse(output);
+    }
+
+    /**
+     * Outputs refused without doing the work, e.g. by a full shard mailbox, a
+     * rate limit or an invalid token. Their RTT says nothing about how long
+     * the work takes, so they are not sampled by the limiter.
+     */
+    private static boolean isFastRejection(ServiceOutput<?> output) {
+        return output.status() == ServiceStatus.OVERLOADED || output.status() == ServiceStatus.RATE_LIMITED
+                || output.status() == ServiceStatus.UNAUTHENTICATED;
+    }
+
+    /**
+     * Run {@code action} in a new request context, unless it already runs in
+     * one.
+     */
+    private static <T> T inRequestContext(String correlationId, Supplier<T> action) {
+        if (RequestContext.current() != null) {
+            return action.get();
+        }
+        RequestContext context = RequestContext.create(correlationId);
+        return RequestContext.callWith(context, action);
+    }
+
+    private <O> ResponseEntity<ServiceOutput<O>> toResponse(ServiceOutput<O> output) {
         HttpStatus status = mapStatus(output);
+        if (output.status() == ServiceStatus.OVERLOADED || output.status() == ServiceStatus.RATE_LIMITED) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(output))
+                    .body(output);
+        }
+        if (output.status() == ServiceStatus.UNAUTHENTICATED) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .body(output);
+        }
         return new ResponseEntity<>(output, status);
     }
 
+    private String retryAfterSeconds(ServiceOutput<?> output) {
+        Duration retryAfter = output.retryAfter();
+        if (retryAfter == null) {
+            return retryAfterSeconds;
+        }
+        // Round up: retrying a fraction of a second early would be refused again
+        return Long.toString(Math.max(1, retryAfter.plusNanos(999_999_999).toSeconds()));
+    }
+
     /**
      * Maps ServiceStatus to HTTP status codes.
      *
@@ -75,11 +298,15 @@ public class ControllerServiceExecutor {
     private <O> HttpStatus mapStatus(ServiceOutput<O> output) {
         return switch (output.status()) {
             case SUCCESS -> HttpStatus.OK;
+            case UNAUTHENTICATED -> HttpStatus.UNAUTHORIZED;
             case UNAUTHORIZED -> HttpStatus.FORBIDDEN;
             case NOT_FOUND -> HttpStatus.NOT_FOUND;
             case VALIDATION_ERROR -> HttpStatus.BAD_REQUEST;
             case CONFLICT -> HttpStatus.CONFLICT;
             case INTERNAL_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case OVERLOADED -> HttpStatus.SERVICE_UNAVAILABLE;
+            case RATE_LIMITED -> HttpStatus.TOO_MANY_REQUESTS;
+            case DEADLINE_EXCEEDED -> HttpStatus.GATEWAY_TIMEOUT;
             case FAILURE -> HttpStatus.BAD_REQUEST;
         };
     }
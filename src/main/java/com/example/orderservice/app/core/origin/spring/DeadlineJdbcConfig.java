@@ -0,0 +1,50 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.orderservice.app.core.origin.entities.DeadlineContext;
+import com.example.orderservice.app.core.origin.exceptions.DeadlineExceededException;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
+
+/**
+ * {@link JdbcTemplate} whose statements time out with the current request's
+ * deadline (see {@link DeadlineContext}), so a query never outlives the
+ * caller that is waiting for it. Replaces Spring Boot's default template, so
+ * every JDBC contract gets it, e.g. the catalog lookups behind
+ * {@code NearCachingCatalogService}. Statements run outside a request, such as
+ * inventory checkpoints, keep no timeout.
+ */
+@Configuration
+public class DeadlineJdbcConfig {
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource) {
+            @Override
+            protected void applyStatementSettings(Statement stmt) throws SQLException {
+                super.applyStatementSettings(stmt);
+                Deadline deadline = DeadlineContext.current();
+                if (!deadline.isBounded()) {
+                    return;
+                }
+                long remainingNanos = deadline.remainingNanos();
+                if (remainingNanos <= 0) {
+                    throw new DeadlineExceededException("query");
+                }
+                // JDBC timeouts are in whole seconds; round up so short budgets
+                // do not become 0, which means no timeout
+                int seconds = (int) Math.min(Integer.MAX_VALUE, (remainingNanos + 999_999_999L) / 1_000_000_000L);
+                if (getQueryTimeout() <= 0 || seconds < getQueryTimeout()) {
+                    stmt.setQueryTimeout(seconds);
+                }
+            }
+        };
+    }
+}
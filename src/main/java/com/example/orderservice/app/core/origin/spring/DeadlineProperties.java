@@ -0,0 +1,33 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.orderservice.app.core.origin.interfaces.ServiceTimeouts;
+
+/**
+ * Default time budgets for requests that do not bring their own deadline,
+ * bound from {@code orderservice.deadlines}. Service names contain dots, so
+ * they need the bracket notation in YAML, e.g.
+ * {@code "[Orders.CreateOrder]": 2s}.
+ *
+ * @param defaultTimeout budget for services without their own entry, or null
+ *                       for none
+ * @param services       budget per service name
+ */
+@ConfigurationProperties(prefix = "orderservice.deadlines")
+public record DeadlineProperties(
+        Duration defaultTimeout,
+        Map<String, Duration> services) implements ServiceTimeouts {
+
+    public DeadlineProperties {
+        services = services == null ? Map.of() : services;
+    }
+
+    @Override
+    public Duration timeoutFor(String serviceName) {
+        return services.getOrDefault(serviceName, defaultTimeout);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
+
+/**
+ * Per-feature helper routing, bound from {@code orderservice.routing.routes}.
+ * Helper keys contain underscores, so they need the bracket notation in YAML,
+ * e.g. {@code "[CONTRACT_HELPER_CreateOrder_V0]": 100}.
+ *
+ * @param routes routing configuration keyed by feature
+ */
+@ConfigurationProperties(prefix = "orderservice.routing")
+public record HelperRoutingProperties(
+        Map<String, HelperRoute> routes) {
+
+    public HelperRoutingProperties {
+        routes = routes == null ? Map.of() : routes;
+    }
+
+    /**
+     * Route for a feature, or null if none is configured.
+     */
+    public HelperRoute routeFor(String feature) {
+        return routes.get(feature);
+    }
+}
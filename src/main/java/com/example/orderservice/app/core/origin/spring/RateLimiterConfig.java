@@ -0,0 +1,51 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.orderservice.app.core.origin.entities.AbstractService;
+import com.example.orderservice.app.core.origin.entities.RateLimiter;
+import com.example.orderservice.app.core.origin.entities.TokenBucketStore;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Per-user and per-key request rate limits checked by {@link AbstractService}
+ * before every run, unless {@code orderservice.rate-limit.enabled} is false.
+ * A limit whose refill rate is 0 is not applied. The number of buckets held
+ * for each limit is exported as {@code rate_limit_buckets{limit}}, and
+ * buckets dropped before they were full as the counter
+ * {@code rate_limit_evictions_total{limit}}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orderservice.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimiterConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            MetricsService metricsService,
+            @Value("${orderservice.rate-limit.per-user.capacity:100}") long userCapacity,
+            @Value("${orderservice.rate-limit.per-user.refill-per-second:50}") double userRefillPerSecond,
+            @Value("${orderservice.rate-limit.per-key.capacity:20}") long keyCapacity,
+            @Value("${orderservice.rate-limit.per-key.refill-per-second:10}") double keyRefillPerSecond,
+            @Value("${orderservice.rate-limit.stripes:64}") int stripes,
+            @Value("${orderservice.rate-limit.max-keys:1000000}") int maxKeys) {
+        TokenBucketStore perUser = store(metricsService, RateLimiter.LIMIT_USER, userCapacity, userRefillPerSecond,
+                stripes, maxKeys);
+        TokenBucketStore perKey = store(metricsService, RateLimiter.LIMIT_KEY, keyCapacity, keyRefillPerSecond,
+                stripes, maxKeys);
+        return new RateLimiter(perUser, perKey);
+    }
+
+    private static TokenBucketStore store(MetricsService metricsService, String limit, long capacity,
+            double refillPerSecond, int stripes, int maxKeys) {
+        if (refillPerSecond <= 0) {
+            return null;
+        }
+        TokenBucketStore store = new TokenBucketStore(capacity, refillPerSecond, stripes, maxKeys);
+        metricsService.gauge("rate_limit_buckets", store::size, "limit", limit);
+        metricsService.counter("rate_limit_evictions_total", store::evicted, "limit", limit);
+        return store;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,34 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.orderservice.app.core.origin.entities.RateLimiter;
+import com.example.orderservice.app.core.origin.entities.ShardedExecutor;
+import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Assembles the shared {@link ServiceDependency} container once, so feature
+ * beans only need to inject a single object.
+ */
+@Configuration
+public class ServiceDependencyConfig {
+
+    /**
+     * Sharding and rate limiting are optional; without their beans services
+     * run inline and unthrottled.
+     */
+    @Bean
+    public ServiceDependency serviceDependency(
+            UsecaseAuthorizationService authorizationService,
+            MetricsService metricsService,
+            DeadlineProperties deadlines,
+            ObjectProvider<ShardedExecutor> shards,
+            ObjectProvider<RateLimiter> rateLimiter) {
+        return new ServiceDependency(authorizationService, metricsService, deadlines, shards.getIfAvailable(),
+                rateLimiter.getIfAvailable());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.orderservice.app.core.origin.interfaces.JsonDataWriter;
+
+/**
+ * Registers {@link ServiceOutputJsonConverter} ahead of Jackson for the
+ * output types that have a {@link JsonDataWriter} bean.
+ */
+@Configuration
+public class ServiceOutputJsonConfig implements WebMvcConfigurer {
+
+    private final List<JsonDataWriter<?>> writers;
+
+    public ServiceOutputJsonConfig(List<JsonDataWriter<?>> writers) {
+        this.writers = writers;
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        if (!writers.isEmpty()) {
+            builder.addCustomConverter(new ServiceOutputJsonConverter(writers));
+        }
+    }
+}
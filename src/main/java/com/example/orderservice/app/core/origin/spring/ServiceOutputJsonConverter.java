@@ -0,0 +1,120 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.example.orderservice.app.core.origin.entities.JsonByteWriter;
+import com.example.orderservice.app.core.origin.interfaces.JsonDataWriter;
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+/**
+ * Writes {@code ServiceOutput<O>} responses as JSON straight into a reused
+ * byte buffer, for every output type {@code O} that has a
+ * {@link JsonDataWriter}. Responses of other types, and all request bodies,
+ * are left to Jackson. The bytes are the same as Jackson's.
+ */
+public class ServiceOutputJsonConverter extends AbstractSmartHttpMessageConverter<ServiceOutput<?>> {
+
+    private static final byte[][] STATUS_AND_DATA = new byte[ServiceStatus.values().length][];
+    private static final byte[] NULL_STATUS_AND_DATA = JsonByteWriter.ascii("{\"status\":null,\"data\":");
+    private static final byte[] ERROR_MESSAGE = JsonByteWriter.ascii(",\"errorMessage\":");
+    private static final byte[] ERRORS = JsonByteWriter.ascii(",\"errors\":[");
+    private static final byte[] FIELD = JsonByteWriter.ascii("{\"field\":");
+    private static final byte[] CODE = JsonByteWriter.ascii(",\"code\":");
+    private static final byte[] MESSAGE = JsonByteWriter.ascii(",\"message\":");
+
+    static {
+        for (ServiceStatus status : ServiceStatus.values()) {
+            STATUS_AND_DATA[status.ordinal()] = JsonByteWriter.ascii(
+                    "{\"status\":\"" + status.name() + "\",\"data\":");
+        }
+    }
+
+    private final Map<Class<?>, JsonDataWriter<?>> writers = new HashMap<>();
+
+    public ServiceOutputJsonConverter(List<JsonDataWriter<?>> writers) {
+        super(MediaType.APPLICATION_JSON);
+        for (JsonDataWriter<?> writer : writers) {
+            this.writers.put(writer.type(), writer);
+        }
+    }
+
+    /**
+     * Write {@code output} into {@code out} with {@code writer} for its data.
+     */
+    public static <O> void write(ServiceOutput<O> output, JsonDataWriter<O> writer, JsonByteWriter out) {
+        out.raw(output.status() == null ? NULL_STATUS_AND_DATA : STATUS_AND_DATA[output.status().ordinal()]);
+        if (output.data() == null) {
+            out.nullValue();
+        } else {
+            writer.write(output.data(), out);
+        }
+        out.raw(ERROR_MESSAGE).string(output.errorMessage());
+        List<FieldError> errors = output.errors();
+        if (errors != null && !errors.isEmpty()) {
+            out.raw(ERRORS);
+            for (int i = 0; i < errors.size(); i++) {
+                FieldError error = errors.get(i);
+                if (i > 0) {
+                    out.raw(',');
+                }
+                if (error == null) {
+                    out.nullValue();
+                    continue;
+                }
+                out.raw(FIELD).string(error.field())
+                        .raw(CODE).string(error.code())
+                        .raw(MESSAGE).string(error.message())
+                        .raw('}');
+            }
+            out.raw(']');
+        }
+        out.raw('}');
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ServiceOutput.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType type, Class<?> valueClass, MediaType mediaType) {
+        return supports(valueClass) && canWrite(mediaType) && writerFor(type) != null;
+    }
+
+    @Override
+    public ServiceOutput<?> read(ResolvableType type, HttpInputMessage inputMessage, Map<String, Object> hints) {
+        throw new HttpMessageNotReadableException("ServiceOutput is write-only", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void writeInternal(ServiceOutput<?> output, ResolvableType type, HttpOutputMessage outputMessage,
+            Map<String, Object> hints) throws IOException {
+        JsonByteWriter out = JsonByteWriter.acquire();
+        write((ServiceOutput) output, (JsonDataWriter) writerFor(type), out);
+        outputMessage.getHeaders().setContentLength(out.size());
+        out.writeTo(outputMessage.getBody());
+    }
+
+    private JsonDataWriter<?> writerFor(ResolvableType type) {
+        Class<?> dataType = type.as(ServiceOutput.class).getGeneric(0).resolve();
+        return dataType == null ? null : writers.get(dataType);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.example.orderservice.app.core.origin.entities.AbstractService;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.entities.HistogramSnapshot;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Builds every {@link AbstractBean} service eagerly and pushes synthetic
+ * requests through the full pipeline (authorization, usecase, JSON
+ * serialization of the output) so the hot paths are compiled before real
+ * traffic arrives.
+ *
+ * <p>
+ * Spring Boot only moves the readiness state to {@code ACCEPTING_TRAFFIC}
+ * once all application runners have returned, so readiness is reported after
+ * the warmup. Warmup runs against services built with
+ * {@link AbstractBean#createWarmupService}: side effects are stubbed,
+ * metrics go to a throwaway registry and authorization bypasses the decision
+ * cache.
+ * </p>
+ */
+@Component
+public class ServiceWarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceWarmupRunner.class);
+
+    private final List<AbstractBean<?, ?, ?>> beans;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+    private final boolean enabled;
+    private final int iterations;
+    private final int sampleSize;
+    private final User user;
+
+    public ServiceWarmupRunner(
+            List<AbstractBean<?, ?, ?>> beans,
+            ObjectProvider<ObjectMapper> objectMapper,
+            @Value("${orderservice.warmup.enabled:true}") boolean enabled,
+            @Value("${orderservice.warmup.iterations:10000}") int iterations,
+            @Value("${orderservice.warmup.sample-size:1000}") int sampleSize,
+            @Value("${orderservice.warmup.role:USER}") String role) {
+        this.beans = beans;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.sampleSize = sampleSize;
+        this.user = new User("warmup", "warmup@localhost", role);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        for (AbstractBean<?, ?, ?> bean : beans) {
+            bean.getService();
+        }
+        if (!enabled) {
+            logger.info("Built {} services eagerly, warmup disabled", beans.size());
+            return;
+        }
+
+        ObjectMapper mapper = objectMapper.getIfAvailable();
+        LatencyHistogram latencies = new LatencyHistogram();
+        int warmedUp = 0;
+        for (AbstractBean<?, ?, ?> bean : beans) {
+            if (warmup(bean, mapper, latencies)) {
+                warmedUp++;
+            }
+        }
+
+        HistogramSnapshot snapshot = latencies.snapshot();
+        logger.info("Warmup finished in {} ms: {} services built, {} warmed up with {} requests each, "
+                + "post-warmup p99 {} us over {} requests",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), beans.size(), warmedUp,
+                iterations, TimeUnit.NANOSECONDS.toMicros(snapshot.p99()), snapshot.count());
+    }
+
+    private <I, O, S extends AbstractService<I, O>> boolean warmup(AbstractBean<I, O, S> bean,
+            ObjectMapper mapper, LatencyHistogram latencies) {
+        S service = bean.warmupService();
+        if (service == null) {
+            return false;
+        }
+        String name = bean.getClass().getSimpleName();
+        boolean[] reported = new boolean[1];
+        Consumer<ServiceOutput<O>> sink = output -> {
+            if (output.status() == ServiceStatus.UNAUTHORIZED && !reported[0]) {
+                reported[0] = true;
+                logger.warn("Warmup user with role {} is not authorized for {}, only authorization is warmed up",
+                        user.role(), name);
+            }
+            if (mapper != null) {
+                mapper.writeValueAsBytes(output);
+            }
+        };
+        try {
+            bean.warmup(service, user, 0, iterations, null, sink);
+            bean.warmup(service, user, iterations, sampleSize, latencies, sink);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Warmup of {} failed, continuing startup", name, e);
+            return false;
+        }
+    }
+}
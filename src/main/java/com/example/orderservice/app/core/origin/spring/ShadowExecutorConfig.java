@@ -0,0 +1,38 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Executor for shadow executions of candidate helpers.
+ * Bounded and lossy on purpose: when it falls behind, shadow runs are
+ * dropped and counted rather than slowing down real requests.
+ */
+@Configuration
+public class ShadowExecutorConfig {
+
+    public static final String SHADOW_EXECUTOR = "shadowExecutor";
+
+    @Bean(name = SHADOW_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor shadowExecutor(
+            MetricsService metricsService,
+            @Value("${orderservice.routing.shadow-threads:2}") int threads,
+            @Value("${orderservice.routing.shadow-queue-capacity:256}") int queueCapacity) {
+        Counter dropped = metricsService.counter("shadow_executions_dropped_total");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("shadow-", 0).daemon(true).factory(),
+                (task, pool) -> dropped.increment());
+        metricsService.gauge("shadow_executor_queue_depth", () -> executor.getQueue().size());
+        return executor;
+    }
+}
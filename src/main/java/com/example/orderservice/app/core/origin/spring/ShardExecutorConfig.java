@@ -0,0 +1,35 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.orderservice.app.core.origin.entities.AbstractService;
+import com.example.orderservice.app.core.origin.entities.ShardedExecutor;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Single-writer shards that services with a shard key run on, when
+ * {@code orderservice.sharding.enabled} is set (see {@link AbstractService}).
+ * The mailbox depth of every shard is exported as
+ * {@code shard_queue_depth{shard}}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orderservice.sharding", name = "enabled", havingValue = "true")
+public class ShardExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardedExecutor shardedExecutor(
+            MetricsService metricsService,
+            @Value("${orderservice.sharding.shards:0}") int shards,
+            @Value("${orderservice.sharding.mailbox-capacity:1024}") int mailboxCapacity) {
+        ShardedExecutor executor = new ShardedExecutor(
+                shards > 0 ? shards : Runtime.getRuntime().availableProcessors(), mailboxCapacity, "shard-");
+        for (int i = 0; i < executor.shardCount(); i++) {
+            int shard = i;
+            metricsService.gauge("shard_queue_depth", () -> executor.queueDepth(shard), "shard", Integer.toString(i));
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.orderservice.app.core.pricing.contracts;
+
+import java.io.File;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.pricing.entities.PricingTable;
+import com.example.orderservice.app.core.pricing.interfaces.PricingService;
+import com.example.orderservice.app.core.pricing.schemas.PricingRules;
+import com.example.orderservice.app.core.pricing.spring.PricingProperties;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link PricingService} over a {@link PricingTable}.
+ *
+ * <p>
+ * Rules are loaded from {@code orderservice.pricing.rules-file} and compiled
+ * into a new table, which is swapped in with a single volatile write: an
+ * order being priced sees either the old or the new rules, never a mix.
+ * </p>
+ */
+@Service
+public class PricingServiceContractV0 implements PricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingServiceContractV0.class);
+
+    private final String rulesFile;
+    private final String defaultRegion;
+    private final JsonMapper jsonMapper;
+
+    private volatile PricingTable table = PricingTable.EMPTY;
+    private volatile long rulesFileLastModified;
+
+    public PricingServiceContractV0(PricingProperties properties, MetricsService metricsService,
+            JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.rulesFile = properties.rulesFile();
+        this.defaultRegion = properties.defaultRegion();
+        metricsService.gauge("pricing_products", () -> table.productCount());
+        metricsService.gauge("pricing_promotions", () -> table.promotionCount());
+        reloadFromFile();
+    }
+
+    @Override
+    public boolean price(OrderItem item, String currency, String region, long at) {
+        return table.price(item, currency, region != null ? region : defaultRegion, at);
+    }
+
+    @Override
+    public boolean hasCatalogPrices() {
+        return table.hasCatalog();
+    }
+
+    /**
+     * Compile and atomically swap in a new rule set.
+     *
+     * @throws IllegalArgumentException if a rule is invalid; the current
+     *                                  rules stay in place
+     */
+    public void reload(PricingRules rules) {
+        PricingTable compiled = PricingTable.compile(rules);
+        this.table = compiled;
+        logger.debug("Pricing rules reloaded: {} products, {} promotions, {} tax regions",
+                compiled.productCount(), compiled.promotionCount(), compiled.regionCount());
+    }
+
+    /**
+     * Reload the rules file if it changed since it was last read.
+     * A file that fails to parse or compile leaves the current rules in place.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.pricing.reload-interval:30s}")
+    public void reloadFromFile() {
+        if (rulesFile == null || rulesFile.isBlank()) {
+            return;
+        }
+        File file = new File(rulesFile);
+        long lastModified = file.lastModified();
+        if (lastModified == 0 || lastModified == rulesFileLastModified) {
+            return;
+        }
+        try {
+            PricingRules rules = jsonMapper.readValue(file, PricingRules.class);
+            rulesFileLastModified = lastModified;
+            reload(rules);
+            logger.info("Pricing rules loaded from {}", rulesFile);
+        } catch (JacksonException | IllegalArgumentException | ArithmeticException e) {
+            logger.error("Failed to load pricing rules from {}, keeping current rules", rulesFile, e);
+        }
+    }
+
+    public PricingTable currentTable() {
+        return table;
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.orderservice.app.core.pricing.entities;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.orderservice.app.core.money.entities.CurrencyScales;
+import com.example.orderservice.app.core.money.entities.MoneyMath;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.pricing.schemas.CatalogPrice;
+import com.example.orderservice.app.core.pricing.schemas.PricingRules;
+import com.example.orderservice.app.core.pricing.schemas.PromotionRule;
+import com.example.orderservice.app.core.pricing.schemas.TaxRule;
+
+/**
+ * Immutable, precompiled pricing rules.
+ *
+ * <p>
+ * {@link #compile(PricingRules)} indexes the rules so that pricing an item
+ * never scans the rule list: one hash lookup finds the product with its
+ * catalog prices and its own promotions, the promotions of its category are
+ * shared by reference, and tax rates are two hash lookups (region, then
+ * category). Of the promotions that always apply (percentage, no minimum
+ * quantity, no time window) only the largest is kept in each list, since it
+ * wins over the others anyway. Rates and amounts are held as {@code long}
+ * minor units, and pricing an item allocates nothing.
+ * </p>
+ *
+ * <p>
+ * An item gets its catalog price in the order currency. Once the rules have
+ * any catalog prices, an item without one in that currency is not priced and
+ * {@link #price} says so; with no catalog at all, items keep the client's
+ * price. The largest applicable discount is
+ * taken off the line total (promotions do not stack), and tax is charged on
+ * what remains.
+ * </p>
+ */
+public final class PricingTable {
+
+    /** Rates are held in parts per million, i.e. percent with four decimals. */
+    private static final long PPM = 1_000_000;
+    private static final int RATE_SCALE = 4;
+    private static final Promotion[] NO_PROMOTIONS = new Promotion[0];
+
+    // After the constants compile() uses
+    public static final PricingTable EMPTY = compile(PricingRules.EMPTY);
+
+    private final Map<String, Product> products;
+    /** Products without prices or promotions of their own. */
+    private final Product unlisted;
+    private final Promotion[] global;
+    private final Map<String, Region> regions;
+    private final int promotionCount;
+    /** Whether the rules have catalog prices, which clients may then not set. */
+    private final boolean catalog;
+
+    private PricingTable(Map<String, Product> products, Product unlisted, Promotion[] global,
+            Map<String, Region> regions, int promotionCount, boolean catalog) {
+        this.products = products;
+        this.unlisted = unlisted;
+        this.global = global;
+        this.regions = regions;
+        this.promotionCount = promotionCount;
+        this.catalog = catalog;
+    }
+
+    private static final class Product {
+        final String category;
+        final String[] currencies;
+        final long[] prices;
+        final int[] scales;
+        final Promotion[] promotions;
+        final Promotion[] categoryPromotions;
+
+        Product(String category, List<CatalogPrice> prices, Promotion[] promotions, Promotion[] categoryPromotions) {
+            this.category = category;
+            this.currencies = new String[prices.size()];
+            this.prices = new long[prices.size()];
+            this.scales = new int[prices.size()];
+            for (int i = 0; i < currencies.length; i++) {
+                CatalogPrice price = prices.get(i);
+                currencies[i] = price.currency();
+                scales[i] = Math.clamp(price.price().scale(), 0, OrderItem.MAX_PRICE_SCALE);
+                this.prices[i] = MoneyMath.toMinor(price.price(), scales[i]);
+            }
+            this.promotions = promotions;
+            this.categoryPromotions = categoryPromotions;
+        }
+    }
+
+    /**
+     * @param percentPpm     discount in parts per million of the line total,
+     *                       or 0 for an amount discount
+     * @param amountOffMinor discount per unit at {@code amountScale}
+     */
+    private record Promotion(String id, long percentPpm, String currency, long amountOffMinor, int amountScale,
+            int minQuantity, long startsAt, long endsAt) {
+
+        boolean unconditional() {
+            return percentPpm > 0 && minQuantity <= 1 && startsAt == Long.MIN_VALUE && endsAt == Long.MAX_VALUE;
+        }
+
+        /**
+         * @return the discount on a line at {@code scale}, or 0 if the
+         *         promotion does not apply
+         */
+        long discount(long unit, int quantity, long line, int scale, String orderCurrency, long at) {
+            if (quantity < minQuantity || at < startsAt || at >= endsAt) {
+                return 0;
+            }
+            if (percentPpm > 0) {
+                return MoneyMath.divideHalfEven(MoneyMath.multiply(line, percentPpm), PPM);
+            }
+            if (!currency.equals(orderCurrency)) {
+                return 0;
+            }
+            long off = MoneyMath.rescale(amountOffMinor, amountScale, scale);
+            return MoneyMath.multiply(Math.min(off, unit), quantity);
+        }
+    }
+
+    private record Region(Map<String, Long> byCategory, long defaultPpm) {
+
+        long rate(String category) {
+            Long rate = category == null ? null : byCategory.get(category);
+            return rate != null ? rate : defaultPpm;
+        }
+    }
+
+    /**
+     * Compile a rule set.
+     *
+     * @throws IllegalArgumentException if a rule is incomplete or a product
+     *                                  is given two categories
+     */
+    public static PricingTable compile(PricingRules rules) {
+        Map<String, String> categories = new HashMap<>();
+        Map<String, List<CatalogPrice>> pricesByProduct = new LinkedHashMap<>();
+        for (CatalogPrice price : rules.prices()) {
+            require(price.productId() != null && price.currency() != null && price.price() != null
+                    && price.price().signum() > 0, "Incomplete catalog price: " + price);
+            pricesByProduct.computeIfAbsent(price.productId(), k -> new ArrayList<>()).add(price);
+            if (price.category() != null) {
+                String previous = categories.putIfAbsent(price.productId(), price.category());
+                require(previous == null || previous.equals(price.category()),
+                        "Product " + price.productId() + " has two categories");
+            }
+        }
+
+        Map<String, List<Promotion>> byProduct = new HashMap<>();
+        Map<String, List<Promotion>> byCategory = new HashMap<>();
+        List<Promotion> global = new ArrayList<>();
+        for (PromotionRule rule : rules.promotions()) {
+            Promotion promotion = compile(rule);
+            if (rule.productId() != null) {
+                byProduct.computeIfAbsent(rule.productId(), k -> new ArrayList<>()).add(promotion);
+            } else if (rule.category() != null) {
+                byCategory.computeIfAbsent(rule.category(), k -> new ArrayList<>()).add(promotion);
+            } else {
+                global.add(promotion);
+            }
+        }
+
+        Map<String, Promotion[]> categoryPromotions = new HashMap<>();
+        byCategory.forEach((category, promotions) -> categoryPromotions.put(category, prune(promotions)));
+
+        Map<String, Product> products = new HashMap<>();
+        for (String productId : union(pricesByProduct.keySet(), byProduct.keySet())) {
+            String category = categories.get(productId);
+            products.put(productId, new Product(category,
+                    pricesByProduct.getOrDefault(productId, List.of()),
+                    prune(byProduct.getOrDefault(productId, List.of())),
+                    category == null ? NO_PROMOTIONS : categoryPromotions.getOrDefault(category, NO_PROMOTIONS)));
+        }
+
+        Map<String, Map<String, Long>> ratesByRegion = new HashMap<>();
+        Map<String, Long> defaultRates = new HashMap<>();
+        for (TaxRule tax : rules.taxes()) {
+            require(tax.region() != null && tax.ratePercent() != null && tax.ratePercent().signum() >= 0,
+                    "Incomplete tax rule: " + tax);
+            long rate = MoneyMath.toMinor(tax.ratePercent(), RATE_SCALE);
+            if (tax.category() == null) {
+                defaultRates.put(tax.region(), rate);
+            } else {
+                ratesByRegion.computeIfAbsent(tax.region(), k -> new HashMap<>()).put(tax.category(), rate);
+            }
+        }
+        Map<String, Region> regions = new HashMap<>();
+        for (String region : union(ratesByRegion.keySet(), defaultRates.keySet())) {
+            regions.put(region, new Region(Map.copyOf(ratesByRegion.getOrDefault(region, Map.of())),
+                    defaultRates.getOrDefault(region, 0L)));
+        }
+
+        return new PricingTable(Map.copyOf(products), new Product(null, List.of(), NO_PROMOTIONS, NO_PROMOTIONS),
+                prune(global), Map.copyOf(regions), rules.promotions().size(), !rules.prices().isEmpty());
+    }
+
+    /**
+     * Price an item of an order: apply the catalog price, the best promotion
+     * and tax. Items without any price are left alone.
+     *
+     * @param item     the item, with product id, quantity and (optionally)
+     *                 the client's unit price set
+     * @param currency the order currency
+     * @param region   the tax region, or null for no tax
+     * @param at       the order time in {@link EpochNanos}, for promotion
+     *                 windows
+     * @return false if the rules have a catalog but no price for the item in
+     *         {@code currency}; the item is then left alone
+     */
+    public boolean price(OrderItem item, String currency, String region, long at) {
+        Product product = item.getProductId() == null ? null : products.get(item.getProductId());
+        if (product == null) {
+            product = unlisted;
+        }
+        boolean listed = false;
+        for (int i = 0; i < product.currencies.length; i++) {
+            if (product.currencies[i].equals(currency)) {
+                item.setUnitPrice(product.prices[i], product.scales[i]);
+                listed = true;
+                break;
+            }
+        }
+        if (catalog && !listed) {
+            return false;
+        }
+        if (!item.hasUnitPrice()) {
+            return true;
+        }
+
+        // Work at least at the currency scale, so amount discounts and tax
+        // on whole-unit prices are not rounded away
+        int scale = Math.max(item.getScale(), Math.min(CurrencyScales.scaleOf(currency), OrderItem.MAX_PRICE_SCALE));
+        long unit = MoneyMath.rescale(item.getUnitPriceMinor(), item.getScale(), scale);
+        int quantity = item.getQuantity();
+        long line = MoneyMath.multiply(unit, quantity);
+
+        long discount = best(product.promotions, 0, unit, quantity, line, scale, currency, at);
+        discount = best(product.categoryPromotions, discount, unit, quantity, line, scale, currency, at);
+        discount = best(global, discount, unit, quantity, line, scale, currency, at);
+        long net = line - Math.min(discount, line);
+
+        Region taxes = region == null ? null : regions.get(region);
+        long rate = taxes == null ? 0 : taxes.rate(product.category);
+        long tax = rate == 0 ? 0 : MoneyMath.divideHalfEven(MoneyMath.multiply(net, rate), PPM);
+
+        if (net == line && tax == 0) {
+            return true;
+        }
+        if (scale != item.getScale()) {
+            item.setUnitPrice(unit, scale);
+        }
+        item.setTotalPrice(MoneyMath.add(net, tax));
+        return true;
+    }
+
+    /**
+     * @return true if the rules have catalog prices, so items never keep the
+     *         client's price
+     */
+    public boolean hasCatalog() {
+        return catalog;
+    }
+
+    public int productCount() {
+        return products.size();
+    }
+
+    public int promotionCount() {
+        return promotionCount;
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    private static long best(Promotion[] promotions, long best, long unit, int quantity, long line, int scale,
+            String currency, long at) {
+        for (Promotion promotion : promotions) {
+            best = Math.max(best, promotion.discount(unit, quantity, line, scale, currency, at));
+        }
+        return best;
+    }
+
+    private static Promotion compile(PromotionRule rule) {
+        boolean percent = rule.percentOff() != null;
+        require(percent != (rule.amountOff() != null),
+                "Promotion " + rule.id() + " needs exactly one of percentOff and amountOff");
+        BigDecimal off = percent ? rule.percentOff() : rule.amountOff();
+        require(off.signum() > 0, "Promotion " + rule.id() + " has no discount");
+        require(!percent || off.compareTo(BigDecimal.valueOf(100)) <= 0,
+                "Promotion " + rule.id() + " is more than 100% off");
+        require(percent || rule.currency() != null, "Promotion " + rule.id() + " needs a currency");
+        int amountScale = percent ? 0 : Math.max(CurrencyScales.scaleOf(rule.currency()),
+                Math.clamp(off.scale(), 0, OrderItem.MAX_PRICE_SCALE));
+        return new Promotion(rule.id(),
+                percent ? MoneyMath.toMinor(off, RATE_SCALE) : 0,
+                rule.currency(),
+                percent ? 0 : MoneyMath.toMinor(off, amountScale),
+                amountScale,
+                rule.minQuantity() == null ? 1 : rule.minQuantity(),
+                EpochNanos.of(rule.startsAt()),
+                rule.endsAt() == null ? Long.MAX_VALUE : EpochNanos.of(rule.endsAt()));
+    }
+
+    /**
+     * Drop every unconditional promotion but the largest.
+     */
+    private static Promotion[] prune(List<Promotion> promotions) {
+        Promotion largest = null;
+        List<Promotion> kept = new ArrayList<>();
+        for (Promotion promotion : promotions) {
+            if (!promotion.unconditional()) {
+                kept.add(promotion);
+            } else if (largest == null || promotion.percentPpm() > largest.percentPpm()) {
+                largest = promotion;
+            }
+        }
+        if (largest != null) {
+            kept.add(0, largest);
+        }
+        return kept.isEmpty() ? NO_PROMOTIONS : kept.toArray(Promotion[]::new);
+    }
+
+    private static <T> Set<T> union(Set<T> a, Set<T> b) {
+        Set<T> result = new LinkedHashSet<>(a);
+        result.addAll(b);
+        return result;
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.orderservice.app.core.pricing.interfaces;
+
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+
+/**
+ * Server-side pricing of order items: catalog price, promotions and tax.
+ */
+public interface PricingService {
+
+    /**
+     * Price an item before it is added to its order.
+     *
+     * @param item     the item, with product id, quantity and, if the client
+     *                 sent one, its unit price set
+     * @param currency the order currency
+     * @param region   the tax region, or null for the configured default
+     * @param at       the order time in {@link EpochNanos}
+     * @return false if catalog prices are loaded but none is set for the
+     *         item's product in {@code currency}
+     */
+    boolean price(OrderItem item, String currency, String region, long at);
+
+    /**
+     * @return true if every priced item gets its unit price from a catalog,
+     *         so clients need not send one
+     */
+    default boolean hasCatalogPrices() {
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.orderservice.app.core.pricing.schemas;
+
+import java.math.BigDecimal;
+
+/**
+ * Catalog unit price of a product in one currency.
+ *
+ * @param productId the product
+ * @param category  the product category, used to match category promotions
+ *                  and tax rates; may be null
+ * @param currency  the currency code
+ * @param price     the unit price
+ */
+public record CatalogPrice(
+        String productId,
+        String category,
+        String currency,
+        BigDecimal price) {
+}
@@ -0,0 +1,25 @@
+package com.example.orderservice.app.core.pricing.schemas;
+
+import java.util.List;
+
+/**
+ * A complete set of pricing rules, as read from the pricing rules file.
+ *
+ * @param prices     catalog prices; they replace the unit price sent by the
+ *                   client
+ * @param promotions discounts; at most one (the largest) applies to an item
+ * @param taxes      tax rates by region and product category
+ */
+public record PricingRules(
+        List<CatalogPrice> prices,
+        List<PromotionRule> promotions,
+        List<TaxRule> taxes) {
+
+    public static final PricingRules EMPTY = new PricingRules(null, null, null);
+
+    public PricingRules {
+        prices = prices == null ? List.of() : prices;
+        promotions = promotions == null ? List.of() : promotions;
+        taxes = taxes == null ? List.of() : taxes;
+    }
+}
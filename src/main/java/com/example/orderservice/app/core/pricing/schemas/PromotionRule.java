@@ -0,0 +1,31 @@
+package com.example.orderservice.app.core.pricing.schemas;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A discount on a product, a category or (when both are null) every product.
+ * Exactly one of {@code percentOff} and {@code amountOff} is set.
+ *
+ * @param id          identifies the promotion in logs and errors
+ * @param productId   the product it applies to, or null
+ * @param category    the category it applies to, or null
+ * @param percentOff  percentage taken off the line total, up to four decimals
+ * @param amountOff   amount taken off each unit, in {@code currency}
+ * @param currency    currency of {@code amountOff}; the promotion only
+ *                    applies to orders in that currency
+ * @param minQuantity smallest quantity of the item it applies to; null for 1
+ * @param startsAt    start of the promotion, inclusive; null for always
+ * @param endsAt      end of the promotion, exclusive; null for never
+ */
+public record PromotionRule(
+        String id,
+        String productId,
+        String category,
+        BigDecimal percentOff,
+        BigDecimal amountOff,
+        String currency,
+        Integer minQuantity,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt) {
+}
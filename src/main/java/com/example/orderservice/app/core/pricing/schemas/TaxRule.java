@@ -0,0 +1,17 @@
+package com.example.orderservice.app.core.pricing.schemas;
+
+import java.math.BigDecimal;
+
+/**
+ * Tax rate for a product category in a region.
+ *
+ * @param region      the region code
+ * @param category    the product category, or null for the region's default
+ *                    rate
+ * @param ratePercent the rate, up to four decimals
+ */
+public record TaxRule(
+        String region,
+        String category,
+        BigDecimal ratePercent) {
+}
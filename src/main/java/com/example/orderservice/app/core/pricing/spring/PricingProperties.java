@@ -0,0 +1,17 @@
+package com.example.orderservice.app.core.pricing.spring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pricing rule source, bound from {@code orderservice.pricing}.
+ *
+ * @param rulesFile     optional JSON file with the shape of
+ *                      {@code PricingRules}; reloaded whenever it changes.
+ *                      Without it, client prices are used as sent.
+ * @param defaultRegion tax region for orders that do not name one
+ */
+@ConfigurationProperties(prefix = "orderservice.pricing")
+public record PricingProperties(
+        String rulesFile,
+        String defaultRegion) {
+}
@@ -0,0 +1,96 @@
+package com.example.orderservice.app.infra.catalog.contracts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.catalog.interfaces.CatalogService;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stand-in for the product catalog service, backed by a table in the
+ * application database (H2 by default) and seeded from
+ * {@code orderservice.catalog.seed-file} at startup.
+ *
+ * <p>
+ * Each {@link #findProducts(Collection)} call is one {@code IN} query per
+ * {@value #MAX_QUERY_IDS} distinct ids.
+ * </p>
+ */
+@Service
+public class JdbcCatalogService implements CatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcCatalogService.class);
+
+    static final int MAX_QUERY_IDS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCatalogService(
+            JdbcTemplate jdbcTemplate,
+            JsonMapper jsonMapper,
+            @Value("${orderservice.catalog.seed-file:classpath:catalog-products.json}") Resource seedFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS catalog_product ("
+                + "product_id VARCHAR(64) PRIMARY KEY, "
+                + "name VARCHAR(255) NOT NULL, "
+                + "category VARCHAR(64))");
+        if (seedFile != null && seedFile.exists()) {
+            try (InputStream in = seedFile.getInputStream()) {
+                List<CatalogProduct> products = jsonMapper.readValue(in,
+                        new TypeReference<List<CatalogProduct>>() {
+                        });
+                save(products);
+                logger.info("Catalog seeded with {} products from {}", products.size(), seedFile);
+            } catch (IOException | JacksonException e) {
+                logger.error("Failed to seed catalog from {}", seedFile, e);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, CatalogProduct> findProducts(Collection<String> productIds) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        Map<String, CatalogProduct> products = new HashMap<>(Math.max(16, ids.size() * 2));
+        for (int from = 0; from < ids.size(); from += MAX_QUERY_IDS) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_QUERY_IDS));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(
+                    "SELECT product_id, name, category FROM catalog_product WHERE product_id IN (" + placeholders + ")",
+                    rs -> {
+                        String id = rs.getString(1);
+                        products.put(id, new CatalogProduct(id, rs.getString(2), rs.getString(3)));
+                    },
+                    chunk.toArray());
+        }
+        return products;
+    }
+
+    /**
+     * Insert or replace products.
+     */
+    public void save(Collection<CatalogProduct> products) {
+        jdbcTemplate.batchUpdate(
+                "MERGE INTO catalog_product (product_id, name, category) KEY (product_id) VALUES (?, ?, ?)",
+                products.stream()
+                        .map(p -> new Object[] { p.productId(), p.name(), p.category() })
+                        .toList());
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.orderservice.app.infra.catalog.contracts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.catalog.interfaces.CatalogService;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Bounded, refresh-ahead near-cache in front of the catalog.
+ *
+ * <p>
+ * Products (and unknown ids, for the shorter {@code negative-ttl}) are
+ * cached for {@code orderservice.catalog.cache.ttl}. Every
+ * {@code refresh-interval}, products that were read since they were loaded
+ * and are older than {@code refresh-after} are reloaded in the background, in
+ * batches of at most {@code max-batch-size}, so products in steady demand
+ * never expire and are never fetched on the request path. Products nobody
+ * reads are left to expire. On the request path, all ids that miss are
+ * fetched in one batched call.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most {@code max-size} entries. Lookups never scan it:
+ * when it is full, products loaded on the request path are returned but not
+ * cached. The background pass makes room again, down to 90% of
+ * {@code max-size}, by dropping ids read only when they were first loaded,
+ * then entries not read since their last refresh, then arbitrary ones.
+ * Concurrent misses for the same id may both reach the catalog. A failed
+ * background refresh keeps the current entries until they expire.
+ * </p>
+ */
+@Service
+@Primary
+public class NearCachingCatalogService implements CatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCachingCatalogService.class);
+
+    private static final class Entry {
+        /** Null for an id the catalog does not know. */
+        final CatalogProduct product;
+        final long loadedAtNanos;
+        final long expiresAtNanos;
+        /** Whether the entry was loaded by a refresh, i.e. was in demand. */
+        final boolean refreshed;
+        /** Whether the entry was read since it was loaded. */
+        volatile boolean read;
+
+        Entry(CatalogProduct product, long loadedAtNanos, long expiresAtNanos, boolean refreshed) {
+            this.product = product;
+            this.loadedAtNanos = loadedAtNanos;
+            this.expiresAtNanos = expiresAtNanos;
+            this.refreshed = refreshed;
+        }
+    }
+
+    private final CatalogService catalog;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAfterNanos;
+    private final int maxSize;
+    private final int maxBatchSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshed;
+    private final Counter evictions;
+    private final Counter uncached;
+    private final LatencyHistogram requestBatchSize;
+    private final LatencyHistogram refreshBatchSize;
+    private final LatencyHistogram requestLatency;
+    private final LatencyHistogram refreshLatency;
+
+    public NearCachingCatalogService(
+            @Qualifier("jdbcCatalogService") CatalogService catalog,
+            MetricsService metricsService,
+            @Value("${orderservice.catalog.cache.ttl:10m}") Duration ttl,
+            @Value("${orderservice.catalog.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${orderservice.catalog.cache.refresh-after:5m}") Duration refreshAfter,
+            @Value("${orderservice.catalog.cache.max-size:100000}") int maxSize,
+            @Value("${orderservice.catalog.cache.max-batch-size:500}") int maxBatchSize) {
+        this.catalog = catalog;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.maxSize = maxSize;
+        this.maxBatchSize = maxBatchSize;
+
+        this.hits = metricsService.counter("catalog_cache_requests_total", "result", "hit");
+        this.misses = metricsService.counter("catalog_cache_requests_total", "result", "miss");
+        this.refreshed = metricsService.counter("catalog_cache_refreshed_total");
+        this.evictions = metricsService.counter("catalog_cache_evictions_total");
+        this.uncached = metricsService.counter("catalog_cache_full_total");
+        this.requestBatchSize = metricsService.histogram("catalog_lookup_batch_size", "path", "request");
+        this.refreshBatchSize = metricsService.histogram("catalog_lookup_batch_size", "path", "refresh");
+        this.requestLatency = metricsService.latency("catalog_lookup_latency_seconds", "path", "request");
+        this.refreshLatency = metricsService.latency("catalog_lookup_latency_seconds", "path", "refresh");
+        metricsService.gauge("catalog_cache_hit_ratio", this::hitRatio);
+        metricsService.gauge("catalog_cache_size", this::size);
+    }
+
+    @Override
+    public Map<String, CatalogProduct> findProducts(Collection<String> productIds) {
+        return findProducts(productIds, System.nanoTime());
+    }
+
+    Map<String, CatalogProduct> findProducts(Collection<String> productIds, long now) {
+        Map<String, CatalogProduct> products = new HashMap<>(Math.max(16, productIds.size() * 2));
+        List<String> missing = null;
+        for (String productId : productIds) {
+            Entry entry = entries.get(productId);
+            if (entry != null && now - entry.expiresAtNanos < 0) {
+                hits.increment();
+                if (!entry.read) {
+                    entry.read = true;
+                }
+                if (entry.product != null) {
+                    products.put(productId, entry.product);
+                }
+            } else {
+                misses.increment();
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(productId);
+            }
+        }
+        if (missing != null) {
+            requestBatchSize.recordValue(missing.size());
+            long start = System.nanoTime();
+            Map<String, CatalogProduct> loaded = catalog.findProducts(missing);
+            requestLatency.recordValue(System.nanoTime() - start);
+            store(missing, loaded, now, false);
+            products.putAll(loaded);
+        }
+        return products;
+    }
+
+    /**
+     * Reload, in batches, the products that were read since they were loaded
+     * and are due for refresh, drop expired entries, and make room if the
+     * cache is nearly full.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.catalog.cache.refresh-interval:5s}")
+    public void refreshAhead() {
+        refreshAhead(System.nanoTime());
+    }
+
+    void refreshAhead(long now) {
+        List<String> due = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> mapping = it.next();
+            Entry entry = mapping.getValue();
+            if (entry.product != null && entry.read && now - entry.loadedAtNanos >= refreshAfterNanos) {
+                due.add(mapping.getKey());
+            } else if (now - entry.expiresAtNanos >= 0) {
+                it.remove();
+            }
+        }
+        evict();
+        for (int from = 0; from < due.size(); from += maxBatchSize) {
+            List<String> batch = due.subList(from, Math.min(due.size(), from + maxBatchSize));
+            refreshBatchSize.recordValue(batch.size());
+            try {
+                long start = System.nanoTime();
+                Map<String, CatalogProduct> loaded = catalog.findProducts(batch);
+                refreshLatency.recordValue(System.nanoTime() - start);
+                store(batch, loaded, now, true);
+                refreshed.add(batch.size());
+            } catch (RuntimeException e) {
+                logger.warn("Catalog refresh of {} products failed, keeping cached entries", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drop one cached product, e.g. after it changed in the catalog.
+     */
+    public void invalidate(String productId) {
+        entries.remove(productId);
+    }
+
+    /**
+     * Drop all cached products.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Entries start out unread, so ids requested only once are the first to
+     * be evicted and are not refreshed. A full cache only replaces entries it
+     * already has; a refresh never brings back an entry evicted or
+     * invalidated meanwhile.
+     */
+    private void store(List<String> productIds, Map<String, CatalogProduct> loaded, long now, boolean refreshed) {
+        for (String productId : productIds) {
+            CatalogProduct product = loaded.get(productId);
+            Entry entry = new Entry(product, now, now + (product != null ? ttlNanos : negativeTtlNanos), refreshed);
+            if (refreshed) {
+                entries.replace(productId, entry);
+            } else if (entries.size() < maxSize) {
+                entries.put(productId, entry);
+            } else if (entries.replace(productId, entry) == null) {
+                uncached.increment();
+            }
+        }
+    }
+
+    /**
+     * Evict down to 90% of the bound, so lookups have room to cache the
+     * products they load until the next pass: first ids read only when they
+     * were loaded, then entries not read since their last refresh.
+     */
+    private void evict() {
+        int excess = entries.size() - (maxSize - Math.max(1, maxSize / 10));
+        if (excess <= 0) {
+            return;
+        }
+        excess = evict(excess, entry -> !entry.read && !entry.refreshed);
+        excess = evict(excess, entry -> !entry.read);
+        evict(excess, entry -> true);
+    }
+
+    private int evict(int excess, Predicate<Entry> candidate) {
+        Iterator<Entry> values = entries.values().iterator();
+        while (excess > 0 && values.hasNext()) {
+            if (candidate.test(values.next())) {
+                values.remove();
+                excess--;
+                evictions.increment();
+            }
+        }
+        return excess;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.orderservice.app.infra.catalog.entities;
+
+/**
+ * A product as known to the catalog.
+ *
+ * @param productId the product id used in orders
+ * @param name      the display name
+ * @param category  the product category; may be null
+ */
+public record CatalogProduct(
+        String productId,
+        String name,
+        String category) {
+}
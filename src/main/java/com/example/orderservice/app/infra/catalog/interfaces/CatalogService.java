@@ -0,0 +1,20 @@
+package com.example.orderservice.app.infra.catalog.interfaces;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+
+/**
+ * Product catalog lookups.
+ */
+public interface CatalogService {
+
+    /**
+     * Look up several products in one call.
+     *
+     * @param productIds the ids to resolve; duplicates are allowed
+     * @return the products found, by id; unknown ids are absent
+     */
+    Map<String, CatalogProduct> findProducts(Collection<String> productIds);
+}
@@ -0,0 +1,48 @@
+package com.example.orderservice.app.infra.inventorystore.contracts;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.infra.inventorystore.interfaces.InventoryCheckpointStore;
+
+/**
+ * {@link InventoryCheckpointStore} in a table of the application database.
+ */
+@Service
+public class JdbcInventoryCheckpointStore implements InventoryCheckpointStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcInventoryCheckpointStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS inventory_checkpoint ("
+                + "sku VARCHAR(64) PRIMARY KEY, "
+                + "on_hand BIGINT NOT NULL, "
+                + "checkpointed_at TIMESTAMP NOT NULL)");
+    }
+
+    @Override
+    public Map<String, Long> load() {
+        Map<String, Long> onHand = new HashMap<>();
+        jdbcTemplate.query("SELECT sku, on_hand FROM inventory_checkpoint",
+                rs -> {
+                    onHand.put(rs.getString(1), rs.getLong(2));
+                });
+        return onHand;
+    }
+
+    @Override
+    public void save(Map<String, Long> onHand) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "MERGE INTO inventory_checkpoint (sku, on_hand, checkpointed_at) KEY (sku) VALUES (?, ?, ?)",
+                onHand.entrySet().stream()
+                        .map(e -> new Object[] { e.getKey(), e.getValue(), now })
+                        .toList());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.orderservice.app.infra.inventorystore.interfaces;
+
+import java.util.Map;
+
+/**
+ * Durable copy of the units on hand per SKU.
+ */
+public interface InventoryCheckpointStore {
+
+    /**
+     * @return the units on hand per SKU at the last checkpoint; empty if
+     *         there is none
+     */
+    Map<String, Long> load();
+
+    /**
+     * Record the units on hand of the given SKUs, replacing their previous
+     * values.
+     */
+    void save(Map<String, Long> onHand);
+}
@@ -0,0 +1,70 @@
+package com.example.orderservice.app.infra.logger.config;
+
+import java.io.File;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.orderservice.app.infra.logger.contracts.LoggerServiceContractV0;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingPolicy;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compiles the log sampling rules from {@link LogSamplingProperties} and
+ * applies them to the {@link LoggerServiceContractV0}. When a policy file is
+ * configured, it is reloaded whenever it changes, so sampling can be
+ * tightened or lifted without a restart.
+ */
+@Configuration
+public class LogSamplingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSamplingConfig.class);
+
+    private final LoggerServiceContractV0 loggerService;
+    private final String policyFile;
+    private final JsonMapper jsonMapper;
+
+    private volatile long policyFileLastModified;
+
+    public LogSamplingConfig(LogSamplingProperties properties, LoggerServiceContractV0 loggerService,
+            JsonMapper jsonMapper) {
+        this.loggerService = loggerService;
+        // A rule may leave out perSecond or oneIn, as it can in application.yaml
+        this.jsonMapper = jsonMapper.rebuild().disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES).build();
+        this.policyFile = properties.policyFile();
+        loggerService.reloadSampling(LogSamplingPolicy.compile(properties.levels(), properties.sites()));
+        if (policyFile != null && !policyFile.isBlank()) {
+            reloadFromFile();
+        }
+    }
+
+    /**
+     * Reload the policy file if it changed since it was last read.
+     * A file that fails to parse or compile leaves the current policy in place.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.logging.sampling.reload-interval:30s}")
+    public void reloadFromFile() {
+        if (policyFile == null || policyFile.isBlank()) {
+            return;
+        }
+        File file = new File(policyFile);
+        long lastModified = file.lastModified();
+        if (lastModified == 0 || lastModified == policyFileLastModified) {
+            return;
+        }
+        try {
+            LogSamplingProperties rules = jsonMapper.readValue(file, LogSamplingProperties.class);
+            policyFileLastModified = lastModified;
+            LogSamplingPolicy policy = LogSamplingPolicy.compile(rules.levels(), rules.sites());
+            loggerService.reloadSampling(policy);
+            logger.info("Log sampling policy loaded from {}: {} sites", policyFile, policy.siteCount());
+        } catch (JacksonException | IllegalArgumentException e) {
+            logger.error("Failed to load log sampling policy from {}, keeping current policy", policyFile, e);
+        }
+    }
+}
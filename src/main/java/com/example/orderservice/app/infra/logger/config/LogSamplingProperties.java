@@ -0,0 +1,32 @@
+package com.example.orderservice.app.infra.logger.config;
+
+import java.util.Map;
+
+import org.slf4j.event.Level;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.orderservice.app.infra.logger.entities.LogSamplingRule;
+
+/**
+ * Log sampling rules, bound from {@code orderservice.logging.sampling}. Site
+ * names contain dots, so they need the bracket notation in YAML, e.g.
+ * {@code "[orders.created]"}.
+ *
+ * @param levels     rules for every log site, by level
+ * @param sites      rules for individual log sites, by site name and level;
+ *                   they override {@code levels}
+ * @param policyFile optional JSON file with {@code levels} and {@code sites}
+ *                   in the same shape; when set, it overrides both and is
+ *                   reloaded whenever it changes
+ */
+@ConfigurationProperties(prefix = "orderservice.logging.sampling")
+public record LogSamplingProperties(
+        Map<Level, LogSamplingRule> levels,
+        Map<String, Map<Level, LogSamplingRule>> sites,
+        String policyFile) {
+
+    public LogSamplingProperties {
+        levels = levels == null ? Map.of() : levels;
+        sites = sites == null ? Map.of() : sites;
+    }
+}
@@ -1,9 +1,23 @@
 package com.example.orderservice.app.infra.logger.contracts;
 
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogRecord;
+import com.example.orderservice.app.infra.logger.entities.LogRingBuffer;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogSite;
+import com.example.orderservice.app.infra.logger.entities.RequestContext;
+import com.example.orderservice.app.infra.logger.entities.StructuredLogEvent;
+import com.example.orderservice.app.infra.logger.interfaces.LogEvent;
 import com.example.orderservice.app.infra.logger.interfaces.LoggerService;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -11,17 +25,66 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Default production-grade implementation of LoggerService.
  * Uses SLF4J with Logback for flexible logging configuration.
  * Supports structured logging, correlation IDs, and contextual information.
+ *
+ * <p>
+ * With {@code orderservice.logging.async.enabled}, a log call only captures
+ * its arguments, the time and the caller's MDC into a preallocated slot of a
+ * {@link LogRingBuffer}; the {@value #WRITER_THREAD} thread formats and
+ * writes them in batches of up to {@code batch-size}. What happens when the
+ * buffer fills up is set by the {@link LogOverflowPolicy}. Lines are written
+ * shortly after the call, so their timestamp is the time of writing; the
+ * performance and audit timestamps are still taken at the call. Queue depth
+ * is exported as {@code log_queue_depth}, dropped records as
+ * {@code log_records_dropped_total{level}} and calls that had to wait for
+ * space as {@code log_enqueue_waits_total}. Remaining records are written on
+ * shutdown.
+ * </p>
+ *
+ * <p>
+ * Format arguments and structured fields are formatted by whichever thread
+ * writes the line. When that is the writer thread, they are snapshotted at
+ * the call (see {@link LogRecord}), so a mutable argument is logged as it
+ * was then and the writer never reads it while the caller changes it.
+ * Context maps are not copied and must not change after the call.
+ * Structured events are
+ * collected in a per-thread {@link StructuredLogEvent} and copied into the
+ * record on {@link LogEvent#log()}; a thread that starts an event before
+ * logging its previous one gets a fresh event instead.
+ * </p>
+ *
+ * <p>
+ * Inside a request, the correlation ID and context belong to its
+ * {@link RequestContext}; outside one, to the thread's MDC. A record holds on
+ * to the request context's fields, merged with the caller's own MDC if it
+ * has any, and whichever thread writes it puts them in its MDC for the
+ * duration, so appenders and {@code %X} patterns see them.
+ * </p>
+ *
+ * <p>
+ * Lines from a {@link LogSite} first pass its {@link LogSamplingPolicy},
+ * which {@link #reloadSampling(LogSamplingPolicy)} swaps with a single
+ * volatile write per site. Suppressed lines are counted in
+ * {@code log_records_suppressed_total{level}} and reported in a summary line
+ * by the site's next admitted line, or by {@link #flushSuppressed()} once
+ * per {@code summary-interval}. At most {@value #MAX_SITES} sites are kept;
+ * further names share the {@value #OVERFLOW_SITE} site.
+ * </p>
  */
 @Service
 public class LoggerServiceContractV0 implements LoggerService {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggerServiceContractV0.class);
-    private static final String CORRELATION_ID_KEY = "correlationId";
+    private static final String CORRELATION_ID_KEY = RequestContext.CORRELATION_ID_KEY;
     private static final String TIMESTAMP_KEY = "timestamp";
     private static final String OPERATION_KEY = "operation";
     private static final String EXECUTION_TIME_KEY = "executionTimeMs";
@@ -30,120 +93,402 @@ public class LoggerServiceContractV0 implements LoggerService {
     private static final String AUDIT_USER_KEY = "userId";
     private static final String AUDIT_RESOURCE_KEY = "resource";
 
-    private final Map<String, Object> threadLocalContext = new ConcurrentHashMap<>();
+    private static final String WRITER_THREAD = "log-writer";
+    private static final long WRITER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long PRODUCER_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int PRODUCER_SPINS = 100;
+    private static final int MAX_SITES = 10_000;
+    private static final String OVERFLOW_SITE = "overflow";
+    private static final Level[] SAMPLED_LEVELS = { Level.DEBUG, Level.INFO, Level.WARN };
+
+    /** Scratch record for synchronous logging. */
+    private final ThreadLocal<LogRecord> syncRecord = ThreadLocal.withInitial(LogRecord::new);
+
+    private final Consumer<StructuredLogEvent> logEvent = this::logEvent;
+    private final ThreadLocal<StructuredLogEvent> events = ThreadLocal
+            .withInitial(() -> new StructuredLogEvent(logEvent));
+
+    private final LogRingBuffer ring;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int watermark;
+    private final int sampleRate;
+    private final int batchSize;
+    private final Counter[] dropped = new Counter[Level.values().length];
+    private final Counter enqueueWaits;
+    private final Counter[] suppressed = new Counter[Level.values().length];
+    private final Map<String, LogSite> sites = new ConcurrentHashMap<>();
+    private volatile LogSamplingPolicy samplingPolicy = LogSamplingPolicy.NONE;
+    private final Consumer<LogRecord> writeRecord = this::writeQuietly;
+    private final Thread writer;
+    private volatile boolean running;
+    private volatile boolean writerParked;
+
+    public LoggerServiceContractV0(
+            MetricsService metricsService,
+            @Value("${orderservice.logging.async.enabled:true}") boolean async,
+            @Value("${orderservice.logging.async.capacity:8192}") int capacity,
+            @Value("${orderservice.logging.async.batch-size:256}") int batchSize,
+            @Value("${orderservice.logging.async.overflow-policy:DROP_DEBUG_FIRST}") LogOverflowPolicy overflowPolicy,
+            @Value("${orderservice.logging.async.sample-rate:10}") int sampleRate) {
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.batchSize = Math.max(1, batchSize);
+        this.enqueueWaits = metricsService.counter("log_enqueue_waits_total");
+        for (Level level : Level.values()) {
+            dropped[level.ordinal()] = metricsService.counter("log_records_dropped_total", "level", level.name());
+        }
+        for (Level level : SAMPLED_LEVELS) {
+            suppressed[level.ordinal()] = metricsService.counter("log_records_suppressed_total", "level",
+                    level.name());
+        }
+        if (!async) {
+            this.ring = null;
+            this.watermark = 0;
+            this.writer = null;
+            return;
+        }
+        this.ring = new LogRingBuffer(capacity);
+        this.watermark = ring.capacity() - ring.capacity() / 4;
+        metricsService.gauge("log_queue_depth", ring::size);
+        this.running = true;
+        this.writer = Thread.ofPlatform().name(WRITER_THREAD).daemon().start(this::drainLoop);
+    }
 
     @Override
     public void debug(String message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.debug(message));
+        if (logger.isDebugEnabled()) {
+            log(Level.DEBUG, message, null, false, false, null);
+        }
     }
 
     @Override
     public void debug(String message, Map<String, Object> context) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.debug(message, buildContextInfo(context)));
+        if (logger.isDebugEnabled()) {
+            log(Level.DEBUG, message, null, false, true, context);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        if (logger.isDebugEnabled()) {
+            log(Level.DEBUG, Objects.requireNonNull(message.get(), "Message cannot be null"), null, false, false,
+                    null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, 1, arg, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, 2, arg1, arg2, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... args) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isDebugEnabled()) {
+            logFormatted(Level.DEBUG, format, args == null ? 0 : args.length, null, null, args);
+        }
+    }
+
+    @Override
+    public LogEvent atDebug(String message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isDebugEnabled() ? startEvent(Level.DEBUG, message) : LogEvent.DISABLED;
+    }
+
+    @Override
+    public LogEvent atDebug(LogSite site, String message) {
+        Objects.requireNonNull(site, "Log site cannot be null");
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isDebugEnabled() && admit(site, Level.DEBUG) ? startEvent(Level.DEBUG, message) : LogEvent.DISABLED;
     }
 
     @Override
     public void info(String message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.info(message));
+        if (logger.isInfoEnabled()) {
+            log(Level.INFO, message, null, false, false, null);
+        }
     }
 
     @Override
     public void info(String message, Map<String, Object> context) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.info(message, buildContextInfo(context)));
+        if (logger.isInfoEnabled()) {
+            log(Level.INFO, message, null, false, true, context);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        if (logger.isInfoEnabled()) {
+            log(Level.INFO, Objects.requireNonNull(message.get(), "Message cannot be null"), null, false, false,
+                    null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, 1, arg, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, 2, arg1, arg2, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object... args) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isInfoEnabled()) {
+            logFormatted(Level.INFO, format, args == null ? 0 : args.length, null, null, args);
+        }
+    }
+
+    @Override
+    public LogEvent atInfo(String message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isInfoEnabled() ? startEvent(Level.INFO, message) : LogEvent.DISABLED;
+    }
+
+    @Override
+    public LogEvent atInfo(LogSite site, String message) {
+        Objects.requireNonNull(site, "Log site cannot be null");
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isInfoEnabled() && admit(site, Level.INFO) ? startEvent(Level.INFO, message) : LogEvent.DISABLED;
     }
 
     @Override
     public void warn(String message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.warn(message));
+        if (logger.isWarnEnabled()) {
+            log(Level.WARN, message, null, false, false, null);
+        }
     }
 
     @Override
     public void warn(String message, Map<String, Object> context) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.warn(message, buildContextInfo(context)));
+        if (logger.isWarnEnabled()) {
+            log(Level.WARN, message, null, false, true, context);
+        }
+    }
+
+    @Override
+    public void warn(Supplier<String> message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        if (logger.isWarnEnabled()) {
+            log(Level.WARN, Objects.requireNonNull(message.get(), "Message cannot be null"), null, false, false,
+                    null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, 1, arg, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, 2, arg1, arg2, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... args) {
+        Objects.requireNonNull(format, "Message cannot be null");
+        if (logger.isWarnEnabled()) {
+            logFormatted(Level.WARN, format, args == null ? 0 : args.length, null, null, args);
+        }
+    }
+
+    @Override
+    public LogEvent atWarn(String message) {
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isWarnEnabled() ? startEvent(Level.WARN, message) : LogEvent.DISABLED;
+    }
+
+    @Override
+    public LogEvent atWarn(LogSite site, String message) {
+        Objects.requireNonNull(site, "Log site cannot be null");
+        Objects.requireNonNull(message, "Message cannot be null");
+        return logger.isWarnEnabled() && admit(site, Level.WARN) ? startEvent(Level.WARN, message) : LogEvent.DISABLED;
     }
 
     @Override
     public void error(String message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.error(message));
+        log(Level.ERROR, message, null, false, false, null);
     }
 
     @Override
     public void error(String message, Throwable exception) {
         Objects.requireNonNull(message, "Message cannot be null");
         Objects.requireNonNull(exception, "Exception cannot be null");
-        enrichAndLog(() -> logger.error(message, exception));
+        log(Level.ERROR, message, exception, false, false, null);
     }
 
     @Override
     public void error(String message, Throwable exception, Map<String, Object> context) {
         Objects.requireNonNull(message, "Message cannot be null");
         Objects.requireNonNull(exception, "Exception cannot be null");
-        enrichAndLog(() -> logger.error(message + " | " + buildContextInfo(context), exception));
+        log(Level.ERROR, message, exception, false, true, context);
     }
 
     @Override
     public void critical(String message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        enrichAndLog(() -> logger.error("[CRITICAL] " + message));
+        log(Level.ERROR, message, null, true, false, null);
     }
 
     @Override
     public void critical(String message, Throwable exception) {
         Objects.requireNonNull(message, "Message cannot be null");
         Objects.requireNonNull(exception, "Exception cannot be null");
-        enrichAndLog(() -> logger.error("[CRITICAL] " + message, exception));
+        log(Level.ERROR, message, exception, true, false, null);
     }
 
     @Override
     public void critical(String message, Throwable exception, Map<String, Object> context) {
         Objects.requireNonNull(message, "Message cannot be null");
         Objects.requireNonNull(exception, "Exception cannot be null");
-        enrichAndLog(() -> logger.error("[CRITICAL] " + message + " | " + buildContextInfo(context), exception));
+        log(Level.ERROR, message, exception, true, true, context);
+    }
+
+    @Override
+    public LogSite site(String name) {
+        Objects.requireNonNull(name, "Log site name cannot be null");
+        LogSite site = sites.get(name);
+        if (site == null) {
+            site = sites.size() < MAX_SITES || name.equals(OVERFLOW_SITE)
+                    ? sites.computeIfAbsent(name, n -> new LogSite(n, samplingPolicy))
+                    : site(OVERFLOW_SITE);
+        }
+        LogSamplingPolicy policy = samplingPolicy;
+        if (site.policy() != policy) {
+            // Created while a reload was updating the existing sites
+            site.policy(policy);
+        }
+        return site;
+    }
+
+    /**
+     * Apply a new sampling policy to every log site.
+     */
+    public void reloadSampling(LogSamplingPolicy policy) {
+        Objects.requireNonNull(policy, "Sampling policy cannot be null");
+        this.samplingPolicy = policy;
+        for (LogSite site : sites.values()) {
+            site.policy(policy);
+        }
+    }
+
+    public LogSamplingPolicy samplingPolicy() {
+        return samplingPolicy;
+    }
+
+    /**
+     * Report the lines every site suppressed since its last report, so a
+     * suppressed run is summed up even if the site falls silent.
+     */
+    @Scheduled(fixedDelayString = "${orderservice.logging.sampling.summary-interval:1s}")
+    public void flushSuppressed() {
+        for (LogSite site : sites.values()) {
+            for (Level level : SAMPLED_LEVELS) {
+                long count = site.drainSuppressed(level);
+                if (count > 0) {
+                    logSuppressed(site, level, count);
+                }
+            }
+        }
+    }
+
+    private boolean admit(LogSite site, Level level) {
+        long count = site.admit(level, System.nanoTime());
+        if (count < 0) {
+            suppressed[level.ordinal()].increment();
+            return false;
+        }
+        if (count > 0) {
+            logSuppressed(site, level, count);
+        }
+        return true;
+    }
+
+    private void logSuppressed(LogSite site, Level level, long count) {
+        log(level, "[" + site.name() + "] suppressed " + count + " similar", null, false, false, null);
     }
 
     @Override
     public void setCorrelationId(String correlationId) {
         Objects.requireNonNull(correlationId, "Correlation ID cannot be null");
-        MDC.put(CORRELATION_ID_KEY, correlationId);
-        threadLocalContext.put(CORRELATION_ID_KEY, correlationId);
+        addContext(CORRELATION_ID_KEY, correlationId);
     }
 
     @Override
     public String getCorrelationId() {
-        String correlationId = MDC.get(CORRELATION_ID_KEY);
-        if (correlationId == null) {
-            correlationId = (String) threadLocalContext.get(CORRELATION_ID_KEY);
-        }
-        return correlationId;
+        RequestContext context = RequestContext.current();
+        return context != null ? context.correlationId() : MDC.get(CORRELATION_ID_KEY);
     }
 
     @Override
     public void addContext(String key, Object value) {
         Objects.requireNonNull(key, "Context key cannot be null");
-        threadLocalContext.put(key, value);
-        if (value != null) {
-            MDC.put(key, value.toString());
+        RequestContext context = RequestContext.current();
+        String text = value == null ? null : value.toString();
+        if (context != null) {
+            context.put(key, text);
+        } else if (text != null) {
+            MDC.put(key, text);
+        } else {
+            MDC.remove(key);
         }
     }
 
     @Override
     public void removeContext(String key) {
         Objects.requireNonNull(key, "Context key cannot be null");
-        threadLocalContext.remove(key);
-        MDC.remove(key);
+        RequestContext context = RequestContext.current();
+        if (context != null) {
+            context.remove(key);
+        } else {
+            MDC.remove(key);
+        }
     }
 
     @Override
     public void clearContext() {
-        threadLocalContext.clear();
-        MDC.clear();
+        RequestContext context = RequestContext.current();
+        if (context != null) {
+            context.clear();
+        } else {
+            MDC.clear();
+        }
     }
 
     @Override
@@ -159,29 +504,15 @@ public class LoggerServiceContractV0 implements LoggerService {
             throw new IllegalArgumentException("Execution time cannot be negative");
         }
 
-        Map<String, Object> performanceContext = new HashMap<>();
-        performanceContext.put(OPERATION_KEY, operationName);
-        performanceContext.put(EXECUTION_TIME_KEY, executionTimeMs);
-        performanceContext.put(SUCCESS_KEY, success);
-        performanceContext.put(TIMESTAMP_KEY, Instant.now().toString());
-
-        if (context != null) {
-            performanceContext.putAll(context);
+        Level level = determinePerformanceLogLevel(executionTimeMs, success);
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+        LogRecord record = claim(level);
+        if (record != null) {
+            publish(record.performance(level, operationName, executionTimeMs, success, context,
+                    System.currentTimeMillis()));
         }
-
-        String logLevel = determinePerformanceLogLevel(executionTimeMs, success);
-        String message = String.format("Performance: %s - %dms - %s", operationName, executionTimeMs,
-                success ? "SUCCESS" : "FAILED");
-
-        enrichAndLog(() -> {
-            if (logLevel.equals("WARN")) {
-                logger.warn(message + " | " + buildContextInfo(performanceContext));
-            } else if (logLevel.equals("ERROR")) {
-                logger.error(message + " | " + buildContextInfo(performanceContext));
-            } else {
-                logger.info(message + " | " + buildContextInfo(performanceContext));
-            }
-        });
     }
 
     @Override
@@ -190,34 +521,330 @@ public class LoggerServiceContractV0 implements LoggerService {
         Objects.requireNonNull(userId, "User ID cannot be null");
         Objects.requireNonNull(resource, "Resource cannot be null");
 
-        Map<String, Object> auditContext = new HashMap<>();
-        auditContext.put(AUDIT_ACTION_KEY, action);
-        auditContext.put(AUDIT_USER_KEY, userId);
-        auditContext.put(AUDIT_RESOURCE_KEY, resource);
-        auditContext.put(TIMESTAMP_KEY, Instant.now().toString());
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        LogRecord record = claim(Level.INFO);
+        if (record != null) {
+            publish(record.audit(action, userId, resource, details, System.currentTimeMillis()));
+        }
+    }
 
-        if (details != null) {
-            auditContext.putAll(details);
+    /**
+     * Write the records still queued and stop the writer thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void log(Level level, String message, Throwable exception, boolean critical, boolean withContext,
+            Map<String, Object> context) {
+        LogRecord record = claim(level);
+        if (record != null) {
+            publish(record.message(level, message, exception, critical, withContext, context));
         }
+    }
 
-        String message = String.format("AUDIT: User '%s' performed '%s' on '%s'", userId, action, resource);
-        enrichAndLog(() -> logger.info(message + " | " + buildContextInfo(auditContext)));
+    private void logFormatted(Level level, String format, int argCount, Object arg1, Object arg2,
+            Object[] args) {
+        LogRecord record = claim(level);
+        if (record != null) {
+            publish(record.formatted(level, format, argCount, arg1, arg2, args));
+        }
+    }
+
+    private LogEvent startEvent(Level level, String message) {
+        StructuredLogEvent event = events.get();
+        if (event.inUse()) {
+            // Started inside another event on this thread, e.g. while computing one of its fields
+            event = new StructuredLogEvent(logEvent);
+        }
+        return event.start(level, message);
+    }
+
+    private void logEvent(StructuredLogEvent event) {
+        LogRecord record = claim(event.level());
+        if (record != null) {
+            publish(record.structured(event.level(), event.message(), event.fields()));
+        }
+    }
+
+    /**
+     * Reserve a record for a call at {@code level}: a ring buffer slot when
+     * logging asynchronously, the thread's scratch record otherwise.
+     *
+     * @return the record to fill, or null if the overflow policy drops it
+     */
+    private LogRecord claim(Level level) {
+        if (ring == null || !running) {
+            return syncRecord.get().mdc(requestFields());
+        }
+        long position;
+        if (level.toInt() <= Level.INFO.toInt() && overflowPolicy != LogOverflowPolicy.BLOCK) {
+            if (ring.size() >= watermark && shedAboveWatermark(level)) {
+                dropped[level.ordinal()].increment();
+                return null;
+            }
+            position = ring.tryClaim();
+            if (position < 0) {
+                dropped[level.ordinal()].increment();
+                return null;
+            }
+        } else {
+            position = claimWaiting();
+            if (position < 0) {
+                return syncRecord.get().mdc(requestFields());
+            }
+        }
+        return ring.slot(position).mdc(callerMdc()).position(position);
+    }
+
+    /**
+     * @return the fields of the current request's context, or null outside a
+     *         request
+     */
+    private static Map<String, String> requestFields() {
+        RequestContext context = RequestContext.current();
+        return context == null ? null : context.fields();
+    }
+
+    /**
+     * @return the caller's MDC, the request context's fields taking
+     *         precedence, or null if both are empty
+     */
+    private static Map<String, String> callerMdc() {
+        Map<String, String> request = requestFields();
+        Map<String, String> local = MDC.getCopyOfContextMap();
+        if (local == null || local.isEmpty()) {
+            return request;
+        }
+        if (request != null) {
+            local.putAll(request);
+        }
+        return local;
+    }
+
+    private boolean shedAboveWatermark(Level level) {
+        return overflowPolicy == LogOverflowPolicy.SAMPLE
+                ? ThreadLocalRandom.current().nextInt(sampleRate) != 0
+                : level.toInt() < Level.INFO.toInt();
     }
 
     /**
-     * Enriches logging with correlation ID from MDC and executes the log operation.
+     * @return the claimed position, or -1 if the writer stopped meanwhile
      */
-    private void enrichAndLog(Runnable logOperation) {
+    private long claimWaiting() {
+        long position = ring.tryClaim();
+        if (position >= 0) {
+            return position;
+        }
+        enqueueWaits.increment();
+        int spins = 0;
+        while ((position = ring.tryClaim()) < 0) {
+            if (!running) {
+                return -1;
+            }
+            LockSupport.unpark(writer);
+            if (spins++ < PRODUCER_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PRODUCER_WAIT_NANOS);
+            }
+        }
+        return position;
+    }
+
+    private void publish(LogRecord record) {
+        if (ring == null || record.position() < 0) {
+            try {
+                writeOnCaller(record);
+            } finally {
+                record.clear();
+            }
+            return;
+        }
+        ring.publish(record.position());
+        if (writerParked) {
+            // Wake the writer once, not on every record until it gets to run
+            writerParked = false;
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void drainLoop() {
+        while (running || ring.size() > 0) {
+            if (ring.drain(writeRecord, batchSize) > 0) {
+                continue;
+            }
+            writerParked = true;
+            if (running && ring.size() == 0) {
+                LockSupport.parkNanos(this, WRITER_IDLE_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+            writerParked = false;
+        }
+    }
+
+    private void writeQuietly(LogRecord record) {
+        try {
+            if (record.mdc() != null) {
+                MDC.setContextMap(record.mdc());
+            }
+            write(record);
+        } catch (RuntimeException e) {
+            // A failing appender must not stop the writer
+        } finally {
+            if (record.mdc() != null) {
+                MDC.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a record on the calling thread, with the request context's
+     * fields added to its MDC meanwhile.
+     */
+    private void writeOnCaller(LogRecord record) {
+        Map<String, String> request = record.mdc();
+        if (request == null || request.isEmpty()) {
+            write(record);
+            return;
+        }
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        request.forEach(MDC::put);
         try {
-            logOperation.run();
+            write(record);
         } finally {
-            // Ensure MDC is properly managed
-            if (MDC.get(CORRELATION_ID_KEY) == null && threadLocalContext.get(CORRELATION_ID_KEY) != null) {
-                MDC.put(CORRELATION_ID_KEY, threadLocalContext.get(CORRELATION_ID_KEY).toString());
+            if (previous == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(previous);
+            }
+        }
+    }
+
+    private void write(LogRecord record) {
+        switch (record.kind()) {
+            case MESSAGE -> writeMessage(record);
+            case FORMATTED -> writeFormatted(record);
+            case STRUCTURED -> writeStructured(record);
+            case PERFORMANCE -> writePerformance(record);
+            case AUDIT -> writeAudit(record);
+        }
+    }
+
+    private void writeMessage(LogRecord record) {
+        String message = record.critical() ? "[CRITICAL] " + record.message() : record.message();
+        Throwable exception = record.throwable();
+        if (exception != null) {
+            if (record.withContext()) {
+                message = message + " | " + buildContextInfo(record.context());
+            }
+            logger.error(message, exception);
+            return;
+        }
+        if (!record.withContext()) {
+            switch (record.level()) {
+                case DEBUG -> logger.debug(message);
+                case INFO -> logger.info(message);
+                case WARN -> logger.warn(message);
+                default -> logger.error(message);
+            }
+            return;
+        }
+        String contextInfo = buildContextInfo(record.context());
+        switch (record.level()) {
+            case DEBUG -> logger.debug(message, contextInfo);
+            case INFO -> logger.info(message, contextInfo);
+            case WARN -> logger.warn(message, contextInfo);
+            default -> logger.error(message, contextInfo);
+        }
+    }
+
+    private void writeFormatted(LogRecord record) {
+        String format = record.message();
+        switch (record.argCount()) {
+            case 1 -> {
+                switch (record.level()) {
+                    case DEBUG -> logger.debug(format, record.arg1());
+                    case INFO -> logger.info(format, record.arg1());
+                    default -> logger.warn(format, record.arg1());
+                }
+            }
+            case 2 -> {
+                switch (record.level()) {
+                    case DEBUG -> logger.debug(format, record.arg1(), record.arg2());
+                    case INFO -> logger.info(format, record.arg1(), record.arg2());
+                    default -> logger.warn(format, record.arg1(), record.arg2());
+                }
             }
+            default -> {
+                switch (record.level()) {
+                    case DEBUG -> logger.debug(format, record.args());
+                    case INFO -> logger.info(format, record.args());
+                    default -> logger.warn(format, record.args());
+                }
+            }
+        }
+    }
+
+    private void writeStructured(LogRecord record) {
+        String line = record.fields().appendTo(new StringBuilder(record.message()).append(" | ")).toString();
+        switch (record.level()) {
+            case DEBUG -> logger.debug(line);
+            case INFO -> logger.info(line);
+            default -> logger.warn(line);
+        }
+    }
+
+    private void writePerformance(LogRecord record) {
+        Map<String, Object> performanceContext = new HashMap<>();
+        performanceContext.put(OPERATION_KEY, record.message());
+        performanceContext.put(EXECUTION_TIME_KEY, record.executionTimeMs());
+        performanceContext.put(SUCCESS_KEY, record.success());
+        performanceContext.put(TIMESTAMP_KEY, Instant.ofEpochMilli(record.timestampMillis()).toString());
+
+        if (record.context() != null) {
+            performanceContext.putAll(record.context());
+        }
+
+        String message = String.format("Performance: %s - %dms - %s", record.message(), record.executionTimeMs(),
+                record.success() ? "SUCCESS" : "FAILED");
+        String line = message + " | " + buildContextInfo(performanceContext);
+        switch (record.level()) {
+            case WARN -> logger.warn(line);
+            case ERROR -> logger.error(line);
+            default -> logger.info(line);
         }
     }
 
+    private void writeAudit(LogRecord record) {
+        Map<String, Object> auditContext = new HashMap<>();
+        auditContext.put(AUDIT_ACTION_KEY, record.message());
+        auditContext.put(AUDIT_USER_KEY, record.userId());
+        auditContext.put(AUDIT_RESOURCE_KEY, record.resource());
+        auditContext.put(TIMESTAMP_KEY, Instant.ofEpochMilli(record.timestampMillis()).toString());
+
+        if (record.context() != null) {
+            auditContext.putAll(record.context());
+        }
+
+        String message = String.format("AUDIT: User '%s' performed '%s' on '%s'", record.userId(),
+                record.message(), record.resource());
+        logger.info(message + " | " + buildContextInfo(auditContext));
+    }
+
     /**
      * Builds a formatted context information string from a map.
      */
@@ -246,14 +873,14 @@ public class LoggerServiceContractV0 implements LoggerService {
      * Determines the appropriate log level based on execution time and success
      * status.
      */
-    private String determinePerformanceLogLevel(long executionTimeMs, boolean success) {
+    private Level determinePerformanceLogLevel(long executionTimeMs, boolean success) {
         if (!success) {
-            return "ERROR";
+            return Level.ERROR;
         }
         // Log as warning if execution time exceeds 5 seconds
         if (executionTimeMs > 5000) {
-            return "WARN";
+            return Level.WARN;
         }
-        return "INFO";
+        return Level.INFO;
     }
 }
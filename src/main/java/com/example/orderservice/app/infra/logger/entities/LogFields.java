@@ -0,0 +1,149 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+/**
+ * Key-value fields of a structured log line, kept in preallocated arrays so
+ * adding a field allocates nothing and primitives are never boxed. At most
+ * {@value #MAX_FIELDS} fields are kept; further ones are counted and shown
+ * as omitted.
+ */
+public final class LogFields {
+
+    public static final int MAX_FIELDS = 16;
+
+    private static final byte OBJECT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    // An object already rendered by a snapshot; printed without quotes
+    private static final byte RENDERED = 4;
+
+    private final String[] keys = new String[MAX_FIELDS];
+    private final Object[] objects = new Object[MAX_FIELDS];
+    private final long[] bits = new long[MAX_FIELDS];
+    private final byte[] types = new byte[MAX_FIELDS];
+    private int size;
+    private int omitted;
+
+    public void add(String key, Object value) {
+        int i = next();
+        if (i >= 0) {
+            keys[i] = key;
+            objects[i] = value;
+            types[i] = OBJECT;
+        }
+    }
+
+    public void add(String key, long value) {
+        int i = next();
+        if (i >= 0) {
+            keys[i] = key;
+            bits[i] = value;
+            types[i] = LONG;
+        }
+    }
+
+    public void add(String key, double value) {
+        int i = next();
+        if (i >= 0) {
+            keys[i] = key;
+            bits[i] = Double.doubleToRawLongBits(value);
+            types[i] = DOUBLE;
+        }
+    }
+
+    public void add(String key, boolean value) {
+        int i = next();
+        if (i >= 0) {
+            keys[i] = key;
+            bits[i] = value ? 1 : 0;
+            types[i] = BOOLEAN;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replace these fields with a copy of {@code other}'s.
+     *
+     * @param snapshot whether to copy object values as
+     *                 {@link LogRecord#snapshot(Object) snapshots}, for
+     *                 fields written after the caller moves on
+     */
+    public void copyFrom(LogFields other, boolean snapshot) {
+        int count = other.size;
+        System.arraycopy(other.keys, 0, keys, 0, count);
+        System.arraycopy(other.objects, 0, objects, 0, count);
+        System.arraycopy(other.bits, 0, bits, 0, count);
+        System.arraycopy(other.types, 0, types, 0, count);
+        if (snapshot) {
+            for (int i = 0; i < count; i++) {
+                if (types[i] == OBJECT) {
+                    Object value = LogRecord.snapshot(objects[i]);
+                    if (value != objects[i]) {
+                        objects[i] = value;
+                        types[i] = RENDERED;
+                    }
+                }
+            }
+        }
+        for (int i = count; i < size; i++) {
+            keys[i] = null;
+            objects[i] = null;
+        }
+        size = count;
+        omitted = other.omitted;
+    }
+
+    /**
+     * Drop every field and the references they hold.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            objects[i] = null;
+        }
+        size = 0;
+        omitted = 0;
+    }
+
+    /**
+     * Append the fields as {@code {key: 'text', count: 3}}, the format of
+     * the logger's context maps.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append('{');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append(": ");
+            switch (types[i]) {
+                case LONG -> sb.append(bits[i]);
+                case DOUBLE -> sb.append(Double.longBitsToDouble(bits[i]));
+                case BOOLEAN -> sb.append(bits[i] != 0);
+                case RENDERED -> sb.append(objects[i]);
+                default -> {
+                    if (objects[i] instanceof String) {
+                        sb.append('\'').append(objects[i]).append('\'');
+                    } else {
+                        sb.append(objects[i]);
+                    }
+                }
+            }
+        }
+        if (omitted > 0) {
+            sb.append(size > 0 ? ", " : "").append("(").append(omitted).append(" more)");
+        }
+        return sb.append('}');
+    }
+
+    private int next() {
+        if (size == MAX_FIELDS) {
+            omitted++;
+            return -1;
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+/**
+ * What asynchronous logging does with a record when the ring buffer is
+ * filling up faster than the writer drains it. Warnings and errors are never
+ * dropped: under every policy they wait for space.
+ */
+public enum LogOverflowPolicy {
+    /** Every record waits for space; nothing is dropped. */
+    BLOCK,
+    /**
+     * Debug records are dropped once the buffer is three quarters full, and
+     * info records too once it is full.
+     */
+    DROP_DEBUG_FIRST,
+    /**
+     * Once the buffer is three quarters full, only one in
+     * {@code sample-rate} debug and info records is kept; once it is full,
+     * none are.
+     */
+    SAMPLE
+}
@@ -0,0 +1,276 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * One log call, captured on the calling thread and formatted later by the
+ * log writer. Instances are slots of a {@link LogRingBuffer}: they are
+ * filled in place and cleared once written, never allocated per call.
+ *
+ * <p>
+ * A record claimed from the ring is written after the call returns, so its
+ * format arguments and structured field values are snapshotted at the call:
+ * values of known immutable types are kept as they are, anything else is
+ * rendered to a string the way SLF4J would render it. Context and detail
+ * maps are kept by reference; callers must not modify them afterwards.
+ * </p>
+ */
+public final class LogRecord {
+
+    public enum Kind {
+        /** A plain message, with optional context and exception. */
+        MESSAGE,
+        /** An SLF4J format string; {@code message} is the format. */
+        FORMATTED,
+        /** A message with key-value {@link LogFields}. */
+        STRUCTURED,
+        /** An operation's execution time; {@code message} is the operation. */
+        PERFORMANCE,
+        /** An audit event; {@code message} is the action. */
+        AUDIT
+    }
+
+    private long position = -1;
+    private Kind kind;
+    private Level level;
+    private String message;
+    private boolean critical;
+    private Throwable throwable;
+    private boolean withContext;
+    private Map<String, Object> context;
+    private long timestampMillis;
+    private long executionTimeMs;
+    private boolean success;
+    private String userId;
+    private String resource;
+    private Map<String, String> mdc;
+    private int argCount;
+    private Object arg1;
+    private Object arg2;
+    private Object[] args;
+    private LogFields fields;
+
+    /**
+     * @param withContext whether the call passed a context, even a null one
+     */
+    public LogRecord message(Level level, String message, Throwable throwable, boolean critical,
+            boolean withContext, Map<String, Object> context) {
+        this.kind = Kind.MESSAGE;
+        this.level = level;
+        this.message = message;
+        this.throwable = throwable;
+        this.critical = critical;
+        this.withContext = withContext;
+        this.context = context;
+        return this;
+    }
+
+    /**
+     * @param argCount 1 or 2 for {@code arg1} and {@code arg2}, otherwise the
+     *                 arguments are {@code args}
+     */
+    public LogRecord formatted(Level level, String format, int argCount, Object arg1, Object arg2,
+            Object[] args) {
+        this.kind = Kind.FORMATTED;
+        this.level = level;
+        this.message = format;
+        this.argCount = argCount;
+        if (position < 0) {
+            this.arg1 = arg1;
+            this.arg2 = arg2;
+            this.args = args;
+            return this;
+        }
+        this.arg1 = snapshot(arg1);
+        this.arg2 = snapshot(arg2);
+        if (args != null) {
+            // The caller's array, varargs or not, may be reused after the call
+            args = args.clone();
+            for (int i = 0; i < args.length; i++) {
+                args[i] = snapshot(args[i]);
+            }
+        }
+        this.args = args;
+        return this;
+    }
+
+    /**
+     * @param fields copied into this record's own fields
+     */
+    public LogRecord structured(Level level, String message, LogFields fields) {
+        this.kind = Kind.STRUCTURED;
+        this.level = level;
+        this.message = message;
+        if (this.fields == null) {
+            this.fields = new LogFields();
+        }
+        this.fields.copyFrom(fields, position >= 0);
+        return this;
+    }
+
+    public LogRecord performance(Level level, String operation, long executionTimeMs, boolean success,
+            Map<String, Object> context, long timestampMillis) {
+        this.kind = Kind.PERFORMANCE;
+        this.level = level;
+        this.message = operation;
+        this.executionTimeMs = executionTimeMs;
+        this.success = success;
+        this.context = context;
+        this.timestampMillis = timestampMillis;
+        return this;
+    }
+
+    public LogRecord audit(String action, String userId, String resource, Map<String, Object> details,
+            long timestampMillis) {
+        this.kind = Kind.AUDIT;
+        this.level = Level.INFO;
+        this.message = action;
+        this.userId = userId;
+        this.resource = resource;
+        this.context = details;
+        this.timestampMillis = timestampMillis;
+        return this;
+    }
+
+    /**
+     * A value that prints the same when the writer gets to it as it does now:
+     * the value itself if its type is immutable, otherwise its text. A
+     * trailing {@link Throwable} stays as it is so SLF4J still logs its
+     * stack trace.
+     */
+    static Object snapshot(Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Enum<?> || value instanceof Double
+                || value instanceof BigDecimal || value instanceof Character || value instanceof Short
+                || value instanceof Byte || value instanceof Float || value instanceof BigInteger
+                || value instanceof UUID || value instanceof Throwable
+                || value.getClass().getPackageName().equals("java.time")) {
+            return value;
+        }
+        return MessageFormatter.format("{}", value).getMessage();
+    }
+
+    /**
+     * @param mdc entries to put in the writing thread's MDC, such as the
+     *            caller's request context; never modified, or null if none
+     */
+    public LogRecord mdc(Map<String, String> mdc) {
+        this.mdc = mdc;
+        return this;
+    }
+
+    /**
+     * @param position the ring buffer position this record was claimed at
+     */
+    public LogRecord position(long position) {
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * Drop every reference, so a slot does not keep its last record's
+     * objects alive.
+     */
+    public void clear() {
+        position = -1;
+        kind = null;
+        level = null;
+        message = null;
+        throwable = null;
+        context = null;
+        userId = null;
+        resource = null;
+        mdc = null;
+        arg1 = null;
+        arg2 = null;
+        args = null;
+        if (fields != null) {
+            fields.clear();
+        }
+    }
+
+    /**
+     * @return the ring buffer position, or -1 if the record is not in one
+     */
+    public long position() {
+        return position;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public boolean critical() {
+        return critical;
+    }
+
+    public Throwable throwable() {
+        return throwable;
+    }
+
+    public boolean withContext() {
+        return withContext;
+    }
+
+    public Map<String, Object> context() {
+        return context;
+    }
+
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    public long executionTimeMs() {
+        return executionTimeMs;
+    }
+
+    public boolean success() {
+        return success;
+    }
+
+    public String userId() {
+        return userId;
+    }
+
+    public String resource() {
+        return resource;
+    }
+
+    public Map<String, String> mdc() {
+        return mdc;
+    }
+
+    public int argCount() {
+        return argCount;
+    }
+
+    public Object arg1() {
+        return arg1;
+    }
+
+    public Object arg2() {
+        return arg2;
+    }
+
+    public Object[] args() {
+        return args;
+    }
+
+    public LogFields fields() {
+        return fields;
+    }
+}
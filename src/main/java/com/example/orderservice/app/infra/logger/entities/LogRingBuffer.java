@@ -0,0 +1,113 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of preallocated {@link LogRecord} slots for any number of
+ * producers and a single consumer.
+ *
+ * <p>
+ * Every slot carries a sequence number that says whose turn it is. A producer
+ * claims the next position with one compare-and-set on the tail, fills the
+ * slot in place and publishes it by advancing the slot's sequence; the
+ * consumer takes published slots in order and hands them back by advancing
+ * the sequence a lap further. Nothing is allocated per record and no lock is
+ * taken. A producer that claimed a slot but has not yet published it holds
+ * up the consumer, never other producers.
+ * </p>
+ */
+public final class LogRingBuffer {
+
+    private final LogRecord[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity slots, rounded up to a power of two
+     */
+    public LogRingBuffer(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new LogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new LogRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claim the next slot. The caller must fill it through {@link #slot} and
+     * then {@link #publish} it.
+     *
+     * @return the claimed position, or -1 if the buffer is full
+     */
+    public long tryClaim() {
+        while (true) {
+            long position = tail.get();
+            long turn = sequences.get((int) position & mask) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (turn < 0) {
+                return -1;
+            }
+            // Another producer claimed this position first; try the next one
+        }
+    }
+
+    public LogRecord slot(long position) {
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Hand a filled slot to the consumer.
+     */
+    public void publish(long position) {
+        sequences.set((int) position & mask, position + 1);
+    }
+
+    /**
+     * Pass published records, in order, to {@code sink} and free their slots.
+     * Only one thread may drain.
+     *
+     * @return the number of records drained
+     */
+    public int drain(Consumer<LogRecord> sink, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            LogRecord record = slots[index];
+            try {
+                sink.accept(record);
+            } finally {
+                record.clear();
+                sequences.set(index, position + slots.length);
+                position++;
+                head = position;
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Records claimed but not yet drained.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
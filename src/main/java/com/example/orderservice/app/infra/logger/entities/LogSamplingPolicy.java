@@ -0,0 +1,66 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.event.Level;
+
+/**
+ * Sampling rules of every log site, compiled to one array per site indexed by
+ * level, so a site looks up its rule with a single array read.
+ *
+ * <p>
+ * A site's own rule for a level overrides the rule for that level; an
+ * unlimited rule on a site exempts it from the level's rule. Instances are
+ * immutable: a reload compiles a new policy and swaps it in.
+ * </p>
+ */
+public final class LogSamplingPolicy {
+
+    // Declared before NONE, which needs it to size its arrays
+    private static final int LEVELS = Level.values().length;
+
+    public static final LogSamplingPolicy NONE = compile(Map.of(), Map.of());
+
+    private final LogSamplingRule[] defaults;
+    private final Map<String, LogSamplingRule[]> sites;
+
+    private LogSamplingPolicy(LogSamplingRule[] defaults, Map<String, LogSamplingRule[]> sites) {
+        this.defaults = defaults;
+        this.sites = sites;
+    }
+
+    /**
+     * @param levels rules for every site, by level
+     * @param sites  rules for individual sites, by site name and level
+     */
+    public static LogSamplingPolicy compile(Map<Level, LogSamplingRule> levels,
+            Map<String, Map<Level, LogSamplingRule>> sites) {
+        LogSamplingRule[] defaults = new LogSamplingRule[LEVELS];
+        levels.forEach((level, rule) -> defaults[level.ordinal()] = limitedOrNull(rule));
+        Map<String, LogSamplingRule[]> compiled = new HashMap<>();
+        sites.forEach((site, rules) -> {
+            LogSamplingRule[] merged = defaults.clone();
+            rules.forEach((level, rule) -> merged[level.ordinal()] = limitedOrNull(rule));
+            compiled.put(site, merged);
+        });
+        return new LogSamplingPolicy(defaults, Map.copyOf(compiled));
+    }
+
+    private static LogSamplingRule limitedOrNull(LogSamplingRule rule) {
+        return rule == null || rule.isUnlimited() ? null : rule;
+    }
+
+    /**
+     * @return the rules of {@code site} by level ordinal, null where lines are
+     *         not limited; shared, must not be modified
+     */
+    public LogSamplingRule[] rulesFor(String site) {
+        LogSamplingRule[] rules = sites.get(site);
+        return rules != null ? rules : defaults;
+    }
+
+    public int siteCount() {
+        return sites.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+/**
+ * How many lines of one level a log site may write.
+ *
+ * @param perSecond lines written per second at most; 0 for no limit
+ * @param oneIn     write only every {@code oneIn}-th line; 1 or less to write
+ *                  every line
+ */
+public record LogSamplingRule(
+        int perSecond,
+        int oneIn) {
+
+    public LogSamplingRule {
+        perSecond = Math.max(0, perSecond);
+        oneIn = Math.max(1, oneIn);
+    }
+
+    /**
+     * @return whether the rule lets every line through
+     */
+    public boolean isUnlimited() {
+        return perSecond == 0 && oneIn == 1;
+    }
+}
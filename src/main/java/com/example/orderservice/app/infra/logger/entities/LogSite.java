@@ -0,0 +1,99 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.event.Level;
+
+/**
+ * A named source of log lines, a call site or a logical key, with its own
+ * sampling and rate limit state per level.
+ *
+ * <p>
+ * {@link #admit(Level, long)} decides whether a line is written using only
+ * atomic counters: a running count for 1-in-K sampling and, for the per
+ * second limit, the current second and the lines written in it packed into
+ * one long. Suppressed lines are counted until they are reported by the next
+ * admitted line or by {@link #drainSuppressed(Level)}.
+ * </p>
+ */
+public final class LogSite {
+
+    private static final int LEVELS = Level.values().length;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final String name;
+    private final AtomicLongArray seen = new AtomicLongArray(LEVELS);
+    private final AtomicLongArray windows = new AtomicLongArray(LEVELS);
+    private final AtomicLongArray suppressed = new AtomicLongArray(LEVELS);
+    private volatile LogSamplingPolicy policy;
+    private volatile LogSamplingRule[] rules;
+
+    public LogSite(String name, LogSamplingPolicy policy) {
+        this.name = name;
+        policy(policy);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public LogSamplingPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Switch to the rules {@code policy} has for this site.
+     */
+    public void policy(LogSamplingPolicy policy) {
+        this.rules = policy.rulesFor(name);
+        this.policy = policy;
+    }
+
+    /**
+     * Decide whether a line at {@code level} is written.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return -1 if the line is suppressed, otherwise the number of lines
+     *         suppressed since the last report, to be reported now
+     */
+    public long admit(Level level, long nowNanos) {
+        int i = level.ordinal();
+        LogSamplingRule rule = rules[i];
+        if (rule != null
+                && ((rule.oneIn() > 1 && seen.getAndIncrement(i) % rule.oneIn() != 0)
+                        || (rule.perSecond() > 0 && !tryTakeInSecond(i, rule.perSecond(), nowNanos)))) {
+            suppressed.incrementAndGet(i);
+            return -1;
+        }
+        return suppressed.get(i) == 0 ? 0 : suppressed.getAndSet(i, 0);
+    }
+
+    /**
+     * @return the lines at {@code level} suppressed since the last report,
+     *         which are now considered reported
+     */
+    public long drainSuppressed(Level level) {
+        int i = level.ordinal();
+        return suppressed.get(i) == 0 ? 0 : suppressed.getAndSet(i, 0);
+    }
+
+    private boolean tryTakeInSecond(int i, int perSecond, long nowNanos) {
+        long second = (nowNanos / NANOS_PER_SECOND) << 32;
+        while (true) {
+            long current = windows.get(i);
+            long next;
+            if ((current & ~COUNT_MASK) != second) {
+                next = second | 1;
+            } else if ((current & COUNT_MASK) >= perSecond) {
+                return false;
+            } else {
+                next = current + 1;
+            }
+            if (windows.compareAndSet(i, current, next)) {
+                return true;
+            }
+        }
+    }
+}
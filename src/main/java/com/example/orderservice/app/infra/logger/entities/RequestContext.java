@@ -0,0 +1,109 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Logging context of the request the current thread is working on: its
+ * correlation ID and whatever else was added for it.
+ *
+ * <p>
+ * A context is bound to a scope with {@link #callWith(RequestContext,
+ * Supplier)}, once per request. It is a {@link ScopedValue}, so threads forked
+ * in that scope by a {@code StructuredTaskScope} see the same context without
+ * copying it, and it is gone when the scope ends; threads handed work any
+ * other way must bind it again. Fields are kept in an immutable map replaced
+ * on every change, so a log call can hold on to the current map instead of
+ * copying it.
+ * </p>
+ */
+public final class RequestContext {
+
+    public static final String CORRELATION_ID_KEY = "correlationId";
+
+    private static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    private volatile Map<String, String> fields;
+
+    private RequestContext(Map<String, String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * @param correlationId the caller's correlation ID, or null or blank to
+     *                      generate one
+     * @return a new context carrying only the correlation ID
+     */
+    public static RequestContext create(String correlationId) {
+        String id = correlationId == null || correlationId.isBlank() ? UUID.randomUUID().toString()
+                : correlationId;
+        return new RequestContext(Map.of(CORRELATION_ID_KEY, id));
+    }
+
+    /**
+     * @return the current context, or null outside a request
+     */
+    public static RequestContext current() {
+        return CURRENT.isBound() ? CURRENT.get() : null;
+    }
+
+    /**
+     * Run {@code action} with {@code context} as the current context.
+     */
+    public static <T> T callWith(RequestContext context, Supplier<T> action) {
+        try {
+            return ScopedValue.where(CURRENT, context).call(action::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            // A Supplier throws no checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String correlationId() {
+        return fields.get(CORRELATION_ID_KEY);
+    }
+
+    public String get(String key) {
+        return fields.get(key);
+    }
+
+    /**
+     * @return the fields as they are now; later changes do not affect it
+     */
+    public Map<String, String> fields() {
+        return fields;
+    }
+
+    /**
+     * Set a field, or remove it if {@code value} is null.
+     */
+    public synchronized void put(String key, String value) {
+        if (value == null) {
+            remove(key);
+            return;
+        }
+        Map<String, String> copy = new HashMap<>(fields);
+        copy.put(key, value);
+        fields = Collections.unmodifiableMap(copy);
+    }
+
+    public synchronized void remove(String key) {
+        if (fields.containsKey(key)) {
+            Map<String, String> copy = new HashMap<>(fields);
+            copy.remove(key);
+            fields = Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Remove every field, including the correlation ID.
+     */
+    public synchronized void clear() {
+        fields = Map.of();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.orderservice.app.infra.logger.entities;
+
+import java.util.function.Consumer;
+
+import org.slf4j.event.Level;
+
+import com.example.orderservice.app.infra.logger.interfaces.LogEvent;
+
+/**
+ * Reusable {@link LogEvent}: collects the fields in place and hands itself
+ * to a sink on {@link #log()}, after which it can be started again.
+ */
+public final class StructuredLogEvent implements LogEvent {
+
+    private final Consumer<StructuredLogEvent> sink;
+    private final LogFields fields = new LogFields();
+    private Level level;
+    private String message;
+    private boolean inUse;
+
+    /**
+     * @param sink receives the event on {@link #log()}; must copy what it
+     *             needs, as the event is cleared afterwards
+     */
+    public StructuredLogEvent(Consumer<StructuredLogEvent> sink) {
+        this.sink = sink;
+    }
+
+    public StructuredLogEvent start(Level level, String message) {
+        this.level = level;
+        this.message = message;
+        this.inUse = true;
+        return this;
+    }
+
+    /**
+     * @return whether the event was started and not yet logged
+     */
+    public boolean inUse() {
+        return inUse;
+    }
+
+    @Override
+    public LogEvent kv(String key, Object value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEvent kv(String key, long value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEvent kv(String key, double value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEvent kv(String key, boolean value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public void log() {
+        try {
+            sink.accept(this);
+        } finally {
+            fields.clear();
+            message = null;
+            inUse = false;
+        }
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public LogFields fields() {
+        return fields;
+    }
+}
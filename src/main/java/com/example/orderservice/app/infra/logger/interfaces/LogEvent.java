@@ -0,0 +1,64 @@
+package com.example.orderservice.app.infra.logger.interfaces;
+
+/**
+ * A log line under construction: a message plus structured key-value fields,
+ * written when {@link #log()} is called.
+ *
+ * <p>
+ * Events come from {@link LoggerService#atInfo(String)} and its siblings. The
+ * object is reused by the next event on the same thread, so it must not be
+ * kept after {@link #log()}. When the level is disabled, every method does
+ * nothing and nothing is allocated; primitive values have their own overloads
+ * so they are not boxed either.
+ * </p>
+ */
+public interface LogEvent {
+
+    /**
+     * Event returned for disabled levels; ignores everything.
+     */
+    LogEvent DISABLED = new LogEvent() {
+        @Override
+        public LogEvent kv(String key, Object value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(String key, double value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(String key, boolean value) {
+            return this;
+        }
+
+        @Override
+        public void log() {
+            // Level disabled
+        }
+    };
+
+    /**
+     * Add a field. The value is formatted with {@code toString()} when the
+     * line is written, possibly on another thread, so it should not change
+     * afterwards.
+     */
+    LogEvent kv(String key, Object value);
+
+    LogEvent kv(String key, long value);
+
+    LogEvent kv(String key, double value);
+
+    LogEvent kv(String key, boolean value);
+
+    /**
+     * Write the event and release it for reuse.
+     */
+    void log();
+}
@@ -1,11 +1,37 @@
 package com.example.orderservice.app.infra.logger.interfaces;
 
 import java.util.Map;
+import java.util.function.Supplier;
+
+import com.example.orderservice.app.infra.logger.entities.LogSite;
 
 /**
  * Production-grade logger service interface for comprehensive logging across
  * the application.
  * Supports multiple log levels, structured logging, and contextual information.
+ *
+ * <p>
+ * On hot paths, prefer the overloads that defer work to when the level is
+ * enabled: a {@link Supplier} of the message, an SLF4J format string with
+ * {@code {}} placeholders, or a structured event from {@link #atInfo(String)}
+ * and its siblings. With a disabled level these allocate nothing, provided
+ * the arguments already exist; varargs calls still allocate their array, and
+ * so may lambdas that capture variables.
+ * </p>
+ *
+ * <p>
+ * The correlation ID and context methods act on the current request's
+ * {@code RequestContext} when one is bound, so concurrent requests never see
+ * each other's context; outside a request they act on the thread's MDC.
+ * </p>
+ *
+ * <p>
+ * Lines that can flood the log take a {@link LogSite}, named after their
+ * call site or a logical key. Each site can be sampled 1-in-K or limited to N
+ * lines per second, per level, by a policy that can change at runtime.
+ * Suppressed lines are summed up in a "suppressed N similar" line at the same
+ * level.
+ * </p>
  */
 public interface LoggerService {
 
@@ -24,6 +50,59 @@ public interface LoggerService {
      */
     void debug(String message, Map<String, Object> context);
 
+    /**
+     * Log a debug message built only if debug is enabled
+     * 
+     * @param message supplies the message to log
+     */
+    void debug(Supplier<String> message);
+
+    /**
+     * Log a debug message from an SLF4J format string, formatted only if
+     * debug is enabled
+     * 
+     * @param format the message with a {} placeholder
+     * @param arg    the placeholder's value
+     */
+    void debug(String format, Object arg);
+
+    /**
+     * Log a debug message from an SLF4J format string with two arguments
+     * 
+     * @param format the message with two {} placeholders
+     * @param arg1   the first placeholder's value
+     * @param arg2   the second placeholder's value
+     */
+    void debug(String format, Object arg1, Object arg2);
+
+    /**
+     * Log a debug message from an SLF4J format string with any number of
+     * arguments
+     * 
+     * @param format the message with {} placeholders
+     * @param args   the placeholders' values
+     */
+    void debug(String format, Object... args);
+
+    /**
+     * Start a structured debug event; add fields with
+     * {@link LogEvent#kv} and finish it with {@link LogEvent#log()}
+     * 
+     * @param message the message to log
+     * @return the event, a no-op one if debug is disabled
+     */
+    LogEvent atDebug(String message);
+
+    /**
+     * Start a structured debug event from a sampled log site
+     * 
+     * @param site    the site the line belongs to, from {@link #site(String)}
+     * @param message the message to log
+     * @return the event, a no-op one if debug is disabled or the site's
+     *         policy suppresses the line
+     */
+    LogEvent atDebug(LogSite site, String message);
+
     /**
      * Log an info message
      * 
@@ -39,6 +118,59 @@ public interface LoggerService {
      */
     void info(String message, Map<String, Object> context);
 
+    /**
+     * Log a info message built only if info is enabled
+     * 
+     * @param message supplies the message to log
+     */
+    void info(Supplier<String> message);
+
+    /**
+     * Log a info message from an SLF4J format string, formatted only if
+     * info is enabled
+     * 
+     * @param format the message with a {} placeholder
+     * @param arg    the placeholder's value
+     */
+    void info(String format, Object arg);
+
+    /**
+     * Log a info message from an SLF4J format string with two arguments
+     * 
+     * @param format the message with two {} placeholders
+     * @param arg1   the first placeholder's value
+     * @param arg2   the second placeholder's value
+     */
+    void info(String format, Object arg1, Object arg2);
+
+    /**
+     * Log a info message from an SLF4J format string with any number of
+     * arguments
+     * 
+     * @param format the message with {} placeholders
+     * @param args   the placeholders' values
+     */
+    void info(String format, Object... args);
+
+    /**
+     * Start a structured info event; add fields with
+     * {@link LogEvent#kv} and finish it with {@link LogEvent#log()}
+     * 
+     * @param message the message to log
+     * @return the event, a no-op one if info is disabled
+     */
+    LogEvent atInfo(String message);
+
+    /**
+     * Start a structured info event from a sampled log site
+     * 
+     * @param site    the site the line belongs to, from {@link #site(String)}
+     * @param message the message to log
+     * @return the event, a no-op one if info is disabled or the site's
+     *         policy suppresses the line
+     */
+    LogEvent atInfo(LogSite site, String message);
+
     /**
      * Log a warning message
      * 
@@ -54,6 +186,59 @@ public interface LoggerService {
      */
     void warn(String message, Map<String, Object> context);
 
+    /**
+     * Log a warn message built only if warn is enabled
+     * 
+     * @param message supplies the message to log
+     */
+    void warn(Supplier<String> message);
+
+    /**
+     * Log a warn message from an SLF4J format string, formatted only if
+     * warn is enabled
+     * 
+     * @param format the message with a {} placeholder
+     * @param arg    the placeholder's value
+     */
+    void warn(String format, Object arg);
+
+    /**
+     * Log a warn message from an SLF4J format string with two arguments
+     * 
+     * @param format the message with two {} placeholders
+     * @param arg1   the first placeholder's value
+     * @param arg2   the second placeholder's value
+     */
+    void warn(String format, Object arg1, Object arg2);
+
+    /**
+     * Log a warn message from an SLF4J format string with any number of
+     * arguments
+     * 
+     * @param format the message with {} placeholders
+     * @param args   the placeholders' values
+     */
+    void warn(String format, Object... args);
+
+    /**
+     * Start a structured warn event; add fields with
+     * {@link LogEvent#kv} and finish it with {@link LogEvent#log()}
+     * 
+     * @param message the message to log
+     * @return the event, a no-op one if warn is disabled
+     */
+    LogEvent atWarn(String message);
+
+    /**
+     * Start a structured warn event from a sampled log site
+     * 
+     * @param site    the site the line belongs to, from {@link #site(String)}
+     * @param message the message to log
+     * @return the event, a no-op one if warn is disabled or the site's
+     *         policy suppresses the line
+     */
+    LogEvent atWarn(LogSite site, String message);
+
     /**
      * Log an error message
      * 
@@ -102,6 +287,16 @@ public interface LoggerService {
      */
     void critical(String message, Throwable exception, Map<String, Object> context);
 
+    /**
+     * Get the log site with the given name, creating it on first use. The
+     * same name always gives the same site while the number of sites is
+     * below a limit; past it, new names share one overflow site.
+     * 
+     * @param name the call site or logical key, e.g. {@code orders.created}
+     * @return the site
+     */
+    LogSite site(String name);
+
     /**
      * Set the correlation ID for request tracing
      * 
@@ -0,0 +1,249 @@
+package com.example.orderservice.app.infra.metrics.contracts;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.HistogramSnapshot;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+/**
+ * Default in-memory implementation of MetricsService.
+ * Keeps every metric in a single concurrent registry and renders it on demand
+ * as JSON or Prometheus text.
+ */
+@Service
+public class MetricsServiceContractV0 implements MetricsService {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String[] QUANTILES = { "0.5", "0.9", "0.99", "0.999" };
+
+    private enum Kind {
+        LATENCY, HISTOGRAM, COUNTER, COUNTER_FUNCTION, GAUGE
+    }
+
+    private record Metric(String name, Map<String, String> labels, Kind kind, Object value) {
+    }
+
+    private final Map<String, Metric> registry = new ConcurrentHashMap<>();
+
+    @Override
+    public LatencyHistogram latency(String name, String... labels) {
+        return (LatencyHistogram) register(name, labels, Kind.LATENCY, LatencyHistogram::new).value();
+    }
+
+    @Override
+    public LatencyHistogram histogram(String name, String... labels) {
+        return (LatencyHistogram) register(name, labels, Kind.HISTOGRAM, LatencyHistogram::new).value();
+    }
+
+    @Override
+    public Counter counter(String name, String... labels) {
+        return (Counter) register(name, labels, Kind.COUNTER, Counter::new).value();
+    }
+
+    /**
+     * Registering a counter function again replaces its supplier, like
+     * {@link #gauge}.
+     *
+     * @throws IllegalArgumentException if the name and labels belong to a
+     *                                  metric of another kind, including a
+     *                                  {@link Counter}
+     */
+    @Override
+    public void counter(String name, LongSupplier supplier, String... labels) {
+        replace(name, labels, Kind.COUNTER_FUNCTION, supplier);
+    }
+
+    /**
+     * Registering a gauge again replaces its supplier, e.g. when the bean
+     * that owns it is recreated; a counter or histogram of the same name and
+     * labels is never replaced.
+     *
+     * @throws IllegalArgumentException if the name and labels belong to a
+     *                                  metric of another kind
+     */
+    @Override
+    public void gauge(String name, DoubleSupplier supplier, String... labels) {
+        replace(name, labels, Kind.GAUGE, supplier);
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> histograms = new ArrayList<>();
+        List<Map<String, Object>> counters = new ArrayList<>();
+        List<Map<String, Object>> gauges = new ArrayList<>();
+
+        for (Metric metric : sortedMetrics()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", metric.name());
+            entry.put("labels", metric.labels());
+            switch (metric.kind()) {
+                case LATENCY, HISTOGRAM -> {
+                    double scale = scaleOf(metric.kind());
+                    HistogramSnapshot snapshot = ((LatencyHistogram) metric.value()).snapshot();
+                    entry.put("unit", metric.kind() == Kind.LATENCY ? "seconds" : "value");
+                    entry.put("count", snapshot.count());
+                    entry.put("mean", snapshot.mean() * scale);
+                    entry.put("max", snapshot.max() * scale);
+                    entry.put("p50", snapshot.p50() * scale);
+                    entry.put("p90", snapshot.p90() * scale);
+                    entry.put("p99", snapshot.p99() * scale);
+                    entry.put("p999", snapshot.p999() * scale);
+                    histograms.add(entry);
+                }
+                case COUNTER -> {
+                    entry.put("value", ((Counter) metric.value()).get());
+                    counters.add(entry);
+                }
+                case COUNTER_FUNCTION -> {
+                    entry.put("value", ((LongSupplier) metric.value()).getAsLong());
+                    counters.add(entry);
+                }
+                case GAUGE -> {
+                    entry.put("value", ((DoubleSupplier) metric.value()).getAsDouble());
+                    gauges.add(entry);
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("histograms", histograms);
+        result.put("counters", counters);
+        result.put("gauges", gauges);
+        return result;
+    }
+
+    @Override
+    public String scrapePrometheus() {
+        StringBuilder sb = new StringBuilder(4096);
+        String lastName = null;
+        for (Metric metric : sortedMetrics()) {
+            if (!metric.name().equals(lastName)) {
+                sb.append("# TYPE ").append(metric.name()).append(' ').append(prometheusType(metric.kind()))
+                        .append('\n');
+                lastName = metric.name();
+            }
+            switch (metric.kind()) {
+                case LATENCY, HISTOGRAM -> appendSummary(sb, metric);
+                case COUNTER -> appendSample(sb, metric.name(), metric.labels(), null,
+                        ((Counter) metric.value()).get());
+                case COUNTER_FUNCTION -> appendSample(sb, metric.name(), metric.labels(), null,
+                        ((LongSupplier) metric.value()).getAsLong());
+                case GAUGE -> appendSample(sb, metric.name(), metric.labels(), null,
+                        ((DoubleSupplier) metric.value()).getAsDouble());
+            }
+        }
+        return sb.toString();
+    }
+
+    private Metric register(String name, String[] labels, Kind kind, Supplier<Object> factory) {
+        Map<String, String> labelMap = toLabelMap(labels);
+        Metric metric = registry.computeIfAbsent(key(name, labelMap),
+                k -> new Metric(name, labelMap, kind, factory.get()));
+        if (metric.kind() != kind) {
+            throw new IllegalArgumentException(
+                    "Metric " + name + " is already registered as " + metric.kind());
+        }
+        return metric;
+    }
+
+    private void replace(String name, String[] labels, Kind kind, Object supplier) {
+        Map<String, String> labelMap = toLabelMap(labels);
+        registry.compute(key(name, labelMap), (k, existing) -> {
+            if (existing != null && existing.kind() != kind) {
+                throw new IllegalArgumentException(
+                        "Metric " + name + " is already registered as " + existing.kind());
+            }
+            return new Metric(name, labelMap, kind, supplier);
+        });
+    }
+
+    private List<Metric> sortedMetrics() {
+        List<Metric> metrics = new ArrayList<>(registry.values());
+        metrics.sort(Comparator.comparing(Metric::name).thenComparing(m -> m.labels().toString()));
+        return metrics;
+    }
+
+    private void appendSummary(StringBuilder sb, Metric metric) {
+        double scale = scaleOf(metric.kind());
+        HistogramSnapshot snapshot = ((LatencyHistogram) metric.value()).snapshot();
+        long[] values = { snapshot.p50(), snapshot.p90(), snapshot.p99(), snapshot.p999() };
+        for (int i = 0; i < QUANTILES.length; i++) {
+            appendSample(sb, metric.name(), metric.labels(), QUANTILES[i], values[i] * scale);
+        }
+        appendSample(sb, metric.name() + "_sum", metric.labels(), null, snapshot.mean() * snapshot.count() * scale);
+        appendSample(sb, metric.name() + "_count", metric.labels(), null, snapshot.count());
+    }
+
+    private static void appendSample(StringBuilder sb, String name, Map<String, String> labels, String quantile,
+            double value) {
+        sb.append(name);
+        if (!labels.isEmpty() || quantile != null) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                first = false;
+            }
+            if (quantile != null) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append("quantile=\"").append(quantile).append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+
+    private static String prometheusType(Kind kind) {
+        return switch (kind) {
+            case LATENCY, HISTOGRAM -> "summary";
+            case COUNTER, COUNTER_FUNCTION -> "counter";
+            case GAUGE -> "gauge";
+        };
+    }
+
+    private static double scaleOf(Kind kind) {
+        return kind == Kind.LATENCY ? 1.0 / NANOS_PER_SECOND : 1.0;
+    }
+
+    private static Map<String, String> toLabelMap(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be key/value pairs");
+        }
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i += 2) {
+            map.put(labels[i], labels[i + 1] == null ? "" : labels[i + 1]);
+        }
+        return map;
+    }
+
+    private static String key(String name, Map<String, String> labels) {
+        return labels.isEmpty() ? name : name + labels;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
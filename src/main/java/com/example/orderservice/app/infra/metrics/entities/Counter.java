@@ -0,0 +1,24 @@
+package com.example.orderservice.app.infra.metrics.entities;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by a {@link LongAdder}, so concurrent increments
+ * from request threads do not contend on a single cache line.
+ */
+public class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
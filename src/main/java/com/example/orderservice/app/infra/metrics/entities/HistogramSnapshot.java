@@ -0,0 +1,17 @@
+package com.example.orderservice.app.infra.metrics.entities;
+
+/**
+ * Point-in-time view of a {@link LatencyHistogram}, in the unit the values
+ * were recorded in.
+ */
+public record HistogramSnapshot(
+        long count,
+        double mean,
+        long max,
+        long p50,
+        long p90,
+        long p99,
+        long p999) {
+
+    public static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0);
+}
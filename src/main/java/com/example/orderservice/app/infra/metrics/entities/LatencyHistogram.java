@@ -0,0 +1,149 @@
+package com.example.orderservice.app.infra.metrics.entities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, allocation-free value histogram with HdrHistogram-style
+ * log-linear buckets.
+ *
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Above that,
+ * every power-of-two range is split into {@value #HALF_SUB_BUCKET_COUNT}
+ * linear sub-buckets, which bounds the relative error of any reported
+ * percentile to under 1.6%. Values above {@link #HIGHEST_TRACKABLE_VALUE}
+ * (about 4.9 hours when recording nanoseconds) are clamped.
+ * </p>
+ *
+ * <p>
+ * {@link #recordValue(long)} only touches atomics that already exist, so it is
+ * safe to call from any number of threads on the request path.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int HIGHEST_TRACKABLE_BIT = 44;
+
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << HIGHEST_TRACKABLE_BIT) - 1;
+
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Record a single value.
+     *
+     * @param value the value to record; negative values are recorded as zero
+     */
+    public void recordValue(long value) {
+        long clamped = value < 0 ? 0 : Math.min(value, HIGHEST_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexOf(clamped));
+        totalCount.increment();
+        totalSum.add(clamped);
+        updateMax(clamped);
+    }
+
+    /**
+     * Record the time elapsed since {@code startNanos}.
+     *
+     * @param startNanos a value previously obtained from {@link System#nanoTime()}
+     * @return the current {@link System#nanoTime()}, so calls can be chained
+     *         across consecutive phases
+     */
+    public long recordSince(long startNanos) {
+        long now = System.nanoTime();
+        recordValue(now - startNanos);
+        return now;
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Take a consistent-enough point-in-time view of the histogram.
+     * Concurrent recordings may or may not be included.
+     *
+     * @return snapshot with count, mean, max and the standard percentiles
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long max = maxValue.get();
+        if (count == 0) {
+            return HistogramSnapshot.EMPTY;
+        }
+        double mean = (double) totalSum.sum() / totalCount.sum();
+        return new HistogramSnapshot(
+                count,
+                mean,
+                max,
+                valueAtPercentile(copy, count, 50.0, max),
+                valueAtPercentile(copy, count, 90.0, max),
+                valueAtPercentile(copy, count, 99.0, max),
+                valueAtPercentile(copy, count, 99.9, max));
+    }
+
+    /**
+     * Clear all recorded values.
+     * Not atomic with respect to concurrent recordings.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalSum.reset();
+        maxValue.set(0);
+    }
+
+    private void updateMax(long value) {
+        long current = maxValue.get();
+        while (value > current) {
+            if (maxValue.compareAndSet(current, value)) {
+                return;
+            }
+            current = maxValue.get();
+        }
+    }
+
+    private static long valueAtPercentile(long[] buckets, long count, double percentile, long max) {
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return (shift + 1) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        long subBucket = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.orderservice.app.infra.metrics.interfaces;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+
+/**
+ * Registry for in-process metrics.
+ *
+ * <p>
+ * Metrics are identified by a name and an even-length list of label
+ * key/value pairs. Lookups by name are not meant for the request path:
+ * callers should resolve a metric once and keep the returned instance.
+ * </p>
+ */
+public interface MetricsService {
+
+    /**
+     * Get or create a latency histogram. Values are recorded in nanoseconds and
+     * exported in seconds.
+     *
+     * @param name   the metric name, e.g. {@code service_latency_seconds}
+     * @param labels label key/value pairs
+     * @return the shared histogram for this name and label set
+     */
+    LatencyHistogram latency(String name, String... labels);
+
+    /**
+     * Get or create a histogram of plain values (sizes, counts, ...), exported
+     * unscaled.
+     *
+     * @param name   the metric name
+     * @param labels label key/value pairs
+     * @return the shared histogram for this name and label set
+     */
+    LatencyHistogram histogram(String name, String... labels);
+
+    /**
+     * Get or create a monotonic counter.
+     *
+     * @param name   the metric name, conventionally ending in {@code _total}
+     * @param labels label key/value pairs
+     * @return the shared counter for this name and label set
+     */
+    Counter counter(String name, String... labels);
+
+    /**
+     * Register a counter whose value is sampled on every scrape, for totals
+     * that a component already keeps itself. Registering the same name and
+     * labels again replaces the supplier.
+     *
+     * @param name     the metric name, conventionally ending in {@code _total}
+     * @param supplier supplies the current, never decreasing total
+     * @param labels   label key/value pairs
+     */
+    void counter(String name, LongSupplier supplier, String... labels);
+
+    /**
+     * Register a gauge whose value is sampled on every scrape.
+     * Registering the same name and labels again replaces the supplier.
+     *
+     * @param name     the metric name
+     * @param supplier supplies the current value
+     * @param labels   label key/value pairs
+     */
+    void gauge(String name, DoubleSupplier supplier, String... labels);
+
+    /**
+     * Snapshot of all metrics as a JSON-friendly structure.
+     *
+     * @return histograms, counters and gauges keyed by section
+     */
+    Map<String, Object> snapshot();
+
+    /**
+     * Render all metrics in the Prometheus text exposition format (0.0.4).
+     *
+     * @return the scrape body
+     */
+    String scrapePrometheus();
+}
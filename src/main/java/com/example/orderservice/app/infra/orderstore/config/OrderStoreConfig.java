@@ -0,0 +1,34 @@
+package com.example.orderservice.app.infra.orderstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+import com.example.orderservice.app.infra.orderstore.contracts.OffHeapOrderStore;
+
+/**
+ * Off-heap store of recently saved orders, bounded to the most recent
+ * {@code max-orders}. The number of stored orders and the off-heap bytes
+ * reserved are exported as gauges, and the orders evicted as the counter
+ * {@code order_store_evictions_total}.
+ */
+@Configuration
+public class OrderStoreConfig {
+
+    @Bean
+    public OffHeapOrderStore offHeapOrderStore(
+            MetricsService metricsService,
+            @Value("${orderservice.order-store.slab-size:4MB}") DataSize slabSize,
+            @Value("${orderservice.order-store.max-record-size:64KB}") DataSize maxRecordSize,
+            @Value("${orderservice.order-store.max-orders:262144}") int maxOrders,
+            @Value("${orderservice.order-store.stripes:16}") int stripes) {
+        OffHeapOrderStore store = new OffHeapOrderStore(
+                Math.toIntExact(slabSize.toBytes()), Math.toIntExact(maxRecordSize.toBytes()), maxOrders, stripes);
+        metricsService.gauge("order_store_orders", store::size);
+        metricsService.gauge("order_store_off_heap_bytes", store::reservedBytes);
+        metricsService.counter("order_store_evictions_total", store::evicted);
+        return store;
+    }
+}
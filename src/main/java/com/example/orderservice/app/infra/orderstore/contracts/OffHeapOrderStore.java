@@ -0,0 +1,308 @@
+package com.example.orderservice.app.infra.orderstore.contracts;
+
+import java.lang.foreign.MemorySegment;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.infra.orderstore.entities.OffHeapIndex;
+import com.example.orderservice.app.infra.orderstore.entities.OrderRecordCodec;
+import com.example.orderservice.app.infra.orderstore.entities.SlabAllocator;
+import com.example.orderservice.app.infra.orderstore.interfaces.OrderStoreService;
+
+/**
+ * {@link OrderStoreService} that keeps orders outside the Java heap, so a
+ * large store adds nothing for the garbage collector to trace.
+ *
+ * <p>
+ * Each order is one record in the layout of {@link OrderRecordCodec}, in a
+ * chunk from a {@link SlabAllocator}; an {@link OffHeapIndex} maps the hash
+ * of the order id to the chunk. Replacing or removing an order frees its
+ * chunk for reuse by the next order of the same size class.
+ * </p>
+ *
+ * <p>
+ * Orders are spread over stripes by id hash. Each stripe has its own
+ * allocator, index and {@link StampedLock}, so writes to different stripes do
+ * not contend; reads share a stripe's read lock. The store is bounded: each
+ * stripe keeps its last {@code maxOrders / stripes} writes and evicts the
+ * oldest one first. Removing or replacing an order still uses up the old
+ * write's place until it is evicted, so a store with many replacements can
+ * hold fewer orders than the bound.
+ * </p>
+ */
+public class OffHeapOrderStore implements OrderStoreService, AutoCloseable {
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int maxChunkBytes;
+
+    /**
+     * @param slabBytes      size of each off-heap slab
+     * @param maxRecordBytes largest order record; larger orders are not stored
+     * @param maxOrders      most orders kept; the oldest writes are evicted
+     * @param stripes        number of independently locked stripes, a power
+     *                       of two
+     */
+    public OffHeapOrderStore(int slabBytes, int maxRecordBytes, int maxOrders, int stripes) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two: " + stripes);
+        }
+        if (maxOrders < stripes) {
+            throw new IllegalArgumentException("Max orders " + maxOrders + " is below the stripe count " + stripes);
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(slabBytes, maxRecordBytes, maxOrders / stripes);
+        }
+        // Stripes take the top bits of the hash; the index probes from the low bits
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripes);
+        this.maxChunkBytes = this.stripes[0].allocator.maxChunkBytes();
+    }
+
+    @Override
+    public boolean put(Order order) {
+        String orderId = order.getId();
+        if (orderId == null) {
+            throw new IllegalArgumentException("Order id is required");
+        }
+        UUID[] itemIds = new UUID[order.getItems().size()];
+        int size = OrderRecordCodec.sizeOf(order, itemIds);
+        if (size > maxChunkBytes) {
+            remove(orderId);
+            return false;
+        }
+        long hash = OrderRecordCodec.hash(orderId);
+
+        Stripe stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.put(order, itemIds, size, hash);
+            return true;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Order get(String orderId) {
+        long hash = OrderRecordCodec.hash(orderId);
+        Stripe stripe = stripeOf(hash);
+        long stamp = stripe.lock.readLock();
+        try {
+            int slot = stripe.find(hash, orderId);
+            if (slot < 0) {
+                return null;
+            }
+            long address = stripe.index.valueAt(slot);
+            return OrderRecordCodec.read(stripe.allocator.segment(address), SlabAllocator.offset(address));
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return true if an order with this id is stored; nothing is decoded
+     */
+    public boolean contains(String orderId) {
+        long hash = OrderRecordCodec.hash(orderId);
+        Stripe stripe = stripeOf(hash);
+        long stamp = stripe.lock.readLock();
+        try {
+            return stripe.find(hash, orderId) >= 0;
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(String orderId) {
+        long hash = OrderRecordCodec.hash(orderId);
+        Stripe stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int slot = stripe.find(hash, orderId);
+            if (slot < 0) {
+                return false;
+            }
+            stripe.removeAt(slot);
+            return true;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.index.size();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return off-heap bytes held by slabs and indexes
+     */
+    public long reservedBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                bytes += stripe.allocator.reservedBytes() + stripe.index.reservedBytes();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return off-heap bytes in chunks holding orders
+     */
+    public long allocatedBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                bytes += stripe.allocator.allocatedBytes();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return orders evicted to stay within the bound since the store was
+     *         created
+     */
+    public long evicted() {
+        long evicted = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                evicted += stripe.evicted;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.index.close();
+                stripe.allocator.close();
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private Stripe stripeOf(long hash) {
+        return stripes.length == 1 ? stripes[0] : stripes[(int) (hash >>> stripeShift)];
+    }
+
+    /**
+     * One independently locked part of the store. Writes are remembered in a
+     * ring, oldest first, as the id hash and the sequence stored in the
+     * record; a ring entry whose record has since been replaced or removed no
+     * longer matches any record and is skipped.
+     */
+    private static final class Stripe {
+
+        final SlabAllocator allocator;
+        final OffHeapIndex index;
+        final StampedLock lock = new StampedLock();
+        final long[] writtenHashes;
+        final int[] writtenSequences;
+        int oldest;
+        int written;
+        int nextSequence;
+        long evicted;
+
+        Stripe(int slabBytes, int maxRecordBytes, int maxOrders) {
+            this.allocator = new SlabAllocator(slabBytes, maxRecordBytes);
+            this.index = new OffHeapIndex(maxOrders);
+            this.writtenHashes = new long[maxOrders];
+            this.writtenSequences = new int[maxOrders];
+        }
+
+        void put(Order order, UUID[] itemIds, int size, long hash) {
+            if (written == writtenHashes.length) {
+                evictOldest();
+            }
+            int sequence = nextSequence++;
+            long address = allocator.allocate(size);
+            OrderRecordCodec.write(allocator.segment(address), SlabAllocator.offset(address), order, itemIds, hash,
+                    sequence);
+            int slot = find(hash, order.getId());
+            if (slot < 0) {
+                index.insert(hash, address);
+            } else {
+                free(index.valueAt(slot));
+                index.setValueAt(slot, address);
+            }
+            int at = (oldest + written++) % writtenHashes.length;
+            writtenHashes[at] = hash;
+            writtenSequences[at] = sequence;
+        }
+
+        void removeAt(int slot) {
+            free(index.valueAt(slot));
+            index.removeAt(slot);
+        }
+
+        int find(long hash, String orderId) {
+            for (int slot = index.slotOf(hash);; slot = index.next(slot)) {
+                long stored = index.hashAt(slot);
+                if (stored == 0) {
+                    return -1;
+                }
+                if (stored == hash) {
+                    long address = index.valueAt(slot);
+                    if (OrderRecordCodec.idEquals(allocator.segment(address), SlabAllocator.offset(address),
+                            orderId)) {
+                        return slot;
+                    }
+                }
+            }
+        }
+
+        private void evictOldest() {
+            long hash = writtenHashes[oldest];
+            int sequence = writtenSequences[oldest];
+            oldest = (oldest + 1) % writtenHashes.length;
+            written--;
+            for (int slot = index.slotOf(hash);; slot = index.next(slot)) {
+                long stored = index.hashAt(slot);
+                if (stored == 0) {
+                    return;
+                }
+                if (stored == hash) {
+                    long address = index.valueAt(slot);
+                    if (OrderRecordCodec.sequenceAt(allocator.segment(address),
+                            SlabAllocator.offset(address)) == sequence) {
+                        removeAt(slot);
+                        evicted++;
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void free(long address) {
+            MemorySegment segment = allocator.segment(address);
+            allocator.free(address, OrderRecordCodec.recordSize(segment, SlabAllocator.offset(address)));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.orderservice.app.infra.orderstore.entities;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Open-addressing hash table from a 64-bit key hash to a long value, held
+ * off-heap as pairs of longs.
+ *
+ * <p>
+ * Slots are probed linearly. A hash of 0 marks an empty slot, so callers
+ * must never use 0 as a hash. Removal shifts later entries of the probe
+ * sequence back, so there are no tombstones. The table doubles when it is
+ * half full. Several keys may share a hash: callers walk the probe sequence
+ * with {@link #slotOf}, {@link #hashAt} and {@link #next}, and compare keys
+ * themselves.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; callers synchronize.
+ * </p>
+ */
+public final class OffHeapIndex implements AutoCloseable {
+
+    private static final long ENTRY_BYTES = 16;
+
+    private Arena arena;
+    private MemorySegment table;
+    private int mask;
+    private int size;
+
+    /**
+     * @param initialCapacity expected number of entries
+     */
+    public OffHeapIndex(int initialCapacity) {
+        allocate(Integer.highestOneBit(Math.max(16, initialCapacity * 2 - 1)) << 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return bytes held off-heap by the table
+     */
+    public long reservedBytes() {
+        return table.byteSize();
+    }
+
+    /**
+     * @return the first slot to probe for {@code hash}
+     */
+    public int slotOf(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public int next(int slot) {
+        return (slot + 1) & mask;
+    }
+
+    /**
+     * @return the hash in {@code slot}, or 0 if the slot is empty
+     */
+    public long hashAt(int slot) {
+        return table.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES);
+    }
+
+    public long valueAt(int slot) {
+        return table.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8);
+    }
+
+    public void setValueAt(int slot, long value) {
+        table.set(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8, value);
+    }
+
+    /**
+     * Add an entry in the first empty slot of the probe sequence of
+     * {@code hash}. The caller has checked that the key is not present.
+     */
+    public void insert(long hash, long value) {
+        if (size + 1 > (mask + 1) / 2) {
+            resize((mask + 1) * 2);
+        }
+        put(hash, value);
+        size++;
+    }
+
+    /**
+     * Remove the entry in {@code slot}.
+     */
+    public void removeAt(int slot) {
+        int hole = slot;
+        int current = next(slot);
+        long hash;
+        while ((hash = hashAt(current)) != 0) {
+            int home = slotOf(hash);
+            // Move the entry back if the hole lies between its home slot and
+            // its current slot, wrapping around the end of the table
+            boolean movable = hole <= current
+                    ? home <= hole || home > current
+                    : home <= hole && home > current;
+            if (movable) {
+                write(hole, hash, valueAt(current));
+                hole = current;
+            }
+            current = next(current);
+        }
+        write(hole, 0, 0);
+        size--;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private void put(long hash, long value) {
+        int slot = slotOf(hash);
+        while (hashAt(slot) != 0) {
+            slot = next(slot);
+        }
+        write(slot, hash, value);
+    }
+
+    private void write(int slot, long hash, long value) {
+        table.set(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES, hash);
+        table.set(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8, value);
+    }
+
+    private void allocate(int capacity) {
+        this.arena = Arena.ofShared();
+        this.table = arena.allocate(capacity * ENTRY_BYTES, ENTRY_BYTES);
+        this.mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        Arena oldArena = arena;
+        MemorySegment oldTable = table;
+        int oldCapacity = mask + 1;
+        allocate(capacity);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long hash = oldTable.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES);
+            if (hash != 0) {
+                put(hash, oldTable.get(ValueLayout.JAVA_LONG, slot * ENTRY_BYTES + 8));
+            }
+        }
+        oldArena.close();
+    }
+}
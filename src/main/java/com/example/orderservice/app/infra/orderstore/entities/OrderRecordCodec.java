@@ -0,0 +1,307 @@
+package com.example.orderservice.app.infra.orderstore.entities;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.origin.entities.Uuids;
+
+/**
+ * Fixed binary layout of an {@link Order} in off-heap memory.
+ *
+ * <pre>
+ * header (48 bytes)
+ *   0  long  hash of the order id
+ *   8  long  total amount, minor units
+ *  16  long  created at, {@link EpochNanos}
+ *  24  long  updated at, {@link EpochNanos}
+ *  32  int   item count
+ *  36  int   record size in bytes
+ *  40  byte  status ordinal, -1 for null
+ *  44  int   write sequence, see {@link #sequenceAt}
+ * items (40 bytes each)
+ *   0  long  unit price, minor units
+ *   8  long  total price, minor units
+ *  16  long  item id UUID, most significant bits
+ *  24  long  item id UUID, least significant bits
+ *  32  int   quantity
+ *  36  byte  price scale | PRICED | TOTALLED
+ *  37  byte  UUID_ID | SAME_ORDER_ID
+ * strings
+ *   order id, customer id, currency, then per item the product id, the
+ *   product name, the item id unless it is a UUID and the item order id
+ *   unless it equals the order id. Each is an int header, -1 for null or
+ *   (length &lt;&lt; 1 | 1 if UTF-16), followed by its Latin-1 or UTF-16 chars.
+ * </pre>
+ *
+ * <p>
+ * Records written and read back give an order equal to the original, with
+ * prices at the same scale.
+ * </p>
+ */
+public final class OrderRecordCodec {
+
+    public static final int HEADER_BYTES = 48;
+    public static final int ITEM_BYTES = 40;
+
+    private static final long TOTAL = 8;
+    private static final long CREATED_AT = 16;
+    private static final long UPDATED_AT = 24;
+    private static final long ITEM_COUNT = 32;
+    private static final long RECORD_SIZE = 36;
+    private static final long STATUS = 40;
+    private static final long SEQUENCE = 44;
+
+    private static final long UNIT_PRICE = 0;
+    private static final long TOTAL_PRICE = 8;
+    private static final long UUID_MSB = 16;
+    private static final long UUID_LSB = 24;
+    private static final long QUANTITY = 32;
+    private static final long PRICE_FLAGS = 36;
+    private static final long ID_FLAGS = 37;
+
+    private static final int SCALE_MASK = 0x0F;
+    private static final int PRICED = 0x10;
+    private static final int TOTALLED = 0x20;
+    private static final int UUID_ID = 0x01;
+    private static final int SAME_ORDER_ID = 0x02;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderRecordCodec() {
+    }
+
+    /**
+     * 64-bit hash of an order id; never 0. Built from {@link String#hashCode()},
+     * which the string caches, so repeated lookups of the same id are cheap.
+     * Ids with equal hashes are told apart by {@link #idEquals}.
+     */
+    public static long hash(String orderId) {
+        long h = orderId.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 29;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * @param itemIds filled with each item id parsed as a UUID, or null where
+     *                it is not {@link Uuids#isCanonical canonical}; at least
+     *                as long as the item list
+     * @return the number of bytes {@link #write} needs for {@code order}
+     */
+    public static int sizeOf(Order order, UUID[] itemIds) {
+        List<OrderItem> items = order.getItems();
+        long size = HEADER_BYTES + (long) ITEM_BYTES * items.size()
+                + sizeOf(order.getId()) + sizeOf(order.getCustomerId()) + sizeOf(order.getCurrency());
+        for (int i = 0, n = items.size(); i < n; i++) {
+            OrderItem item = items.get(i);
+            size += sizeOf(item.getProductId()) + sizeOf(item.getProductName());
+            itemIds[i] = Uuids.parseCanonical(item.getId());
+            if (itemIds[i] == null) {
+                size += sizeOf(item.getId());
+            }
+            if (!Objects.equals(item.getOrderId(), order.getId())) {
+                size += sizeOf(item.getOrderId());
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Write {@code order} at {@code offset}, which has room for
+     * {@link #sizeOf} bytes.
+     *
+     * @param itemIds  the item ids as filled by {@link #sizeOf}
+     * @param sequence stored as is, for the caller's bookkeeping
+     */
+    public static void write(MemorySegment segment, long offset, Order order, UUID[] itemIds, long hash,
+            int sequence) {
+        List<OrderItem> items = order.getItems();
+        int n = items.size();
+        segment.set(ValueLayout.JAVA_LONG, offset, hash);
+        segment.set(ValueLayout.JAVA_LONG, offset + TOTAL, order.getTotalAmountMinor());
+        segment.set(ValueLayout.JAVA_LONG, offset + CREATED_AT, EpochNanos.of(order.getCreatedAt()));
+        segment.set(ValueLayout.JAVA_LONG, offset + UPDATED_AT, EpochNanos.of(order.getUpdatedAt()));
+        segment.set(ValueLayout.JAVA_INT, offset + ITEM_COUNT, n);
+        segment.set(ValueLayout.JAVA_BYTE, offset + STATUS,
+                order.getStatus() != null ? (byte) order.getStatus().ordinal() : -1);
+        segment.set(ValueLayout.JAVA_INT, offset + SEQUENCE, sequence);
+
+        long position = offset + HEADER_BYTES + (long) ITEM_BYTES * n;
+        position = writeString(segment, position, order.getId());
+        position = writeString(segment, position, order.getCustomerId());
+        position = writeString(segment, position, order.getCurrency());
+        for (int i = 0; i < n; i++) {
+            OrderItem item = items.get(i);
+            long at = offset + HEADER_BYTES + (long) ITEM_BYTES * i;
+            segment.set(ValueLayout.JAVA_LONG, at + UNIT_PRICE, item.getUnitPriceMinor());
+            segment.set(ValueLayout.JAVA_LONG, at + TOTAL_PRICE, item.getTotalPriceMinor());
+            segment.set(ValueLayout.JAVA_INT, at + QUANTITY, item.getQuantity());
+            segment.set(ValueLayout.JAVA_BYTE, at + PRICE_FLAGS, (byte) (item.getScale()
+                    | (item.hasUnitPrice() ? PRICED : 0)
+                    | (item.hasTotalPrice() ? TOTALLED : 0)));
+
+            int idFlags = 0;
+            position = writeString(segment, position, item.getProductId());
+            position = writeString(segment, position, item.getProductName());
+            UUID uuid = itemIds[i];
+            if (uuid != null) {
+                segment.set(ValueLayout.JAVA_LONG, at + UUID_MSB, uuid.getMostSignificantBits());
+                segment.set(ValueLayout.JAVA_LONG, at + UUID_LSB, uuid.getLeastSignificantBits());
+                idFlags |= UUID_ID;
+            } else {
+                position = writeString(segment, position, item.getId());
+            }
+            if (Objects.equals(item.getOrderId(), order.getId())) {
+                idFlags |= SAME_ORDER_ID;
+            } else {
+                position = writeString(segment, position, item.getOrderId());
+            }
+            segment.set(ValueLayout.JAVA_BYTE, at + ID_FLAGS, (byte) idFlags);
+        }
+        segment.set(ValueLayout.JAVA_INT, offset + RECORD_SIZE, (int) (position - offset));
+    }
+
+    /**
+     * @return a new order read from the record at {@code offset}
+     */
+    public static Order read(MemorySegment segment, long offset) {
+        int n = segment.get(ValueLayout.JAVA_INT, offset + ITEM_COUNT);
+        long[] position = { offset + HEADER_BYTES + (long) ITEM_BYTES * n };
+        String id = readString(segment, position);
+        String customerId = readString(segment, position);
+        String currency = readString(segment, position);
+
+        List<OrderItem> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long at = offset + HEADER_BYTES + (long) ITEM_BYTES * i;
+            int priceFlags = segment.get(ValueLayout.JAVA_BYTE, at + PRICE_FLAGS);
+            int idFlags = segment.get(ValueLayout.JAVA_BYTE, at + ID_FLAGS);
+            OrderItem item = new OrderItem();
+            item.setProductId(readString(segment, position));
+            item.setProductName(readString(segment, position));
+            item.setId((idFlags & UUID_ID) != 0
+                    ? new UUID(segment.get(ValueLayout.JAVA_LONG, at + UUID_MSB),
+                            segment.get(ValueLayout.JAVA_LONG, at + UUID_LSB)).toString()
+                    : readString(segment, position));
+            item.setOrderId((idFlags & SAME_ORDER_ID) != 0 ? id : readString(segment, position));
+            item.setQuantity(segment.get(ValueLayout.JAVA_INT, at + QUANTITY));
+            item.restorePrices(priceFlags & SCALE_MASK, (priceFlags & PRICED) != 0,
+                    segment.get(ValueLayout.JAVA_LONG, at + UNIT_PRICE),
+                    (priceFlags & TOTALLED) != 0, segment.get(ValueLayout.JAVA_LONG, at + TOTAL_PRICE));
+            items.add(item);
+        }
+
+        byte status = segment.get(ValueLayout.JAVA_BYTE, offset + STATUS);
+        Order order = new Order(id, customerId, currency, items, status < 0 ? null : STATUSES[status],
+                EpochNanos.toDateTime(segment.get(ValueLayout.JAVA_LONG, offset + CREATED_AT)),
+                EpochNanos.toDateTime(segment.get(ValueLayout.JAVA_LONG, offset + UPDATED_AT)));
+        order.setTotalAmountMinor(segment.get(ValueLayout.JAVA_LONG, offset + TOTAL));
+        return order;
+    }
+
+    public static long hashAt(MemorySegment segment, long offset) {
+        return segment.get(ValueLayout.JAVA_LONG, offset);
+    }
+
+    /**
+     * @return the sequence passed to {@link #write}
+     */
+    public static int sequenceAt(MemorySegment segment, long offset) {
+        return segment.get(ValueLayout.JAVA_INT, offset + SEQUENCE);
+    }
+
+    /**
+     * @return the size written by {@link #write}
+     */
+    public static int recordSize(MemorySegment segment, long offset) {
+        return segment.get(ValueLayout.JAVA_INT, offset + RECORD_SIZE);
+    }
+
+    /**
+     * Compare the stored order id with {@code orderId} without decoding it.
+     */
+    public static boolean idEquals(MemorySegment segment, long offset, String orderId) {
+        int n = segment.get(ValueLayout.JAVA_INT, offset + ITEM_COUNT);
+        long position = offset + HEADER_BYTES + (long) ITEM_BYTES * n;
+        int header = segment.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+        if (header < 0 || header >>> 1 != orderId.length()) {
+            return false;
+        }
+        boolean utf16 = (header & 1) != 0;
+        position += 4;
+        for (int i = 0; i < orderId.length(); i++) {
+            char c = utf16
+                    ? segment.get(ValueLayout.JAVA_CHAR_UNALIGNED, position + 2L * i)
+                    : (char) (segment.get(ValueLayout.JAVA_BYTE, position + i) & 0xFF);
+            if (c != orderId.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long sizeOf(String value) {
+        if (value == null) {
+            return 4;
+        }
+        return 4 + (isLatin1(value) ? value.length() : 2L * value.length());
+    }
+
+    private static long writeString(MemorySegment segment, long position, String value) {
+        if (value == null) {
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, position, -1);
+            return position + 4;
+        }
+        int length = value.length();
+        boolean latin1 = isLatin1(value);
+        segment.set(ValueLayout.JAVA_INT_UNALIGNED, position, length << 1 | (latin1 ? 0 : 1));
+        position += 4;
+        for (int i = 0; i < length; i++) {
+            if (latin1) {
+                segment.set(ValueLayout.JAVA_BYTE, position + i, (byte) value.charAt(i));
+            } else {
+                segment.set(ValueLayout.JAVA_CHAR_UNALIGNED, position + 2L * i, value.charAt(i));
+            }
+        }
+        return position + (latin1 ? length : 2L * length);
+    }
+
+    private static String readString(MemorySegment segment, long[] position) {
+        long at = position[0];
+        int header = segment.get(ValueLayout.JAVA_INT_UNALIGNED, at);
+        if (header < 0) {
+            position[0] = at + 4;
+            return null;
+        }
+        int length = header >>> 1;
+        if ((header & 1) != 0) {
+            char[] chars = new char[length];
+            MemorySegment.copy(segment, ValueLayout.JAVA_CHAR_UNALIGNED, at + 4, chars, 0, length);
+            position[0] = at + 4 + 2L * length;
+            return new String(chars);
+        }
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, at + 4, bytes, 0, length);
+        position[0] = at + 4 + length;
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.orderservice.app.infra.orderstore.entities;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocator of off-heap chunks from large slabs. Chunk sizes start at
+ * {@value #MIN_CHUNK_BYTES} bytes and grow in four steps per power of two
+ * (64, 80, 96, 112, 128, 160, ...), so at most a fifth of a chunk is unused.
+ *
+ * <p>
+ * Every slab holds chunks of a single class. Freed chunks go on a per-class
+ * free list, threaded through the first 8 bytes of each free chunk, and are
+ * reused before any new space is carved. Slabs are only released by
+ * {@link #close()}. A chunk is addressed by a long: the slab index in the
+ * high 32 bits and the offset within the slab in the low 32 bits.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; callers synchronize.
+ * </p>
+ */
+public final class SlabAllocator implements AutoCloseable {
+
+    public static final int MIN_CHUNK_BYTES = 64;
+
+    private static final long NONE = -1L;
+
+    private final Arena arena = Arena.ofShared();
+    private final int slabBytes;
+    private final int maxChunkBytes;
+    private final List<MemorySegment> slabs = new ArrayList<>();
+    private final long[] freeHeads;
+    /** Per class: address of the next unused chunk, or {@link #NONE}. */
+    private final long[] bumps;
+    /** Per class: address just past the slab of {@link #bumps}. */
+    private final long[] bumpLimits;
+    private long allocatedBytes;
+
+    /**
+     * @param slabBytes     size of each slab, at least {@code maxChunkBytes}
+     * @param maxChunkBytes largest chunk, rounded up to a power of two
+     */
+    public SlabAllocator(int slabBytes, int maxChunkBytes) {
+        this.maxChunkBytes = chunkBytes(Math.max(maxChunkBytes, MIN_CHUNK_BYTES));
+        if (slabBytes < this.maxChunkBytes) {
+            throw new IllegalArgumentException("Slab size " + slabBytes + " is below the chunk size "
+                    + this.maxChunkBytes);
+        }
+        this.slabBytes = slabBytes;
+        int classes = classOf(this.maxChunkBytes) + 1;
+        this.freeHeads = new long[classes];
+        this.bumps = new long[classes];
+        this.bumpLimits = new long[classes];
+        Arrays.fill(freeHeads, NONE);
+        Arrays.fill(bumps, NONE);
+    }
+
+    /**
+     * @return the largest size that {@link #allocate} accepts
+     */
+    public int maxChunkBytes() {
+        return maxChunkBytes;
+    }
+
+    /**
+     * @param bytes the needed size
+     * @return the address of a chunk of at least {@code bytes}
+     * @throws IllegalArgumentException if {@code bytes} is above
+     *                                  {@link #maxChunkBytes()}
+     */
+    public long allocate(int bytes) {
+        if (bytes > maxChunkBytes) {
+            throw new IllegalArgumentException("Chunk of " + bytes + " bytes is above " + maxChunkBytes);
+        }
+        int sizeClass = classOf(bytes);
+        int chunk = sizeOf(sizeClass);
+        allocatedBytes += chunk;
+
+        long free = freeHeads[sizeClass];
+        if (free != NONE) {
+            freeHeads[sizeClass] = segment(free).get(ValueLayout.JAVA_LONG, offset(free));
+            return free;
+        }
+        long bump = bumps[sizeClass];
+        if (bump == NONE || bump + chunk > bumpLimits[sizeClass]) {
+            slabs.add(arena.allocate(slabBytes, MIN_CHUNK_BYTES));
+            bump = (long) (slabs.size() - 1) << 32;
+            bumpLimits[sizeClass] = bump + (slabBytes - slabBytes % chunk);
+        }
+        bumps[sizeClass] = bump + chunk;
+        return bump;
+    }
+
+    /**
+     * Return a chunk for reuse.
+     *
+     * @param address the chunk from {@link #allocate}
+     * @param bytes   the size it was allocated with
+     */
+    public void free(long address, int bytes) {
+        int sizeClass = classOf(bytes);
+        allocatedBytes -= sizeOf(sizeClass);
+        segment(address).set(ValueLayout.JAVA_LONG, offset(address), freeHeads[sizeClass]);
+        freeHeads[sizeClass] = address;
+    }
+
+    public MemorySegment segment(long address) {
+        return slabs.get((int) (address >>> 32));
+    }
+
+    public static long offset(long address) {
+        return address & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * @return off-heap bytes held by all slabs
+     */
+    public long reservedBytes() {
+        return (long) slabs.size() * slabBytes;
+    }
+
+    /**
+     * @return bytes in chunks currently allocated
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private static int chunkBytes(int bytes) {
+        return sizeOf(classOf(bytes));
+    }
+
+    private static int classOf(int bytes) {
+        if (bytes <= MIN_CHUNK_BYTES) {
+            return 0;
+        }
+        int n = bytes - 1;
+        int log2 = 31 - Integer.numberOfLeadingZeros(n);
+        int quarter = (n >>> (log2 - 2)) & 3;
+        return (log2 - 6) * 4 + quarter + 1;
+    }
+
+    private static int sizeOf(int sizeClass) {
+        if (sizeClass == 0) {
+            return MIN_CHUNK_BYTES;
+        }
+        int log2 = 6 + (sizeClass - 1) / 4;
+        int quarter = (sizeClass - 1) % 4;
+        return (5 + quarter) << (log2 - 2);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.orderservice.app.infra.orderstore.interfaces;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+
+/**
+ * Store of recently written orders, keyed by order id, for fast reads.
+ */
+public interface OrderStoreService {
+
+    /**
+     * Store a copy of {@code order}, replacing any order with the same id.
+     *
+     * @param order the order; its id must be set
+     * @return false if the order is too large to be stored
+     */
+    boolean put(Order order);
+
+    /**
+     * @return a new copy of the stored order, or null if there is none
+     */
+    Order get(String orderId);
+
+    /**
+     * @return true if an order was removed
+     */
+    boolean remove(String orderId);
+
+    /**
+     * @return the number of stored orders
+     */
+    int size();
+}
@@ -0,0 +1,114 @@
+package com.example.orderservice.framework.entrypoints.api.analytics.controllers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.orderservice.app.core.analytics.interfaces.OrderAnalyticsService;
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+import com.example.orderservice.app.core.money.entities.CurrencyScales;
+import com.example.orderservice.app.core.money.entities.MoneyMath;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.core.origin.spring.ControllerServiceExecutor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v0/analytics")
+@AllArgsConstructor
+public class OrderAnalyticsController {
+
+    /**
+     * Grant needed to aggregate over every customer; without it a user may
+     * only query their own orders, passing their user id as
+     * {@code customerId}.
+     */
+    public static final String QUERY_ALL_ORDERS = "Analytics.QueryOrders";
+
+    private final OrderAnalyticsService analyticsService;
+
+    private final ControllerServiceExecutor controllerServiceExecutor;
+
+    private final UsecaseAuthorizationService authorizationService;
+
+    /**
+     * One aggregate row. {@code total} is only set when all of the row's
+     * orders share a currency, i.e. when filtering or grouping by currency.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Row(String key, long count, BigDecimal total, String currency) {
+    }
+
+    /**
+     * Endpoint for ad-hoc order aggregates, e.g. the total value of pending
+     * EUR orders created in the last hour:
+     *
+     * GET /api/v0/analytics/orders?status=PENDING&currency=EUR&since=1h
+     *
+     * @param status        accepted statuses, all if omitted
+     * @param currency      currency code, any if omitted
+     * @param customerId    customer, any if omitted
+     * @param since         only orders created within this long before now
+     * @param groupBy       STATUS, CURRENCY or CUSTOMER; one row if omitted
+     * @param authorization {@code Bearer} followed by a signed token
+     * @return the matching count and total, per group; 401 without a valid
+     *         token, 403 if the caller may not query these orders
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<List<Row>> aggregateOrders(
+            @RequestParam(required = false) List<OrderStatus> status,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) Duration since,
+            @RequestParam(required = false) GroupBy groupBy,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        User user;
+        try {
+            user = controllerServiceExecutor.authenticate(authorization);
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .build();
+        }
+        if (!user.id().equals(customerId) && !authorizationService.isAuthorized(user, QUERY_ALL_ORDERS)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        OrderFilter filter = OrderFilter.ALL.withCurrency(currency).withCustomer(customerId);
+        if (status != null && !status.isEmpty()) {
+            filter = filter.withStatus(status.toArray(OrderStatus[]::new));
+        }
+        if (since != null) {
+            filter = filter.createdSince(LocalDateTime.now().minus(since));
+        }
+
+        if (groupBy == null) {
+            return ResponseEntity.ok(List.of(toRow(analyticsService.aggregate(filter), currency)));
+        }
+        List<Row> rows = analyticsService.aggregate(filter, groupBy).stream()
+                .map(aggregate -> toRow(aggregate, groupBy == GroupBy.CURRENCY ? aggregate.key() : currency))
+                .toList();
+        return ResponseEntity.ok(rows);
+    }
+
+    private static Row toRow(Aggregate aggregate, String currency) {
+        BigDecimal total = currency == null ? null
+                : MoneyMath.toDecimal(aggregate.totalMinor(), CurrencyScales.scaleOf(currency));
+        return new Row(aggregate.key(), aggregate.count(), total, currency);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.orderservice.framework.entrypoints.api.metrics.controllers;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.orderservice.app.infra.metrics.interfaces.MetricsService;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v0/metrics")
+@AllArgsConstructor
+public class MetricsController {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsService metricsService;
+
+    /**
+     * Endpoint returning all metrics as JSON, with latency percentiles in
+     * seconds.
+     *
+     * GET /api/v0/metrics
+     *
+     * @return the metrics snapshot
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        return ResponseEntity.ok(metricsService.snapshot());
+    }
+
+    /**
+     * Endpoint for Prometheus scrapes.
+     *
+     * GET /api/v0/metrics/prometheus
+     *
+     * @return the metrics in the Prometheus text exposition format
+     */
+    @GetMapping(value = "/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public ResponseEntity<String> getPrometheusMetrics() {
+        return ResponseEntity.ok(metricsService.scrapePrometheus());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.orderservice.framework.entrypoints.api.orders.controllers;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orderupdates.entities.SubscriptionRegistry.Subscription;
+import com.example.orderservice.app.core.orderupdates.interfaces.OrderUpdateStream;
+import com.example.orderservice.app.core.orderupdates.interfaces.UpdateSink;
+import com.example.orderservice.app.core.orderupdates.schemas.OrderStatusUpdate;
+import com.example.orderservice.app.core.orderupdates.spring.OrderUpdatesProperties;
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.core.origin.spring.ControllerServiceExecutor;
+import com.example.orderservice.app.infra.orderstore.interfaces.OrderStoreService;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v0/orders")
+@AllArgsConstructor
+public class OrderUpdatesController {
+
+    /**
+     * Grant needed to follow any order or customer; without it a user may
+     * only follow their own orders, i.e. pass their user id as
+     * {@code customerId} or an order placed under it.
+     */
+    public static final String FOLLOW_ALL_ORDERS = "Orders.FollowAllOrders";
+
+    private final OrderUpdateStream orderUpdateStream;
+
+    private final OrderUpdatesProperties properties;
+
+    private final ControllerServiceExecutor controllerServiceExecutor;
+
+    private final UsecaseAuthorizationService authorizationService;
+
+    private final OrderStoreService orderStore;
+
+    /**
+     * Endpoint streaming the status transitions of one order, or of every
+     * order of one customer, as Server-Sent Events:
+     *
+     * GET /api/v0/orders/updates?orderId=...
+     * GET /api/v0/orders/updates?customerId=...
+     *
+     * Each transition is a {@code status} event whose data is an
+     * {@link OrderStatusUpdate} in JSON. Idle streams get a comment line every
+     * {@code orderservice.order-updates.heartbeat-interval}. The stream ends
+     * after {@code timeout}, or early if the client falls too far behind
+     * under the {@code DISCONNECT} policy; clients reconnect either way.
+     *
+     * @param orderId       the order to follow
+     * @param customerId    the customer to follow, instead of an order
+     * @param authorization {@code Bearer} followed by a signed token
+     * @return the event stream, 400 unless exactly one of the ids is given,
+     *         401 without a valid token, 403 if the caller may not follow
+     *         that order or customer, or 503 if the node holds its maximum
+     *         number of subscriptions
+     */
+    @GetMapping(value = "/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUpdates(
+            @RequestParam(required = false) String orderId,
+            @RequestParam(required = false) String customerId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if ((orderId == null) == (customerId == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        User user;
+        try {
+            user = controllerServiceExecutor.authenticate(authorization);
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .build();
+        }
+        if (!mayFollow(user, orderId, customerId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        SseSink sink = new SseSink(emitter);
+        Subscription<OrderStatusUpdate> subscription;
+        try {
+            subscription = orderId != null
+                    ? orderUpdateStream.subscribeToOrder(orderId, sink)
+                    : orderUpdateStream.subscribeToCustomer(customerId, sink);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        emitter.onTimeout(emitter::complete);
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * Unknown orders are refused like other customers' orders, so the answer
+     * does not reveal which order ids exist.
+     */
+    private boolean mayFollow(User user, String orderId, String customerId) {
+        if (orderId == null) {
+            if (user.id().equals(customerId)) {
+                return true;
+            }
+        } else {
+            Order order = orderStore.get(orderId);
+            if (order != null && user.id().equals(order.getCustomerId())) {
+                return true;
+            }
+        }
+        return authorizationService.isAuthorized(user, FOLLOW_ALL_ORDERS);
+    }
+
+    private record SseSink(SseEmitter emitter) implements UpdateSink<OrderStatusUpdate> {
+
+        @Override
+        public void send(OrderStatusUpdate update) throws IOException {
+            emitter.send(SseEmitter.event().name("status").data(update, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.orderservice.framework.entrypoints.api.orders.controllers;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,7 +13,7 @@ import com.example.orderservice.app.core.orders.features.createOrder.schemas.INP
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.spring.BEAN_CreateOrder;
 import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
-import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.core.origin.spring.BinaryFormatConfig;
 import com.example.orderservice.app.core.origin.spring.ControllerServiceExecutor;
 
 import lombok.AllArgsConstructor;
@@ -32,20 +35,37 @@ public class OrdersController {
      * 99.99 }
      * Response: { "status": "SUCCESS", "data": { "orderId": "...", "status":
      * "CREATED" }, "errorMessage": null }
+     *
+     * The body may also be sent as CBOR ({@code application/cbor}) or Smile
+     * ({@code application/x-jackson-smile}); the response is encoded as the
+     * {@code Accept} header asks, JSON by default.
      * 
-     * @param input the input containing order details
+     * The caller is identified by a bearer token in the {@code Authorization}
+     * header; without a valid one the response is 401.
+     *
+     * @param input         the input containing order details
+     * @param authorization {@code Bearer} followed by a signed token
+     * @param timeoutMillis optional time budget of the caller, in milliseconds
+     * @param correlationId optional correlation ID of the caller, generated if
+     *                      absent
      * @return ResponseEntity with the service output
      */
-    @PostMapping("/create")
+    @PostMapping(value = "/create",
+            consumes = { MediaType.APPLICATION_JSON_VALUE, BinaryFormatConfig.APPLICATION_CBOR,
+                    BinaryFormatConfig.APPLICATION_SMILE },
+            produces = { MediaType.APPLICATION_JSON_VALUE, BinaryFormatConfig.APPLICATION_CBOR,
+                    BinaryFormatConfig.APPLICATION_SMILE })
     public ResponseEntity<ServiceOutput<OUTPUT_CreateOrder>> createOrder(
-            @RequestBody INPUT_CreateOrder input) {
+            @RequestBody INPUT_CreateOrder input,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = ControllerServiceExecutor.REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMillis,
+            @RequestHeader(value = ControllerServiceExecutor.CORRELATION_ID_HEADER, required = false) String correlationId) {
 
-        // TODO: In a real application, extract user from authentication context
-        User user = new User("1", "api-user@example.com", "USER");
-
-        return controllerServiceExecutor.execute(
+        return controllerServiceExecutor.executeAuthenticated(
                 beanCreateOrder.getService()::run,
                 input,
-                user);
+                authorization,
+                timeoutMillis,
+                correlationId);
     }
 }
@@ -0,0 +1,248 @@
+package com.example.orderservice.app.core.analytics.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+@DisplayName("ColumnarOrderTable Tests")
+class ColumnarOrderTableTest {
+
+    private static final int BLOCK = ColumnarOrderTable.BLOCK_ROWS;
+
+    // ==================== Helper Methods ====================
+
+    private static OrderFilter createdBetween(long from, long until) {
+        return new OrderFilter(-1, null, null, from, until);
+    }
+
+    /**
+     * Append {@code count} PENDING USD orders of 100 minor units for
+     * {@code customer}, created at {@code createdAt}, {@code createdAt + 1},
+     * and so on.
+     */
+    private static void appendMany(ColumnarOrderTable table, String prefix, int count, String customer,
+            long createdAt) {
+        for (int i = 0; i < count; i++) {
+            table.append(prefix + i, OrderStatus.PENDING, "USD", customer, 100, createdAt + i);
+        }
+    }
+
+    private static ColumnarOrderTable sample() {
+        ColumnarOrderTable table = new ColumnarOrderTable(BLOCK);
+        table.append("o1", OrderStatus.PENDING, "EUR", "alice", 1_000, 10);
+        table.append("o2", OrderStatus.PENDING, "USD", "alice", 2_000, 20);
+        table.append("o3", OrderStatus.SHIPPED, "EUR", "bob", 3_000, 30);
+        table.append("o4", null, "EUR", "carol", 4_000, 40);
+        return table;
+    }
+
+    // ==================== Filters ====================
+
+    @Nested
+    @DisplayName("Filters")
+    class Filters {
+
+        @Test
+        @DisplayName("ALL counts and sums every row")
+        void all() {
+            assertEquals(new Aggregate(null, 4, 10_000), sample().aggregate(OrderFilter.ALL));
+        }
+
+        @Test
+        @DisplayName("Status, currency and customer conditions are combined")
+        void conjunction() {
+            ColumnarOrderTable table = sample();
+
+            assertEquals(new Aggregate(null, 2, 3_000),
+                    table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.PENDING)));
+            assertEquals(new Aggregate(null, 1, 1_000),
+                    table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.PENDING).withCurrency("EUR")));
+            assertEquals(new Aggregate(null, 2, 3_000), table.aggregate(OrderFilter.ALL.withCustomer("alice")));
+            assertEquals(new Aggregate(null, 2, 4_000),
+                    table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.PENDING, OrderStatus.SHIPPED)
+                            .withCurrency("EUR")));
+        }
+
+        @Test
+        @DisplayName("Rows without a status only match the unfiltered mask")
+        void noStatus() {
+            ColumnarOrderTable table = sample();
+            int everyStatus = (1 << OrderStatus.values().length) - 1;
+
+            assertEquals(3, table.aggregate(new OrderFilter(everyStatus, null, null, Long.MIN_VALUE,
+                    Long.MAX_VALUE)).count());
+            assertEquals(4, table.aggregate(OrderFilter.ALL).count());
+        }
+
+        @Test
+        @DisplayName("Unknown currencies and customers match nothing")
+        void unknownValues() {
+            ColumnarOrderTable table = sample();
+
+            assertEquals(0, table.aggregate(OrderFilter.ALL.withCurrency("GBP")).count());
+            assertEquals(0, table.aggregate(OrderFilter.ALL.withCustomer("dave")).count());
+            assertEquals(List.of(), table.aggregate(OrderFilter.ALL.withCustomer("dave"), GroupBy.STATUS));
+        }
+
+        @Test
+        @DisplayName("The creation-time range is inclusive at the start, exclusive at the end")
+        void timeRange() {
+            ColumnarOrderTable table = sample();
+
+            assertEquals(2, table.aggregate(createdBetween(20, 40)).count());
+            assertEquals(1, table.aggregate(createdBetween(40, 41)).count());
+            assertEquals(0, table.aggregate(createdBetween(41, Long.MAX_VALUE)).count());
+        }
+
+        @Test
+        @DisplayName("Status updates are seen by later queries")
+        void statusUpdate() {
+            ColumnarOrderTable table = sample();
+
+            assertTrue(table.updateStatus("o1", OrderStatus.CANCELLED));
+            assertFalse(table.updateStatus("missing", OrderStatus.CANCELLED));
+
+            assertEquals(1, table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.CANCELLED)).count());
+            assertEquals(1, table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.PENDING)).count());
+        }
+
+        @Test
+        @DisplayName("An empty table aggregates to nothing")
+        void empty() {
+            ColumnarOrderTable table = new ColumnarOrderTable(BLOCK);
+
+            assertEquals(new Aggregate(null, 0, 0), table.aggregate(OrderFilter.ALL));
+            assertEquals(List.of(), table.aggregate(OrderFilter.ALL, GroupBy.CUSTOMER));
+        }
+    }
+
+    // ==================== Blocks ====================
+
+    @Nested
+    @DisplayName("Blocks")
+    class Blocks {
+
+        @Test
+        @DisplayName("Blocks outside the time range are skipped without losing edge rows")
+        void skipsByTime() {
+            ColumnarOrderTable table = new ColumnarOrderTable(3L * BLOCK);
+            appendMany(table, "a", BLOCK, "alice", 0);
+            appendMany(table, "b", BLOCK, "alice", 1_000_000);
+            appendMany(table, "c", 10, "alice", 2_000_000);
+
+            assertEquals(BLOCK, table.aggregate(createdBetween(1_000_000, 2_000_000)).count());
+            assertEquals(1, table.aggregate(createdBetween(BLOCK - 1, BLOCK)).count());
+            assertEquals(2, table.aggregate(createdBetween(1_000_000 + BLOCK - 1, 2_000_001)).count());
+            assertEquals(0, table.aggregate(createdBetween(BLOCK, 1_000_000)).count());
+            assertEquals(2L * BLOCK + 10, table.size());
+        }
+
+        @Test
+        @DisplayName("The oldest block is dropped beyond maxRows")
+        void dropsOldest() {
+            ColumnarOrderTable table = new ColumnarOrderTable(2L * BLOCK);
+            appendMany(table, "a", BLOCK, "alice", 0);
+            appendMany(table, "b", BLOCK, "bob", BLOCK);
+
+            table.append("c0", OrderStatus.PENDING, "USD", "carol", 100, 2L * BLOCK);
+
+            assertEquals(BLOCK + 1, table.size());
+            assertEquals(0, table.aggregate(OrderFilter.ALL.withCustomer("alice")).count());
+            assertEquals(BLOCK, table.aggregate(OrderFilter.ALL.withCustomer("bob")).count());
+            assertFalse(table.updateStatus("a0", OrderStatus.CANCELLED));
+            assertTrue(table.updateStatus("b0", OrderStatus.CANCELLED));
+        }
+
+        @Test
+        @DisplayName("Orders appended again keep their newest row when the old one is dropped")
+        void reappendedOrder() {
+            ColumnarOrderTable table = new ColumnarOrderTable(2L * BLOCK);
+            appendMany(table, "a", BLOCK, "alice", 0);
+            table.append("a0", OrderStatus.PENDING, "USD", "alice", 100, BLOCK);
+            appendMany(table, "b", BLOCK - 1, "bob", BLOCK + 1);
+
+            table.append("c0", OrderStatus.PENDING, "USD", "carol", 100, 2L * BLOCK);
+
+            assertTrue(table.updateStatus("a0", OrderStatus.SHIPPED));
+            assertEquals(1, table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.SHIPPED)).count());
+        }
+
+        @Test
+        @DisplayName("The customer dictionary is rebuilt once most customers are dropped")
+        void compactsCustomers() {
+            ColumnarOrderTable table = new ColumnarOrderTable(2L * BLOCK);
+            for (int i = 0; i < BLOCK; i++) {
+                table.append("a" + i, OrderStatus.PENDING, "USD", "customer-" + i, 100, i);
+            }
+            appendMany(table, "b", BLOCK, "bob", BLOCK);
+            assertEquals(BLOCK + 1, table.customerDictionarySize());
+
+            appendMany(table, "c", 10, "carol", 2L * BLOCK);
+
+            assertEquals(2, table.customerDictionarySize());
+            assertEquals(BLOCK, table.aggregate(OrderFilter.ALL.withCustomer("bob")).count());
+            assertEquals(10, table.aggregate(OrderFilter.ALL.withCustomer("carol")).count());
+            assertEquals(0, table.aggregate(OrderFilter.ALL.withCustomer("customer-1")).count());
+            assertEquals(List.of(new Aggregate("bob", BLOCK, 100L * BLOCK), new Aggregate("carol", 10, 1_000)),
+                    table.aggregate(OrderFilter.ALL, GroupBy.CUSTOMER));
+            assertTrue(table.updateStatus("b5", OrderStatus.SHIPPED));
+            assertEquals(1, table.aggregate(OrderFilter.ALL.withStatus(OrderStatus.SHIPPED)).count());
+        }
+
+        @Test
+        @DisplayName("A dictionary still mostly in use is kept")
+        void keepsUsedDictionary() {
+            ColumnarOrderTable table = new ColumnarOrderTable(2L * BLOCK);
+            appendMany(table, "a", BLOCK, "alice", 0);
+            for (int i = 0; i < BLOCK; i++) {
+                table.append("b" + i, OrderStatus.PENDING, "USD", "customer-" + (i % 100), 100, BLOCK + i);
+            }
+
+            table.append("c0", OrderStatus.PENDING, "USD", "carol", 100, 2L * BLOCK);
+
+            assertEquals(102, table.customerDictionarySize());
+            assertEquals(0, table.aggregate(OrderFilter.ALL.withCustomer("alice")).count());
+        }
+    }
+
+    // ==================== Group By ====================
+
+    @Nested
+    @DisplayName("Group by")
+    class GroupByTests {
+
+        @Test
+        @DisplayName("Groups by status, with a null key for rows without one")
+        void byStatus() {
+            assertEquals(List.of(
+                    new Aggregate("PENDING", 2, 3_000),
+                    new Aggregate("SHIPPED", 1, 3_000),
+                    new Aggregate(null, 1, 4_000)),
+                    sample().aggregate(OrderFilter.ALL, GroupBy.STATUS));
+        }
+
+        @Test
+        @DisplayName("Groups by currency under a filter")
+        void byCurrency() {
+            assertEquals(List.of(new Aggregate("EUR", 1, 1_000), new Aggregate("USD", 1, 2_000)),
+                    sample().aggregate(OrderFilter.ALL.withCustomer("alice"), GroupBy.CURRENCY));
+        }
+
+        @Test
+        @DisplayName("Groups by customer, omitting groups without matches")
+        void byCustomer() {
+            assertEquals(List.of(new Aggregate("alice", 1, 1_000), new Aggregate("bob", 1, 3_000)),
+                    sample().aggregate(OrderFilter.ALL.withCurrency("EUR")
+                            .withStatus(OrderStatus.PENDING, OrderStatus.SHIPPED), GroupBy.CUSTOMER));
+        }
+    }
+}
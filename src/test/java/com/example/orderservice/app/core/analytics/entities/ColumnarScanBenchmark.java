@@ -0,0 +1,129 @@
+package com.example.orderservice.app.core.analytics.entities;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.analytics.schemas.Aggregate;
+import com.example.orderservice.app.core.analytics.schemas.GroupBy;
+import com.example.orderservice.app.core.analytics.schemas.OrderFilter;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+
+/**
+ * Scan rate, in rows per second, of {@link ColumnarOrderTable} queries over
+ * {@value #ROWS} orders spread over the last day, against the same filtered
+ * sum over an array of row objects.
+ *
+ * <p>
+ * {@code sumPendingEur} matches every block's time range, so it measures a
+ * full scan; {@code sumPendingEurLastHour} shows the blocks skipped by their
+ * creation-time range.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ColumnarScanBenchmark.ROWS)
+public class ColumnarScanBenchmark {
+
+    static final int ROWS = 4_000_000;
+
+    private static final List<String> CURRENCIES = List.of("USD", "EUR", "GBP", "JPY", "CHF");
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private record RowOrder(OrderStatus status, String currency, String customerId, long totalMinor,
+            long createdAt) {
+    }
+
+    private ColumnarOrderTable table;
+    private RowOrder[] rowOrders;
+    private OrderFilter pendingEur;
+    private OrderFilter pendingEurLastHour;
+    private long pendingEurFrom;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        LocalDateTime now = LocalDateTime.now();
+        long start = EpochNanos.of(now.minusDays(1));
+        long step = (EpochNanos.of(now) - start) / ROWS;
+        table = new ColumnarOrderTable(ROWS);
+        rowOrders = new RowOrder[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            RowOrder row = new RowOrder(STATUSES[random.nextInt(STATUSES.length)],
+                    CURRENCIES.get(random.nextInt(CURRENCIES.size())), "CUST-" + random.nextInt(50_000),
+                    100 + random.nextInt(1_000_000), start + i * step);
+            rowOrders[i] = row;
+            table.append(null, row.status(), row.currency(), row.customerId(), row.totalMinor(), row.createdAt());
+        }
+        pendingEur = OrderFilter.ALL.withStatus(OrderStatus.PENDING).withCurrency("EUR")
+                .createdSince(now.minusDays(2));
+        pendingEurLastHour = pendingEur.createdSince(now.minusHours(1));
+        pendingEurFrom = pendingEur.createdFrom();
+
+        Aggregate expected = rowSum();
+        if (!expected.equals(sumPendingEur())) {
+            throw new IllegalStateException("Columnar sum " + sumPendingEur() + " != row sum " + expected);
+        }
+    }
+
+    @Benchmark
+    public Aggregate sumPendingEur() {
+        return table.aggregate(pendingEur);
+    }
+
+    @Benchmark
+    public Aggregate sumPendingEurLastHour() {
+        return table.aggregate(pendingEurLastHour);
+    }
+
+    @Benchmark
+    public Aggregate countAll() {
+        return table.aggregate(OrderFilter.ALL);
+    }
+
+    @Benchmark
+    public List<Aggregate> groupByCurrency() {
+        return table.aggregate(OrderFilter.ALL, GroupBy.CURRENCY);
+    }
+
+    @Benchmark
+    public Aggregate rowSum() {
+        long count = 0;
+        long total = 0;
+        for (RowOrder row : rowOrders) {
+            if (row.status() == OrderStatus.PENDING && row.currency().equals("EUR")
+                    && row.createdAt() >= pendingEurFrom) {
+                count++;
+                total += row.totalMinor();
+            }
+        }
+        return new Aggregate(null, count, total);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ColumnarScanBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
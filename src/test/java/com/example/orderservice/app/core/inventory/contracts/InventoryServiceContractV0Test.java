@@ -0,0 +1,181 @@
+package com.example.orderservice.app.core.inventory.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.inventory.exceptions.InsufficientStockException;
+import com.example.orderservice.app.core.inventory.spring.InventoryProperties;
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.infra.inventorystore.interfaces.InventoryCheckpointStore;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("InventoryServiceContractV0 Tests")
+class InventoryServiceContractV0Test {
+
+    /** Keeps the last checkpoint in memory. */
+    private static final class MemoryCheckpointStore implements InventoryCheckpointStore {
+        final Map<String, Long> saved = new HashMap<>();
+
+        @Override
+        public Map<String, Long> load() {
+            return new HashMap<>(saved);
+        }
+
+        @Override
+        public void save(Map<String, Long> onHand) {
+            saved.putAll(onHand);
+        }
+    }
+
+    private final MemoryCheckpointStore checkpointStore = new MemoryCheckpointStore();
+
+    // ==================== Helper Methods ====================
+
+    private InventoryServiceContractV0 inventory(Duration timeout) {
+        return new InventoryServiceContractV0(new InventoryProperties(Map.of("A", 10L, "B", 3L), timeout, 4),
+                checkpointStore, new MetricsServiceContractV0());
+    }
+
+    private static Order order(String... productIdsAndQuantities) {
+        Order order = new Order();
+        order.setId(UUID.randomUUID().toString());
+        for (int i = 0; i < productIdsAndQuantities.length; i += 2) {
+            OrderItem item = new OrderItem();
+            item.setProductId(productIdsAndQuantities[i]);
+            item.setQuantity(Integer.parseInt(productIdsAndQuantities[i + 1]));
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    // ==================== Reservations ====================
+
+    @Nested
+    @DisplayName("Reservations")
+    class Reservations {
+
+        @Test
+        @DisplayName("Items of the same product are reserved together")
+        void mergesProducts() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+
+            inventory.reserve(order("A", "2", "B", "1", "A", "3"));
+
+            assertEquals(5, inventory.available("A"));
+            assertEquals(2, inventory.available("B"));
+        }
+
+        @Test
+        @DisplayName("A short product rejects the order and holds nothing")
+        void shortRejected() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+
+            InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                    () -> inventory.reserve(order("A", "2", "B", "4")));
+
+            assertEquals("B", e.getSku());
+            assertEquals(10, inventory.available("A"));
+            assertEquals(3, inventory.available("B"));
+        }
+
+        @Test
+        @DisplayName("Reservations of different orders are kept apart")
+        void keyedByOrder() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+            Order first = order("A", "4");
+            Order second = order("A", "5");
+            inventory.reserve(first);
+            inventory.reserve(second);
+
+            assertTrue(inventory.release(first.getId()));
+
+            assertEquals(5, inventory.available("A"));
+            assertFalse(inventory.release(first.getId()));
+        }
+
+        @Test
+        @DisplayName("Reserving an order again replaces its reservation")
+        void reserveAgainReplaces() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+            Order order = order("A", "4");
+            inventory.reserve(order);
+
+            inventory.reserve(order);
+
+            assertEquals(6, inventory.available("A"));
+        }
+    }
+
+    // ==================== Release ====================
+
+    @Nested
+    @DisplayName("Release")
+    class Release {
+
+        @Test
+        @DisplayName("Cancelling an order restores its stock; confirming keeps it sold")
+        void cancelAndConfirm() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+            Order cancelled = order("A", "4");
+            Order confirmed = order("A", "3");
+            inventory.reserve(cancelled);
+            inventory.reserve(confirmed);
+
+            cancelled.setStatus(OrderStatus.CANCELLED);
+            inventory.orderStatusChanged(cancelled, OrderStatus.PENDING);
+            confirmed.setStatus(OrderStatus.CONFIRMED);
+            inventory.orderStatusChanged(confirmed, OrderStatus.PENDING);
+            inventory.releaseExpired();
+
+            assertEquals(7, inventory.available("A"));
+            assertFalse(inventory.release(confirmed.getId()));
+        }
+
+        @Test
+        @DisplayName("Reservations past the timeout are released by the sweep")
+        void timeoutRestores() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ZERO);
+            Order order = order("A", "4", "B", "3");
+            inventory.reserve(order);
+            assertEquals(0, inventory.available("B"));
+
+            inventory.releaseExpired();
+
+            assertEquals(10, inventory.available("A"));
+            assertEquals(3, inventory.available("B"));
+            assertFalse(inventory.release(order.getId()));
+        }
+
+        @Test
+        @DisplayName("Reservations within the timeout are kept by the sweep")
+        void withinTimeoutKept() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+            inventory.reserve(order("A", "4"));
+
+            inventory.releaseExpired();
+
+            assertEquals(6, inventory.available("A"));
+        }
+
+        @Test
+        @DisplayName("Checkpoints count held units as on hand")
+        void checkpointCountsHeld() {
+            InventoryServiceContractV0 inventory = inventory(Duration.ofHours(1));
+            inventory.reserve(order("A", "4"));
+
+            inventory.checkpoint();
+
+            assertEquals(Map.of("A", 10L, "B", 3L), checkpointStore.saved);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.orderservice.app.core.inventory.entities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Reserve-and-release throughput under contention, with SKU popularity
+ * following a Zipf distribution with exponent {@code skew} over
+ * {@value #SKUS} SKUs.
+ *
+ * <p>
+ * {@code stripedLedger} uses {@link StripedInventoryLedger} with
+ * {@code stripes} cells per SKU. {@code rowLocks} stands in for reserving
+ * through a database row lock per SKU: it locks every SKU of the order in a
+ * fixed order, checks and updates the counts, and unlocks. Each order has one
+ * to three distinct SKUs; stock is large, so reservations succeed and the
+ * release puts the ledger back as it was. {@code rowLocks} ignores
+ * {@code stripes}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class InventoryLedgerBenchmark {
+
+    static final int SKUS = 10_000;
+    private static final int ORDERS = 4096;
+    private static final long STOCK = 1L << 40;
+
+    @Param({ "1", "8" })
+    public int stripes;
+
+    @Param({ "0.8", "1.2" })
+    public double skew;
+
+    private StripedInventoryLedger ledger;
+    private RowLockLedger rowLocks;
+    private Reservation[] orders;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup
+        public void setUp(InventoryLedgerBenchmark benchmark) {
+            next = benchmark.threads.getAndIncrement() * 997;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        ledger = new StripedInventoryLedger(stripes);
+        rowLocks = new RowLockLedger();
+        for (int s = 0; s < SKUS; s++) {
+            ledger.adjust(sku(s), STOCK);
+            rowLocks.adjust(sku(s), STOCK);
+        }
+
+        double[] cdf = new double[SKUS];
+        double sum = 0;
+        for (int s = 0; s < SKUS; s++) {
+            sum += 1 / Math.pow(s + 1, skew);
+            cdf[s] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(40);
+        orders = new Reservation[ORDERS];
+        for (int o = 0; o < ORDERS; o++) {
+            int items = 1 + random.nextInt(3);
+            int[] picked = new int[items];
+            for (int n = 0; n < items;) {
+                int i = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+                int s = Math.min(SKUS - 1, i >= 0 ? i : -i - 1);
+                if (Arrays.stream(picked, 0, n).noneMatch(p -> p == s)) {
+                    picked[n++] = s;
+                }
+            }
+            Arrays.sort(picked);
+            String[] skus = new String[picked.length];
+            long[] quantities = new long[picked.length];
+            for (int i = 0; i < picked.length; i++) {
+                skus[i] = sku(picked[i]);
+                quantities[i] = 1 + random.nextInt(3);
+            }
+            orders[o] = new Reservation("order-" + o, skus, quantities, Long.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public int stripedLedger(Cursor cursor) {
+        Reservation order = orders[cursor.next++ & (ORDERS - 1)];
+        int result = ledger.reserve(order);
+        ledger.release(order);
+        return result;
+    }
+
+    @Benchmark
+    public int rowLocks(Cursor cursor) {
+        Reservation order = orders[cursor.next++ & (ORDERS - 1)];
+        int result = rowLocks.reserve(order);
+        rowLocks.release(order);
+        return result;
+    }
+
+    private static String sku(int s) {
+        return String.format("SKU-%05d", s);
+    }
+
+    /**
+     * One lock per SKU, taken in SKU order for the whole reservation.
+     */
+    private static final class RowLockLedger {
+
+        private static final class Row {
+            long available;
+        }
+
+        private final Map<String, Row> rows = new HashMap<>();
+
+        void adjust(String sku, long delta) {
+            rows.computeIfAbsent(sku, k -> new Row()).available += delta;
+        }
+
+        int reserve(Reservation reservation) {
+            return lockAll(reservation.skus(), 0, reservation, true);
+        }
+
+        void release(Reservation reservation) {
+            lockAll(reservation.skus(), 0, reservation, false);
+        }
+
+        private int lockAll(String[] skus, int index, Reservation reservation, boolean reserve) {
+            if (index == skus.length) {
+                return apply(reservation, reserve);
+            }
+            Row row = rows.get(skus[index]);
+            synchronized (row) {
+                return lockAll(skus, index + 1, reservation, reserve);
+            }
+        }
+
+        private int apply(Reservation reservation, boolean reserve) {
+            String[] skus = reservation.skus();
+            long[] quantities = reservation.quantities();
+            if (reserve) {
+                for (int i = 0; i < skus.length; i++) {
+                    if (rows.get(skus[i]).available < quantities[i]) {
+                        return i;
+                    }
+                }
+            }
+            for (int i = 0; i < skus.length; i++) {
+                rows.get(skus[i]).available += reserve ? -quantities[i] : quantities[i];
+            }
+            return -1;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InventoryLedgerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
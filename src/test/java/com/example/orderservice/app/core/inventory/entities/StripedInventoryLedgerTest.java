@@ -0,0 +1,169 @@
+package com.example.orderservice.app.core.inventory.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StripedInventoryLedger Tests")
+class StripedInventoryLedgerTest {
+
+    // ==================== Helper Methods ====================
+
+    private static Reservation reservation(String orderId, String[] skus, long... quantities) {
+        return new Reservation(orderId, skus, quantities, Long.MAX_VALUE);
+    }
+
+    private static StripedInventoryLedger ledger(int stripes, String sku, long units) {
+        StripedInventoryLedger ledger = new StripedInventoryLedger(stripes);
+        ledger.adjust(sku, units);
+        return ledger;
+    }
+
+    // ==================== Reserve ====================
+
+    @Nested
+    @DisplayName("Reserve")
+    class Reserve {
+
+        @Test
+        @DisplayName("Reserving takes units until the SKU runs short")
+        void takesUntilShort() {
+            StripedInventoryLedger ledger = ledger(4, "A", 5);
+
+            assertEquals(-1, ledger.reserve(reservation("o1", new String[] { "A" }, 3)));
+            assertEquals(2, ledger.available("A"));
+            assertEquals(0, ledger.reserve(reservation("o2", new String[] { "A" }, 3)));
+            assertEquals(2, ledger.available("A"));
+            assertEquals(-1, ledger.reserve(reservation("o3", new String[] { "A" }, 2)));
+            assertEquals(0, ledger.available("A"));
+        }
+
+        @Test
+        @DisplayName("A short SKU gives back what was taken of the others")
+        void allOrNothing() {
+            StripedInventoryLedger ledger = ledger(4, "A", 10);
+            ledger.adjust("B", 1);
+
+            assertEquals(1, ledger.reserve(reservation("o1", new String[] { "A", "B" }, 4, 2)));
+
+            assertEquals(10, ledger.available("A"));
+            assertEquals(1, ledger.available("B"));
+        }
+
+        @Test
+        @DisplayName("Units spread over several stripes can be reserved at once")
+        void acrossStripes() {
+            StripedInventoryLedger ledger = new StripedInventoryLedger(8);
+            // Each adjustment lands on the calling thread's stripe; spread them
+            for (int i = 0; i < 8; i++) {
+                Thread thread = Thread.ofPlatform().start(() -> ledger.adjust("A", 1));
+                assertDoesNotThrow(() -> thread.join());
+            }
+
+            assertEquals(-1, ledger.reserve(reservation("o1", new String[] { "A" }, 8)));
+            assertEquals(0, ledger.available("A"));
+        }
+
+        @Test
+        @DisplayName("Untracked SKUs are never short")
+        void untracked() {
+            StripedInventoryLedger ledger = new StripedInventoryLedger(4);
+
+            assertEquals(-1, ledger.reserve(reservation("o1", new String[] { "X" }, 1_000)));
+            assertEquals(-1, ledger.available("X"));
+            assertEquals(0, ledger.skuCount());
+        }
+
+        @Test
+        @DisplayName("Stripes round up to a power of two")
+        void stripesRounded() {
+            assertEquals(1, new StripedInventoryLedger(0).stripes());
+            assertEquals(1, new StripedInventoryLedger(1).stripes());
+            assertEquals(4, new StripedInventoryLedger(3).stripes());
+            assertEquals(8, new StripedInventoryLedger(8).stripes());
+        }
+
+        @Test
+        @DisplayName("Concurrent reservations never take more than is on hand")
+        void concurrentNeverNegative() throws InterruptedException {
+            long stockA = 1_000;
+            long stockB = 300;
+            StripedInventoryLedger ledger = ledger(4, "A", stockA);
+            ledger.adjust("B", stockB);
+            AtomicLong takenA = new AtomicLong();
+            AtomicLong takenB = new AtomicLong();
+            AtomicLong lowest = new AtomicLong(Long.MAX_VALUE);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                threads.add(Thread.ofPlatform().start(() -> {
+                    assertDoesNotThrow(() -> start.await());
+                    for (int i = 0; i < 2_000; i++) {
+                        long a = 1 + random.nextInt(3);
+                        long b = random.nextInt(2);
+                        if (ledger.reserve(reservation("o", new String[] { "A", "B" }, a, b)) < 0) {
+                            takenA.addAndGet(a);
+                            takenB.addAndGet(b);
+                        }
+                        lowest.accumulateAndGet(Math.min(ledger.available("A"), ledger.available("B")), Math::min);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertTrue(lowest.get() >= 0, "lowest " + lowest.get());
+            assertTrue(takenA.get() <= stockA, "taken " + takenA.get());
+            assertTrue(takenB.get() <= stockB, "taken " + takenB.get());
+            assertEquals(stockA - takenA.get(), ledger.available("A"));
+            assertEquals(stockB - takenB.get(), ledger.available("B"));
+        }
+    }
+
+    // ==================== Release and Adjust ====================
+
+    @Nested
+    @DisplayName("Release and adjust")
+    class ReleaseAndAdjust {
+
+        @Test
+        @DisplayName("Releasing a reservation restores its units")
+        void releaseRestores() {
+            StripedInventoryLedger ledger = ledger(4, "A", 5);
+            ledger.adjust("B", 5);
+            Reservation reservation = reservation("o1", new String[] { "A", "B", "X" }, 2, 5, 7);
+            assertEquals(-1, ledger.reserve(reservation));
+
+            ledger.release(reservation);
+
+            assertEquals(5, ledger.available("A"));
+            assertEquals(5, ledger.available("B"));
+            assertEquals(-1, ledger.available("X"));
+        }
+
+        @Test
+        @DisplayName("Adjusting adds and removes units and starts tracking new SKUs")
+        void adjust() {
+            StripedInventoryLedger ledger = new StripedInventoryLedger(2);
+
+            ledger.adjust("A", 10);
+            ledger.adjust("A", -3);
+
+            assertEquals(7, ledger.available("A"));
+            assertEquals(1, ledger.skuCount());
+            assertEquals(Map.of("A", 7L), ledger.snapshot());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.orderservice.app.core.money.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CurrencyScales Tests")
+class CurrencyScalesTest {
+
+    @Test
+    @DisplayName("ISO 4217 currencies use their minor-unit digits")
+    void isoScales() {
+        assertEquals(2, CurrencyScales.scaleOf("USD"));
+        assertEquals(0, CurrencyScales.scaleOf("JPY"));
+        assertEquals(3, CurrencyScales.scaleOf("BHD"));
+    }
+
+    @Test
+    @DisplayName("Unknown, null and unit-less codes fall back to the default")
+    void defaults() {
+        assertEquals(CurrencyScales.DEFAULT_SCALE, CurrencyScales.scaleOf(null));
+        assertEquals(CurrencyScales.DEFAULT_SCALE, CurrencyScales.scaleOf("NOT-A-CODE"));
+        assertEquals(CurrencyScales.DEFAULT_SCALE, CurrencyScales.scaleOf("XAU"));
+    }
+
+    @Test
+    @DisplayName("Registered scales override the lookup and are range-checked")
+    void register() {
+        CurrencyScales.register("CURRENCY-SCALES-TEST", 8);
+
+        assertEquals(8, CurrencyScales.scaleOf("CURRENCY-SCALES-TEST"));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyScales.register("X", -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> CurrencyScales.register("X", MoneyMath.MAX_SCALE + 1));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.orderservice.app.core.money.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MoneyMath Tests")
+class MoneyMathTest {
+
+    // ==================== Rounding ====================
+
+    @Nested
+    @DisplayName("Half-even rounding")
+    class Rounding {
+
+        @Test
+        @DisplayName("divideHalfEven rounds ties to the even neighbour")
+        void divideHalfEven() {
+            assertEquals(2, MoneyMath.divideHalfEven(25, 10));
+            assertEquals(4, MoneyMath.divideHalfEven(35, 10));
+            assertEquals(2, MoneyMath.divideHalfEven(15, 10));
+            assertEquals(-2, MoneyMath.divideHalfEven(-25, 10));
+            assertEquals(-4, MoneyMath.divideHalfEven(-35, 10));
+            assertEquals(-2, MoneyMath.divideHalfEven(25, -10));
+            assertEquals(2, MoneyMath.divideHalfEven(-25, -10));
+        }
+
+        @Test
+        @DisplayName("divideHalfEven rounds non-ties to the nearest value")
+        void divideNearest() {
+            assertEquals(3, MoneyMath.divideHalfEven(26, 10));
+            assertEquals(2, MoneyMath.divideHalfEven(24, 10));
+            assertEquals(-3, MoneyMath.divideHalfEven(-26, 10));
+            assertEquals(3, MoneyMath.divideHalfEven(30, 10));
+            assertEquals(0, MoneyMath.divideHalfEven(0, 7));
+        }
+
+        @Test
+        @DisplayName("divideHalfEven matches BigDecimal at the extremes")
+        void divideHalfEvenExtremes() {
+            long[] dividends = { Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE - 5, 999_999_999_999L };
+            long[] divisors = { 2, 3, 10, 1_000_000, Long.MAX_VALUE };
+            for (long dividend : dividends) {
+                for (long divisor : divisors) {
+                    long expected = BigDecimal.valueOf(dividend)
+                            .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_EVEN)
+                            .longValueExact();
+                    assertEquals(expected, MoneyMath.divideHalfEven(dividend, divisor),
+                            dividend + " / " + divisor);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("rescale rounds half-even when dropping digits")
+        void rescaleDown() {
+            assertEquals(123, MoneyMath.rescale(12345, 4, 2));
+            assertEquals(124, MoneyMath.rescale(12350, 4, 2));
+            assertEquals(122, MoneyMath.rescale(12250, 4, 2));
+            assertEquals(-122, MoneyMath.rescale(-12250, 4, 2));
+            assertEquals(0, MoneyMath.rescale(5, 1, 0));
+            assertEquals(2, MoneyMath.rescale(15, 1, 0));
+        }
+
+        @Test
+        @DisplayName("rescale pads digits exactly when scaling up")
+        void rescaleUp() {
+            assertEquals(12300, MoneyMath.rescale(123, 2, 4));
+            assertEquals(123, MoneyMath.rescale(123, 2, 2));
+        }
+
+        @Test
+        @DisplayName("toMinor rounds half-even to the scale")
+        void toMinor() {
+            assertEquals(1234, MoneyMath.toMinor(new BigDecimal("12.345"), 2));
+            assertEquals(1236, MoneyMath.toMinor(new BigDecimal("12.355"), 2));
+            assertEquals(1200, MoneyMath.toMinor(new BigDecimal("12"), 2));
+            assertEquals(new BigDecimal("12.00"), MoneyMath.toDecimal(1200, 2));
+        }
+    }
+
+    // ==================== Overflow ====================
+
+    @Nested
+    @DisplayName("Overflow")
+    class Overflow {
+
+        @Test
+        @DisplayName("add, subtract and multiply throw instead of wrapping")
+        void exactArithmetic() {
+            assertThrows(ArithmeticException.class, () -> MoneyMath.add(Long.MAX_VALUE, 1));
+            assertThrows(ArithmeticException.class, () -> MoneyMath.subtract(Long.MIN_VALUE, 1));
+            assertThrows(ArithmeticException.class, () -> MoneyMath.multiply(Long.MAX_VALUE / 2 + 1, 2));
+            assertEquals(Long.MAX_VALUE - 1, MoneyMath.multiply(Long.MAX_VALUE / 2, 2));
+        }
+
+        @Test
+        @DisplayName("Scaling up past the long range throws")
+        void rescaleOverflow() {
+            assertThrows(ArithmeticException.class, () -> MoneyMath.rescale(Long.MAX_VALUE / 10, 0, 2));
+            assertThrows(ArithmeticException.class, () -> MoneyMath.toMinor(new BigDecimal("1e20"), 2));
+        }
+
+        @Test
+        @DisplayName("Scales outside 0..MAX_SCALE are rejected")
+        void scaleRange() {
+            assertEquals(1_000_000_000_000_000_000L, MoneyMath.powerOfTen(MoneyMath.MAX_SCALE));
+            assertThrows(ArithmeticException.class, () -> MoneyMath.powerOfTen(MoneyMath.MAX_SCALE + 1));
+            assertThrows(ArithmeticException.class, () -> MoneyMath.powerOfTen(-1));
+        }
+    }
+}
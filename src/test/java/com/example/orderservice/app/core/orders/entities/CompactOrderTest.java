@@ -0,0 +1,139 @@
+package com.example.orderservice.app.core.orders.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompactOrder Tests")
+class CompactOrderTest {
+
+    private static final String ORDER_ID = "ORDER-001";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_932);
+
+    // ==================== Helper Methods ====================
+
+    private static Order order(String currency, OrderItem... items) {
+        return new Order(ORDER_ID, "CUST-1", currency, List.of(items), OrderStatus.CONFIRMED, CREATED,
+                CREATED.plusSeconds(5));
+    }
+
+    private static OrderItem item(String id, String orderId, String productId, String productName, int quantity,
+            String unitPrice) {
+        return new OrderItem(id, orderId, productId, productName, quantity,
+                unitPrice != null ? new BigDecimal(unitPrice) : null);
+    }
+
+    private static void assertRoundTrip(Order expected) {
+        CompactOrder compact = CompactOrder.from(expected);
+        Order actual = compact.toOrder();
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getCustomerId(), actual.getCustomerId());
+        assertEquals(expected.getCurrency(), actual.getCurrency());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getTotalAmount(), actual.getTotalAmount());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getItems().size(), compact.getItemCount());
+        assertEquals(expected.getItems().size(), actual.getItems().size());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem e = expected.getItems().get(i);
+            OrderItem a = actual.getItems().get(i);
+            assertEquals(e.getId(), a.getId(), "id of item " + i);
+            assertEquals(e.getOrderId(), a.getOrderId(), "orderId of item " + i);
+            assertEquals(e.getProductId(), a.getProductId(), "productId of item " + i);
+            assertEquals(e.getProductName(), a.getProductName(), "productName of item " + i);
+            assertEquals(e.getQuantity(), a.getQuantity(), "quantity of item " + i);
+            assertEquals(e.getUnitPrice(), a.getUnitPrice(), "unitPrice of item " + i);
+            assertEquals(e.getTotalPrice(), a.getTotalPrice(), "totalPrice of item " + i);
+        }
+    }
+
+    // ==================== Round Trip ====================
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Several items with UUID ids, mixed price scales and non-ASCII names")
+        void severalItems() {
+            assertRoundTrip(order("USD",
+                    item("0b8f4c1e-2d3a-4f5b-8c6d-7e8f9a0b1c2d", ORDER_ID, "PROD-001", "Café crème", 2, "3.50"),
+                    item("1c9a5d2f-3e4b-4a6c-9d7e-8f9a0b1c2d3e", ORDER_ID, "PROD-002", "東京タワー模型", 1, "19.9"),
+                    item("2dab6e3a-4f5c-4b7d-8e8f-9a0b1c2d3e4f", ORDER_ID, "PROD-003", "Ελληνικό μέλι 🍯", 3,
+                            "0.123456")));
+        }
+
+        @Test
+        @DisplayName("Items with null ids, names and prices, and mixed item ids")
+        void nullFields() {
+            assertRoundTrip(order("EUR",
+                    item(null, ORDER_ID, "PROD-001", null, 1, "10.00"),
+                    item(null, ORDER_ID, "PROD-002", null, 2, null)));
+            assertRoundTrip(order("EUR",
+                    item("ITEM-1", ORDER_ID, "PROD-001", null, 1, "10.00"),
+                    item(null, ORDER_ID, null, "Ünïcödé", 4, "2.5"),
+                    item("3ebc7f4b-5a6d-4c8e-9f0a-0b1c2d3e4f5a", ORDER_ID, "PROD-003", null, 1, "1")));
+        }
+
+        @Test
+        @DisplayName("Item order ids that differ from the order id are kept")
+        void foreignOrderIds() {
+            assertRoundTrip(order("USD",
+                    item(null, ORDER_ID, "PROD-001", null, 1, "1.00"),
+                    item(null, "ORDER-OTHER", "PROD-002", null, 1, "2.00"),
+                    item(null, null, "PROD-003", null, 1, "3.00")));
+        }
+
+        @Test
+        @DisplayName("An order with no items, status, currency or timestamps")
+        void emptyOrder() {
+            Order order = new Order(null, null, null, new ArrayList<>(), null, null, null);
+
+            assertRoundTrip(order);
+            assertNull(CompactOrder.from(order).getStatus());
+        }
+
+        @Test
+        @DisplayName("An explicitly set order total survives even when it differs from the items")
+        void explicitTotal() {
+            Order order = order("JPY", item(null, ORDER_ID, "PROD-001", "抹茶", 2, "150"));
+            order.setTotalAmountMinor(250);
+
+            CompactOrder compact = CompactOrder.from(order);
+
+            assertEquals(250, compact.getTotalAmountMinor());
+            assertEquals(250, compact.toOrder().getTotalAmountMinor());
+            assertRoundTrip(order);
+        }
+    }
+
+    // ==================== Sharing ====================
+
+    @Nested
+    @DisplayName("Sharing")
+    class Sharing {
+
+        @Test
+        @DisplayName("Currencies and product ids are shared across orders; product names are not")
+        void interning() {
+            CompactOrder first = CompactOrder.from(order(new String("USD"),
+                    item(null, ORDER_ID, new String("PROD-001"), new String("Café"), 1, "1.00")));
+            CompactOrder second = CompactOrder.from(order(new String("USD"),
+                    item(null, ORDER_ID, new String("PROD-001"), new String("Café"), 1, "1.00")));
+
+            assertSame(first.getCurrency(), second.getCurrency());
+            assertSame(first.getProductId(0), second.getProductId(0));
+            assertNotSame(first.toOrder().getItems().get(0).getProductName(),
+                    second.toOrder().getItems().get(0).getProductName());
+        }
+    }
+}
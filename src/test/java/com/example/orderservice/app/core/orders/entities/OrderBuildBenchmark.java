@@ -0,0 +1,110 @@
+package com.example.orderservice.app.core.orders.entities;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to build an order of {@link #itemCount} items from API prices, as
+ * {@code buildOrder} does, with the fixed-point {@link Order} against the
+ * previous {@link BigDecimal} entities (reproduced in {@link LegacyOrder}),
+ * which recomputed the total from every item on each {@code addItem}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderBuildBenchmark {
+
+    @Param({ "10", "100", "10000" })
+    public int itemCount;
+
+    private int[] quantities;
+    private BigDecimal[] unitPrices;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        quantities = new int[itemCount];
+        unitPrices = new BigDecimal[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            quantities[i] = 1 + random.nextInt(20);
+            unitPrices[i] = BigDecimal.valueOf(1 + random.nextInt(100_000), 2);
+        }
+        BigDecimal expected = legacy().totalAmount;
+        BigDecimal actual = build().getTotalAmount();
+        if (expected.compareTo(actual) != 0) {
+            throw new IllegalStateException("Totals differ: " + expected + " vs " + actual);
+        }
+    }
+
+    @Benchmark
+    public Order build() {
+        Order order = new Order(null, "CUST-123", "USD");
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId("PROD");
+            item.setQuantity(quantities[i]);
+            item.setUnitPrice(unitPrices[i]);
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public LegacyOrder legacy() {
+        LegacyOrder order = new LegacyOrder();
+        for (int i = 0; i < itemCount; i++) {
+            LegacyItem item = new LegacyItem();
+            item.quantity = quantities[i];
+            item.unitPrice = unitPrices[i];
+            item.totalPrice = unitPrices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    /** The order entity before fixed-point totals. */
+    public static final class LegacyOrder {
+        final List<LegacyItem> items = new ArrayList<>();
+        BigDecimal totalAmount;
+
+        void addItem(LegacyItem item) {
+            items.add(item);
+            totalAmount = items.stream()
+                    .map(i -> i.totalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+
+    static final class LegacyItem {
+        int quantity;
+        BigDecimal unitPrice;
+        BigDecimal totalPrice;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderBuildBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
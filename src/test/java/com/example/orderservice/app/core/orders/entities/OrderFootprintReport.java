@@ -0,0 +1,101 @@
+package com.example.orderservice.app.core.orders.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Retained heap per order, measured with JOL, for {@link Order} and
+ * {@link CompactOrder} holding the same saved orders of typical shapes.
+ *
+ * <p>
+ * Each shape is {@value #ORDERS} orders whose product ids are drawn from a
+ * catalog of {@value #PRODUCTS} products. As when orders arrive as JSON, every
+ * {@code Order} has its own copy of each string; shared objects (such as
+ * interned product ids) are counted once and spread over all orders. Every
+ * compact order is also converted back and checked against the original.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class OrderFootprintReport {
+
+    private static final int ORDERS = 10_000;
+    private static final int PRODUCTS = 10_000;
+    private static final int[] SHAPES = { 1, 3, 10, 50 };
+
+    public static void main(String[] args) {
+        System.out.println(VM.current().details());
+        System.out.printf("%6s %14s %14s %8s%n", "items", "Order B/order", "Compact B/order", "ratio");
+        for (int items : SHAPES) {
+            SplittableRandom random = new SplittableRandom(items);
+            Order[] orders = new Order[ORDERS];
+            CompactOrder[] compact = new CompactOrder[ORDERS];
+            for (int i = 0; i < ORDERS; i++) {
+                orders[i] = savedOrder(random, i, items);
+                compact[i] = CompactOrder.from(orders[i]);
+                assertSame(orders[i], compact[i].toOrder());
+            }
+            double orderBytes = bytesPerElement(orders);
+            double compactBytes = bytesPerElement(compact);
+            System.out.printf("%6d %14.0f %14.0f %7.1fx%n", items, orderBytes, compactBytes, orderBytes / compactBytes);
+        }
+    }
+
+    private static double bytesPerElement(Object[] array) {
+        long total = GraphLayout.parseInstance((Object) array).totalSize();
+        return (double) (total - VM.current().sizeOf(array)) / array.length;
+    }
+
+    private static Order savedOrder(SplittableRandom random, int n, int itemCount) {
+        String orderId = UUID.randomUUID().toString();
+        Order order = new Order(orderId, new String("CUST-" + random.nextInt(1_000_000)), new String("USD"));
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem(UUID.randomUUID().toString(), new String(orderId),
+                    String.format("PROD-%05d", random.nextInt(PRODUCTS)), null,
+                    1 + random.nextInt(5), BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+            order.addItem(item);
+        }
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedAt(LocalDateTime.now().minusSeconds(n));
+        return order;
+    }
+
+    private static void assertSame(Order expected, Order actual) {
+        check(expected.getId(), actual.getId());
+        check(expected.getCustomerId(), actual.getCustomerId());
+        check(expected.getCurrency(), actual.getCurrency());
+        check(expected.getStatus(), actual.getStatus());
+        check(expected.getTotalAmount(), actual.getTotalAmount());
+        check(expected.getCreatedAt(), actual.getCreatedAt());
+        check(expected.getUpdatedAt(), actual.getUpdatedAt());
+        List<OrderItem> expectedItems = expected.getItems();
+        List<OrderItem> actualItems = actual.getItems();
+        check(expectedItems.size(), actualItems.size());
+        for (int i = 0; i < expectedItems.size(); i++) {
+            OrderItem e = expectedItems.get(i);
+            OrderItem a = actualItems.get(i);
+            check(e.getId(), a.getId());
+            check(e.getOrderId(), a.getOrderId());
+            check(e.getProductId(), a.getProductId());
+            check(e.getProductName(), a.getProductName());
+            check(e.getQuantity(), a.getQuantity());
+            check(e.getUnitPrice(), a.getUnitPrice());
+            check(e.getTotalPrice(), a.getTotalPrice());
+        }
+    }
+
+    private static void check(Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException("Round trip changed " + expected + " to " + actual);
+        }
+    }
+}
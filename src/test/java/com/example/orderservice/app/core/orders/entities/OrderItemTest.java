@@ -0,0 +1,145 @@
+package com.example.orderservice.app.core.orders.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderItem Tests")
+class OrderItemTest {
+
+    // ==================== Helper Methods ====================
+
+    private static OrderItem item(String unitPrice, int quantity) {
+        OrderItem item = new OrderItem();
+        item.setQuantity(quantity);
+        item.setUnitPrice(new BigDecimal(unitPrice));
+        return item;
+    }
+
+    // ==================== Price Scale ====================
+
+    @Nested
+    @DisplayName("Price scale")
+    class PriceScale {
+
+        @Test
+        @DisplayName("The unit price keeps its own scale")
+        void keepsScale() {
+            OrderItem item = item("1.2345", 3);
+
+            assertEquals(4, item.getScale());
+            assertEquals(12345, item.getUnitPriceMinor());
+            assertEquals(new BigDecimal("3.7035"), item.getTotalPrice());
+        }
+
+        @Test
+        @DisplayName("Scales above MAX_PRICE_SCALE are rounded half-even")
+        void capsScale() {
+            OrderItem item = item("0.12345650", 1);
+
+            assertEquals(OrderItem.MAX_PRICE_SCALE, item.getScale());
+            assertEquals(new BigDecimal("0.123456"), item.getUnitPrice());
+        }
+
+        @Test
+        @DisplayName("Minor-unit prices outside 0..MAX_PRICE_SCALE are rejected")
+        void rejectsScale() {
+            OrderItem item = new OrderItem();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> item.setUnitPrice(1, OrderItem.MAX_PRICE_SCALE + 1));
+            assertThrows(IllegalArgumentException.class, () -> item.setUnitPrice(1, -1));
+            assertFalse(item.hasUnitPrice());
+        }
+
+        @Test
+        @DisplayName("An overflowing total throws instead of wrapping")
+        void totalOverflow() {
+            OrderItem item = new OrderItem();
+            item.setUnitPrice(Long.MAX_VALUE / 2, 0);
+
+            assertThrows(ArithmeticException.class, () -> item.setQuantity(3));
+        }
+
+        @Test
+        @DisplayName("Changing the quantity recalculates an explicit total")
+        void recalculates() {
+            OrderItem item = item("2.50", 2);
+            item.setTotalPrice(400);
+
+            item.setQuantity(3);
+
+            assertEquals(new BigDecimal("7.50"), item.getTotalPrice());
+        }
+    }
+
+    // ==================== Order Totals ====================
+
+    @Nested
+    @DisplayName("Order totals")
+    class OrderTotals {
+
+        @Test
+        @DisplayName("Item totals are rounded half-even to the currency scale")
+        void roundsToCurrency() {
+            Order order = new Order("o1", "c1", "USD");
+
+            order.addItem(item("0.125", 1));
+            order.addItem(item("0.135", 1));
+
+            assertEquals(new BigDecimal("0.26"), order.getTotalAmount());
+        }
+
+        @Test
+        @DisplayName("Zero-digit currencies round away all fractions")
+        void zeroScaleCurrency() {
+            Order order = new Order("o1", "c1", "JPY");
+
+            order.addItem(item("100.5", 1));
+            order.addItem(item("101.5", 1));
+
+            assertEquals(new BigDecimal("202"), order.getTotalAmount());
+        }
+
+        @Test
+        @DisplayName("Incremental totals match the BigDecimal reference")
+        void matchesReference() {
+            Random random = new Random(42);
+            for (String currency : List.of("USD", "JPY", "BHD")) {
+                Order order = new Order("o1", "c1", currency);
+                int scale = order.getScale();
+                BigDecimal expected = BigDecimal.ZERO.setScale(scale);
+                List<OrderItem> items = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    BigDecimal price = BigDecimal.valueOf(random.nextLong(1, 10_000_000), random.nextInt(7));
+                    int quantity = random.nextInt(1, 50);
+                    OrderItem item = item(price.toPlainString(), quantity);
+                    items.add(item);
+                    order.addItem(item);
+                    expected = expected.add(price.setScale(OrderItem.MAX_PRICE_SCALE, RoundingMode.HALF_EVEN)
+                            .multiply(BigDecimal.valueOf(quantity))
+                            .setScale(scale, RoundingMode.HALF_EVEN));
+                }
+                assertEquals(expected, order.getTotalAmount(), currency);
+
+                for (int i = 0; i < items.size(); i += 3) {
+                    OrderItem item = items.get(i);
+                    order.removeItem(item);
+                    expected = expected.subtract(item.getTotalPrice().setScale(scale, RoundingMode.HALF_EVEN));
+                }
+                assertEquals(expected, order.getTotalAmount(), currency + " after removals");
+
+                order.setItems(order.getItems());
+                assertEquals(expected, order.getTotalAmount(), currency + " recalculated");
+            }
+        }
+    }
+}
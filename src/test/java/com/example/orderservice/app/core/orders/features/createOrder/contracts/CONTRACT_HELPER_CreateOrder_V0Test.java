@@ -0,0 +1,113 @@
+package com.example.orderservice.app.core.orders.features.createOrder.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.features.createOrder.exceptions.InvalidOrderException;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+import com.example.orderservice.app.core.pricing.interfaces.PricingService;
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.logger.contracts.LoggerServiceContractV0;
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("CONTRACT_HELPER_CreateOrder_V0 Tests")
+class CONTRACT_HELPER_CreateOrder_V0Test {
+
+    /** Prices every item at 12.50 when it has a catalog; otherwise keeps the client's price. */
+    private static final class FakePricing implements PricingService {
+        boolean catalog;
+
+        @Override
+        public boolean price(OrderItem item, String currency, String region, long at) {
+            if (catalog) {
+                item.setUnitPrice(1250, 2);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean hasCatalogPrices() {
+            return catalog;
+        }
+    }
+
+    private final LoggerServiceContractV0 loggerService = new LoggerServiceContractV0(
+            new MetricsServiceContractV0(), false, 16, 16, LogOverflowPolicy.BLOCK, 10);
+    private final FakePricing pricing = new FakePricing();
+    private final CONTRACT_HELPER_CreateOrder_V0 helper = new CONTRACT_HELPER_CreateOrder_V0(loggerService, null,
+            null, pricing, CONTRACT_HELPER_CreateOrder_V0Test::products, null, List.of());
+
+    @AfterEach
+    void tearDown() {
+        loggerService.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Map<String, CatalogProduct> products(Iterable<String> productIds) {
+        Map<String, CatalogProduct> products = new HashMap<>();
+        for (String productId : productIds) {
+            products.put(productId, new CatalogProduct(productId, "Product " + productId, "books"));
+        }
+        return products;
+    }
+
+    private static INPUT_CreateOrder input(BigDecimal unitPrice) {
+        return new INPUT_CreateOrder("CUST-123", List.of(new InputOrderItem("PROD-001", 2, unitPrice)), "EUR");
+    }
+
+    private static List<String> rejectedFields(Runnable action) {
+        InvalidOrderException exception = assertThrows(InvalidOrderException.class, action::run);
+        return exception.getErrors().stream().map(FieldError::field).toList();
+    }
+
+    // ==================== Unit Price ====================
+
+    @Test
+    @DisplayName("With catalog prices the client may leave out the unit price")
+    void catalogPriced() {
+        pricing.catalog = true;
+        INPUT_CreateOrder input = input(null);
+
+        helper.validateInput(input);
+        Order order = helper.buildOrder(input);
+
+        assertEquals(new BigDecimal("12.50"), order.getItems().get(0).getUnitPrice());
+        assertEquals(new BigDecimal("25.00"), order.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Without catalog prices the unit price is required and must be positive")
+    void clientPriced() {
+        helper.validateInput(input(new BigDecimal("9.99")));
+
+        assertEquals(List.of("items[0].unitPrice"), rejectedFields(() -> helper.validateInput(input(null))));
+        assertEquals(List.of("items[0].unitPrice"),
+                rejectedFields(() -> helper.validateInput(input(BigDecimal.ZERO))));
+    }
+
+    @Test
+    @DisplayName("An item left without a price by a catalog removed after validation is rejected")
+    void catalogRemoved() {
+        pricing.catalog = true;
+        INPUT_CreateOrder input = input(null);
+        helper.validateInput(input);
+
+        pricing.catalog = false;
+
+        assertEquals(List.of("items[0].unitPrice"), rejectedFields(() -> helper.buildOrder(input)));
+    }
+}
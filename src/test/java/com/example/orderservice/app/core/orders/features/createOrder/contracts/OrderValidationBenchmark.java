@@ -0,0 +1,134 @@
+package com.example.orderservice.app.core.orders.features.createOrder.contracts;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.orders.features.createOrder.exceptions.InvalidOrderException;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.infra.logger.contracts.LoggerServiceContractV0;
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+/**
+ * Throughput of {@code validateInput} for a valid order and for an order with
+ * three violations, against the previous throw-on-first-error validation
+ * (reproduced in {@link #legacyValidate}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderValidationBenchmark {
+
+    private CONTRACT_HELPER_CreateOrder_V0 helper;
+    private INPUT_CreateOrder validInput;
+    private INPUT_CreateOrder invalidInput;
+
+    @Setup
+    public void setUp() {
+        helper = new CONTRACT_HELPER_CreateOrder_V0(new LoggerServiceContractV0(new MetricsServiceContractV0(),
+                false, 16, 16, LogOverflowPolicy.BLOCK, 10), null, null, (item, currency, region, at) -> true, null,
+                null, List.of());
+        validInput = new INPUT_CreateOrder("CUST-123", List.of(
+                new InputOrderItem("PROD-001", 2, new BigDecimal("25.00")),
+                new InputOrderItem("PROD-002", 1, new BigDecimal("10.00")),
+                new InputOrderItem("PROD-003", 5, new BigDecimal("3.50"))), "USD");
+        invalidInput = new INPUT_CreateOrder("CUST-123", List.of(
+                new InputOrderItem("PROD-001", 0, new BigDecimal("25.00")),
+                new InputOrderItem("", 1, new BigDecimal("10.00")),
+                new InputOrderItem("PROD-003", 5, BigDecimal.ZERO)), "USD");
+    }
+
+    @Benchmark
+    public Object valid() {
+        return validate(validInput);
+    }
+
+    @Benchmark
+    public Object invalid() {
+        return validate(invalidInput);
+    }
+
+    @Benchmark
+    public Object legacyValid() {
+        return legacy(validInput);
+    }
+
+    @Benchmark
+    public Object legacyInvalid() {
+        return legacy(invalidInput);
+    }
+
+    private Object validate(INPUT_CreateOrder input) {
+        try {
+            helper.validateInput(input);
+            return null;
+        } catch (InvalidOrderException e) {
+            return e;
+        }
+    }
+
+    private static Object legacy(INPUT_CreateOrder input) {
+        try {
+            legacyValidate(input);
+            return null;
+        } catch (LegacyException e) {
+            return e;
+        }
+    }
+
+    /** The checks as they were before the validator: stop at the first error. */
+    private static void legacyValidate(INPUT_CreateOrder input) {
+        if (input.customerId() == null || input.customerId().isBlank()) {
+            throw new LegacyException("Customer ID is required");
+        }
+        if (input.items() == null || input.items().isEmpty()) {
+            throw new LegacyException("Order must contain at least one item");
+        }
+        if (input.currency() == null || input.currency().isBlank()) {
+            throw new LegacyException("Currency is required");
+        }
+        for (InputOrderItem item : input.items()) {
+            if (item.productId() == null || item.productId().isBlank()) {
+                throw new LegacyException("Product ID is required for all items");
+            }
+            if (item.quantity() <= 0) {
+                throw new LegacyException("Quantity must be greater than zero");
+            }
+            if (item.unitPrice() == null || item.unitPrice().signum() <= 0) {
+                throw new LegacyException("Unit price must be greater than zero");
+            }
+        }
+    }
+
+    /** Same shape as the old {@code InvalidOrderException}: full stack trace. */
+    private static final class LegacyException extends RuntimeException {
+        LegacyException(String message) {
+            super(message);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.orderservice.app.core.orders.features.createOrder.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.core.origin.schemas.ServiceInput;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("SERVICE_CreateOrder Tests")
+class SERVICE_CreateOrderTest {
+
+    private static final User USER = new User("u1", "u1@example.com", "USER");
+    private static final String CANDIDATE = "CONTRACT_HELPER_CreateOrder_V1";
+
+    /** Records the phases it runs; fails in buildOrder once {@code failing} is set. */
+    private static final class RecordingHelper implements INTERFACE_HELPER_CreateOrder {
+        final List<String> calls = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public void validateInput(INPUT_CreateOrder input) {
+            calls.add("validateInput");
+        }
+
+        @Override
+        public Order buildOrder(INPUT_CreateOrder input) {
+            calls.add("buildOrder");
+            if (failing) {
+                throw new IllegalStateException("candidate bug");
+            }
+            Order order = new Order();
+            order.setCustomerId(input.customerId());
+            order.setCurrency(input.currency());
+            order.setTotalAmount(new BigDecimal("50.00"));
+            return order;
+        }
+
+        @Override
+        public Order saveOrder(Order order) {
+            calls.add("saveOrder");
+            order.setId("ORDER-001");
+            order.setStatus(OrderStatus.CREATED);
+            order.setCreatedAt(LocalDateTime.now());
+            return order;
+        }
+
+        @Override
+        public void publishEvent(Order order) {
+            calls.add("publishEvent");
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private final RecordingHelper primary = new RecordingHelper();
+    private final RecordingHelper candidate = new RecordingHelper();
+
+    // ==================== Helper Methods ====================
+
+    /** Shadow every request, running shadows inline so their outcome is known on return. */
+    private SERVICE_CreateOrder shadowingService() {
+        return new SERVICE_CreateOrder(
+                new ServiceDependency((user, name) -> true, metrics, null, null, null),
+                Map.of(SERVICE_CreateOrder.DEFAULT_HELPER, primary, CANDIDATE, candidate),
+                new HelperRoute(Map.of(SERVICE_CreateOrder.DEFAULT_HELPER, 1), CANDIDATE, 100),
+                Runnable::run);
+    }
+
+    private ServiceOutput<OUTPUT_CreateOrder> run(SERVICE_CreateOrder service) {
+        return service.run(new ServiceInput<>(USER, new INPUT_CreateOrder("CUST-1",
+                List.of(new InputOrderItem("PROD-001", 2, new BigDecimal("25.00"))), "USD")));
+    }
+
+    private long shadowCount(String metric) {
+        return metrics.counter(metric, "service", "Orders.CreateOrder", "helper", CANDIDATE).get();
+    }
+
+    // ==================== Shadowing ====================
+
+    @Test
+    @DisplayName("The shadow runs without persisting or publishing, and the primary answers")
+    void shadowWithoutSideEffects() {
+        ServiceOutput<OUTPUT_CreateOrder> output = run(shadowingService());
+
+        assertEquals(ServiceStatus.SUCCESS, output.status());
+        assertEquals("ORDER-001", output.data().orderId());
+        assertEquals(List.of("validateInput", "buildOrder", "saveOrder", "publishEvent"), primary.calls);
+        assertEquals(List.of("validateInput", "buildOrder"), candidate.calls);
+        assertEquals(1, shadowCount("helper_shadow_runs_total"));
+        assertEquals(0, shadowCount("helper_shadow_failures_total"));
+    }
+
+    @Test
+    @DisplayName("A failing shadow is counted and the primary result is still returned")
+    void failingShadow() {
+        candidate.failing = true;
+
+        ServiceOutput<OUTPUT_CreateOrder> output = run(shadowingService());
+
+        assertEquals(ServiceStatus.SUCCESS, output.status());
+        assertEquals("ORDER-001", output.data().orderId());
+        assertEquals(List.of("validateInput", "buildOrder", "saveOrder", "publishEvent"), primary.calls);
+        assertEquals(1, shadowCount("helper_shadow_runs_total"));
+        assertEquals(1, shadowCount("helper_shadow_failures_total"));
+    }
+}
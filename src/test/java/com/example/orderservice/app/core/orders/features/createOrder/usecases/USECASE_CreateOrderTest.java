@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,8 @@ import com.example.orderservice.app.core.orders.features.createOrder.interfaces.
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
 import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.origin.exceptions.DeadlineExceededException;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("USECASE_CreateOrder Tests")
@@ -495,4 +498,49 @@ class USECASE_CreateOrderTest {
             assertEquals("Quantity must be greater than zero", exception.getMessage());
         }
     }
+
+    // ==================== Deadline ====================
+
+    @Nested
+    @DisplayName("Deadline")
+    class DeadlineChecks {
+
+        @Test
+        @DisplayName("Should not save or publish when the deadline expires before saveOrder")
+        void execute_WithDeadlineExpiredDuringBuild_DoesNotSaveOrPublish() {
+            // Arrange
+            INPUT_CreateOrder input = createValidInput();
+            usecase.setDeadline(Deadline.after(Duration.ofMinutes(1)));
+            when(mockHelper.buildOrder(input)).thenAnswer(invocation -> {
+                usecase.setDeadline(new Deadline(System.nanoTime() - 1));
+                return createBuiltOrder();
+            });
+
+            // Act & Assert
+            DeadlineExceededException exception = assertThrows(
+                    DeadlineExceededException.class,
+                    () -> usecase.execute(input));
+            assertEquals(USECASE_CreateOrder.PHASE_SAVE_ORDER, exception.getPhase());
+            verify(mockHelper, never()).saveOrder(any());
+            verify(mockHelper, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should run every phase when the deadline has not expired")
+        void execute_WithinDeadline_RunsAllPhases() {
+            // Arrange
+            INPUT_CreateOrder input = createValidInput();
+            Order builtOrder = createBuiltOrder();
+            usecase.setDeadline(Deadline.after(Duration.ofMinutes(1)));
+            when(mockHelper.buildOrder(input)).thenReturn(builtOrder);
+            when(mockHelper.saveOrder(builtOrder)).thenReturn(createSavedOrder());
+
+            // Act
+            OUTPUT_CreateOrder output = usecase.execute(input);
+
+            // Assert
+            assertEquals("ORDER-001", output.orderId());
+            verify(mockHelper, times(1)).publishEvent(any());
+        }
+    }
 }
@@ -0,0 +1,241 @@
+package com.example.orderservice.app.core.orderupdates.entities;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.orderservice.app.core.orderupdates.interfaces.UpdateSink;
+import com.example.orderservice.app.infra.metrics.entities.HistogramSnapshot;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+
+/**
+ * Soak scenario for {@link SubscriptionRegistry}.
+ *
+ * <p>
+ * In-process, it opens {@value #SUBSCRIPTIONS} subscriptions: one per order
+ * for {@value #ORDER_SUBSCRIPTIONS} orders, the rest spread over
+ * {@value #CUSTOMERS} customers. {@value #STALLED_PERCENT}% of the sinks are
+ * stalled clients that take {@value #STALLED_SEND_MILLIS} ms per update. It
+ * reports the heap held per idle subscription, then publishes
+ * {@value #UPDATES_PER_SECOND} updates/s, each to an order and its customer,
+ * for {@value #SECONDS} s, and reports the publish-to-send latency seen by
+ * the healthy sinks, updates dropped and subscriptions disconnected. This is
+ * run once per {@link OverflowPolicy}, and each run ends with a heartbeat
+ * over every subscription.
+ * </p>
+ *
+ * <p>
+ * Given a base URL, e.g. {@code http://localhost:8080 2000}, it instead opens
+ * that many real SSE streams against a running service, spread over
+ * {@value #HTTP_CUSTOMERS} customers, creates one order per customer and
+ * counts the events received.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class SubscriptionRegistryLoadScenario {
+
+    private static final int SUBSCRIPTIONS = 100_000;
+    private static final int ORDER_SUBSCRIPTIONS = 90_000;
+    private static final int CUSTOMERS = 1_000;
+    private static final int STALLED_PERCENT = 1;
+    private static final int STALLED_SEND_MILLIS = 500;
+    private static final int BUFFER_CAPACITY = 64;
+    private static final int UPDATES_PER_SECOND = 20_000;
+    private static final int SECONDS = 10;
+    private static final int HTTP_CUSTOMERS = 20;
+
+    private record Ping(long publishedNanos) {
+    }
+
+    private static final class CountingSink implements UpdateSink<Ping> {
+
+        private final boolean stalled;
+        private final LatencyHistogram latency;
+        private final LongAdder heartbeats;
+
+        CountingSink(boolean stalled, LatencyHistogram latency, LongAdder heartbeats) {
+            this.stalled = stalled;
+            this.latency = latency;
+            this.heartbeats = heartbeats;
+        }
+
+        @Override
+        public void send(Ping update) throws InterruptedException {
+            if (stalled) {
+                Thread.sleep(STALLED_SEND_MILLIS);
+            } else {
+                latency.recordSince(update.publishedNanos());
+            }
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats.increment();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            runHttp(args[0], args.length > 1 ? Integer.parseInt(args[1]) : 2000);
+            return;
+        }
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            runInProcess(policy);
+        }
+    }
+
+    private static void runInProcess(OverflowPolicy policy) throws InterruptedException {
+        try (ExecutorService delivery = Executors.newVirtualThreadPerTaskExecutor()) {
+            SubscriptionRegistry<Ping> registry = new SubscriptionRegistry<>(BUFFER_CAPACITY, policy,
+                    SUBSCRIPTIONS, delivery);
+            LatencyHistogram latency = new LatencyHistogram();
+            LongAdder heartbeats = new LongAdder();
+
+            long heapBefore = usedHeap();
+            int threadsBefore = Thread.activeCount();
+            List<SubscriptionRegistry.Subscription<Ping>> subscriptions = new ArrayList<>(SUBSCRIPTIONS);
+            for (int i = 0; i < SUBSCRIPTIONS; i++) {
+                String key = i < ORDER_SUBSCRIPTIONS ? order(i) : customer(i % CUSTOMERS);
+                boolean stalled = i % 100 < STALLED_PERCENT;
+                subscriptions.add(registry.subscribe(key, new CountingSink(stalled, latency, heartbeats)));
+            }
+            long bytesPerSubscription = (usedHeap() - heapBefore) / SUBSCRIPTIONS;
+            int idleThreads = Thread.activeCount() - threadsBefore;
+
+            // Paced in 1 ms batches
+            SplittableRandom random = new SplittableRandom(44);
+            long published = 0;
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(SECONDS);
+            long perBatch = UPDATES_PER_SECOND / 1000;
+            for (long batch = 0; System.nanoTime() < end; batch++) {
+                long due = start + TimeUnit.MILLISECONDS.toNanos(batch);
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                for (int i = 0; i < perBatch; i++) {
+                    int order = random.nextInt(ORDER_SUBSCRIPTIONS);
+                    Ping ping = new Ping(System.nanoTime());
+                    registry.publish(order(order), ping);
+                    registry.publish(customer(order % CUSTOMERS), ping);
+                    published++;
+                }
+            }
+
+            long heartbeatStart = System.nanoTime();
+            registry.heartbeat();
+            while (heartbeats.sum() < registry.size() * 9L / 10
+                    && System.nanoTime() - heartbeatStart < TimeUnit.SECONDS.toNanos(10)) {
+                Thread.sleep(10);
+            }
+            long heartbeatMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - heartbeatStart);
+
+            HistogramSnapshot healthy = latency.snapshot();
+            System.out.printf("%-11s %d subscriptions on %d keys, %d B heap and %d threads while idle%n",
+                    policy, SUBSCRIPTIONS, ORDER_SUBSCRIPTIONS + CUSTOMERS, bytesPerSubscription, idleThreads);
+            System.out.printf("            published %d/s, delivered %d, dropped %d, disconnected %d%n",
+                    published / SECONDS, registry.delivered(), registry.dropped(), registry.overflowDisconnects());
+            System.out.printf("            healthy sinks: p50 %d µs, p99 %d µs, max %d µs%n",
+                    healthy.p50() / 1000, healthy.p99() / 1000, healthy.max() / 1000);
+            System.out.printf("            heartbeat to %d subscriptions: %d ms%n", heartbeats.sum(), heartbeatMillis);
+
+            for (SubscriptionRegistry.Subscription<Ping> subscription : subscriptions) {
+                subscription.cancel();
+            }
+            delivery.shutdownNow();
+        }
+    }
+
+    private static void runHttp(String baseUrl, int streams) throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        LongAdder opened = new LongAdder();
+        LongAdder events = new LongAdder();
+        LongAdder failed = new LongAdder();
+        List<Thread> readers = new ArrayList<>(streams);
+        for (int i = 0; i < streams; i++) {
+            URI uri = URI.create(baseUrl + "/api/v0/orders/updates?customerId=SOAK-" + i % HTTP_CUSTOMERS);
+            readers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    HttpResponse<java.io.InputStream> response = client.send(HttpRequest.newBuilder(uri).build(),
+                            HttpResponse.BodyHandlers.ofInputStream());
+                    if (response.statusCode() != 200) {
+                        failed.increment();
+                        return;
+                    }
+                    opened.increment();
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (line.startsWith("event:status")) {
+                                events.increment();
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    failed.increment();
+                }
+            }));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (opened.sum() + failed.sum() < streams && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        System.out.printf("opened %d streams, %d failed%n", opened.sum(), failed.sum());
+
+        long start = System.nanoTime();
+        // Responses are not awaited: the order is published before the event bus is called
+        for (int i = 0; i < HTTP_CUSTOMERS; i++) {
+            String body = "{\"customerId\":\"SOAK-" + i + "\",\"currency\":\"USD\",\"items\":"
+                    + "[{\"productId\":\"PROD-001\",\"quantity\":1,\"unitPrice\":10.00}]}";
+            client.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v0/orders/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+        while (events.sum() < opened.sum() && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30)) {
+            Thread.sleep(10);
+        }
+        System.out.printf("%d of %d streams got their event, %d ms after the orders were sent%n", events.sum(),
+                opened.sum(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        for (Thread reader : readers) {
+            reader.interrupt();
+        }
+        System.exit(0);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String order(int i) {
+        return "order:ORD-" + i;
+    }
+
+    private static String customer(int i) {
+        return "customer:CUST-" + i;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.orderservice.app.core.orderupdates.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orderupdates.entities.SubscriptionRegistry.Subscription;
+import com.example.orderservice.app.core.orderupdates.interfaces.UpdateSink;
+
+@DisplayName("SubscriptionRegistry Tests")
+class SubscriptionRegistryTest {
+
+    /** Holds tasks until the test runs them, so buffers fill deterministically. */
+    private static final class ManualExecutor implements Executor {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    /** Records what it is sent; fails every send once {@code failing} is set. */
+    private static final class RecordingSink implements UpdateSink<String> {
+        final List<String> received = new ArrayList<>();
+        int heartbeats;
+        boolean failing;
+        boolean closed;
+
+        @Override
+        public void send(String update) throws Exception {
+            if (failing) {
+                throw new IllegalStateException("client gone");
+            }
+            received.add(update);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private final ManualExecutor delivery = new ManualExecutor();
+
+    // ==================== Helper Methods ====================
+
+    private SubscriptionRegistry<String> registry(int bufferCapacity, OverflowPolicy overflowPolicy,
+            int maxSubscriptions) {
+        return new SubscriptionRegistry<>(bufferCapacity, overflowPolicy, maxSubscriptions, delivery);
+    }
+
+    // ==================== Delivery ====================
+
+    @Nested
+    @DisplayName("Delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("Updates reach every subscription on their key, in order")
+        void inOrderPerKey() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 10);
+            RecordingSink first = new RecordingSink();
+            RecordingSink second = new RecordingSink();
+            RecordingSink other = new RecordingSink();
+            registry.subscribe("order-1", first);
+            registry.subscribe("order-1", second);
+            registry.subscribe("order-2", other);
+
+            assertEquals(2, registry.publish("order-1", "a"));
+            assertEquals(2, registry.publish("order-1", "b"));
+            assertEquals(0, registry.publish("order-3", "c"));
+            delivery.runAll();
+
+            assertEquals(List.of("a", "b"), first.received);
+            assertEquals(List.of("a", "b"), second.received);
+            assertTrue(other.received.isEmpty());
+            assertEquals(4, registry.delivered());
+        }
+
+        @Test
+        @DisplayName("One drain task serves a subscription until its buffer is empty")
+        void oneDrainTask() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 10);
+            registry.subscribe("order-1", new RecordingSink());
+
+            registry.publish("order-1", "a");
+            registry.publish("order-1", "b");
+
+            assertEquals(1, delivery.tasks.size());
+        }
+
+        @Test
+        @DisplayName("Heartbeats go only to subscriptions with nothing waiting")
+        void heartbeatWhenIdle() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 10);
+            RecordingSink idle = new RecordingSink();
+            RecordingSink busy = new RecordingSink();
+            registry.subscribe("order-1", idle);
+            registry.subscribe("order-2", busy);
+            registry.publish("order-2", "a");
+
+            registry.heartbeat();
+            delivery.runAll();
+
+            assertEquals(1, idle.heartbeats);
+            assertEquals(0, busy.heartbeats);
+            assertEquals(List.of("a"), busy.received);
+        }
+
+        @Test
+        @DisplayName("A sink that throws is closed and removed")
+        void failingSinkClosed() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 10);
+            RecordingSink sink = new RecordingSink();
+            sink.failing = true;
+            registry.subscribe("order-1", sink);
+
+            registry.publish("order-1", "a");
+            delivery.runAll();
+
+            assertTrue(sink.closed);
+            assertEquals(0, registry.size());
+            assertEquals(1, registry.errorDisconnects());
+            assertEquals(0, registry.publish("order-1", "b"));
+        }
+    }
+
+    // ==================== Overflow ====================
+
+    @Nested
+    @DisplayName("Overflow")
+    class Overflow {
+
+        @Test
+        @DisplayName("DROP_OLDEST discards the oldest waiting updates and keeps the subscription")
+        void dropOldest() {
+            SubscriptionRegistry<String> registry = registry(2, OverflowPolicy.DROP_OLDEST, 10);
+            RecordingSink sink = new RecordingSink();
+            registry.subscribe("order-1", sink);
+
+            for (String update : List.of("a", "b", "c", "d")) {
+                assertEquals(1, registry.publish("order-1", update));
+            }
+            delivery.runAll();
+
+            assertEquals(List.of("c", "d"), sink.received);
+            assertEquals(2, registry.dropped());
+            assertFalse(sink.closed);
+            assertEquals(1, registry.size());
+        }
+
+        @Test
+        @DisplayName("DISCONNECT closes the subscription when its buffer is full")
+        void disconnect() {
+            SubscriptionRegistry<String> registry = registry(2, OverflowPolicy.DISCONNECT, 10);
+            RecordingSink sink = new RecordingSink();
+            registry.subscribe("order-1", sink);
+
+            assertEquals(1, registry.publish("order-1", "a"));
+            assertEquals(1, registry.publish("order-1", "b"));
+            assertEquals(0, registry.publish("order-1", "c"));
+            delivery.runAll();
+
+            assertTrue(sink.closed);
+            assertTrue(sink.received.isEmpty());
+            assertEquals(1, registry.overflowDisconnects());
+            assertEquals(0, registry.size());
+            assertEquals(0, registry.keyCount());
+        }
+    }
+
+    // ==================== Subscriptions ====================
+
+    @Nested
+    @DisplayName("Subscriptions")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("Cancelling removes the subscription and discards what it had waiting")
+        void cancel() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 10);
+            RecordingSink sink = new RecordingSink();
+            Subscription<String> subscription = registry.subscribe("order-1", sink);
+            registry.publish("order-1", "a");
+
+            subscription.cancel();
+            subscription.cancel();
+            delivery.runAll();
+
+            assertTrue(sink.received.isEmpty());
+            assertFalse(sink.closed);
+            assertEquals(0, registry.size());
+            assertEquals(0, registry.keyCount());
+            assertEquals(0, registry.publish("order-1", "b"));
+        }
+
+        @Test
+        @DisplayName("Subscribing past the cap is rejected until one is cancelled")
+        void cap() {
+            SubscriptionRegistry<String> registry = registry(8, OverflowPolicy.DROP_OLDEST, 2);
+            Subscription<String> first = registry.subscribe("order-1", new RecordingSink());
+            registry.subscribe("order-2", new RecordingSink());
+
+            assertThrows(RejectedExecutionException.class, () -> registry.subscribe("order-3", new RecordingSink()));
+            assertEquals(2, registry.size());
+
+            first.cancel();
+            registry.subscribe("order-3", new RecordingSink());
+            assertEquals(2, registry.size());
+        }
+
+        @Test
+        @DisplayName("A capacity or cap below one is rejected")
+        void invalidBounds() {
+            assertThrows(IllegalArgumentException.class, () -> registry(0, OverflowPolicy.DROP_OLDEST, 1));
+            assertThrows(IllegalArgumentException.class, () -> registry(1, OverflowPolicy.DROP_OLDEST, 0));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.interfaces.TokenAuthenticator;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.AuthenticationKeysReloadedEvent;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("CachingTokenAuthenticator Tests")
+class CachingTokenAuthenticatorTest {
+
+    private static final long NOW = 1_800_000_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    /**
+     * Accepts tokens of the form {@code user:exp} and rejects anything else;
+     * runs {@code during} inside each verification.
+     */
+    private static final class FakeVerifier implements TokenAuthenticator {
+        final List<String> verified = new ArrayList<>();
+        Runnable during = () -> {
+        };
+
+        @Override
+        public AuthenticatedToken authenticate(String token) {
+            verified.add(token);
+            during.run();
+            String[] parts = token == null ? new String[0] : token.split(":");
+            if (parts.length != 2) {
+                throw new AuthenticationException("Malformed token");
+            }
+            return new AuthenticatedToken(new User(parts[0], null, "USER"), Long.parseLong(parts[1]));
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private FakeVerifier verifier;
+    private CachingTokenAuthenticator cache;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new FakeVerifier();
+        cache = new CachingTokenAuthenticator(verifier, metrics, TTL, 100);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /** Authenticate {@code seconds} after the start; return whether the verifier was asked. */
+    private boolean verifiedAt(String token, long seconds) {
+        int before = verifier.verified.size();
+        cache.authenticate(token, seconds * SECOND, NOW + seconds);
+        return verifier.verified.size() > before;
+    }
+
+    private static String token(String user, long exp) {
+        return user + ":" + exp;
+    }
+
+    // ==================== Caching ====================
+
+    @Nested
+    @DisplayName("Caching")
+    class Caching {
+
+        @Test
+        @DisplayName("A verified token is served from the cache")
+        void hit() {
+            String token = token("u1", NOW + 600);
+
+            assertTrue(verifiedAt(token, 0));
+            assertFalse(verifiedAt(token, 1));
+            assertEquals("u1", cache.authenticate(token, 2 * SECOND, NOW + 2).user().id());
+            assertEquals(2.0 / 3, cache.hitRatio(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Rejected tokens are verified every time")
+        void rejectedNotCached() {
+            assertThrows(AuthenticationException.class, () -> cache.authenticate("bogus", 0, NOW));
+            assertThrows(AuthenticationException.class, () -> cache.authenticate("bogus", 1, NOW));
+            assertThrows(AuthenticationException.class, () -> cache.authenticate(null, 2, NOW));
+
+            assertEquals(3, verifier.verified.size());
+            assertEquals(0, cache.size());
+            assertEquals(3, metrics.counter("authentication_rejected_total").get());
+        }
+
+        @Test
+        @DisplayName("Entries expire at the token's exp")
+        void expiresAtExp() {
+            String token = token("u1", NOW + 10);
+            verifiedAt(token, 0);
+
+            assertFalse(verifiedAt(token, 9));
+            assertTrue(verifiedAt(token, 10));
+        }
+
+        @Test
+        @DisplayName("Entries expire after the TTL when the token outlives it")
+        void expiresAtTtl() {
+            String token = token("u1", NOW + 3_600);
+            long ttl = TTL.toSeconds();
+            verifiedAt(token, 0);
+
+            assertFalse(verifiedAt(token, ttl - 1));
+            assertTrue(verifiedAt(token, ttl));
+        }
+
+        @Test
+        @DisplayName("Tokens already expired by the local clock are not cached")
+        void expiredNotCached() {
+            String token = token("u1", NOW);
+
+            assertTrue(verifiedAt(token, 0));
+            assertEquals(0, cache.size());
+        }
+    }
+
+    // ==================== Invalidation ====================
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Reloading the keys drops every cached token")
+        void keyReload() {
+            String first = token("u1", NOW + 600);
+            String second = token("u2", NOW + 600);
+            verifiedAt(first, 0);
+            verifiedAt(second, 0);
+
+            cache.onKeysReloaded(new AuthenticationKeysReloadedEvent(1));
+
+            assertEquals(0, cache.size());
+            assertTrue(verifiedAt(first, 1));
+            assertFalse(verifiedAt(first, 2));
+        }
+
+        @Test
+        @DisplayName("A verification racing with a key reload is not cached")
+        void reloadDuringVerification() {
+            String token = token("u1", NOW + 600);
+            verifier.during = cache::invalidateAll;
+
+            assertEquals("u1", cache.authenticate(token, 0, NOW).user().id());
+
+            assertEquals(0, cache.size());
+            verifier.during = () -> {
+            };
+            assertTrue(verifiedAt(token, 1));
+            assertFalse(verifiedAt(token, 2));
+        }
+
+        @Test
+        @DisplayName("A full cache makes room before caching another token")
+        void bounded() {
+            cache = new CachingTokenAuthenticator(verifier, metrics, TTL, 10);
+            for (int i = 0; i < 25; i++) {
+                verifiedAt(token("u" + i, NOW + 600), 0);
+                assertTrue(cache.size() <= 10, "size " + cache.size());
+            }
+        }
+    }
+}
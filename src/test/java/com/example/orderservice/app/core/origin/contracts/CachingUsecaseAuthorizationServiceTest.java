@@ -0,0 +1,221 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.interfaces.UsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.schemas.AuthorizationPolicyReloadedEvent;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("CachingUsecaseAuthorizationService Tests")
+class CachingUsecaseAuthorizationServiceTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    private static final User ALICE = new User("alice", null, "USER");
+    private static final User BOB = new User("bob", null, "USER");
+
+    /**
+     * Grants every service whose name starts with {@code Allowed}; runs
+     * {@code during} inside each lookup.
+     */
+    private static final class FakePolicy implements UsecaseAuthorizationService {
+        final List<String> lookups = new ArrayList<>();
+        Runnable during = () -> {
+        };
+
+        @Override
+        public boolean isAuthorized(User user, String serviceName) {
+            lookups.add((user == null ? null : user.id()) + "/" + serviceName);
+            during.run();
+            return user != null && serviceName.startsWith("Allowed");
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private FakePolicy policy;
+    private CachingUsecaseAuthorizationService cache;
+
+    @BeforeEach
+    void setUp() {
+        policy = new FakePolicy();
+        cache = new CachingUsecaseAuthorizationService(policy, metrics, TTL, NEGATIVE_TTL, 100);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /** Authorize {@code seconds} after the start; return whether the policy was asked. */
+    private boolean lookedUpAt(User user, String serviceName, long seconds) {
+        int before = policy.lookups.size();
+        cache.isAuthorized(user, serviceName, seconds * SECOND);
+        return policy.lookups.size() > before;
+    }
+
+    // ==================== Caching ====================
+
+    @Nested
+    @DisplayName("Caching")
+    class Caching {
+
+        @Test
+        @DisplayName("A decision is served from the cache")
+        void hit() {
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", 0));
+            assertFalse(lookedUpAt(ALICE, "AllowedOrders", 1));
+            assertTrue(cache.isAuthorized(ALICE, "AllowedOrders", 2 * SECOND));
+            assertFalse(cache.isAuthorized(ALICE, "Admin", 2 * SECOND));
+            assertFalse(cache.isAuthorized(ALICE, "Admin", 3 * SECOND));
+
+            assertEquals(2, policy.lookups.size());
+            assertEquals(3.0 / 5, cache.hitRatio(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Decisions are cached per user, role and service")
+        void perKey() {
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+
+            assertTrue(lookedUpAt(BOB, "AllowedOrders", 0));
+            assertTrue(lookedUpAt(new User("alice", null, "ADMIN"), "AllowedOrders", 0));
+            assertTrue(lookedUpAt(ALICE, "AllowedPayments", 0));
+            assertEquals(4, cache.size());
+        }
+
+        @Test
+        @DisplayName("Grants expire after the TTL")
+        void positiveTtl() {
+            long ttl = TTL.toSeconds();
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+
+            assertFalse(lookedUpAt(ALICE, "AllowedOrders", ttl - 1));
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", ttl));
+        }
+
+        @Test
+        @DisplayName("Denials expire after the shorter negative TTL")
+        void negativeTtl() {
+            long negativeTtl = NEGATIVE_TTL.toSeconds();
+            lookedUpAt(ALICE, "Admin", 0);
+
+            assertFalse(lookedUpAt(ALICE, "Admin", negativeTtl - 1));
+            assertTrue(lookedUpAt(ALICE, "Admin", negativeTtl));
+        }
+
+        @Test
+        @DisplayName("Anonymous requests always reach the policy")
+        void anonymousNotCached() {
+            assertFalse(cache.isAuthorized(null, "AllowedOrders", 0));
+            assertFalse(cache.isAuthorized(null, "AllowedOrders", 1));
+
+            assertEquals(2, policy.lookups.size());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("A full cache drops expired decisions first, then makes room for a batch")
+        void bounded() {
+            cache = new CachingUsecaseAuthorizationService(policy, metrics, TTL, NEGATIVE_TTL, 10);
+            for (int i = 0; i < 10; i++) {
+                lookedUpAt(new User("u" + i, null, "USER"), "Admin", 0);
+            }
+
+            // Every denial has expired by now: the purge keeps no evictions
+            lookedUpAt(ALICE, "AllowedOrders", NEGATIVE_TTL.toSeconds());
+            assertEquals(1, cache.size());
+            assertEquals(0, metrics.counter("authorization_cache_evictions_total").get());
+
+            for (int i = 0; i < 25; i++) {
+                lookedUpAt(new User("u" + i, null, "USER"), "AllowedOrders", NEGATIVE_TTL.toSeconds());
+                assertTrue(cache.size() <= 10, "size " + cache.size());
+            }
+            assertTrue(metrics.counter("authorization_cache_evictions_total").get() > 0);
+        }
+    }
+
+    // ==================== Invalidation ====================
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("A single decision can be dropped")
+        void single() {
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+            lookedUpAt(ALICE, "AllowedPayments", 0);
+
+            cache.invalidate(ALICE, "AllowedOrders");
+
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", 1));
+            assertFalse(lookedUpAt(ALICE, "AllowedPayments", 1));
+        }
+
+        @Test
+        @DisplayName("All of a user's decisions can be dropped")
+        void perUser() {
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+            lookedUpAt(ALICE, "Admin", 0);
+            lookedUpAt(BOB, "AllowedOrders", 0);
+
+            cache.invalidateUser("alice");
+
+            assertEquals(1, cache.size());
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", 1));
+            assertTrue(lookedUpAt(ALICE, "Admin", 1));
+            assertFalse(lookedUpAt(BOB, "AllowedOrders", 1));
+        }
+
+        @Test
+        @DisplayName("All of a service's decisions can be dropped")
+        void perService() {
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+            lookedUpAt(BOB, "AllowedOrders", 0);
+            lookedUpAt(ALICE, "AllowedPayments", 0);
+
+            cache.invalidateService("AllowedOrders");
+
+            assertEquals(1, cache.size());
+            assertTrue(lookedUpAt(BOB, "AllowedOrders", 1));
+            assertFalse(lookedUpAt(ALICE, "AllowedPayments", 1));
+        }
+
+        @Test
+        @DisplayName("Reloading the policy drops every decision")
+        void policyReload() {
+            lookedUpAt(ALICE, "AllowedOrders", 0);
+            lookedUpAt(BOB, "Admin", 0);
+
+            cache.onPolicyReloaded(new AuthorizationPolicyReloadedEvent(2, 5));
+
+            assertEquals(0, cache.size());
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", 1));
+            assertFalse(lookedUpAt(ALICE, "AllowedOrders", 2));
+        }
+
+        @Test
+        @DisplayName("A decision racing with a policy reload is not cached")
+        void reloadDuringLookup() {
+            policy.during = () -> cache.onPolicyReloaded(new AuthorizationPolicyReloadedEvent(1, 1));
+
+            assertTrue(cache.isAuthorized(ALICE, "AllowedOrders", 0));
+
+            assertEquals(0, cache.size());
+            policy.during = () -> {
+            };
+            assertTrue(lookedUpAt(ALICE, "AllowedOrders", 1));
+            assertFalse(lookedUpAt(ALICE, "AllowedOrders", 2));
+        }
+    }
+}
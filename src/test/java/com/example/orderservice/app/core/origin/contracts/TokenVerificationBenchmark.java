@@ -0,0 +1,250 @@
+package com.example.orderservice.app.core.origin.contracts;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.origin.entities.JsonWebKeySet;
+import com.example.orderservice.app.core.origin.entities.JwtVerifier;
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cost of authenticating a request by bearer token, per signature algorithm:
+ * a full signature and claims check ({@code cold}), a cache hit
+ * ({@code cached}), and one simulated hour of traffic through a fresh
+ * {@link CachingTokenAuthenticator} ({@code replayHour}).
+ *
+ * <p>
+ * The simulated hour has {@value #REQUESTS} requests from {@value #USERS}
+ * users picked by a Zipf distribution, so a few users send most requests.
+ * Each user's token is replaced every {@value #TOKEN_LIFETIME_MINUTES}
+ * minutes, at a random phase per user. The setup prints the cache hit ratio
+ * of that traffic and checks that tampered, unsigned and expired tokens are
+ * rejected.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    private static final int USERS = 2_000;
+    private static final int REQUESTS = 100_000;
+    private static final int TOKEN_LIFETIME_MINUTES = 15;
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    @Param({ "RS256", "ES256" })
+    public String algorithm;
+
+    private long now;
+    private PrivateKey privateKey;
+    private JwtVerifier verifier;
+    private String[] tokens;
+    private String[] hour;
+    private CachingTokenAuthenticator warmCache;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        now = System.currentTimeMillis() / 1000;
+        KeyPair keyPair;
+        Map<String, Object> jwk = new HashMap<>();
+        jwk.put("kid", "bench");
+        if (algorithm.startsWith("RS")) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+            RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+            jwk.put("kty", "RSA");
+            jwk.put("n", unsigned(publicKey.getModulus(), 256));
+            jwk.put("e", unsigned(publicKey.getPublicExponent(), 3));
+        } else {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            keyPair = generator.generateKeyPair();
+            ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", unsigned(publicKey.getW().getAffineX(), 32));
+            jwk.put("y", unsigned(publicKey.getW().getAffineY(), 32));
+        }
+        privateKey = keyPair.getPrivate();
+        ObjectMapper mapper = JsonMapper.builder().build();
+        JsonWebKeySet keys = JsonWebKeySet.parse(mapper.valueToTree(Map.of("keys", List.of(jwk))));
+        verifier = new JwtVerifier(mapper, keys, "https://issuer.example.com", "orderservice", "role", 30);
+
+        // One token per user and lifetime window they are active in
+        SplittableRandom random = new SplittableRandom(45);
+        double[] cumulative = zipf(USERS, ZIPF_EXPONENT);
+        long[] phases = new long[USERS];
+        for (int u = 0; u < USERS; u++) {
+            phases[u] = random.nextLong(TOKEN_LIFETIME_MINUTES * 60L);
+        }
+        Map<Long, String> issued = new HashMap<>();
+        hour = new String[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int user = pick(cumulative, random.nextDouble());
+            long second = 3600L * i / REQUESTS;
+            long window = (second + phases[user]) / (TOKEN_LIFETIME_MINUTES * 60L);
+            long key = (long) user << 32 | window;
+            String token = issued.get(key);
+            if (token == null) {
+                token = sign(claims("user-" + user, key, now + 7200, "https://issuer.example.com"));
+                issued.put(key, token);
+            }
+            hour[i] = token;
+        }
+        tokens = issued.values().toArray(String[]::new);
+        warmCache = newCache();
+        warmCache.authenticate(tokens[0]);
+
+        CachingTokenAuthenticator cache = newCache();
+        for (String token : hour) {
+            cache.authenticate(token);
+        }
+        System.out.printf("%n%s: %d distinct tokens in %d requests, hit ratio %.4f%n", algorithm, tokens.length,
+                REQUESTS, cache.hitRatio());
+
+        checkRejected(tokens[0].substring(0, tokens[0].length() - 4) + "AAAA", "tampered signature");
+        String[] parts = tokens[0].split("\\.");
+        checkRejected(BASE64URL.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + parts[1] + ".", "unsigned");
+        checkRejected(sign(claims("user-0", 0, now - 120, "https://issuer.example.com")), "expired");
+        checkRejected(sign(claims("user-0", 0, now + 7200, "https://other.example.com")), "wrong issuer");
+    }
+
+    @Benchmark
+    public AuthenticatedToken cold() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return verifier.verify(token, now);
+    }
+
+    @Benchmark
+    public AuthenticatedToken cached() {
+        return warmCache.authenticate(tokens[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public double replayHour() {
+        CachingTokenAuthenticator cache = newCache();
+        for (String token : hour) {
+            cache.authenticate(token);
+        }
+        return cache.hitRatio();
+    }
+
+    private CachingTokenAuthenticator newCache() {
+        return new CachingTokenAuthenticator(token -> verifier.verify(token, now), new MetricsServiceContractV0(),
+                Duration.ofMinutes(5), 100_000);
+    }
+
+    private void checkRejected(String token, String what) {
+        try {
+            verifier.verify(token, now);
+        } catch (AuthenticationException e) {
+            return;
+        }
+        throw new IllegalStateException(what + " token was accepted");
+    }
+
+    private static String claims(String subject, long id, long exp, String issuer) {
+        return "{\"jti\":\"" + id + "\",\"sub\":\"" + subject + "\",\"email\":\"" + subject + "@example.com\",\"role\":\"USER\","
+                + "\"iss\":\"" + issuer + "\",\"aud\":[\"orderservice\"],\"iat\":" + (exp - 7200)
+                + ",\"exp\":" + exp + "}";
+    }
+
+    private String sign(String claims) throws Exception {
+        String signingInput = BASE64URL.encodeToString(
+                ("{\"alg\":\"" + algorithm + "\",\"typ\":\"JWT\",\"kid\":\"bench\"}").getBytes(StandardCharsets.UTF_8))
+                + "." + BASE64URL.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        Signature signer = Signature.getInstance(
+                algorithm.startsWith("RS") ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+        signer.initSign(privateKey);
+        signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + BASE64URL.encodeToString(signer.sign());
+    }
+
+    private static String unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[Math.max(length, bytes.length - (bytes[0] == 0 ? 1 : 0))];
+        int start = bytes[0] == 0 ? 1 : 0;
+        System.arraycopy(bytes, start, fixed, fixed.length - (bytes.length - start), bytes.length - start);
+        return BASE64URL.encodeToString(fixed);
+    }
+
+    private static double[] zipf(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, double u) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.exceptions.OverloadedException;
+import com.example.orderservice.app.core.origin.schemas.Deadline;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.core.origin.schemas.ServiceInput;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("AbstractService Tests")
+class AbstractServiceTest {
+
+    private static final User USER = new User("u1", "u1@example.com", "USER");
+    private static final String SERVICE_NAME = "Test.Sharded";
+
+    /**
+     * Keyed by its input, or unsharded for an empty input. The use case answers
+     * with the thread it ran on and the result of its shard section.
+     */
+    private static final class ShardedService extends AbstractService<String, String> {
+        Supplier<String> section = () -> Thread.currentThread().getName();
+
+        ShardedService(ServiceDependency dependencies) {
+            super(dependencies);
+        }
+
+        @Override
+        protected String detectServiceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        protected Object shardKey(String input) {
+            return input.isEmpty() ? null : input;
+        }
+
+        @Override
+        protected AbstractUsecase<String, String> build(String input) {
+            return new AbstractUsecase<>() {
+                @Override
+                public String execute(String in) {
+                    String caller = Thread.currentThread().getName();
+                    return caller + "|" + onShard(section);
+                }
+            };
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private ShardedExecutor shards;
+    private ShardedService service;
+
+    @BeforeEach
+    void setUp() {
+        shards = new ShardedExecutor(1, 1, "test-shard-");
+        service = new ShardedService(new ServiceDependency((user, name) -> true, metrics, null, shards, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private ServiceOutput<String> run(String key, Deadline deadline) {
+        return service.run(new ServiceInput<>(USER, key, deadline));
+    }
+
+    /**
+     * Occupy the only shard until the returned latch is counted down.
+     */
+    private CountDownLatch blockShard() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        shards.submit("blocker", () -> {
+            started.countDown();
+            return assertDoesNotThrow(() -> release.await(5, TimeUnit.SECONDS));
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    /**
+     * Wait until everything queued before now has left the shard; the
+     * mailbox may still be full for a moment after the blocker returns.
+     */
+    private void awaitShardIdle() throws Exception {
+        long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                shards.submit("customer-1", () -> null).get(5, TimeUnit.SECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (System.nanoTime() - giveUp > 0) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // ==================== Shard Sections ====================
+
+    @Nested
+    @DisplayName("Shard sections")
+    class ShardSections {
+
+        @Test
+        @DisplayName("Only the shard section runs on the shard")
+        void onlySectionOnShard() {
+            ServiceOutput<String> output = run("customer-1", Deadline.NONE);
+
+            assertEquals(ServiceStatus.SUCCESS, output.status());
+            assertEquals(Thread.currentThread().getName() + "|test-shard-0", output.data());
+        }
+
+        @Test
+        @DisplayName("Without a shard key, sections run on the caller's thread")
+        void unkeyedInline() {
+            String caller = Thread.currentThread().getName();
+
+            assertEquals(caller + "|" + caller, run("", Deadline.NONE).data());
+        }
+
+        @Test
+        @DisplayName("Exceptions thrown by a section keep their status")
+        void sectionExceptions() {
+            service.section = () -> {
+                throw new OverloadedException("busy");
+            };
+            ServiceOutput<String> overloaded = run("customer-1", Deadline.NONE);
+            service.section = () -> {
+                throw new IllegalStateException("boom");
+            };
+            ServiceOutput<String> failed = run("customer-1", Deadline.NONE);
+
+            assertEquals(ServiceStatus.OVERLOADED, overloaded.status());
+            assertEquals("busy", overloaded.errorMessage());
+            assertEquals(ServiceStatus.FAILURE, failed.status());
+            assertEquals("boom", failed.errorMessage());
+        }
+    }
+
+    // ==================== Overload ====================
+
+    @Nested
+    @DisplayName("Overload")
+    class Overload {
+
+        @Test
+        @DisplayName("A full mailbox fails the run with OVERLOADED")
+        void fullMailbox() throws InterruptedException {
+            CountDownLatch release = blockShard();
+            shards.submit("filler", () -> null);
+
+            ServiceOutput<String> output = run("customer-1", Deadline.NONE);
+            release.countDown();
+
+            assertEquals(ServiceStatus.OVERLOADED, output.status());
+            assertEquals(1, metrics.counter(AbstractService.SHARD_REJECTED_METRIC, "service", SERVICE_NAME).get());
+        }
+
+        @Test
+        @DisplayName("A section whose deadline passes in the mailbox never runs")
+        void expiredInMailbox() throws Exception {
+            AtomicBoolean ran = new AtomicBoolean();
+            service.section = () -> {
+                ran.set(true);
+                return "ran";
+            };
+            CountDownLatch release = blockShard();
+
+            ServiceOutput<String> output = run("customer-1", Deadline.after(Duration.ofMillis(50)));
+            release.countDown();
+            awaitShardIdle();
+
+            assertEquals(ServiceStatus.DEADLINE_EXCEEDED, output.status());
+            assertFalse(ran.get());
+            assertEquals(1, metrics.counter(AbstractService.DEADLINE_EXCEEDED_METRIC, "service", SERVICE_NAME,
+                    "phase", AbstractService.PHASE_QUEUE).get());
+        }
+
+        @Test
+        @DisplayName("A section that started before the deadline is waited for")
+        void startedSectionAwaited() {
+            service.section = () -> {
+                assertDoesNotThrow(() -> Thread.sleep(400));
+                return "done";
+            };
+
+            ServiceOutput<String> output = run("customer-1", Deadline.after(Duration.ofMillis(200)));
+
+            assertEquals(ServiceStatus.SUCCESS, output.status());
+            assertTrue(output.data().endsWith("|done"));
+        }
+    }
+
+    // ==================== Rate Limits ====================
+
+    @Nested
+    @DisplayName("Rate limits")
+    class RateLimits {
+
+        @Test
+        @DisplayName("A run over the user's limit does not run and carries the wait")
+        void rateLimitedCarriesWait() {
+            RateLimiter rateLimiter = new RateLimiter(new TokenBucketStore(1, 0.5, 1, 100), null);
+            service = new ShardedService(new ServiceDependency((user, name) -> true, metrics, null, null,
+                    rateLimiter));
+
+            ServiceOutput<String> first = run("", Deadline.NONE);
+            ServiceOutput<String> second = run("", Deadline.NONE);
+
+            assertEquals(ServiceStatus.SUCCESS, first.status());
+            assertEquals(ServiceStatus.RATE_LIMITED, second.status());
+            assertNull(second.data());
+            assertTrue(second.retryAfter().compareTo(Duration.ofMillis(1_500)) > 0, "" + second.retryAfter());
+            assertTrue(second.retryAfter().compareTo(Duration.ofSeconds(2)) <= 0, "" + second.retryAfter());
+            assertEquals(1, metrics.counter(AbstractService.RATE_LIMITED_METRIC, "service", SERVICE_NAME,
+                    "limit", RateLimiter.LIMIT_USER).get());
+        }
+    }
+}
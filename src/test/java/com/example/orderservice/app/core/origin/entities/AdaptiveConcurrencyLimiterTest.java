@@ -0,0 +1,177 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW = 1_000_000;
+    private static final long FAST = 1_000_000;
+    private static final long SLOW = 10_000_000;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        now = System.nanoTime();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * A limiter whose first window was closed at {@link #now} by a single
+     * fast request, which sets the long-term RTT but not the limit.
+     */
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, WINDOW,
+                1);
+        now = System.nanoTime() + WINDOW;
+        assertTrue(limiter.tryAcquire());
+        limiter.release(now - FAST, now, true);
+        return limiter;
+    }
+
+    /**
+     * Admit as many requests as the limit allows and complete them all with
+     * {@code rtt} by the end of the next window; the last one closes it.
+     */
+    private void window(AdaptiveConcurrencyLimiter limiter, long rtt) {
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        now += WINDOW;
+        for (int i = 0; i < admitted; i++) {
+            long completed = i == admitted - 1 ? now : now - 1;
+            limiter.release(completed - rtt, completed, true);
+        }
+    }
+
+    private void windows(AdaptiveConcurrencyLimiter limiter, int count, long rtt) {
+        for (int i = 0; i < count; i++) {
+            window(limiter, rtt);
+        }
+    }
+
+    // ==================== Limit Adaptation ====================
+
+    @Nested
+    @DisplayName("Limit adaptation")
+    class Adaptation {
+
+        @Test
+        @DisplayName("Limit rises while RTT stays steady")
+        void risesWithSteadyRtt() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 1000);
+
+            windows(limiter, 5, FAST);
+
+            assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Limit falls when RTT grows")
+        void fallsWithRisingRtt() {
+            AdaptiveConcurrencyLimiter limiter = limiter(100, 1, 1000);
+            windows(limiter, 3, FAST);
+            int before = limiter.getLimit();
+
+            window(limiter, SLOW);
+
+            assertTrue(limiter.getLimit() < before, before + " -> " + limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Limit never exceeds the maximum")
+        void clampedToMax() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 50);
+
+            windows(limiter, 50, FAST);
+
+            assertEquals(50, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Limit never drops below the minimum")
+        void clampedToMin() {
+            AdaptiveConcurrencyLimiter limiter = limiter(100, 5, 1000);
+            windows(limiter, 3, FAST);
+
+            long rtt = SLOW;
+            for (int i = 0; i < 50; i++) {
+                window(limiter, rtt);
+                rtt *= 2;
+            }
+
+            assertEquals(5, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Unsampled releases leave the limit alone")
+        void unsampledIgnored() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 1000);
+            for (int w = 0; w < 5; w++) {
+                int admitted = 0;
+                while (limiter.tryAcquire()) {
+                    admitted++;
+                }
+                now += WINDOW;
+                for (int i = 0; i < admitted; i++) {
+                    limiter.release(now - FAST, now, false);
+                }
+            }
+
+            assertEquals(10, limiter.getLimit());
+            assertEquals(0, limiter.getInFlight());
+        }
+
+        @Test
+        @DisplayName("Limit does not grow when traffic does not use it")
+        void idleLimitNotGrown() {
+            AdaptiveConcurrencyLimiter limiter = limiter(100, 1, 1000);
+            for (int w = 0; w < 5; w++) {
+                assertTrue(limiter.tryAcquire());
+                now += WINDOW;
+                limiter.release(now - FAST, now, true);
+            }
+
+            assertEquals(100, limiter.getLimit());
+        }
+    }
+
+    // ==================== Admission ====================
+
+    @Nested
+    @DisplayName("Admission")
+    class Admission {
+
+        @Test
+        @DisplayName("Requests over the limit are shed without being counted in flight")
+        void shedsOverLimit() {
+            AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.fixed(3);
+
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            assertFalse(limiter.tryAcquire());
+            assertEquals(3, limiter.getInFlight());
+
+            limiter.release(now, true);
+            assertEquals(2, limiter.getInFlight());
+            assertTrue(limiter.tryAcquire());
+        }
+
+        @Test
+        @DisplayName("Invalid ranges are rejected")
+        void invalidRange() {
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 10, WINDOW, 1));
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 20, 10, WINDOW, 1));
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 10, WINDOW, 0));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.schemas.HelperRoute;
+
+@DisplayName("HelperRouter Tests")
+class HelperRouterTest {
+
+    private static final int DRAWS = 40_000;
+
+    private static final Map<String, String> HELPERS = Map.of("V0", "v0", "V1", "v1", "V2", "v2");
+    private static final Map<String, String> SHADOW_HELPERS = Map.of("V0", "v0-shadow", "V1", "v1-shadow",
+            "V2", "v2-shadow");
+
+    // ==================== Helper Methods ====================
+
+    private static HelperRouter<String> router(Map<String, Integer> weights, String shadow, int shadowPercent) {
+        return new HelperRouter<>(HELPERS, SHADOW_HELPERS, new HelperRoute(weights, shadow, shadowPercent), "V0");
+    }
+
+    /** How many of {@link #DRAWS} selections picked each helper. */
+    private static Map<String, Integer> selectionCounts(HelperRouter<String> router) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < DRAWS; i++) {
+            counts.merge(router.select(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static double shadowShare(HelperRouter<String> router, String expected) {
+        int shadowed = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            String candidate = router.shadowCandidate();
+            if (candidate != null) {
+                assertEquals(expected, candidate);
+                shadowed++;
+            }
+        }
+        return (double) shadowed / DRAWS;
+    }
+
+    // ==================== Primary Selection ====================
+
+    @Nested
+    @DisplayName("Primary selection")
+    class PrimarySelection {
+
+        @Test
+        @DisplayName("Without a route everything goes to the default helper")
+        void defaultHelper() {
+            HelperRouter<String> router = new HelperRouter<>(HELPERS, null, "V0");
+
+            assertEquals(List.of("V0"), router.routedKeys());
+            assertEquals(Map.of("v0", DRAWS), selectionCounts(router));
+            assertNull(router.shadowCandidate());
+            assertNull(router.shadowKey());
+        }
+
+        @Test
+        @DisplayName("Traffic is split in proportion to the weights")
+        void weighted() {
+            HelperRouter<String> router = router(Map.of("V0", 3, "V1", 1), null, 0);
+
+            Map<String, Integer> counts = selectionCounts(router);
+
+            assertEquals(0.75, (double) counts.get("v0") / DRAWS, 0.02);
+            assertEquals(0.25, (double) counts.get("v1") / DRAWS, 0.02);
+        }
+
+        @Test
+        @DisplayName("Helpers weighted zero are never selected")
+        void zeroWeight() {
+            HelperRouter<String> router = router(Map.of("V0", 1, "V1", 0), null, 0);
+
+            assertEquals(List.of("V0"), router.routedKeys());
+            assertEquals(Map.of("v0", DRAWS), selectionCounts(router));
+        }
+
+        @Test
+        @DisplayName("Unknown helpers and routes without positive weights fail at construction")
+        void invalidRoutes() {
+            assertThrows(IllegalStateException.class, () -> router(Map.of("V9", 1), null, 0));
+            assertThrows(IllegalStateException.class, () -> router(Map.of("V0", 0), null, 0));
+            assertThrows(IllegalStateException.class, () -> router(Map.of("V0", 1), "V9", 10));
+        }
+    }
+
+    // ==================== Shadow Selection ====================
+
+    @Nested
+    @DisplayName("Shadow selection")
+    class ShadowSelection {
+
+        @Test
+        @DisplayName("The shadow comes from the shadow helpers, never from the routed ones")
+        void shadowHelpers() {
+            HelperRouter<String> router = router(Map.of("V0", 1), "V1", 100);
+
+            assertEquals("V1", router.shadowKey());
+            assertEquals(1.0, shadowShare(router, "v1-shadow"));
+        }
+
+        @Test
+        @DisplayName("The share of shadowed requests follows the shadow percentage")
+        void samplingRatio() {
+            HelperRouter<String> router = router(Map.of("V0", 1), "V2", 25);
+
+            assertEquals(0.25, shadowShare(router, "v2-shadow"), 0.02);
+        }
+
+        @Test
+        @DisplayName("A zero or blank shadow disables shadowing; percentages above 100 are capped")
+        void bounds() {
+            assertNull(router(Map.of("V0", 1), "V1", 0).shadowKey());
+            assertNull(router(Map.of("V0", 1), " ", 50).shadowKey());
+            assertEquals(1.0, shadowShare(router(Map.of("V0", 1), "V1", 500), "v1-shadow"));
+        }
+    }
+}
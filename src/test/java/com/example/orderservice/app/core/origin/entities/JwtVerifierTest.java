@@ -0,0 +1,266 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("JwtVerifier Tests")
+class JwtVerifierTest {
+
+    private static final long NOW = 1_800_000_000L;
+    private static final long SKEW = 30;
+    private static final String ISSUER = "https://issuer.example.com";
+    private static final String AUDIENCE = "orderservice";
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private static final KeyPair RSA = generate("RSA", null);
+    private static final KeyPair EC = generate("EC", "secp256r1");
+    private static final KeyPair OTHER_RSA = generate("RSA", null);
+
+    private static final JsonWebKeySet KEYS = keys(rsaJwk("rsa-1", RSA, null), ecJwk("ec-1", EC, "ES256"));
+    private static final JwtVerifier VERIFIER = new JwtVerifier(MAPPER, KEYS, ISSUER, AUDIENCE, "role", SKEW);
+
+    // ==================== Helper Methods ====================
+
+    private static KeyPair generate(String algorithm, String curve) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+            if (curve == null) {
+                generator.initialize(2048);
+            } else {
+                generator.initialize(new ECGenParameterSpec(curve));
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> rsaJwk(String kid, KeyPair keyPair, String alg) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Map<String, Object> jwk = new HashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", kid);
+        jwk.put("n", unsigned(publicKey.getModulus()));
+        jwk.put("e", unsigned(publicKey.getPublicExponent()));
+        if (alg != null) {
+            jwk.put("alg", alg);
+        }
+        return jwk;
+    }
+
+    private static Map<String, Object> ecJwk(String kid, KeyPair keyPair, String alg) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        Map<String, Object> jwk = new HashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("kid", kid);
+        jwk.put("crv", "P-256");
+        jwk.put("x", unsigned(publicKey.getW().getAffineX()));
+        jwk.put("y", unsigned(publicKey.getW().getAffineY()));
+        jwk.put("alg", alg);
+        return jwk;
+    }
+
+    @SafeVarargs
+    private static JsonWebKeySet keys(Map<String, Object>... jwks) {
+        return JsonWebKeySet.parse(MAPPER.valueToTree(Map.of("keys", List.of(jwks))));
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes[0] == 0 ? 1 : 0;
+        byte[] trimmed = new byte[bytes.length - start];
+        System.arraycopy(bytes, start, trimmed, 0, trimmed.length);
+        return BASE64URL.encodeToString(trimmed);
+    }
+
+    private static String encode(String json) {
+        return BASE64URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String claims(long exp, String extra) {
+        return "{\"sub\":\"u1\",\"email\":\"u1@example.com\",\"role\":\"USER\",\"iss\":\"" + ISSUER
+                + "\",\"aud\":[\"" + AUDIENCE + "\"],\"exp\":" + exp + extra + "}";
+    }
+
+    private static String sign(String alg, String kid, PrivateKey key, String claims) {
+        String header = "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\"" + (kid == null ? "" : ",\"kid\":\"" + kid + "\"")
+                + "}";
+        String signingInput = encode(header) + "." + encode(claims);
+        try {
+            Signature signer = Signature.getInstance(
+                    alg.startsWith("RS") ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+            signer.initSign(key);
+            signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64URL.encodeToString(signer.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String rs256(String claims) {
+        return sign("RS256", "rsa-1", RSA.getPrivate(), claims);
+    }
+
+    private static void assertRejected(String message, String token) {
+        AuthenticationException e = assertThrows(AuthenticationException.class, () -> VERIFIER.verify(token, NOW));
+        assertEquals(message, e.getMessage());
+    }
+
+    // ==================== Signatures ====================
+
+    @Nested
+    @DisplayName("Signatures")
+    class Signatures {
+
+        @Test
+        @DisplayName("RS256 and ES256 tokens signed by a known key are accepted")
+        void validTokens() {
+            AuthenticatedToken rsa = VERIFIER.verify(rs256(claims(NOW + 60, "")), NOW);
+            AuthenticatedToken ec = VERIFIER.verify(sign("ES256", "ec-1", EC.getPrivate(), claims(NOW + 60, "")), NOW);
+
+            assertEquals("u1", rsa.user().id());
+            assertEquals("u1@example.com", rsa.user().email());
+            assertEquals("USER", rsa.user().role());
+            assertEquals(NOW + 60, rsa.expiresAtEpochSecond());
+            assertEquals("u1", ec.user().id());
+        }
+
+        @Test
+        @DisplayName("A tampered payload or a foreign key's signature is rejected")
+        void badSignature() {
+            String token = rs256(claims(NOW + 60, ""));
+            String[] parts = token.split("\\.");
+            String tampered = parts[0] + "." + encode(claims(NOW + 60, "").replace("USER", "ADMIN")) + "."
+                    + parts[2];
+
+            assertRejected("Invalid token signature", tampered);
+            assertRejected("Invalid token signature", sign("RS256", "rsa-1", OTHER_RSA.getPrivate(),
+                    claims(NOW + 60, "")));
+            assertRejected("Invalid token signature", parts[0] + "." + parts[1] + ".!!");
+        }
+
+        @Test
+        @DisplayName("Unsigned and HMAC tokens are rejected")
+        void noneAndHmac() throws Exception {
+            String payload = encode(claims(NOW + 60, ""));
+            String none = encode("{\"alg\":\"none\"}") + "." + payload + ".";
+            String hsInput = encode("{\"alg\":\"HS256\",\"kid\":\"rsa-1\"}") + "." + payload;
+            // The classic confusion attack: the public key used as the HMAC secret
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(RSA.getPublic().getEncoded(), "HmacSHA256"));
+            String hs256 = hsInput + "." + BASE64URL.encodeToString(
+                    mac.doFinal(hsInput.getBytes(StandardCharsets.US_ASCII)));
+
+            assertRejected("Unsupported token algorithm", none);
+            assertRejected("Unsupported token algorithm", hs256);
+        }
+
+        @Test
+        @DisplayName("The kid must name a key of the algorithm's type and allowed algorithm")
+        void kidAndKtyMismatch() {
+            String claims = claims(NOW + 60, "");
+
+            assertRejected("Unknown token signing key", sign("RS256", "ec-1", RSA.getPrivate(), claims));
+            assertRejected("Unknown token signing key", sign("ES256", "rsa-1", EC.getPrivate(), claims));
+            assertRejected("Unknown token signing key", sign("RS256", "missing", RSA.getPrivate(), claims));
+        }
+
+        @Test
+        @DisplayName("Without a kid, only an unambiguous key of the right type is used")
+        void withoutKid() {
+            String claims = claims(NOW + 60, "");
+            JwtVerifier twoRsaKeys = new JwtVerifier(MAPPER, keys(rsaJwk("a", RSA, null), rsaJwk("b", OTHER_RSA, null)),
+                    null, null, "role", SKEW);
+
+            assertEquals("u1", VERIFIER.verify(sign("RS256", null, RSA.getPrivate(), claims), NOW).user().id());
+            assertThrows(AuthenticationException.class,
+                    () -> twoRsaKeys.verify(sign("RS256", null, RSA.getPrivate(), claims), NOW));
+        }
+
+        @Test
+        @DisplayName("Malformed tokens and critical headers are rejected")
+        void malformed() {
+            String payload = encode(claims(NOW + 60, ""));
+
+            assertRejected("Missing bearer token", null);
+            assertRejected("Malformed token", "a.b");
+            assertRejected("Malformed token", "a.b.c.d");
+            assertRejected("Malformed token", "!!." + payload + ".sig");
+            assertRejected("Unsupported token algorithm", encode("{\"typ\":\"JWT\"}") + "." + payload + ".sig");
+            assertRejected("Unsupported critical token header",
+                    encode("{\"alg\":\"RS256\",\"crit\":[\"x\"]}") + "." + payload + ".sig");
+        }
+    }
+
+    // ==================== Claims ====================
+
+    @Nested
+    @DisplayName("Claims")
+    class Claims {
+
+        @Test
+        @DisplayName("exp is required and honoured with clock skew")
+        void expiry() {
+            assertEquals("u1", VERIFIER.verify(rs256(claims(NOW - SKEW + 1, "")), NOW).user().id());
+            assertRejected("Token expired", rs256(claims(NOW - SKEW, "")));
+            assertRejected("Token has no expiry",
+                    rs256("{\"sub\":\"u1\",\"role\":\"USER\",\"iss\":\"" + ISSUER + "\",\"aud\":\"" + AUDIENCE
+                            + "\"}"));
+        }
+
+        @Test
+        @DisplayName("nbf is honoured with clock skew")
+        void notBefore() {
+            assertEquals("u1", VERIFIER.verify(rs256(claims(NOW + 600, ",\"nbf\":" + (NOW + SKEW))), NOW).user().id());
+            assertRejected("Token not yet valid", rs256(claims(NOW + 600, ",\"nbf\":" + (NOW + SKEW + 1))));
+        }
+
+        @Test
+        @DisplayName("iss must match and aud must be or contain the configured audience")
+        void issuerAndAudience() {
+            String wrongIssuer = claims(NOW + 60, "").replace(ISSUER, "https://other.example.com");
+            String stringAudience = claims(NOW + 60, "").replace("[\"" + AUDIENCE + "\"]", "\"" + AUDIENCE + "\"");
+            String wrongAudience = claims(NOW + 60, "").replace("[\"" + AUDIENCE + "\"]", "[\"billing\"]");
+
+            assertRejected("Token issuer not accepted", rs256(wrongIssuer));
+            assertEquals("u1", VERIFIER.verify(rs256(stringAudience), NOW).user().id());
+            assertRejected("Token audience not accepted", rs256(wrongAudience));
+        }
+
+        @Test
+        @DisplayName("A subject and a role are required")
+        void subjectAndRole() {
+            assertRejected("Token has no subject or role", rs256(claims(NOW + 60, "").replace("\"role\"", "\"x\"")));
+            assertRejected("Token has no subject or role", rs256(claims(NOW + 60, "").replace("\"sub\"", "\"x\"")));
+        }
+    }
+}
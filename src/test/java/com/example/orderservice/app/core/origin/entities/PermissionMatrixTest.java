@@ -0,0 +1,117 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionMatrix Tests")
+class PermissionMatrixTest {
+
+    // ==================== Grants ====================
+
+    @Nested
+    @DisplayName("Grants")
+    class Grants {
+
+        @Test
+        @DisplayName("Only explicitly granted services are allowed")
+        void explicitGrants() {
+            PermissionMatrix matrix = PermissionMatrix.compile(Map.of(
+                    "USER", List.of("Orders.CreateOrder", "Orders.GetOrder"),
+                    "AUDITOR", List.of("Orders.GetOrder")));
+
+            assertTrue(matrix.isGranted("USER", "Orders.CreateOrder"));
+            assertTrue(matrix.isGranted("USER", "Orders.GetOrder"));
+            assertTrue(matrix.isGranted("AUDITOR", "Orders.GetOrder"));
+            assertFalse(matrix.isGranted("AUDITOR", "Orders.CreateOrder"));
+            assertEquals(2, matrix.roleCount());
+            assertEquals(2, matrix.serviceCount());
+        }
+
+        @Test
+        @DisplayName("A wildcard role may access every service, named or not")
+        void wildcard() {
+            PermissionMatrix matrix = PermissionMatrix.compile(Map.of(
+                    "ADMIN", List.of(PermissionMatrix.WILDCARD),
+                    "USER", List.of("Orders.GetOrder")));
+
+            assertTrue(matrix.isGranted("ADMIN", "Orders.GetOrder"));
+            assertTrue(matrix.isGranted("ADMIN", "Orders.NotConfigured"));
+            assertFalse(matrix.isGranted("USER", "Orders.NotConfigured"));
+            assertEquals(1, matrix.serviceCount());
+        }
+
+        @Test
+        @DisplayName("Unknown roles, unknown services and null roles are denied")
+        void unknown() {
+            Map<String, List<String>> grants = new HashMap<>();
+            grants.put("USER", List.of("Orders.GetOrder"));
+            grants.put("GUEST", null);
+            PermissionMatrix matrix = PermissionMatrix.compile(grants);
+
+            assertFalse(matrix.isGranted("SUPPORT", "Orders.GetOrder"));
+            assertFalse(matrix.isGranted("USER", "Orders.DeleteOrder"));
+            assertFalse(matrix.isGranted(null, "Orders.GetOrder"));
+            assertFalse(matrix.isGranted("GUEST", "Orders.GetOrder"));
+        }
+
+        @Test
+        @DisplayName("An empty policy denies everything")
+        void empty() {
+            PermissionMatrix matrix = PermissionMatrix.compile(Map.of());
+
+            assertFalse(matrix.isGranted("USER", "Orders.GetOrder"));
+            assertEquals(0, matrix.roleCount());
+        }
+    }
+
+    // ==================== Layout ====================
+
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Rows wider than one word keep each role's grants separate")
+        void multiWordRows() {
+            List<String> even = new ArrayList<>();
+            List<String> odd = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                (i % 2 == 0 ? even : odd).add("Service." + i);
+            }
+            PermissionMatrix matrix = PermissionMatrix.compile(Map.of("EVEN", even, "ODD", odd));
+
+            assertEquals(150, matrix.serviceCount());
+            for (int i = 0; i < 150; i++) {
+                String service = "Service." + i;
+                assertEquals(i % 2 == 0, matrix.isGranted("EVEN", service), service);
+                assertEquals(i % 2 == 1, matrix.isGranted("ODD", service), service);
+            }
+        }
+
+        @Test
+        @DisplayName("Services at word boundaries are granted precisely")
+        void wordBoundaries() {
+            List<String> all = new ArrayList<>();
+            for (int i = 0; i < 130; i++) {
+                all.add("Service." + i);
+            }
+            PermissionMatrix matrix = PermissionMatrix.compile(Map.of(
+                    "ALL", all,
+                    "EDGES", List.of("Service.63", "Service.64", "Service.127", "Service.128")));
+
+            for (int i = 0; i < 130; i++) {
+                boolean edge = i == 63 || i == 64 || i == 127 || i == 128;
+                assertEquals(edge, matrix.isGranted("EDGES", "Service." + i), "Service." + i);
+                assertTrue(matrix.isGranted("ALL", "Service." + i));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load-test scenario for {@link RateLimiter} and {@link TokenBucketStore}.
+ *
+ * <p>
+ * First {@value #CLIENTS} clients hammer the limiter as one runaway user
+ * for {@value #SECONDS} s while a second user stays under its rate; the
+ * runaway user must be admitted no more than its bucket capacity plus what
+ * was refilled, and the other user never refused. Then
+ * {@value #DISTINCT_KEYS} distinct keys each send one request into a store
+ * that keeps at most {@value #MAX_KEYS} buckets: it reports throughput, the
+ * most buckets held, the heap each bucket took, and buckets evicted before
+ * they were full.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class RateLimiterLoadScenario {
+
+    private static final int CLIENTS = 4;
+    private static final int SECONDS = 3;
+    private static final long CAPACITY = 100;
+    private static final double REFILL_PER_SECOND = 50;
+    private static final int DISTINCT_KEYS = 5_000_000;
+    private static final int MAX_KEYS = 1_000_000;
+    private static final int STRIPES = 64;
+
+    public static void main(String[] args) throws Exception {
+        runaway();
+        manyKeys();
+    }
+
+    private static void runaway() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(
+                new TokenBucketStore(CAPACITY, REFILL_PER_SECOND, STRIPES, MAX_KEYS),
+                new TokenBucketStore(CAPACITY, REFILL_PER_SECOND, STRIPES, MAX_KEYS));
+        LongAdder admitted = new LongAdder();
+        LongAdder refused = new LongAdder();
+        LongAdder politeRefused = new LongAdder();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(SECONDS);
+
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.add(Thread.ofPlatform().start(() -> {
+                while (System.nanoTime() < end) {
+                    if (limiter.tryAcquire("runaway", "CUST-runaway") == null) {
+                        admitted.increment();
+                    } else {
+                        refused.increment();
+                    }
+                }
+            }));
+        }
+        Thread polite = Thread.ofPlatform().start(() -> {
+            try {
+                while (System.nanoTime() < end) {
+                    if (limiter.tryAcquire("polite", "CUST-polite") != null) {
+                        politeRefused.increment();
+                    }
+                    Thread.sleep((long) (2000 / REFILL_PER_SECOND));
+                }
+            } catch (InterruptedException e) {
+                // Done
+            }
+        });
+        for (Thread client : clients) {
+            client.join();
+        }
+        polite.join();
+
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        long allowed = CAPACITY + (long) Math.ceil(REFILL_PER_SECOND * elapsed);
+        System.out.printf("runaway  requests/s %10.0f  admitted %5d (at most %d)  polite user refused %d%n",
+                (admitted.sum() + refused.sum()) / elapsed, admitted.sum(), allowed, politeRefused.sum());
+    }
+
+    private static void manyKeys() throws InterruptedException {
+        TokenBucketStore store = new TokenBucketStore(CAPACITY, REFILL_PER_SECOND, STRIPES, MAX_KEYS);
+        String[] keys = new String[DISTINCT_KEYS];
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            keys[i] = "user-" + i;
+        }
+
+        // Fill to the limit once to see what a bucket costs
+        long before = usedHeap();
+        for (int i = 0; i < MAX_KEYS - STRIPES; i++) {
+            store.tryAcquire(keys[i], System.nanoTime());
+        }
+        long buckets = store.size();
+        long bytesPerBucket = (usedHeap() - before) / buckets;
+
+        AtomicInteger next = new AtomicInteger(MAX_KEYS - STRIPES);
+        int[] maxSize = new int[1];
+        long start = System.nanoTime();
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.add(Thread.ofPlatform().start(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < DISTINCT_KEYS) {
+                    store.tryAcquire(keys[i], System.nanoTime());
+                    if ((i & 0xFFFF) == 0) {
+                        synchronized (maxSize) {
+                            maxSize[0] = Math.max(maxSize[0], store.size());
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("new keys requests/s %10.0f  buckets at most %7d (limit %d)  %d B per bucket"
+                + "  evicted before full %d%n",
+                (DISTINCT_KEYS - MAX_KEYS + STRIPES) / elapsed, Math.max(maxSize[0], store.size()), MAX_KEYS,
+                bytesPerBucket, store.evicted());
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
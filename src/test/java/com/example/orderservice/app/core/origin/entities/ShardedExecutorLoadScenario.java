@@ -0,0 +1,171 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load-test scenario for {@link ShardedExecutor}.
+ *
+ * <p>
+ * {@value #CLIENTS} clients update per-customer aggregates (order count and
+ * running total) for {@value #CUSTOMERS} customers for {@value #SECONDS} s,
+ * once through a {@link ConcurrentHashMap} of synchronized aggregates and
+ * once through {@value #SHARDS} shards that each own a plain {@link HashMap}
+ * of unsynchronized aggregates. Afterwards every aggregate is checked against
+ * the updates the clients counted, so a lost update on a shard shows up as a
+ * mismatch. It reports throughput, rejected submissions and the deepest
+ * mailbox seen.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class ShardedExecutorLoadScenario {
+
+    private static final int CLIENTS = 8;
+    private static final int CUSTOMERS = 1000;
+    private static final int SHARDS = 4;
+    private static final int MAILBOX = 1024;
+    private static final int SECONDS = 3;
+
+    private static final class Aggregate {
+        long orders;
+        long totalMinor;
+    }
+
+    public static void main(String[] args) throws Exception {
+        runLocked();
+        runSharded();
+    }
+
+    private static void runLocked() throws InterruptedException {
+        Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+        long[][] expected = new long[CLIENTS][CUSTOMERS];
+        LongAdder updates = new LongAdder();
+        runClients(expected, (customer, amount) -> {
+            Aggregate aggregate = aggregates.computeIfAbsent(customer, k -> new Aggregate());
+            synchronized (aggregate) {
+                aggregate.orders++;
+                aggregate.totalMinor += amount;
+            }
+            updates.increment();
+            return true;
+        });
+        report("locked", updates.sum(), 0, 0, mismatches(aggregates, expected));
+    }
+
+    private static void runSharded() throws InterruptedException {
+        ShardedExecutor shards = new ShardedExecutor(SHARDS, MAILBOX, "scenario-shard-");
+        List<Map<String, Aggregate>> owned = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            owned.add(new HashMap<>());
+        }
+        long[][] expected = new long[CLIENTS][CUSTOMERS];
+        LongAdder updates = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        int[] maxDepth = new int[1];
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            try {
+                while (true) {
+                    for (int i = 0; i < SHARDS; i++) {
+                        maxDepth[0] = Math.max(maxDepth[0], shards.queueDepth(i));
+                    }
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException e) {
+                // Done
+            }
+        });
+
+        runClients(expected, (customer, amount) -> {
+            CompletableFuture<Void> done;
+            try {
+                done = shards.submit(customer, () -> {
+                    Aggregate aggregate = owned.get(shards.shardOf(customer))
+                            .computeIfAbsent(customer, k -> new Aggregate());
+                    aggregate.orders++;
+                    aggregate.totalMinor += amount;
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                return false;
+            }
+            done.join();
+            updates.increment();
+            return true;
+        });
+        sampler.interrupt();
+        sampler.join();
+
+        // Read the shard-owned maps from the shards themselves
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            String customer = customer(i);
+            Aggregate aggregate = shards.submit(customer, () -> owned.get(shards.shardOf(customer)).get(customer))
+                    .join();
+            if (aggregate != null) {
+                aggregates.put(customer, aggregate);
+            }
+        }
+        shards.shutdown();
+        report("sharded", updates.sum(), rejected.sum(), maxDepth[0], mismatches(aggregates, expected));
+    }
+
+    private interface Update {
+        boolean apply(String customer, long amountMinor);
+    }
+
+    private static void runClients(long[][] expected, Update update) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            long[] counted = expected[c];
+            SplittableRandom random = new SplittableRandom(c);
+            clients.add(Thread.ofPlatform().start(() -> {
+                while (System.nanoTime() < end) {
+                    int customer = random.nextInt(CUSTOMERS);
+                    if (update.apply(customer(customer), 1 + random.nextInt(10_000))) {
+                        counted[customer]++;
+                    }
+                }
+            }));
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+    }
+
+    private static int mismatches(Map<String, Aggregate> aggregates, long[][] expected) {
+        int mismatches = 0;
+        for (int i = 0; i < CUSTOMERS; i++) {
+            long orders = 0;
+            for (long[] counted : expected) {
+                orders += counted[i];
+            }
+            Aggregate aggregate = aggregates.get(customer(i));
+            if ((aggregate == null ? 0 : aggregate.orders) != orders) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static void report(String mode, long updates, long rejected, int maxDepth, int mismatches) {
+        System.out.printf("%-8s updates/s %10d  rejected %6d  max mailbox depth %5d  mismatched customers %d%n",
+                mode, updates / SECONDS, rejected, maxDepth, mismatches);
+    }
+
+    private static String customer(int c) {
+        return "CUST-" + c;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucketStore Tests")
+class TokenBucketStoreTest {
+
+    /** One token every 100 ms. */
+    private static final double REFILL_PER_SECOND = 10;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long START = 1_000_000_000L;
+
+    // ==================== Helper Methods ====================
+
+    /** Take tokens at {@code now} until refused; return how many were taken. */
+    private static int drain(TokenBucketStore store, Object key, long now) {
+        int taken = 0;
+        while (store.tryAcquire(key, now) == 0) {
+            taken++;
+        }
+        return taken;
+    }
+
+    // ==================== Buckets ====================
+
+    @Nested
+    @DisplayName("Buckets")
+    class Buckets {
+
+        @Test
+        @DisplayName("A new key admits a burst of exactly capacity")
+        void burstEqualsCapacity() {
+            TokenBucketStore store = new TokenBucketStore(5, REFILL_PER_SECOND, 1, 100);
+
+            assertEquals(5, drain(store, "a", START));
+            assertEquals(5, drain(store, "b", START));
+        }
+
+        @Test
+        @DisplayName("A refused request learns how long until the next token")
+        void waitUntilNextToken() {
+            TokenBucketStore store = new TokenBucketStore(2, REFILL_PER_SECOND, 1, 100);
+            drain(store, "a", START);
+
+            assertEquals(INTERVAL, store.tryAcquire("a", START));
+            assertEquals(INTERVAL - 30, store.tryAcquire("a", START + 30));
+        }
+
+        @Test
+        @DisplayName("Tokens come back with the clock, never beyond capacity")
+        void lazyRefill() {
+            TokenBucketStore store = new TokenBucketStore(3, REFILL_PER_SECOND, 1, 100);
+            drain(store, "a", START);
+
+            assertEquals(0, drain(store, "a", START + INTERVAL - 1));
+            assertEquals(1, drain(store, "a", START + INTERVAL));
+            assertEquals(2, drain(store, "a", START + 3 * INTERVAL));
+            assertEquals(3, drain(store, "a", START + 100 * INTERVAL));
+        }
+
+        @Test
+        @DisplayName("Releasing puts back the token just taken")
+        void release() {
+            TokenBucketStore store = new TokenBucketStore(2, REFILL_PER_SECOND, 1, 100);
+            drain(store, "a", START);
+
+            store.release("a");
+            store.release("unknown");
+
+            assertEquals(1, drain(store, "a", START));
+            assertEquals(1, store.size());
+        }
+
+        @Test
+        @DisplayName("A capacity or refill rate below one is rejected")
+        void invalid() {
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(0, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(1, 0, 1, 1));
+        }
+    }
+
+    // ==================== Eviction ====================
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("Each stripe keeps at most its share of max-keys")
+        void perStripeBound() {
+            TokenBucketStore store = new TokenBucketStore(5, REFILL_PER_SECOND, 4, 40);
+
+            for (int i = 0; i < 1_000; i++) {
+                store.tryAcquire("key-" + i, START);
+                assertTrue(store.size() <= 40, "size " + store.size());
+            }
+            assertTrue(store.evicted() > 0);
+        }
+
+        @Test
+        @DisplayName("Full buckets are dropped first, without counting as evictions")
+        void fullBucketsFirst() {
+            TokenBucketStore store = new TokenBucketStore(5, REFILL_PER_SECOND, 1, 10);
+            for (int i = 0; i < 10; i++) {
+                store.tryAcquire("old-" + i, START);
+            }
+
+            store.tryAcquire("new", START + INTERVAL);
+
+            assertEquals(1, store.size());
+            assertEquals(0, store.evicted());
+        }
+
+        @Test
+        @DisplayName("A stripe of busy buckets drops a tenth of them to make room")
+        void busyBucketsDropped() {
+            TokenBucketStore store = new TokenBucketStore(5, REFILL_PER_SECOND, 1, 20);
+            for (int i = 0; i < 20; i++) {
+                store.tryAcquire("busy-" + i, START);
+            }
+
+            store.tryAcquire("new", START);
+
+            assertEquals(19, store.size());
+            assertEquals(2, store.evicted());
+        }
+    }
+}
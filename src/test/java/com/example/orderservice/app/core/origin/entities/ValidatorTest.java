@@ -0,0 +1,162 @@
+package com.example.orderservice.app.core.origin.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+
+@DisplayName("Validator Tests")
+class ValidatorTest {
+
+    private record Line(String sku, long quantity, BigDecimal price, List<String> tags) {
+    }
+
+    private record Basket(String owner, List<Line> lines) {
+    }
+
+    private static final Validator<Line> LINE = Validator.of((line, result) -> {
+        result.notBlank("sku", line.sku(), "sku required");
+        result.positive("quantity", line.quantity(), "quantity positive");
+        result.positive("price", line.price(), "price positive");
+        result.each("tags", line.tags(), Validator.of((tag, r) -> r.notBlank(null, tag, "tag blank")),
+                "tag required");
+    });
+
+    private static final Validator<Basket> BASKET = Validator.of((basket, result) -> {
+        result.notBlank("owner", basket.owner(), "owner required");
+        result.notEmpty("lines", basket.lines(), "lines required");
+        result.each("lines", basket.lines(), LINE, "line required");
+    });
+
+    // ==================== Helper Methods ====================
+
+    private static Line validLine() {
+        return new Line("sku-1", 1, BigDecimal.ONE, null);
+    }
+
+    private static List<String> fields(ValidationResult result) {
+        return result.errors().stream().map(FieldError::field).toList();
+    }
+
+    private static List<String> codes(ValidationResult result) {
+        return result.errors().stream().map(FieldError::code).toList();
+    }
+
+    // ==================== Violations ====================
+
+    @Nested
+    @DisplayName("Violations")
+    class Violations {
+
+        @Test
+        @DisplayName("Valid input has no violations")
+        void validInput() {
+            ValidationResult result = new ValidationResult();
+
+            assertTrue(BASKET.validate(new Basket("alice", List.of(validLine(), validLine())), result));
+            assertTrue(result.errors().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Every violation is reported, not just the first")
+        void reportsAll() {
+            ValidationResult result = new ValidationResult();
+
+            assertFalse(BASKET.validate(new Basket(" ", List.of()), result));
+
+            assertEquals(List.of("owner", "lines"), fields(result));
+            assertEquals(List.of(ValidationResult.CODE_REQUIRED, ValidationResult.CODE_NOT_EMPTY), codes(result));
+        }
+
+        @Test
+        @DisplayName("Element violations carry items[i].field paths")
+        void elementPaths() {
+            ValidationResult result = new ValidationResult();
+            Basket basket = new Basket("alice", List.of(
+                    validLine(),
+                    new Line(null, 0, BigDecimal.ZERO, null),
+                    new Line("sku-3", 2, null, null)));
+
+            assertFalse(BASKET.validate(basket, result));
+
+            assertEquals(List.of("lines[1].sku", "lines[1].quantity", "lines[1].price", "lines[2].price"),
+                    fields(result));
+            assertEquals(List.of("sku required", "quantity positive", "price positive", "price positive"),
+                    result.errors().stream().map(FieldError::message).toList());
+        }
+
+        @Test
+        @DisplayName("Null elements are reported at their index")
+        void nullElement() {
+            ValidationResult result = new ValidationResult();
+
+            assertFalse(BASKET.validate(new Basket("alice", Arrays.asList(validLine(), null)), result));
+
+            assertEquals(List.of("lines[1]"), fields(result));
+            assertEquals(List.of("line required"), result.errors().stream().map(FieldError::message).toList());
+        }
+
+        @Test
+        @DisplayName("Nested collections report the full path")
+        void nestedPaths() {
+            ValidationResult result = new ValidationResult();
+            List<String> tags = new ArrayList<>(List.of("ok", " "));
+            tags.add(null);
+            Basket basket = new Basket("alice", List.of(validLine(), new Line("sku-2", 1, BigDecimal.ONE, tags)));
+
+            assertFalse(BASKET.validate(basket, result));
+
+            assertEquals(List.of("lines[1].tags[1]", "lines[1].tags[2]"), fields(result));
+        }
+
+        @Test
+        @DisplayName("A null collection is reported once by notEmpty and skipped by each")
+        void nullCollection() {
+            ValidationResult result = new ValidationResult();
+
+            assertFalse(BASKET.validate(new Basket("alice", null), result));
+
+            assertEquals(List.of("lines"), fields(result));
+        }
+    }
+
+    // ==================== Reuse ====================
+
+    @Nested
+    @DisplayName("Reuse")
+    class Reuse {
+
+        @Test
+        @DisplayName("A reset result validates the next input from scratch")
+        void resetClearsState() {
+            ValidationResult result = new ValidationResult();
+            assertFalse(BASKET.validate(new Basket(null, List.of(new Line(null, 1, BigDecimal.ONE, null))), result));
+
+            result.reset();
+
+            assertTrue(BASKET.validate(new Basket("alice", List.of(validLine())), result));
+            assertFalse(BASKET.validate(new Basket("alice", List.of(validLine(), new Line("x", 0, BigDecimal.ONE,
+                    null))), result));
+            assertEquals(List.of("lines[1].quantity"), fields(result));
+        }
+
+        @Test
+        @DisplayName("Custom violations outside a collection use the field name as is")
+        void customRule() {
+            ValidationResult result = new ValidationResult();
+
+            result.add("currency", "unsupported", "currency unsupported");
+
+            assertFalse(result.isValid());
+            assertEquals(List.of(new FieldError("currency", "unsupported", "currency unsupported")), result.errors());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.orderservice.app.core.origin.schemas;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Deadline Tests")
+class DeadlineTest {
+
+    // ==================== Construction ====================
+
+    @Test
+    @DisplayName("A timeout is added to the current clock reading, even a negative one")
+    void afterTimeout() {
+        assertEquals(new Deadline(1_500), Deadline.after(Duration.ofNanos(500), 1_000));
+        assertEquals(new Deadline(-500), Deadline.after(Duration.ofNanos(500), -1_000));
+        assertEquals(new Deadline(Long.MIN_VALUE + 10), Deadline.after(Duration.ofNanos(10), Long.MIN_VALUE));
+        assertTrue(Deadline.after(Duration.ofSeconds(1), -1_000).isBounded());
+    }
+
+    @Test
+    @DisplayName("A missing timeout means no deadline")
+    void nullTimeout() {
+        assertSame(Deadline.NONE, Deadline.after(null));
+        assertFalse(Deadline.after(null, 0).isBounded());
+    }
+
+    @Test
+    @DisplayName("A timeout past the end of the clock saturates to no deadline")
+    void saturatesHigh() {
+        assertEquals(Deadline.NONE, Deadline.after(Duration.ofNanos(10), Long.MAX_VALUE - 5));
+        assertEquals(Deadline.NONE, Deadline.after(Duration.ofNanos(Long.MAX_VALUE), 1));
+        assertEquals(Deadline.NONE, Deadline.after(Duration.ofSeconds(Long.MAX_VALUE), 0));
+        assertEquals(Deadline.NONE, Deadline.after(Duration.ofSeconds(Long.MAX_VALUE), -1_000));
+    }
+
+    @Test
+    @DisplayName("A negative timeout past the start of the clock is already expired")
+    void saturatesLow() {
+        Deadline deadline = Deadline.after(Duration.ofNanos(-10), Long.MIN_VALUE + 5);
+
+        assertEquals(new Deadline(Long.MIN_VALUE + 5), deadline);
+        assertTrue(Deadline.after(Duration.ofSeconds(-1), System.nanoTime()).isExpired());
+    }
+
+    // ==================== Remaining Time ====================
+
+    @Test
+    @DisplayName("A fresh deadline has time left; an unbounded one never expires")
+    void remaining() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        assertTrue(deadline.isBounded());
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remainingNanos() > 0);
+        assertFalse(Deadline.NONE.isExpired());
+        assertEquals(Long.MAX_VALUE, Deadline.NONE.remainingNanos());
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.spring.OUTPUT_CreateOrderJsonWriter;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+@DisplayName("BinaryFormatConfig Tests")
+class BinaryFormatConfigTest {
+
+    private static final String PATH = "/orders";
+    private static final INPUT_CreateOrder INPUT = new INPUT_CreateOrder("CUST-1",
+            List.of(new InputOrderItem("PROD-001", 2, new BigDecimal("12.50"))), "EUR");
+
+    /** Answers like create-order, with the same media types as {@code OrdersController}. */
+    @RestController
+    static class OrdersEndpoint {
+
+        @PostMapping(value = PATH,
+                consumes = { MediaType.APPLICATION_JSON_VALUE, BinaryFormatConfig.APPLICATION_CBOR,
+                        BinaryFormatConfig.APPLICATION_SMILE },
+                produces = { MediaType.APPLICATION_JSON_VALUE, BinaryFormatConfig.APPLICATION_CBOR,
+                        BinaryFormatConfig.APPLICATION_SMILE })
+        ServiceOutput<OUTPUT_CreateOrder> create(@RequestBody INPUT_CreateOrder input) {
+            return ServiceOutput.success(new OUTPUT_CreateOrder("ORDER-" + input.customerId(), "CREATED",
+                    new BigDecimal("25.00"), input.currency(), Instant.parse("2026-01-15T12:00:00Z")));
+        }
+    }
+
+    /** MVC with the application's converters: the binary formats and the hand-written JSON writer. */
+    @Configuration(proxyBeanMethods = false)
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        OUTPUT_CreateOrderJsonWriter outputCreateOrderJsonWriter() {
+            return new OUTPUT_CreateOrderJsonWriter();
+        }
+    }
+
+    /** An application CBOR mapper that writes snake_case names, so its use shows in the body. */
+    @Configuration(proxyBeanMethods = false)
+    static class SnakeCaseCbor {
+
+        @Bean
+        CBORMapper cborMapper() {
+            return CBORMapper.builder().propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE).build();
+        }
+    }
+
+    private final JsonMapper json = JsonMapper.builder().build();
+    private final CBORMapper cbor = new CBORMapper();
+    private final SmileMapper smile = new SmileMapper();
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void start(Class<?>... extraConfig) {
+        if (context != null) {
+            context.close();
+        }
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(WebConfig.class, BinaryFormatConfig.class, ServiceOutputJsonConfig.class,
+                OrdersEndpoint.class);
+        if (extraConfig.length > 0) {
+            context.register(extraConfig);
+        }
+        context.refresh();
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request).andReturn().getResponse();
+    }
+
+    private MockHttpServletRequestBuilder jsonRequest() {
+        return post(PATH).contentType(MediaType.APPLICATION_JSON).content(json.writeValueAsBytes(INPUT));
+    }
+
+    private static void assertOrder(ObjectMapper mapper, byte[] body) {
+        JsonNode output = mapper.readTree(body);
+        assertEquals("SUCCESS", output.path("status").asString(null));
+        assertEquals("ORDER-CUST-1", output.path("data").path("orderId").asString(null));
+        assertEquals("EUR", output.path("data").path("currency").asString(null));
+    }
+
+    // ==================== Negotiation ====================
+
+    @Test
+    @DisplayName("A binary Accept gets a binary body")
+    void binaryResponse() throws Exception {
+        MockHttpServletResponse response = perform(jsonRequest().accept(BinaryFormatConfig.APPLICATION_CBOR));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BinaryFormatConfig.APPLICATION_CBOR, MediaType.parseMediaType(response.getContentType())
+                .toString());
+        assertOrder(cbor, response.getContentAsByteArray());
+        assertThrows(RuntimeException.class, () -> json.readTree(response.getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("Binary bodies are written with the application's mapper")
+    void applicationMapper() throws Exception {
+        start(SnakeCaseCbor.class);
+
+        MockHttpServletResponse response = perform(jsonRequest().accept(BinaryFormatConfig.APPLICATION_CBOR));
+
+        JsonNode data = cbor.readTree(response.getContentAsByteArray()).path("data");
+        assertEquals("ORDER-CUST-1", data.path("order_id").asString(null));
+        assertTrue(data.path("orderId").isMissingNode());
+    }
+
+    @Test
+    @DisplayName("A binary request body is read, and answered in the format asked for")
+    void binaryRequest() throws Exception {
+        MockHttpServletResponse response = perform(post(PATH)
+                .contentType(BinaryFormatConfig.APPLICATION_CBOR)
+                .content(cbor.writeValueAsBytes(INPUT))
+                .accept(BinaryFormatConfig.APPLICATION_SMILE));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BinaryFormatConfig.APPLICATION_SMILE, MediaType.parseMediaType(response.getContentType())
+                .toString());
+        assertOrder(smile, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("JSON is the default when Accept is missing or a wildcard")
+    void jsonDefault() throws Exception {
+        for (MockHttpServletRequestBuilder request : List.of(jsonRequest(), jsonRequest().accept(MediaType.ALL))) {
+            MockHttpServletResponse response = perform(request);
+
+            assertEquals(200, response.getStatus());
+            assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(
+                    MediaType.parseMediaType(response.getContentType())));
+            assertTrue(response.getContentAsString(StandardCharsets.UTF_8).startsWith("{\"status\":\"SUCCESS\""));
+            assertOrder(json, response.getContentAsByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("An unsupported Accept is answered with 406")
+    void unsupportedAccept() throws Exception {
+        MockHttpServletResponse response = perform(jsonRequest().accept(MediaType.TEXT_PLAIN));
+
+        assertEquals(406, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.ResponseEntity;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.features.createOrder.interfaces.INTERFACE_HELPER_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.services.SERVICE_CreateOrder;
+import com.example.orderservice.app.core.origin.entities.AdaptiveConcurrencyLimiter;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+import com.example.orderservice.app.infra.metrics.entities.HistogramSnapshot;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+
+/**
+ * Load-test scenario for the adaptive concurrency limit.
+ *
+ * <p>
+ * Open-loop clients offer {@value #OFFERED_RPS} requests/s to the create-order
+ * pipeline, behind {@link ControllerServiceExecutor}. The fake
+ * {@code saveOrder} holds one of {@value #DB_CONNECTIONS} "connections" for a
+ * configurable time, so the service can do 500 requests/s while saves take
+ * 20 ms and 200 requests/s while they take 50 ms. Clients give up after
+ * {@link #DEADLINE}; goodput counts successes within it.
+ * </p>
+ *
+ * <p>
+ * Without a limit the backlog that builds up while the database is slow
+ * pushes every request past the deadline, and goodput stays near zero until
+ * the backlog has drained. With the adaptive limit the excess is shed with
+ * 503 and goodput stays near what the database can do.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class ConcurrencyLimitLoadScenario {
+
+    private static final int DB_CONNECTIONS = 10;
+    private static final int OFFERED_RPS = 400;
+    private static final Duration DEADLINE = Duration.ofSeconds(1);
+    private static final List<Phase> PHASES = List.of(
+            new Phase("normal", 20, 3),
+            new Phase("db slow", 50, 4),
+            new Phase("recovered", 20, 4));
+
+    private record Phase(String name, int saveMillis, int seconds) {
+    }
+
+    private static final class PhaseResult {
+        final LongAdder offered = new LongAdder();
+        final LongAdder good = new LongAdder();
+        final LongAdder late = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        final LatencyHistogram goodLatency = new LatencyHistogram();
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-10s %-10s %9s %9s %9s %9s %12s%n",
+                "limit", "phase", "offered/s", "goodput/s", "late/s", "shed/s", "good p99 ms");
+        run("none", AdaptiveConcurrencyLimiter.fixed(Integer.MAX_VALUE));
+        run("adaptive", new AdaptiveConcurrencyLimiter(20, 4, 500, TimeUnit.MILLISECONDS.toNanos(100), 0.2));
+    }
+
+    private static void run(String label, AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        SlowDatabaseHelper helper = new SlowDatabaseHelper();
+        MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+        SERVICE_CreateOrder service = new SERVICE_CreateOrder(
+                new ServiceDependency((user, serviceName) -> true, metrics, null, null, null),
+                Map.of(SERVICE_CreateOrder.DEFAULT_HELPER, helper), null, Runnable::run);
+        User user = new User("1", "load@example.com", "USER");
+        ControllerServiceExecutor executor = new ControllerServiceExecutor(limiter,
+                token -> new AuthenticatedToken(user, Long.MAX_VALUE), metrics, Duration.ofSeconds(1));
+        INPUT_CreateOrder input = new INPUT_CreateOrder("customer",
+                List.of(new InputOrderItem("product", 1, BigDecimal.TEN)), "USD");
+
+        PhaseResult[] results = new PhaseResult[PHASES.size()];
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / OFFERED_RPS;
+        long deadlineNanos = DEADLINE.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = System.nanoTime();
+            for (int p = 0; p < PHASES.size(); p++) {
+                Phase phase = PHASES.get(p);
+                PhaseResult result = results[p] = new PhaseResult();
+                helper.saveMillis = phase.saveMillis();
+                long requests = (long) OFFERED_RPS * phase.seconds();
+                for (long r = 0; r < requests; r++) {
+                    long scheduled = next;
+                    next += intervalNanos;
+                    LockSupport.parkNanos(scheduled - System.nanoTime());
+                    result.offered.increment();
+                    clients.execute(() -> {
+                        ResponseEntity<ServiceOutput<OUTPUT_CreateOrder>> response = executor
+                                .execute(service::run, input, user);
+                        long latency = System.nanoTime() - scheduled;
+                        ServiceStatus status = response.getBody().status();
+                        if (status == ServiceStatus.OVERLOADED) {
+                            result.shed.increment();
+                        } else if (latency > deadlineNanos) {
+                            result.late.increment();
+                        } else if (status == ServiceStatus.SUCCESS) {
+                            result.good.increment();
+                            result.goodLatency.recordValue(latency);
+                        }
+                    });
+                }
+            }
+        }
+
+        for (int p = 0; p < PHASES.size(); p++) {
+            Phase phase = PHASES.get(p);
+            PhaseResult result = results[p];
+            HistogramSnapshot snapshot = result.goodLatency.snapshot();
+            System.out.printf("%-10s %-10s %9d %9d %9d %9d %12.1f%n",
+                    label, phase.name(),
+                    result.offered.sum() / phase.seconds(),
+                    result.good.sum() / phase.seconds(),
+                    result.late.sum() / phase.seconds(),
+                    result.shed.sum() / phase.seconds(),
+                    snapshot.p99() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Create-order helper whose save waits for one of a few connections and
+     * then takes {@link #saveMillis}.
+     */
+    private static final class SlowDatabaseHelper implements INTERFACE_HELPER_CreateOrder {
+
+        private final Semaphore connections = new Semaphore(DB_CONNECTIONS, true);
+        volatile int saveMillis;
+
+        @Override
+        public void validateInput(INPUT_CreateOrder input) {
+        }
+
+        @Override
+        public Order buildOrder(INPUT_CreateOrder input) {
+            return new Order(null, input.customerId(), input.currency());
+        }
+
+        @Override
+        public Order saveOrder(Order order) {
+            connections.acquireUninterruptibly();
+            try {
+                Thread.sleep(saveMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                connections.release();
+            }
+            order.setId("1");
+            return order;
+        }
+
+        @Override
+        public void publishEvent(Order order) {
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.orderservice.app.core.origin.entities.AdaptiveConcurrencyLimiter;
+import com.example.orderservice.app.core.origin.exceptions.AuthenticationException;
+import com.example.orderservice.app.core.origin.schemas.AuthenticatedToken;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.User;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("ControllerServiceExecutor Tests")
+class ControllerServiceExecutorTest {
+
+    private static final User USER = new User("u1", "u1@example.com", "USER");
+
+    /** Records whether each release was sampled. */
+    private static final class RecordingLimiter extends AdaptiveConcurrencyLimiter {
+        final List<Boolean> samples = new ArrayList<>();
+
+        RecordingLimiter(int limit) {
+            super(limit, limit, limit, Long.MAX_VALUE, 1);
+        }
+
+        @Override
+        public void release(long startNanos, boolean sample) {
+            samples.add(sample);
+            super.release(startNanos, sample);
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private RecordingLimiter limiter;
+    private ControllerServiceExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RecordingLimiter(1);
+        executor = new ControllerServiceExecutor(limiter, token -> null, metrics, Duration.ofSeconds(2));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private long count(String result) {
+        return metrics.counter("concurrency_limit_requests_total", "result", result).get();
+    }
+
+    // ==================== Concurrency Limit ====================
+
+    @Nested
+    @DisplayName("Concurrency limit")
+    class ConcurrencyLimit {
+
+        @Test
+        @DisplayName("Requests over the limit get 503 and are counted as shed")
+        void shedOverLimit() {
+            ResponseEntity<ServiceOutput<String>> inner = executor.execute(in -> {
+                ResponseEntity<ServiceOutput<String>> nested = executor.execute(
+                        i -> ServiceOutput.success("nested"), "x", USER);
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, nested.getStatusCode());
+                assertNotNull(nested.getHeaders().getFirst("Retry-After"));
+                return ServiceOutput.success("outer");
+            }, "x", USER);
+
+            assertEquals(HttpStatus.OK, inner.getStatusCode());
+            assertEquals(1, count("admitted"));
+            assertEquals(1, count("shed"));
+            assertEquals(0, limiter.getInFlight());
+        }
+
+        @Test
+        @DisplayName("Completed requests are sampled")
+        void completedSampled() {
+            executor.execute(in -> ServiceOutput.success("ok"), "x", USER);
+            executor.execute(in -> ServiceOutput.validationError("bad", List.of()), "x", USER);
+
+            assertEquals(List.of(true, true), limiter.samples);
+        }
+
+        @Test
+        @DisplayName("Fast rejections from downstream are not sampled")
+        void fastRejectionsNotSampled() {
+            executor.execute(in -> ServiceOutput.overloaded("shard full"), "x", USER);
+            executor.execute(in -> ServiceOutput.rateLimited("slow down"), "x", USER);
+
+            assertEquals(List.of(false, false), limiter.samples);
+        }
+
+        @Test
+        @DisplayName("Rate limited requests are told when their bucket refills, in whole seconds")
+        void rateLimitedRetryAfter() {
+            ResponseEntity<ServiceOutput<String>> later = executor.execute(
+                    in -> ServiceOutput.rateLimited("slow down", Duration.ofMillis(4_200)), "x", USER);
+            ResponseEntity<ServiceOutput<String>> soon = executor.execute(
+                    in -> ServiceOutput.rateLimited("slow down", Duration.ofMillis(30)), "x", USER);
+            ResponseEntity<ServiceOutput<String>> unknown = executor.execute(
+                    in -> ServiceOutput.rateLimited("slow down"), "x", USER);
+
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, later.getStatusCode());
+            assertEquals("5", later.getHeaders().getFirst("Retry-After"));
+            assertEquals("1", soon.getHeaders().getFirst("Retry-After"));
+            assertEquals("2", unknown.getHeaders().getFirst("Retry-After"));
+        }
+
+        @Test
+        @DisplayName("Failed requests are not sampled but still released")
+        void failuresReleased() {
+            assertThrows(IllegalStateException.class, () -> executor.execute(in -> {
+                throw new IllegalStateException("boom");
+            }, "x", USER));
+
+            assertEquals(List.of(false), limiter.samples);
+            assertEquals(0, limiter.getInFlight());
+        }
+    }
+
+    // ==================== Authentication ====================
+
+    @Nested
+    @DisplayName("Authentication")
+    class Authentication {
+
+        private final List<String> verified = new ArrayList<>();
+
+        private ControllerServiceExecutor authenticating() {
+            return new ControllerServiceExecutor(limiter, token -> {
+                verified.add(token);
+                if (!"good".equals(token)) {
+                    throw new AuthenticationException("Invalid token signature");
+                }
+                return new AuthenticatedToken(USER, Long.MAX_VALUE);
+            }, metrics, Duration.ofSeconds(2));
+        }
+
+        @Test
+        @DisplayName("Tokens are only verified once the request is admitted")
+        void verifiedInsideAdmission() {
+            ControllerServiceExecutor authenticating = authenticating();
+
+            ResponseEntity<ServiceOutput<String>> outer = executor.execute(in -> {
+                ResponseEntity<ServiceOutput<String>> nested = authenticating.executeAuthenticated(
+                        i -> ServiceOutput.success("nested"), "x", "Bearer bogus", null);
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, nested.getStatusCode());
+                return ServiceOutput.success("outer");
+            }, "x", USER);
+
+            assertEquals(HttpStatus.OK, outer.getStatusCode());
+            assertTrue(verified.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Rejected tokens get 401 and are released without a sample")
+        void rejectedNotSampled() {
+            ControllerServiceExecutor authenticating = authenticating();
+
+            ResponseEntity<ServiceOutput<String>> rejected = authenticating.executeAuthenticated(
+                    i -> ServiceOutput.success("ok"), "x", "Bearer bogus", null);
+            ResponseEntity<ServiceOutput<String>> accepted = authenticating.executeAuthenticated(
+                    i -> ServiceOutput.success(i.user().id()), "x", "Bearer good", null);
+
+            assertEquals(HttpStatus.UNAUTHORIZED, rejected.getStatusCode());
+            assertEquals("Bearer", rejected.getHeaders().getFirst("WWW-Authenticate"));
+            assertEquals(HttpStatus.OK, accepted.getStatusCode());
+            assertEquals("u1", accepted.getBody().data());
+            assertEquals(List.of("bogus", "good"), verified);
+            assertEquals(List.of(false, true), limiter.samples);
+            assertEquals(0, limiter.getInFlight());
+        }
+    }
+}
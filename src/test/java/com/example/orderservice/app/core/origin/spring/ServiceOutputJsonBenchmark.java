@@ -0,0 +1,91 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.spring.OUTPUT_CreateOrderJsonWriter;
+import com.example.orderservice.app.core.origin.entities.JsonByteWriter;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cost of writing one create-order response to the response stream, with
+ * Jackson and with {@link ServiceOutputJsonConverter}. Run with
+ * {@code -prof gc} for the allocation per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceOutputJsonBenchmark {
+
+    private final ObjectMapper jackson = JsonMapper.builder().build();
+    private final OUTPUT_CreateOrderJsonWriter writer = new OUTPUT_CreateOrderJsonWriter();
+    /** Discards the response; unlike nullOutputStream(), survives Jackson closing it. */
+    private final OutputStream body = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private ServiceOutput<OUTPUT_CreateOrder> output;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        output = ServiceOutput.success(new OUTPUT_CreateOrder("0191d5a2-7c1e-7b3a-9f1e-4c2d8a6b1e0f", "CREATED",
+                new BigDecimal("1234.50"), "USD", Instant.parse("2026-01-15T10:15:30.123456Z")));
+    }
+
+    /**
+     * A fresh output per call, as in a real request.
+     */
+    private ServiceOutput<OUTPUT_CreateOrder> nextOutput() {
+        OUTPUT_CreateOrder data = output.data();
+        return ServiceOutput.success(new OUTPUT_CreateOrder(data.orderId(), data.status(),
+                BigDecimal.valueOf(123_450 + (next++ & 1023), 2), data.currency(), data.createdAt()));
+    }
+
+    @Benchmark
+    public void jackson() {
+        jackson.writeValue(body, nextOutput());
+    }
+
+    @Benchmark
+    public void handWritten() throws IOException {
+        JsonByteWriter out = JsonByteWriter.acquire();
+        ServiceOutputJsonConverter.write(nextOutput(), writer, out);
+        out.writeTo(body);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ServiceOutputJsonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
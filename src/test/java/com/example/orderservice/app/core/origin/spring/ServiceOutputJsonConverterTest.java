@@ -0,0 +1,185 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.spring.OUTPUT_CreateOrderJsonWriter;
+import com.example.orderservice.app.core.origin.entities.JsonByteWriter;
+import com.example.orderservice.app.core.origin.schemas.FieldError;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+import com.example.orderservice.app.core.origin.schemas.ServiceStatus;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("ServiceOutputJsonConverter Tests")
+class ServiceOutputJsonConverterTest {
+
+    private static final int RANDOM_CASES = 20_000;
+
+    private final ObjectMapper jackson = JsonMapper.builder().build();
+    private final OUTPUT_CreateOrderJsonWriter writer = new OUTPUT_CreateOrderJsonWriter();
+    private SplittableRandom random;
+
+    @BeforeEach
+    void setUp() {
+        random = new SplittableRandom(43);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void assertSameAsJackson(ServiceOutput<OUTPUT_CreateOrder> output) {
+        JsonByteWriter out = JsonByteWriter.acquire();
+        ServiceOutputJsonConverter.write(output, writer, out);
+        byte[] expected = jackson.writeValueAsBytes(output);
+        byte[] actual = out.toByteArray();
+        if (!java.util.Arrays.equals(expected, actual)) {
+            assertEquals(new String(expected, StandardCharsets.UTF_8), new String(actual, StandardCharsets.UTF_8));
+        }
+    }
+
+    private ServiceOutput<OUTPUT_CreateOrder> success(String orderId, BigDecimal total, Instant createdAt) {
+        return ServiceOutput.success(new OUTPUT_CreateOrder(orderId, "CREATED", total, "USD", createdAt));
+    }
+
+    private String randomString() {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> text.append((char) random.nextInt(0x80));
+                case 1 -> text.append((char) (0x80 + random.nextInt(0x780)));
+                case 2 -> text.append((char) (0x800 + random.nextInt(0xD800 - 0x800)));
+                case 3 -> text.appendCodePoint(0x10000 + random.nextInt(0x100000));
+                default -> text.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return text.toString();
+    }
+
+    private BigDecimal randomDecimal() {
+        BigInteger unscaled = new BigInteger(1 + random.nextInt(80), new java.util.Random(random.nextLong()));
+        if (random.nextBoolean()) {
+            unscaled = unscaled.negate();
+        }
+        return new BigDecimal(unscaled, random.nextInt(-5, 25));
+    }
+
+    private Instant randomInstant() {
+        long seconds = random.nextLong(Instant.parse("0000-01-01T00:00:00Z").getEpochSecond(),
+                Instant.parse("9999-12-31T23:59:59Z").getEpochSecond());
+        int nanos = switch (random.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(1000) * 1_000_000;
+            case 2 -> random.nextInt(1_000_000) * 1000;
+            default -> random.nextInt(1_000_000_000);
+        };
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    // ==================== Tests ====================
+
+    @Nested
+    @DisplayName("Envelope")
+    class Envelope {
+
+        @Test
+        @DisplayName("Should match Jackson for a typical success")
+        void typicalSuccess() {
+            assertSameAsJackson(success("0191d5a2-7c1e-7b3a-9f1e-4c2d8a6b1e0f", new BigDecimal("1234.50"),
+                    Instant.parse("2026-01-15T10:15:30.123456Z")));
+        }
+
+        @Test
+        @DisplayName("Should match Jackson for every status without data")
+        void everyStatus() {
+            for (ServiceStatus status : ServiceStatus.values()) {
+                assertSameAsJackson(new ServiceOutput<>(status, null, "Something \"went\" wrong"));
+            }
+            assertSameAsJackson(new ServiceOutput<>(null, null, null));
+        }
+
+        @Test
+        @DisplayName("Should list validation errors, and omit an empty list")
+        void validationErrors() {
+            assertSameAsJackson(ServiceOutput.validationError("Invalid order", List.of(
+                    new FieldError("items[0].quantity", "positive", "Quantity must be greater than zero"),
+                    new FieldError("currency", "required", null))));
+            assertSameAsJackson(new ServiceOutput<>(ServiceStatus.VALIDATION_ERROR, null, "Invalid", List.of()));
+        }
+
+        @Test
+        @DisplayName("Should write null fields of the data as null")
+        void nullFields() {
+            assertSameAsJackson(ServiceOutput.success(new OUTPUT_CreateOrder(null, null, null, null, null)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Values")
+    class Values {
+
+        @Test
+        @DisplayName("Should escape strings like Jackson")
+        void strings() {
+            StringBuilder control = new StringBuilder();
+            for (char c = 0; c < 0x80; c++) {
+                control.append(c);
+            }
+            assertSameAsJackson(success(control.toString(), BigDecimal.ONE, Instant.EPOCH));
+            for (int i = 0; i < RANDOM_CASES; i++) {
+                assertSameAsJackson(success(randomString(), BigDecimal.ONE, Instant.EPOCH));
+            }
+        }
+
+        @Test
+        @DisplayName("Should write decimals like BigDecimal.toString")
+        void decimals() {
+            for (String value : List.of("0", "0.00", "-0.01", "0.000001", "0.0000001", "0E-7", "1E+3",
+                    "123456789012345678", "1234567890123456789", "999999999999999999.99", "-5.5",
+                    "0.000000000000000001", "100")) {
+                assertSameAsJackson(success("x", new BigDecimal(value), Instant.EPOCH));
+            }
+            for (int i = 0; i < RANDOM_CASES; i++) {
+                assertSameAsJackson(success("x", randomDecimal(), Instant.EPOCH));
+            }
+        }
+
+        @Test
+        @DisplayName("Should write instants like Instant.toString")
+        void instants() {
+            for (String value : List.of("1970-01-01T00:00:00Z", "2000-02-29T23:59:59.999Z",
+                    "1969-12-31T23:59:59.000000001Z", "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z")) {
+                assertSameAsJackson(success("x", BigDecimal.ONE, Instant.parse(value)));
+            }
+            assertSameAsJackson(success("x", BigDecimal.ONE, Instant.MIN));
+            assertSameAsJackson(success("x", BigDecimal.ONE, Instant.MAX));
+            for (int i = 0; i < RANDOM_CASES; i++) {
+                assertSameAsJackson(success("x", BigDecimal.ONE, randomInstant()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should grow past the initial buffer")
+        void largeOutput() {
+            List<FieldError> errors = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                errors.add(new FieldError("items[" + i + "].productId", "unknown", "Unknown product: é" + i));
+            }
+            assertSameAsJackson(ServiceOutput.validationError("Invalid order", errors));
+        }
+    }
+}
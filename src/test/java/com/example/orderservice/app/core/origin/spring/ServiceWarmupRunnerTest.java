@@ -0,0 +1,125 @@
+package com.example.orderservice.app.core.origin.spring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import com.example.orderservice.app.core.origin.contracts.CachingUsecaseAuthorizationService;
+import com.example.orderservice.app.core.origin.entities.AbstractService;
+import com.example.orderservice.app.core.origin.entities.AbstractUsecase;
+import com.example.orderservice.app.core.origin.schemas.ServiceDependency;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("ServiceWarmupRunner Tests")
+class ServiceWarmupRunnerTest {
+
+    private static final String SERVICE_NAME = "Test.Echo";
+
+    /** Answers with its input. */
+    private static final class EchoService extends AbstractService<String, String> {
+
+        EchoService(ServiceDependency dependencies) {
+            super(dependencies);
+        }
+
+        @Override
+        protected String detectServiceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        protected AbstractUsecase<String, String> build(String input) {
+            return new AbstractUsecase<>() {
+                @Override
+                public String execute(String in) {
+                    return in;
+                }
+            };
+        }
+    }
+
+    /** Supports warmup, and counts the warmup services it builds. */
+    private static final class EchoBean extends AbstractBean<String, String, EchoService> {
+        int warmupServices;
+
+        EchoBean(ServiceDependency dependencies) {
+            super(dependencies);
+        }
+
+        @Override
+        protected EchoService createService() {
+            return new EchoService(dependencies);
+        }
+
+        @Override
+        protected EchoService createWarmupService(ServiceDependency warmupDependencies) {
+            warmupServices++;
+            return new EchoService(warmupDependencies);
+        }
+
+        @Override
+        protected String warmupInput(int iteration) {
+            return "warmup-" + iteration;
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private final List<String> policyChecks = new ArrayList<>();
+    private CachingUsecaseAuthorizationService authorization;
+    private EchoBean bean;
+
+    @BeforeEach
+    void setUp() {
+        authorization = new CachingUsecaseAuthorizationService((user, name) -> policyChecks.add(name), metrics,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), 100);
+        bean = new EchoBean(new ServiceDependency(authorization, metrics, null, null, null));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private ServiceWarmupRunner runner(boolean enabled) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                Map.of("jsonMapper", JsonMapper.builder().build()));
+        return new ServiceWarmupRunner(List.<AbstractBean<?, ?, ?>>of(bean),
+                beans.getBeanProvider(ObjectMapper.class), enabled, 50, 10, "USER");
+    }
+
+    // ==================== Isolation ====================
+
+    @Test
+    @DisplayName("Warmup leaves the live authorization cache and metrics untouched")
+    void isolated() {
+        // The live service registers its own metrics when it is built
+        bean.getService();
+        String before = metrics.scrapePrometheus();
+
+        runner(true).run(new DefaultApplicationArguments());
+
+        assertEquals(1, bean.warmupServices);
+        assertEquals(60, policyChecks.size());
+        assertEquals(0, authorization.size());
+        assertEquals(before, metrics.scrapePrometheus());
+    }
+
+    @Test
+    @DisplayName("With warmup disabled the live service is still built eagerly")
+    void disabled() {
+        runner(false).run(new DefaultApplicationArguments());
+
+        assertEquals(0, bean.warmupServices);
+        assertTrue(policyChecks.isEmpty());
+        assertNotNull(bean.getService());
+    }
+}
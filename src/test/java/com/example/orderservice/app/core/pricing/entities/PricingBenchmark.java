@@ -0,0 +1,192 @@
+package com.example.orderservice.app.core.pricing.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.pricing.schemas.CatalogPrice;
+import com.example.orderservice.app.core.pricing.schemas.PricingRules;
+import com.example.orderservice.app.core.pricing.schemas.PromotionRule;
+import com.example.orderservice.app.core.pricing.schemas.TaxRule;
+
+/**
+ * Cost of pricing one order item with a {@link PricingTable}, for rule sets
+ * of {@value #PRODUCTS} products in {@value #CATEGORIES} categories and a
+ * growing number of active promotions, against evaluating the same rules by
+ * scanning the rule list with {@link BigDecimal}.
+ *
+ * <p>
+ * Promotions are 80% per product, 19% per category and 1% global; half are
+ * percentages and half have a time window or a minimum quantity. Both
+ * benchmarks price the same items and the setup checks they agree.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+    static final int PRODUCTS = 10_000;
+    static final int CATEGORIES = 50;
+    private static final int ITEMS = 1024;
+    private static final String CURRENCY = "USD";
+    private static final String REGION = "DE";
+
+    @Param({ "0", "1000", "10000" })
+    public int promotions;
+
+    private PricingRules rules;
+    private PricingTable table;
+    private OrderItem[] items;
+    private long[] clientPrices;
+    private long at;
+    private LocalDateTime now;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(38);
+        now = LocalDateTime.now();
+        at = EpochNanos.of(now);
+
+        List<CatalogPrice> prices = new ArrayList<>(PRODUCTS);
+        for (int p = 0; p < PRODUCTS; p++) {
+            prices.add(new CatalogPrice(product(p), category(p % CATEGORIES), CURRENCY,
+                    BigDecimal.valueOf(100 + random.nextInt(100_000), 2)));
+        }
+        List<PromotionRule> promotionRules = new ArrayList<>(promotions);
+        for (int i = 0; i < promotions; i++) {
+            int kind = random.nextInt(100);
+            String productId = kind < 80 ? product(random.nextInt(PRODUCTS)) : null;
+            String category = kind >= 80 && kind < 99 ? category(random.nextInt(CATEGORIES)) : null;
+            boolean percent = random.nextBoolean();
+            boolean conditional = random.nextBoolean();
+            promotionRules.add(new PromotionRule("PROMO-" + i, productId, category,
+                    percent ? BigDecimal.valueOf(1 + random.nextInt(300), 1) : null,
+                    percent ? null : BigDecimal.valueOf(1 + random.nextInt(500), 2),
+                    percent ? null : CURRENCY,
+                    conditional ? 2 + random.nextInt(3) : null,
+                    conditional ? now.minusDays(1) : null,
+                    conditional ? now.plusDays(random.nextInt(3) - 1) : null));
+        }
+        List<TaxRule> taxes = new ArrayList<>();
+        taxes.add(new TaxRule(REGION, null, new BigDecimal("19")));
+        taxes.add(new TaxRule(REGION, category(0), new BigDecimal("7")));
+        taxes.add(new TaxRule("FR", null, new BigDecimal("20")));
+        rules = new PricingRules(prices, promotionRules, taxes);
+        table = PricingTable.compile(rules);
+
+        items = new OrderItem[ITEMS];
+        clientPrices = new long[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId(product(random.nextInt(PRODUCTS)));
+            item.setQuantity(1 + random.nextInt(5));
+            clientPrices[i] = 999;
+            items[i] = item;
+        }
+
+        for (int i = 0; i < ITEMS; i++) {
+            BigDecimal expected = scanRuleList(items[i]);
+            BigDecimal actual = tableItem(i).getTotalPrice();
+            if (expected.compareTo(actual) != 0) {
+                throw new IllegalStateException(items[i].getProductId() + ": rule list " + expected
+                        + " != table " + actual);
+            }
+        }
+    }
+
+    @Benchmark
+    public long priceItem() {
+        return tableItem(next++ & (ITEMS - 1)).getTotalPriceMinor();
+    }
+
+    @Benchmark
+    public BigDecimal priceItemByScanningRules() {
+        return scanRuleList(items[next++ & (ITEMS - 1)]);
+    }
+
+    private OrderItem tableItem(int i) {
+        OrderItem item = items[i];
+        item.setUnitPrice(clientPrices[i], 2);
+        table.price(item, CURRENCY, REGION, at);
+        return item;
+    }
+
+    /**
+     * The same rules evaluated without precompilation.
+     */
+    private BigDecimal scanRuleList(OrderItem item) {
+        BigDecimal unit = null;
+        String category = null;
+        for (CatalogPrice price : rules.prices()) {
+            if (price.productId().equals(item.getProductId()) && price.currency().equals(CURRENCY)) {
+                unit = price.price();
+                category = price.category();
+            }
+        }
+        BigDecimal line = unit.multiply(BigDecimal.valueOf(item.getQuantity()));
+        BigDecimal discount = BigDecimal.ZERO;
+        for (PromotionRule promotion : rules.promotions()) {
+            boolean matches = (promotion.productId() == null || promotion.productId().equals(item.getProductId()))
+                    && (promotion.category() == null || promotion.category().equals(category))
+                    && (promotion.minQuantity() == null || item.getQuantity() >= promotion.minQuantity())
+                    && (promotion.startsAt() == null || !now.isBefore(promotion.startsAt()))
+                    && (promotion.endsAt() == null || now.isBefore(promotion.endsAt()));
+            if (!matches) {
+                continue;
+            }
+            BigDecimal off = promotion.percentOff() != null
+                    ? line.multiply(promotion.percentOff()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_EVEN)
+                    : promotion.amountOff().min(unit).multiply(BigDecimal.valueOf(item.getQuantity()));
+            discount = discount.max(off);
+        }
+        BigDecimal net = line.subtract(discount.min(line));
+        BigDecimal rate = BigDecimal.ZERO;
+        for (TaxRule tax : rules.taxes()) {
+            if (tax.region().equals(REGION) && (tax.category() == null ? rate.signum() == 0
+                    : tax.category().equals(category))) {
+                rate = tax.ratePercent();
+            }
+        }
+        return net.add(net.multiply(rate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_EVEN));
+    }
+
+    private static String product(int p) {
+        return String.format("PROD-%05d", p);
+    }
+
+    private static String category(int c) {
+        return "CAT-" + c;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PricingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.orderservice.app.core.pricing.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.origin.entities.EpochNanos;
+import com.example.orderservice.app.core.pricing.schemas.CatalogPrice;
+import com.example.orderservice.app.core.pricing.schemas.PricingRules;
+import com.example.orderservice.app.core.pricing.schemas.PromotionRule;
+import com.example.orderservice.app.core.pricing.schemas.TaxRule;
+
+@DisplayName("PricingTable Tests")
+class PricingTableTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 12, 0);
+    private static final long AT = EpochNanos.of(NOW);
+    private static final CatalogPrice BOOK = new CatalogPrice("PROD-001", "books", "EUR", new BigDecimal("12.50"));
+
+    // ==================== Helper Methods ====================
+
+    private static PricingTable table(List<CatalogPrice> prices, List<PromotionRule> promotions,
+            List<TaxRule> taxes) {
+        return PricingTable.compile(new PricingRules(prices, promotions, taxes));
+    }
+
+    private static PricingTable promotions(PromotionRule... promotions) {
+        return table(List.of(BOOK), List.of(promotions), null);
+    }
+
+    private static PromotionRule percent(String id, String productId, String category, String percentOff) {
+        return new PromotionRule(id, productId, category, new BigDecimal(percentOff), null, null, null, null, null);
+    }
+
+    private static PromotionRule amount(String id, String productId, String amountOff, String currency,
+            Integer minQuantity) {
+        return new PromotionRule(id, productId, null, null, new BigDecimal(amountOff), currency, minQuantity, null,
+                null);
+    }
+
+    private static OrderItem item(String productId, int quantity, String unitPrice) {
+        OrderItem item = new OrderItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        item.setUnitPrice(new BigDecimal(unitPrice));
+        return item;
+    }
+
+    private static BigDecimal total(PricingTable table, OrderItem item, String currency, String region, long at) {
+        assertTrue(table.price(item, currency, region, at));
+        return item.getTotalPrice();
+    }
+
+    private static BigDecimal total(PricingTable table, int quantity) {
+        return total(table, item("PROD-001", quantity, "99.99"), "EUR", null, AT);
+    }
+
+    // ==================== Catalog Prices ====================
+
+    @Nested
+    @DisplayName("Catalog prices")
+    class CatalogPrices {
+
+        @Test
+        @DisplayName("The catalog price replaces the client's price")
+        void replacesClientPrice() {
+            PricingTable table = table(List.of(BOOK), null, null);
+            OrderItem item = item("PROD-001", 2, "99.99");
+
+            assertEquals(new BigDecimal("25.00"), total(table, item, "EUR", null, AT));
+            assertEquals(new BigDecimal("12.50"), item.getUnitPrice());
+            assertTrue(table.hasCatalog());
+        }
+
+        @Test
+        @DisplayName("Items without a catalog price in the order currency are not priced")
+        void unpricedRejected() {
+            PricingTable table = table(List.of(BOOK), List.of(percent("ALL", null, null, "10")), null);
+            OrderItem unlisted = item("PROD-999", 1, "5.00");
+            OrderItem otherCurrency = item("PROD-001", 1, "5.00");
+
+            assertFalse(table.price(unlisted, "EUR", null, AT));
+            assertFalse(table.price(otherCurrency, "USD", null, AT));
+            assertEquals(new BigDecimal("5.00"), unlisted.getTotalPrice());
+            assertEquals(new BigDecimal("5.00"), otherCurrency.getUnitPrice());
+        }
+
+        @Test
+        @DisplayName("Without a catalog, items keep the client's price")
+        void noCatalogKeepsClientPrice() {
+            PricingTable table = table(null, List.of(percent("ALL", null, null, "10")), null);
+
+            assertEquals(new BigDecimal("9.00"), total(table, item("PROD-999", 2, "5.00"), "EUR", null, AT));
+            assertTrue(PricingTable.EMPTY.price(item("PROD-999", 1, "5.00"), "EUR", null, AT));
+            assertFalse(table.hasCatalog());
+            assertFalse(PricingTable.EMPTY.hasCatalog());
+        }
+    }
+
+    // ==================== Promotions ====================
+
+    @Nested
+    @DisplayName("Promotions")
+    class Promotions {
+
+        @Test
+        @DisplayName("A percentage is taken off the line total")
+        void percentOff() {
+            assertEquals(new BigDecimal("22.50"), total(promotions(percent("P10", "PROD-001", null, "10")), 2));
+        }
+
+        @Test
+        @DisplayName("An amount is taken off each unit, at most the unit price")
+        void amountOff() {
+            assertEquals(new BigDecimal("23.00"), total(promotions(amount("A1", "PROD-001", "1.00", "EUR", null)), 2));
+            assertEquals(new BigDecimal("0.00"), total(promotions(amount("A20", "PROD-001", "20", "EUR", null)), 2));
+        }
+
+        @Test
+        @DisplayName("An amount in another currency does not apply")
+        void amountOtherCurrency() {
+            assertEquals(new BigDecimal("25.00"), total(promotions(amount("A1", "PROD-001", "1.00", "USD", null)), 2));
+        }
+
+        @Test
+        @DisplayName("The larger of a percentage and an amount wins")
+        void largerDiscountWins() {
+            PricingTable table = promotions(percent("P10", "PROD-001", null, "10"),
+                    amount("A3", "PROD-001", "3.00", "EUR", 2));
+
+            // 10% of 12.50 beats nothing; at quantity 2, 3.00 per unit beats 10%
+            assertEquals(new BigDecimal("11.25"), total(table, 1));
+            assertEquals(new BigDecimal("19.00"), total(table, 2));
+        }
+
+        @Test
+        @DisplayName("Only the largest promotion applies; they do not stack")
+        void bestPromotionWins() {
+            PricingTable table = promotions(percent("C5", null, "books", "5"), percent("C15", null, "books", "15"),
+                    percent("C10", null, "books", "10"), percent("P5", "PROD-001", null, "5"),
+                    percent("G12", null, null, "12"));
+
+            assertEquals(new BigDecimal("21.25"), total(table, 2));
+        }
+
+        @Test
+        @DisplayName("Pruning keeps conditional promotions next to the largest unconditional one")
+        void pruningKeepsConditional() {
+            PricingTable table = promotions(percent("P10", "PROD-001", null, "10"),
+                    percent("P5", "PROD-001", null, "5"),
+                    new PromotionRule("BULK", "PROD-001", null, new BigDecimal("30"), null, null, 5, null, null));
+
+            assertEquals(new BigDecimal("11.25"), total(table, 1));
+            assertEquals(new BigDecimal("43.75"), total(table, 5));
+        }
+
+        @Test
+        @DisplayName("A time window includes its start and excludes its end")
+        void timeWindow() {
+            PricingTable table = promotions(new PromotionRule("JAN", "PROD-001", null, new BigDecimal("20"), null,
+                    null, null, NOW, NOW.plusDays(1)));
+
+            assertEquals(new BigDecimal("12.50"), total(table, item("PROD-001", 1, "1"), "EUR", null, AT - 1));
+            assertEquals(new BigDecimal("10.00"), total(table, item("PROD-001", 1, "1"), "EUR", null, AT));
+            assertEquals(new BigDecimal("12.50"), total(table, item("PROD-001", 1, "1"), "EUR", null,
+                    EpochNanos.of(NOW.plusDays(1))));
+        }
+    }
+
+    // ==================== Taxes ====================
+
+    @Nested
+    @DisplayName("Taxes")
+    class Taxes {
+
+        private final PricingTable table = table(List.of(BOOK,
+                new CatalogPrice("PROD-002", "games", "EUR", new BigDecimal("0.50")),
+                new CatalogPrice("PROD-003", null, "EUR", new BigDecimal("10")),
+                new CatalogPrice("PROD-003", null, "JPY", new BigDecimal("105"))),
+                List.of(percent("G10", "PROD-002", null, "10")),
+                List.of(new TaxRule("DE", null, new BigDecimal("19")),
+                        new TaxRule("DE", "books", new BigDecimal("7")),
+                        new TaxRule("DE", "games", new BigDecimal("5")),
+                        new TaxRule("AT", null, new BigDecimal("10"))));
+
+        @Test
+        @DisplayName("The category rate overrides the region's default rate")
+        void categoryRate() {
+            assertEquals(new BigDecimal("13.38"), total(table, item("PROD-001", 1, "1"), "EUR", "DE", AT));
+            assertEquals(new BigDecimal("11.90"), total(table, item("PROD-003", 1, "1"), "EUR", "DE", AT));
+        }
+
+        @Test
+        @DisplayName("Tax is charged on the discounted total and rounded half-even at the currency scale")
+        void roundedAtCurrencyScale() {
+            // 0.45 after 10% off; 5% tax is 0.0225, rounded to 0.02
+            assertEquals(new BigDecimal("0.47"), total(table, item("PROD-002", 1, "1"), "EUR", "DE", AT));
+            // 105 JPY at 10% is 10.5, rounded to 10
+            assertEquals(new BigDecimal("115"), total(table, item("PROD-003", 1, "1"), "JPY", "AT", AT));
+        }
+
+        @Test
+        @DisplayName("Whole-unit prices are taxed at the currency scale")
+        void wholeUnitPrice() {
+            OrderItem item = item("PROD-003", 3, "1");
+
+            assertEquals(new BigDecimal("33.00"), total(table, item, "EUR", "AT", AT));
+            assertEquals(new BigDecimal("10.00"), item.getUnitPrice());
+        }
+
+        @Test
+        @DisplayName("Unknown and missing regions are not taxed")
+        void noRegion() {
+            assertEquals(new BigDecimal("12.50"), total(table, item("PROD-001", 1, "1"), "EUR", "FR", AT));
+            assertEquals(new BigDecimal("12.50"), total(table, item("PROD-001", 1, "1"), "EUR", null, AT));
+        }
+    }
+
+    // ==================== Invalid Rules ====================
+
+    @Nested
+    @DisplayName("Invalid rules")
+    class InvalidRules {
+
+        private void assertRejected(List<CatalogPrice> prices, List<PromotionRule> promotions,
+                List<TaxRule> taxes) {
+            assertThrows(IllegalArgumentException.class, () -> table(prices, promotions, taxes));
+        }
+
+        @Test
+        @DisplayName("Incomplete catalog prices are rejected")
+        void incompletePrice() {
+            assertRejected(List.of(new CatalogPrice("PROD-001", null, null, BigDecimal.ONE)), null, null);
+            assertRejected(List.of(new CatalogPrice("PROD-001", null, "EUR", BigDecimal.ZERO)), null, null);
+            assertRejected(List.of(new CatalogPrice(null, null, "EUR", BigDecimal.ONE)), null, null);
+        }
+
+        @Test
+        @DisplayName("A product with two categories is rejected")
+        void twoCategories() {
+            assertRejected(List.of(BOOK, new CatalogPrice("PROD-001", "games", "USD", BigDecimal.ONE)), null, null);
+        }
+
+        @Test
+        @DisplayName("Promotions need exactly one positive discount")
+        void invalidDiscount() {
+            assertRejected(null, List.of(new PromotionRule("BOTH", null, null, BigDecimal.TEN, BigDecimal.ONE, "EUR",
+                    null, null, null)), null);
+            assertRejected(null, List.of(new PromotionRule("NONE", null, null, null, null, null, null, null, null)),
+                    null);
+            assertRejected(null, List.of(percent("ZERO", null, null, "0")), null);
+            assertRejected(null, List.of(percent("OVER", null, null, "100.01")), null);
+        }
+
+        @Test
+        @DisplayName("Amount promotions need a currency")
+        void amountWithoutCurrency() {
+            assertRejected(null, List.of(amount("A1", null, "1.00", null, null)), null);
+        }
+
+        @Test
+        @DisplayName("Incomplete or negative tax rules are rejected")
+        void invalidTax() {
+            assertRejected(null, null, List.of(new TaxRule(null, null, BigDecimal.TEN)));
+            assertRejected(null, null, List.of(new TaxRule("DE", null, null)));
+            assertRejected(null, null, List.of(new TaxRule("DE", null, new BigDecimal("-1"))));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.orderservice.app.infra.catalog.contracts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.catalog.interfaces.CatalogService;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+import com.example.orderservice.app.infra.metrics.entities.HistogramSnapshot;
+import com.example.orderservice.app.infra.metrics.entities.LatencyHistogram;
+
+/**
+ * Load-test scenario for the catalog near-cache.
+ *
+ * <p>
+ * {@value #CLIENTS} clients resolve orders of one to five products drawn from
+ * a Zipf distribution over {@value #PRODUCTS} products, through a
+ * {@link NearCachingCatalogService} that holds at most {@value #CACHE_SIZE}
+ * of them, for {@value #SECONDS} s. Each call to the fake catalog takes
+ * {@value #CATALOG_MILLIS} ms. TTL and refresh times are scaled down so the
+ * run covers several refresh cycles.
+ * </p>
+ *
+ * <p>
+ * After a warm-up second, it reports the hit ratio, the sizes of the batches
+ * sent to the catalog on the request path and by the background refresh,
+ * and how often the {@value #POPULAR} most popular products were still
+ * fetched on the request path (expected: never, as they are read many times
+ * per refresh period). Products read about once per TTL may still expire
+ * between reads.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class CatalogNearCacheLoadScenario {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int CACHE_SIZE = 20_000;
+    private static final int POPULAR = 100;
+    private static final int CLIENTS = 8;
+    private static final int SECONDS = 12;
+    private static final int CATALOG_MILLIS = 2;
+    private static final Duration TTL = Duration.ofSeconds(3);
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(1);
+    private static final Duration REFRESH_INTERVAL = Duration.ofMillis(200);
+
+    public static void main(String[] args) throws Exception {
+        FakeCatalog catalog = new FakeCatalog();
+        MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+        NearCachingCatalogService cache = new NearCachingCatalogService(catalog, metrics, TTL, Duration.ofSeconds(1),
+                REFRESH_AFTER, CACHE_SIZE, 500);
+
+        ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+                r -> new Thread(r, FakeCatalog.REFRESH_THREAD));
+        refresher.scheduleWithFixedDelay(cache::refreshAhead, REFRESH_INTERVAL.toMillis(),
+                REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        double[] cdf = zipfCdf(PRODUCTS, 1.0);
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        List<Thread> clients = new ArrayList<>();
+        LongAdder orders = new LongAdder();
+        for (int c = 0; c < CLIENTS; c++) {
+            SplittableRandom random = new SplittableRandom(c);
+            clients.add(Thread.ofPlatform().start(() -> {
+                List<String> ids = new ArrayList<>(5);
+                while (System.nanoTime() < end) {
+                    ids.clear();
+                    int items = 1 + random.nextInt(5);
+                    for (int i = 0; i < items; i++) {
+                        ids.add(product(sample(cdf, random.nextDouble())));
+                    }
+                    cache.findProducts(ids);
+                    orders.increment();
+                }
+            }));
+        }
+
+        Thread.sleep(1000);
+        Counter hits = metrics.counter("catalog_cache_requests_total", "result", "hit");
+        Counter misses = metrics.counter("catalog_cache_requests_total", "result", "miss");
+        LatencyHistogram requestBatches = metrics.histogram("catalog_lookup_batch_size", "path", "request");
+        LatencyHistogram refreshBatches = metrics.histogram("catalog_lookup_batch_size", "path", "refresh");
+        long hitsBefore = hits.get();
+        long missesBefore = misses.get();
+        long ordersBefore = orders.sum();
+        requestBatches.reset();
+        refreshBatches.reset();
+        catalog.requestFetches.clear();
+
+        for (Thread client : clients) {
+            client.join();
+        }
+        refresher.shutdownNow();
+
+        long hitCount = hits.get() - hitsBefore;
+        long missCount = misses.get() - missesBefore;
+        long allFetches = catalog.requestFetches.values().stream().mapToLong(LongAdder::sum).sum();
+
+        System.out.printf("orders resolved            %d%n", orders.sum() - ordersBefore);
+        System.out.printf("hit ratio                  %.4f%n", (double) hitCount / (hitCount + missCount));
+        print("request-path batch size", requestBatches.snapshot());
+        print("refresh batch size", refreshBatches.snapshot());
+        System.out.printf("request-path fetches       %d (top %d products: %d, top %d: %d)%n", allFetches,
+                POPULAR, catalog.requestFetches(POPULAR), 10 * POPULAR, catalog.requestFetches(10 * POPULAR));
+        System.out.printf("cache size                 %d%n", cache.size());
+    }
+
+    private static void print(String label, HistogramSnapshot snapshot) {
+        System.out.printf("%-26s count %d, mean %.1f, p50 %d, p99 %d, max %d%n", label, snapshot.count(),
+                snapshot.mean(), snapshot.p50(), snapshot.p99(), snapshot.max());
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, double u) {
+        int i = Arrays.binarySearch(cdf, u);
+        return Math.min(cdf.length - 1, i >= 0 ? i : -i - 1);
+    }
+
+    private static String product(int p) {
+        return String.format("PROD-%06d", p);
+    }
+
+    /**
+     * Catalog that knows every product, takes {@value #CATALOG_MILLIS} ms per
+     * call and counts the ids fetched outside the refresh thread.
+     */
+    private static final class FakeCatalog implements CatalogService {
+
+        static final String REFRESH_THREAD = "catalog-refresh";
+
+        final Map<String, LongAdder> requestFetches = new ConcurrentHashMap<>();
+
+        long requestFetches(int topProducts) {
+            long total = 0;
+            for (int p = 0; p < topProducts; p++) {
+                LongAdder fetches = requestFetches.get(product(p));
+                total += fetches == null ? 0 : fetches.sum();
+            }
+            return total;
+        }
+
+        @Override
+        public Map<String, CatalogProduct> findProducts(Collection<String> productIds) {
+            try {
+                Thread.sleep(CATALOG_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            boolean refresh = Thread.currentThread().getName().equals(REFRESH_THREAD);
+            Map<String, CatalogProduct> products = new HashMap<>();
+            for (String id : productIds) {
+                if (!refresh) {
+                    requestFetches.computeIfAbsent(id, k -> new LongAdder()).increment();
+                }
+                products.put(id, new CatalogProduct(id, "Product " + id, null));
+            }
+            return products;
+        }
+    }
+}
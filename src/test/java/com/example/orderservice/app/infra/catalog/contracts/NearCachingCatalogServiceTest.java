@@ -0,0 +1,243 @@
+package com.example.orderservice.app.infra.catalog.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.infra.catalog.entities.CatalogProduct;
+import com.example.orderservice.app.infra.catalog.interfaces.CatalogService;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+@DisplayName("NearCachingCatalogService Tests")
+class NearCachingCatalogServiceTest {
+
+    private static final long TTL = 1_000;
+    private static final long NEGATIVE_TTL = 200;
+    private static final long REFRESH_AFTER = 500;
+
+    /** Knows every id starting with "P" and records each call. */
+    private static final class FakeCatalog implements CatalogService {
+        final List<Set<String>> calls = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public Map<String, CatalogProduct> findProducts(Collection<String> productIds) {
+            calls.add(new HashSet<>(productIds));
+            if (failing) {
+                throw new IllegalStateException("catalog down");
+            }
+            Map<String, CatalogProduct> products = new HashMap<>();
+            for (String productId : productIds) {
+                if (productId.startsWith("P")) {
+                    products.put(productId, new CatalogProduct(productId, "Product " + productId, null));
+                }
+            }
+            return products;
+        }
+    }
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+    private FakeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new FakeCatalog();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private NearCachingCatalogService cache(int maxSize, int maxBatchSize) {
+        return new NearCachingCatalogService(catalog, metrics, Duration.ofNanos(TTL), Duration.ofNanos(NEGATIVE_TTL),
+                Duration.ofNanos(REFRESH_AFTER), maxSize, maxBatchSize);
+    }
+
+    /** Look ids up at {@code now}; return the ids the catalog was asked for. */
+    private Set<String> lookup(NearCachingCatalogService cache, long now, String... productIds) {
+        catalog.calls.clear();
+        cache.findProducts(List.of(productIds), now);
+        Set<String> fetched = new HashSet<>();
+        catalog.calls.forEach(fetched::addAll);
+        return fetched;
+    }
+
+    // ==================== Expiry ====================
+
+    @Nested
+    @DisplayName("Expiry")
+    class Expiry {
+
+        @Test
+        @DisplayName("Products are served from the cache until their TTL")
+        void ttl() {
+            NearCachingCatalogService cache = cache(100, 10);
+
+            assertEquals(Set.of("P1"), lookup(cache, 0, "P1"));
+            assertEquals(Set.of(), lookup(cache, TTL - 1, "P1"));
+            assertEquals(Set.of("P1"), lookup(cache, TTL, "P1"));
+        }
+
+        @Test
+        @DisplayName("Unknown ids are cached for the shorter negative TTL")
+        void negativeTtl() {
+            NearCachingCatalogService cache = cache(100, 10);
+
+            assertEquals(Set.of("U1", "P1"), lookup(cache, 0, "U1", "P1"));
+            assertTrue(cache.findProducts(List.of("U1"), NEGATIVE_TTL - 1).isEmpty());
+            assertEquals(Set.of("U1"), lookup(cache, NEGATIVE_TTL, "U1", "P1"));
+        }
+
+        @Test
+        @DisplayName("Misses of one lookup are fetched in one call")
+        void missesBatched() {
+            NearCachingCatalogService cache = cache(100, 10);
+            lookup(cache, 0, "P1");
+
+            lookup(cache, 1, "P1", "P2", "U1", "P3");
+
+            assertEquals(List.of(Set.of("P2", "U1", "P3")), catalog.calls);
+        }
+
+        @Test
+        @DisplayName("The background pass drops expired entries")
+        void expiredDropped() {
+            NearCachingCatalogService cache = cache(100, 10);
+            lookup(cache, 0, "P1", "U1");
+
+            cache.refreshAhead(NEGATIVE_TTL);
+            assertEquals(1, cache.size());
+            cache.refreshAhead(TTL);
+            assertEquals(0, cache.size());
+        }
+    }
+
+    // ==================== Refresh Ahead ====================
+
+    @Nested
+    @DisplayName("Refresh ahead")
+    class RefreshAhead {
+
+        @Test
+        @DisplayName("Only products read since loading and older than refresh-after are reloaded")
+        void selection() {
+            NearCachingCatalogService cache = cache(100, 10);
+            lookup(cache, 0, "P1", "P2", "P3", "U1");
+            lookup(cache, 100, "P1", "P2", "U1", "P4");
+            lookup(cache, 200, "P4");
+
+            catalog.calls.clear();
+            cache.refreshAhead(REFRESH_AFTER);
+
+            // P3 was never read again, U1 is unknown, P4 is too young
+            assertEquals(List.of(Set.of("P1", "P2")), catalog.calls);
+        }
+
+        @Test
+        @DisplayName("Refreshed products stay cached past their original TTL")
+        void refreshedStayCached() {
+            NearCachingCatalogService cache = cache(100, 10);
+            lookup(cache, 0, "P1", "P2");
+            lookup(cache, 1, "P1");
+
+            cache.refreshAhead(REFRESH_AFTER);
+
+            assertEquals(Set.of("P2"), lookup(cache, TTL, "P1", "P2"));
+        }
+
+        @Test
+        @DisplayName("Reloads are split into batches of at most max-batch-size")
+        void batched() {
+            NearCachingCatalogService cache = cache(100, 2);
+            lookup(cache, 0, "P1", "P2", "P3", "P4", "P5");
+            lookup(cache, 1, "P1", "P2", "P3", "P4", "P5");
+
+            catalog.calls.clear();
+            cache.refreshAhead(REFRESH_AFTER);
+
+            assertEquals(List.of(2, 2, 1), catalog.calls.stream().map(Set::size).toList());
+        }
+
+        @Test
+        @DisplayName("A failed refresh keeps the cached entries")
+        void failureKeepsEntries() {
+            NearCachingCatalogService cache = cache(100, 10);
+            lookup(cache, 0, "P1");
+            lookup(cache, 1, "P1");
+            catalog.failing = true;
+
+            cache.refreshAhead(REFRESH_AFTER);
+            catalog.failing = false;
+
+            assertEquals(Set.of(), lookup(cache, REFRESH_AFTER + 1, "P1"));
+        }
+    }
+
+    // ==================== Eviction ====================
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("A full cache returns new products without caching them")
+        void fullNotCached() {
+            NearCachingCatalogService cache = cache(2, 10);
+            lookup(cache, 0, "P1", "P2");
+
+            assertEquals(Set.of("P3"), cache.findProducts(List.of("P3"), 1).keySet());
+
+            assertEquals(2, cache.size());
+            assertEquals(1, metrics.counter("catalog_cache_full_total").get());
+            assertEquals(Set.of("P3"), lookup(cache, 2, "P3"));
+        }
+
+        @Test
+        @DisplayName("A full cache still replaces expired entries it holds")
+        void fullReplacesExpired() {
+            NearCachingCatalogService cache = cache(2, 10);
+            lookup(cache, 0, "P1", "P2");
+
+            lookup(cache, TTL, "P1");
+
+            assertEquals(Set.of(), lookup(cache, TTL + 1, "P1"));
+        }
+
+        @Test
+        @DisplayName("Ids read only once go first, then entries not read since their refresh")
+        void evictionOrder() {
+            NearCachingCatalogService cache = cache(10, 10);
+            String[] popular = { "P0", "P1", "P2", "P3", "P4", "P5", "P6", "P7" };
+            lookup(cache, 0, popular);
+            lookup(cache, 1, popular);
+            cache.refreshAhead(REFRESH_AFTER);
+            // All but P7 are read again after their refresh
+            lookup(cache, REFRESH_AFTER + 1, "P0", "P1", "P2", "P3", "P4", "P5", "P6");
+            lookup(cache, REFRESH_AFTER + 1, "Q0");
+            lookup(cache, REFRESH_AFTER + 1, "Q0");
+            lookup(cache, REFRESH_AFTER + 1, "Q1");
+            assertEquals(10, cache.size());
+
+            // Down to 90% of the bound: Q1, read only when it was loaded
+            cache.refreshAhead(REFRESH_AFTER + 2);
+            assertEquals(9, cache.size());
+            assertEquals(Set.of("Q1"), lookup(cache, REFRESH_AFTER + 3, "Q0", "Q1"));
+
+            // Q1 is cached again but now read; P7 was not read since its refresh
+            lookup(cache, REFRESH_AFTER + 4, "Q1");
+            cache.refreshAhead(REFRESH_AFTER + 5);
+            assertEquals(Set.of("P7"), lookup(cache, REFRESH_AFTER + 6, "P0", "P6", "Q0", "Q1", "P7"));
+            assertEquals(2, metrics.counter("catalog_cache_evictions_total").get());
+        }
+    }
+}
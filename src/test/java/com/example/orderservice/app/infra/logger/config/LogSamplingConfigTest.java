@@ -0,0 +1,113 @@
+package com.example.orderservice.app.infra.logger.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.event.Level;
+
+import com.example.orderservice.app.infra.logger.contracts.LoggerServiceContractV0;
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingRule;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@DisplayName("LogSamplingConfig Tests")
+class LogSamplingConfigTest {
+
+    private static final String SITE = "orders.created";
+
+    @TempDir
+    Path directory;
+
+    private Path policyFile;
+    private LoggerServiceContractV0 loggerService;
+
+    @BeforeEach
+    void setUp() {
+        policyFile = directory.resolve("log-sampling.json");
+        loggerService = new LoggerServiceContractV0(new MetricsServiceContractV0(), false, 16, 16,
+                LogOverflowPolicy.BLOCK, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggerService.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /** Write the policy file, stamped {@code version} seconds after the epoch so each write is seen as a change. */
+    private void writePolicy(String json, int version) throws IOException {
+        Files.writeString(policyFile, json);
+        assertTrue(policyFile.toFile().setLastModified(version * 1000L));
+    }
+
+    private LogSamplingConfig config() {
+        return new LogSamplingConfig(new LogSamplingProperties(
+                Map.of(Level.DEBUG, new LogSamplingRule(5, 1)), Map.of(), policyFile.toString()),
+                loggerService, JsonMapper.builder().build());
+    }
+
+    private LogSamplingRule rule(String site, Level level) {
+        LogSamplingPolicy policy = loggerService.samplingPolicy();
+        return policy.rulesFor(site)[level.ordinal()];
+    }
+
+    // ==================== Policy File ====================
+
+    @Test
+    @DisplayName("The policy file overrides the configured rules, and rules may leave fields out")
+    void fileOverrides() throws IOException {
+        writePolicy("{\"levels\":{\"INFO\":{\"perSecond\":100}},"
+                + "\"sites\":{\"" + SITE + "\":{\"DEBUG\":{\"oneIn\":10}}}}", 1);
+
+        config();
+
+        assertNull(rule("other", Level.DEBUG));
+        assertEquals(new LogSamplingRule(100, 1), rule("other", Level.INFO));
+        assertEquals(new LogSamplingRule(0, 10), rule(SITE, Level.DEBUG));
+        assertEquals(1, loggerService.samplingPolicy().siteCount());
+    }
+
+    @Test
+    @DisplayName("A changed file is reloaded; an unchanged one is not read again")
+    void reloadOnChange() throws IOException {
+        writePolicy("{\"levels\":{\"INFO\":{\"perSecond\":100}}}", 1);
+        LogSamplingConfig config = config();
+        LogSamplingPolicy first = loggerService.samplingPolicy();
+
+        config.reloadFromFile();
+        assertSame(first, loggerService.samplingPolicy());
+
+        writePolicy("{\"levels\":{\"INFO\":{\"perSecond\":50}}}", 2);
+        config.reloadFromFile();
+        assertEquals(new LogSamplingRule(50, 1), rule("other", Level.INFO));
+    }
+
+    @Test
+    @DisplayName("A file that fails to parse keeps the current policy")
+    void malformedKeepsPolicy() throws IOException {
+        writePolicy("{\"levels\":{\"INFO\":{\"perSecond\":100}}}", 1);
+        LogSamplingConfig config = config();
+        LogSamplingPolicy loaded = loggerService.samplingPolicy();
+
+        writePolicy("{\"levels\":{\"LOUD\":{\"perSecond\":1}}}", 2);
+        config.reloadFromFile();
+        assertSame(loaded, loggerService.samplingPolicy());
+
+        writePolicy("{\"levels\":", 3);
+        config.reloadFromFile();
+        assertSame(loaded, loggerService.samplingPolicy());
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.orderservice.app.infra.logger.contracts;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+import org.slf4j.LoggerFactory;
+
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+import com.example.orderservice.app.infra.metrics.entities.Counter;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Load-test scenario for asynchronous logging in
+ * {@link LoggerServiceContractV0}.
+ *
+ * <p>
+ * Logback writes through a console-style pattern to a stream that only
+ * counts lines. First a burst of {@value #BURST} create-order log lines,
+ * smaller than the ring buffer, is logged synchronously and asynchronously;
+ * it reports the CPU time and heap the calling thread spent per call, which
+ * is what a request pays. Then {@value #PRODUCERS} threads log as fast as
+ * they can for {@value #SECONDS} s under each overflow policy, a quarter of
+ * the lines at debug, and it reports how many lines were written, dropped
+ * and how often a caller had to wait.
+ * </p>
+ *
+ * <p>
+ * Run with {@code main}; it is not part of the unit test suite.
+ * </p>
+ */
+public class AsyncLoggingLoadScenario {
+
+    private static final int BURST = 4096;
+    private static final int CAPACITY = 8192;
+    private static final int ROUNDS = 200;
+    private static final int PRODUCERS = 4;
+    private static final int SECONDS = 2;
+
+    private static final LongAdder LINES = new LongAdder();
+
+    /** Keeps the message-only loop from being optimized away. */
+    private static volatile int blackhole;
+
+    /** Captures the logger's metrics so the scenario can read them. */
+    private static final class CapturingMetrics extends MetricsServiceContractV0 {
+        final Map<String, Counter> counters = new HashMap<>();
+        DoubleSupplier queueDepth;
+
+        @Override
+        public Counter counter(String name, String... labels) {
+            Counter counter = super.counter(name, labels);
+            counters.put(labels.length == 0 ? name : name + "{" + labels[1] + "}", counter);
+            return counter;
+        }
+
+        @Override
+        public void gauge(String name, DoubleSupplier supplier, String... labels) {
+            super.gauge(name, supplier, labels);
+            queueDepth = supplier;
+        }
+
+        long count(String key) {
+            Counter counter = counters.get(key);
+            return counter == null ? 0 : counter.get();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        configureLogback();
+        burst(false);
+        burst(true);
+        for (LogOverflowPolicy policy : LogOverflowPolicy.values()) {
+            overload(policy);
+        }
+    }
+
+    private static void burst(boolean async) throws InterruptedException {
+        CapturingMetrics metrics = new CapturingMetrics();
+        LoggerServiceContractV0 loggerService = new LoggerServiceContractV0(metrics, async, CAPACITY, 256,
+                LogOverflowPolicy.BLOCK, 10);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long cpu = 0;
+        long bytes = 0;
+        long measured = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            if (async) {
+                while (metrics.queueDepth.getAsDouble() > 0) {
+                    Thread.sleep(1);
+                }
+            }
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            long bytesStart = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < BURST; i++) {
+                loggerService.info(line(i));
+            }
+            long cpuEnd = threads.getCurrentThreadCpuTime();
+            long bytesEnd = threads.getCurrentThreadAllocatedBytes();
+            // The first half of the rounds warms up
+            if (round >= ROUNDS / 2) {
+                cpu += cpuEnd - cpuStart;
+                bytes += bytesEnd - bytesStart;
+                measured += BURST;
+            }
+        }
+        loggerService.shutdown();
+
+        // What building the message alone costs, to subtract
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long bytesStart = threads.getCurrentThreadAllocatedBytes();
+        int sink = 0;
+        for (long round = 0; round < measured / BURST; round++) {
+            for (int i = 0; i < BURST; i++) {
+                sink += line(i).length();
+            }
+        }
+        long messageCpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        long messageBytes = threads.getCurrentThreadAllocatedBytes() - bytesStart;
+        blackhole = sink;
+
+        System.out.printf("%-5s caller CPU %6d ns/call, %5d B/call (building the message: %4d ns, %4d B)%n",
+                async ? "async" : "sync", cpu / measured, bytes / measured, messageCpu / measured,
+                messageBytes / measured);
+    }
+
+    private static void overload(LogOverflowPolicy policy) throws InterruptedException {
+        CapturingMetrics metrics = new CapturingMetrics();
+        LoggerServiceContractV0 loggerService = new LoggerServiceContractV0(metrics, true, CAPACITY, 256, policy,
+                10);
+        long linesBefore = LINES.sum();
+        LongAdder calls = new LongAdder();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.add(Thread.ofPlatform().start(() -> {
+                int i = 0;
+                while (System.nanoTime() < end) {
+                    if ((i & 3) == 0) {
+                        loggerService.debug(line(i));
+                    } else {
+                        loggerService.info(line(i));
+                    }
+                    i++;
+                    calls.increment();
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        loggerService.shutdown();
+        System.out.printf("%-16s calls %8d  written %8d  dropped debug %8d  dropped info %8d  waits %6d%n", policy,
+                calls.sum(), LINES.sum() - linesBefore, metrics.count("log_records_dropped_total{DEBUG}"),
+                metrics.count("log_records_dropped_total{INFO}"), metrics.count("log_enqueue_waits_total"));
+    }
+
+    private static String line(int i) {
+        return "Creating order: " + i + " for customer CUST-" + (i & 1023) + " with 3 items, total: 129.97 USD";
+    }
+
+    private static void configureLogback() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : %X %m%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                if (b == '\n') {
+                    LINES.increment();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                for (int i = off; i < off + len; i++) {
+                    if (b[i] == '\n') {
+                        LINES.increment();
+                    }
+                }
+            }
+        });
+        appender.start();
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        root.addAppender(appender);
+    }
+}
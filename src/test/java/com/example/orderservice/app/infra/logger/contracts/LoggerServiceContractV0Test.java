@@ -0,0 +1,489 @@
+package com.example.orderservice.app.infra.logger.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.example.orderservice.app.infra.logger.entities.LogOverflowPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingPolicy;
+import com.example.orderservice.app.infra.logger.entities.LogSamplingRule;
+import com.example.orderservice.app.infra.logger.entities.LogSite;
+import com.example.orderservice.app.infra.logger.entities.RequestContext;
+import com.example.orderservice.app.infra.metrics.contracts.MetricsServiceContractV0;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+
+@DisplayName("LoggerServiceContractV0 Tests")
+class LoggerServiceContractV0Test {
+
+    private static final int CALLS = 100_000;
+    private static final int REQUESTS = 10_000;
+
+    private final Logger logback = (Logger) LoggerFactory.getLogger(LoggerServiceContractV0.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+    private LoggerServiceContractV0 loggerService;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logback.getLevel();
+        appender.start();
+        logback.addAppender(appender);
+        loggerService = new LoggerServiceContractV0(new MetricsServiceContractV0(), false, 1024, 256,
+                LogOverflowPolicy.BLOCK, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggerService.shutdown();
+        logback.detachAppender(appender);
+        logback.setLevel(previousLevel);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<String> lines() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+    }
+
+    /**
+     * Bytes the current thread allocates per call of {@code call}, after a
+     * warmup that lets the JIT compile it.
+     */
+    private long allocatedBytesPerCall(Runnable call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        long end = threads.getCurrentThreadAllocatedBytes();
+        // The second reading allocates nothing itself, so anything left is the calls'
+        return (end - start) / CALLS;
+    }
+
+    // ==================== Disabled Levels ====================
+
+    @Nested
+    @DisplayName("Disabled levels")
+    class DisabledLevels {
+
+        private final String orderId = "ORD-1";
+        private final String customerId = "CUST-1";
+
+        @BeforeEach
+        void setUp() {
+            logback.setLevel(Level.WARN);
+        }
+
+        @Test
+        @DisplayName("Supplier overload allocates nothing")
+        void supplierAllocatesNothing() {
+            assertEquals(0, allocatedBytesPerCall(() -> loggerService.info(() -> "Creating order")));
+            assertTrue(appender.list.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Parameterized overloads allocate nothing")
+        void parameterizedAllocatesNothing() {
+            assertEquals(0, allocatedBytesPerCall(() -> {
+                loggerService.debug("Creating order: {}", orderId);
+                loggerService.info("Creating order: {} for customer {}", orderId, customerId);
+            }));
+            assertTrue(appender.list.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Structured event allocates nothing")
+        void structuredAllocatesNothing() {
+            assertEquals(0, allocatedBytesPerCall(() -> loggerService.atInfo("Creating order")
+                    .kv("orderId", orderId)
+                    .kv("items", 3)
+                    .kv("total", 129.97)
+                    .kv("express", true)
+                    .log()));
+            assertTrue(appender.list.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Supplier is not called")
+        void supplierNotCalled() {
+            loggerService.debug(() -> {
+                throw new AssertionError("Supplier called for a disabled level");
+            });
+        }
+    }
+
+    // ==================== Enabled Levels ====================
+
+    @Nested
+    @DisplayName("Enabled levels")
+    class EnabledLevels {
+
+        @BeforeEach
+        void setUp() {
+            logback.setLevel(Level.DEBUG);
+        }
+
+        @Test
+        @DisplayName("Parameterized overloads substitute their arguments")
+        void parameterized() {
+            loggerService.debug("one {}", "a");
+            loggerService.info("two {} {}", "a", 2);
+            loggerService.warn("three {} {} {}", "a", 2, 3.5);
+
+            assertEquals(List.of("one a", "two a 2", "three a 2 3.5"), lines());
+            assertEquals(Level.WARN, appender.list.get(2).getLevel());
+        }
+
+        @Test
+        @DisplayName("Structured event writes its fields in order")
+        void structured() {
+            loggerService.atInfo("Creating order")
+                    .kv("orderId", "ORD-1")
+                    .kv("items", 3)
+                    .kv("total", 129.97)
+                    .kv("express", false)
+                    .kv("note", (Object) null)
+                    .log();
+
+            assertEquals(List.of("Creating order | {orderId: 'ORD-1', items: 3, total: 129.97, express: false, "
+                    + "note: null}"), lines());
+        }
+
+        @Test
+        @DisplayName("Event started while building another is logged separately")
+        void nestedEvents() {
+            loggerService.atInfo("outer")
+                    .kv("inner", nested())
+                    .log();
+
+            assertEquals(List.of("inner | {depth: 2}", "outer | {inner: 'done'}"), lines());
+        }
+
+        @Test
+        @DisplayName("Fields beyond the limit are counted, not kept")
+        void tooManyFields() {
+            var event = loggerService.atWarn("wide");
+            for (int i = 0; i < 18; i++) {
+                event.kv("f" + i, i);
+            }
+            event.log();
+
+            assertTrue(lines().get(0).endsWith("f15: 15, (2 more)}"));
+        }
+
+        private String nested() {
+            loggerService.atInfo("inner").kv("depth", 2).log();
+            return "done";
+        }
+    }
+
+    // ==================== Asynchronous Writes ====================
+
+    @Nested
+    @DisplayName("Asynchronous writes")
+    class AsynchronousWrites {
+
+        private LoggerServiceContractV0 async;
+
+        @BeforeEach
+        void setUp() {
+            logback.setLevel(Level.DEBUG);
+            async = new LoggerServiceContractV0(new MetricsServiceContractV0(), true, 1024, 256,
+                    LogOverflowPolicy.BLOCK, 10);
+        }
+
+        @Test
+        @DisplayName("Format arguments are written as they were at the call")
+        void argumentsSnapshotted() {
+            List<String> items = new ArrayList<>(List.of("a"));
+            StringBuilder note = new StringBuilder("first");
+            Object[] args = { "x", items, note };
+
+            async.info("one {}", items);
+            async.warn("two {} {}", note, 7);
+            async.info("many {} {} {}", args);
+            items.add("b");
+            note.append(" changed");
+            args[0] = "y";
+            async.shutdown();
+
+            assertEquals(List.of("one [a]", "two first 7", "many x [a] first"), lines());
+        }
+
+        @Test
+        @DisplayName("Structured fields are written as they were at the call")
+        void fieldsSnapshotted() {
+            List<String> items = new ArrayList<>(List.of("a"));
+
+            async.atInfo("Creating order").kv("orderId", "ORD-1").kv("items", items).kv("count", 1).log();
+            items.add("b");
+            async.shutdown();
+
+            assertEquals(List.of("Creating order | {orderId: 'ORD-1', items: [a], count: 1}"), lines());
+        }
+
+        @Test
+        @DisplayName("A trailing exception is still logged as the line's throwable")
+        void throwableKept() {
+            IllegalStateException failure = new IllegalStateException("boom");
+
+            async.warn("failed {}", "ORD-1", failure);
+            async.shutdown();
+
+            assertEquals(List.of("failed ORD-1"), lines());
+            assertEquals("boom", appender.list.get(0).getThrowableProxy().getMessage());
+        }
+    }
+
+    // ==================== Request Context ====================
+
+    @Nested
+    @DisplayName("Request context")
+    class RequestContextIsolation {
+
+        /** Message, correlation ID and order ID of each line, read as it is appended. */
+        private final Queue<String[]> written = new ConcurrentLinkedQueue<>();
+        private final AppenderBase<ILoggingEvent> mdcAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                Map<String, String> mdc = event.getMDCPropertyMap();
+                written.add(new String[] { event.getFormattedMessage(), mdc.get(RequestContext.CORRELATION_ID_KEY),
+                        mdc.get("orderId") });
+            }
+        };
+
+        @BeforeEach
+        void setUp() {
+            logback.setLevel(Level.INFO);
+            mdcAppender.start();
+            logback.addAppender(mdcAppender);
+        }
+
+        @AfterEach
+        void tearDown() {
+            logback.detachAppender(mdcAppender);
+        }
+
+        private void request(LoggerServiceContractV0 service, int i) {
+            RequestContext.callWith(RequestContext.create("req-" + i), () -> {
+                service.addContext("orderId", "ORD-" + i);
+                Thread.yield();
+                assertEquals("req-" + i, service.getCorrelationId());
+                service.info("request {}", i);
+                service.removeContext("orderId");
+                service.info("request {} done", i);
+                return null;
+            });
+        }
+
+        private void assertIsolated(LoggerServiceContractV0 service) throws Exception {
+            List<Future<?>> requests = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < REQUESTS; i++) {
+                    int request = i;
+                    requests.add(executor.submit(() -> request(service, request)));
+                }
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+            service.shutdown();
+
+            assertEquals(2 * REQUESTS, written.size());
+            for (String[] line : written) {
+                String[] words = line[0].split(" ");
+                assertEquals("req-" + words[1], line[1], line[0]);
+                assertEquals(words.length == 2 ? "ORD-" + words[1] : null, line[2], line[0]);
+            }
+            assertNull(service.getCorrelationId());
+        }
+
+        @Test
+        @DisplayName("Concurrent virtual-thread requests log only their own context, synchronously")
+        void isolatedSync() throws Exception {
+            assertIsolated(loggerService);
+        }
+
+        @Test
+        @DisplayName("Concurrent virtual-thread requests log only their own context, asynchronously")
+        void isolatedAsync() throws Exception {
+            assertIsolated(new LoggerServiceContractV0(new MetricsServiceContractV0(), true, 1024, 256,
+                    LogOverflowPolicy.BLOCK, 10));
+        }
+
+        @Test
+        @DisplayName("Outside a request, context stays on the calling thread")
+        void outsideRequest() throws Exception {
+            loggerService.setCorrelationId("main");
+            try {
+                Thread other = Thread.ofVirtual().start(() -> loggerService.setCorrelationId("other"));
+                other.join();
+                assertEquals("main", loggerService.getCorrelationId());
+            } finally {
+                loggerService.clearContext();
+            }
+            assertNull(loggerService.getCorrelationId());
+        }
+    }
+
+    // ==================== Log Sampling ====================
+
+    @Nested
+    @DisplayName("Log sampling")
+    class LogSampling {
+
+        private static final long SECOND = 1_000_000_000L;
+
+        @BeforeEach
+        void setUp() {
+            logback.setLevel(Level.DEBUG);
+        }
+
+        private LogSamplingPolicy siteRule(String site, org.slf4j.event.Level level, int perSecond, int oneIn) {
+            return LogSamplingPolicy.compile(Map.of(),
+                    Map.of(site, Map.of(level, new LogSamplingRule(perSecond, oneIn))));
+        }
+
+        @Test
+        @DisplayName("Sites log every line under the initial policy, before any reload")
+        void initialPolicy() {
+            LogSite site = loggerService.site("fresh");
+            for (int i = 0; i < 3; i++) {
+                loggerService.atDebug(site, "debug").kv("i", i).log();
+                loggerService.atWarn(site, "warn").kv("i", i).log();
+            }
+            loggerService.flushSuppressed();
+
+            assertEquals(6, lines().size());
+            assertEquals("warn | {i: 2}", lines().get(5));
+        }
+
+        @Test
+        @DisplayName("1-in-K keeps every K-th line and sums up the rest before it")
+        void oneInK() {
+            loggerService.reloadSampling(siteRule("hot", org.slf4j.event.Level.INFO, 0, 3));
+            LogSite site = loggerService.site("hot");
+            for (int i = 0; i < 7; i++) {
+                loggerService.atInfo(site, "line").kv("i", i).log();
+            }
+            loggerService.flushSuppressed();
+
+            assertEquals(List.of("line | {i: 0}", "[hot] suppressed 2 similar", "line | {i: 3}",
+                    "[hot] suppressed 2 similar", "line | {i: 6}"), lines());
+        }
+
+        @Test
+        @DisplayName("Lines suppressed at the end of a run are reported by the flush")
+        void flushReportsTrailingRun() {
+            loggerService.reloadSampling(siteRule("hot", org.slf4j.event.Level.WARN, 0, 10));
+            LogSite site = loggerService.site("hot");
+            for (int i = 0; i < 4; i++) {
+                loggerService.atWarn(site, "line").log();
+            }
+            loggerService.flushSuppressed();
+            loggerService.flushSuppressed();
+
+            assertEquals(List.of("line | {}", "[hot] suppressed 3 similar"), lines());
+            assertEquals(Level.WARN, appender.list.get(1).getLevel());
+        }
+
+        @Test
+        @DisplayName("Per-second limit resets every second")
+        void perSecond() {
+            LogSite site = new LogSite("hot", siteRule("hot", org.slf4j.event.Level.INFO, 2, 1));
+            long now = 5 * SECOND;
+
+            assertEquals(0, site.admit(org.slf4j.event.Level.INFO, now));
+            assertEquals(0, site.admit(org.slf4j.event.Level.INFO, now + 1));
+            assertEquals(-1, site.admit(org.slf4j.event.Level.INFO, now + 2));
+            assertEquals(-1, site.admit(org.slf4j.event.Level.INFO, now + SECOND - 1));
+            assertEquals(0, site.admit(org.slf4j.event.Level.DEBUG, now));
+            assertEquals(2, site.admit(org.slf4j.event.Level.INFO, now + SECOND));
+            assertEquals(0, site.admit(org.slf4j.event.Level.INFO, now + SECOND));
+        }
+
+        @Test
+        @DisplayName("Concurrent callers never exceed the per-second limit")
+        void perSecondConcurrent() throws Exception {
+            LogSite site = new LogSite("hot", siteRule("hot", org.slf4j.event.Level.INFO, 1000, 1));
+            AtomicLong admitted = new AtomicLong();
+            AtomicLong reported = new AtomicLong();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        long result = site.admit(org.slf4j.event.Level.INFO, SECOND);
+                        if (result >= 0) {
+                            admitted.incrementAndGet();
+                            reported.addAndGet(result);
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1000, admitted.get());
+            assertEquals(80_000 - 1000, reported.get() + site.drainSuppressed(org.slf4j.event.Level.INFO));
+        }
+
+        @Test
+        @DisplayName("Reload applies to existing sites; a site rule overrides the level rule")
+        void reload() {
+            LogSite hot = loggerService.site("hot");
+            LogSite quiet = loggerService.site("quiet");
+            loggerService.reloadSampling(LogSamplingPolicy.compile(
+                    Map.of(org.slf4j.event.Level.INFO, new LogSamplingRule(0, 1000)),
+                    Map.of("quiet", Map.of(org.slf4j.event.Level.INFO, new LogSamplingRule(0, 1)))));
+            for (int i = 0; i < 3; i++) {
+                loggerService.atInfo(hot, "hot").log();
+                loggerService.atInfo(quiet, "quiet").log();
+            }
+
+            assertEquals(List.of("hot | {}", "quiet | {}", "quiet | {}", "quiet | {}"), lines());
+            assertSame(hot, loggerService.site("hot"));
+        }
+
+        @Test
+        @DisplayName("Suppressed line allocates nothing")
+        void suppressedAllocatesNothing() {
+            loggerService.reloadSampling(siteRule("hot", org.slf4j.event.Level.INFO, 0, Integer.MAX_VALUE));
+            LogSite site = loggerService.site("hot");
+            String orderId = "ORD-1";
+            loggerService.atInfo(site, "first").log();
+
+            assertEquals(0, allocatedBytesPerCall(() -> loggerService.atInfo(site, "Creating order")
+                    .kv("orderId", orderId)
+                    .kv("items", 3)
+                    .log()));
+            assertEquals(List.of("first | {}"), lines());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.orderservice.app.infra.metrics.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MetricsServiceContractV0 Tests")
+class MetricsServiceContractV0Test {
+
+    private final MetricsServiceContractV0 metrics = new MetricsServiceContractV0();
+
+    // ==================== Registration ====================
+
+    @Nested
+    @DisplayName("Registration")
+    class Registration {
+
+        @Test
+        @DisplayName("The same name and labels return the same counter")
+        void sameCounter() {
+            metrics.counter("orders_total", "status", "ok").increment();
+            metrics.counter("orders_total", "status", "ok").add(2);
+            metrics.counter("orders_total", "status", "failed").increment();
+
+            assertEquals(3, metrics.counter("orders_total", "status", "ok").get());
+            assertEquals(1, metrics.counter("orders_total", "status", "failed").get());
+        }
+
+        @Test
+        @DisplayName("Registering a gauge again replaces its supplier")
+        void gaugeReplaced() {
+            metrics.gauge("queue_depth", () -> 1);
+            metrics.gauge("queue_depth", () -> 2);
+
+            assertTrue(metrics.scrapePrometheus().contains("queue_depth 2\n"));
+        }
+
+        @Test
+        @DisplayName("Registering a counter function again replaces its supplier")
+        void counterFunctionReplaced() {
+            metrics.counter("evictions_total", () -> 1L);
+            metrics.counter("evictions_total", () -> 5L);
+
+            assertTrue(metrics.scrapePrometheus().contains("evictions_total 5\n"));
+        }
+
+        @Test
+        @DisplayName("A name and labels cannot change kind")
+        void kindConflict() {
+            metrics.counter("requests_total");
+            metrics.gauge("in_flight", () -> 0);
+
+            assertThrows(IllegalArgumentException.class, () -> metrics.gauge("requests_total", () -> 1));
+            assertThrows(IllegalArgumentException.class, () -> metrics.counter("in_flight"));
+            assertThrows(IllegalArgumentException.class, () -> metrics.latency("requests_total"));
+            assertThrows(IllegalArgumentException.class, () -> metrics.counter("requests_total", () -> 1L));
+            assertThrows(IllegalArgumentException.class, () -> metrics.counter("in_flight", () -> 1L));
+            assertEquals(0, metrics.counter("requests_total").get());
+        }
+
+        @Test
+        @DisplayName("Labels must come in key/value pairs")
+        void oddLabels() {
+            assertThrows(IllegalArgumentException.class, () -> metrics.counter("orders_total", "status"));
+        }
+    }
+
+    // ==================== Prometheus ====================
+
+    @Nested
+    @DisplayName("Prometheus")
+    class Prometheus {
+
+        @Test
+        @DisplayName("Counters and gauges render one TYPE line per name, sorted")
+        void countersAndGauges() {
+            metrics.counter("orders_total", "status", "ok").add(3);
+            metrics.counter("orders_total", "status", "failed").increment();
+            metrics.gauge("cache_hit_ratio", () -> 0.25);
+
+            assertEquals("""
+                    # TYPE cache_hit_ratio gauge
+                    cache_hit_ratio 0.25
+                    # TYPE orders_total counter
+                    orders_total{status="failed"} 1
+                    orders_total{status="ok"} 3
+                    """, metrics.scrapePrometheus());
+        }
+
+        @Test
+        @DisplayName("Counter functions render as counters")
+        void counterFunctions() {
+            metrics.counter("drops_total", () -> 7L, "reason", "overflow");
+            metrics.counter("drops_total", () -> 2L, "reason", "error");
+
+            assertEquals("""
+                    # TYPE drops_total counter
+                    drops_total{reason="error"} 2
+                    drops_total{reason="overflow"} 7
+                    """, metrics.scrapePrometheus());
+        }
+
+        @Test
+        @DisplayName("Histograms render as summaries with quantiles, sum and count")
+        void summary() {
+            metrics.histogram("batch_size", "queue", "a").recordValue(3);
+            metrics.histogram("batch_size", "queue", "a").recordValue(5);
+
+            assertEquals("""
+                    # TYPE batch_size summary
+                    batch_size{queue="a",quantile="0.5"} 3
+                    batch_size{queue="a",quantile="0.9"} 5
+                    batch_size{queue="a",quantile="0.99"} 5
+                    batch_size{queue="a",quantile="0.999"} 5
+                    batch_size_sum{queue="a"} 8
+                    batch_size_count{queue="a"} 2
+                    """, metrics.scrapePrometheus());
+        }
+
+        @Test
+        @DisplayName("Latencies are recorded in nanoseconds and exported in seconds")
+        void latencyInSeconds() {
+            metrics.latency("request_latency").recordValue(2_000_000_000L);
+
+            String text = metrics.scrapePrometheus();
+
+            assertTrue(text.contains("request_latency{quantile=\"0.5\"} 2\n"), text);
+            assertTrue(text.contains("request_latency_sum 2\n"), text);
+            assertTrue(text.contains("request_latency_count 1\n"), text);
+        }
+
+        @Test
+        @DisplayName("Label values are escaped")
+        void escaping() {
+            metrics.counter("errors_total", "message", "say \"hi\"\\\n").increment();
+
+            assertTrue(metrics.scrapePrometheus().contains("errors_total{message=\"say \\\"hi\\\"\\\\\\n\"} 1\n"));
+        }
+    }
+
+    // ==================== Snapshot ====================
+
+    @Nested
+    @DisplayName("Snapshot")
+    class Snapshot {
+
+        @Test
+        @DisplayName("The JSON snapshot groups metrics by kind")
+        @SuppressWarnings("unchecked")
+        void groupedByKind() {
+            metrics.latency("request_latency").recordValue(1_000_000_000L);
+            metrics.counter("orders_total").increment();
+            metrics.counter("updates_total", () -> 9L);
+            metrics.gauge("in_flight", () -> 4);
+
+            Map<String, Object> snapshot = metrics.snapshot();
+            List<Map<String, Object>> histograms = (List<Map<String, Object>>) snapshot.get("histograms");
+            List<Map<String, Object>> counters = (List<Map<String, Object>>) snapshot.get("counters");
+            List<Map<String, Object>> gauges = (List<Map<String, Object>>) snapshot.get("gauges");
+
+            assertEquals("seconds", histograms.get(0).get("unit"));
+            assertEquals(1.0, histograms.get(0).get("max"));
+            assertEquals(1L, counters.get(0).get("value"));
+            assertEquals(9L, counters.get(1).get("value"));
+            assertEquals(4.0, gauges.get(0).get("value"));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.orderservice.app.infra.metrics.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    private static final double MAX_RELATIVE_ERROR = 0.016;
+
+    // ==================== Helper Methods ====================
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected, actual + " < " + expected);
+        assertTrue(actual <= expected * (1 + MAX_RELATIVE_ERROR), actual + " too far above " + expected);
+    }
+
+    // ==================== Percentiles ====================
+
+    @Nested
+    @DisplayName("Percentiles")
+    class Percentiles {
+
+        @Test
+        @DisplayName("An empty histogram reports the empty snapshot")
+        void empty() {
+            assertSame(HistogramSnapshot.EMPTY, new LatencyHistogram().snapshot());
+        }
+
+        @Test
+        @DisplayName("Values below 128 are reported exactly")
+        void smallValuesExact() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int value = 1; value <= 100; value++) {
+                histogram.recordValue(value);
+            }
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(100, snapshot.count());
+            assertEquals(50.5, snapshot.mean(), 1e-9);
+            assertEquals(100, snapshot.max());
+            assertEquals(50, snapshot.p50());
+            assertEquals(90, snapshot.p90());
+            assertEquals(99, snapshot.p99());
+            assertEquals(100, snapshot.p999());
+        }
+
+        @Test
+        @DisplayName("Larger values are reported within the relative error bound")
+        void largeValuesBounded() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long value = 1; value <= 10_000; value++) {
+                histogram.recordValue(value * 1_000);
+            }
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertWithinError(5_000_000, snapshot.p50());
+            assertWithinError(9_000_000, snapshot.p90());
+            assertWithinError(9_900_000, snapshot.p99());
+            assertWithinError(9_990_000, snapshot.p999());
+            assertEquals(10_000_000, snapshot.max());
+        }
+
+        @Test
+        @DisplayName("No percentile is reported above the largest recorded value")
+        void cappedAtMax() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordValue(1_000_001);
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(1_000_001, snapshot.p50());
+            assertEquals(1_000_001, snapshot.p999());
+        }
+
+        @Test
+        @DisplayName("Every bucket's highest value maps back to that bucket")
+        void bucketBoundaries() {
+            for (int index = 0; index <= LatencyHistogram.indexOf(LatencyHistogram.HIGHEST_TRACKABLE_VALUE); index++) {
+                long highest = LatencyHistogram.highestEquivalentValue(index);
+                assertEquals(index, LatencyHistogram.indexOf(highest));
+                assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1));
+            }
+        }
+    }
+
+    // ==================== Clamping ====================
+
+    @Nested
+    @DisplayName("Clamping")
+    class Clamping {
+
+        @Test
+        @DisplayName("Values above the trackable range land in the last bucket")
+        void overflowClamped() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordValue(Long.MAX_VALUE);
+            histogram.recordValue(LatencyHistogram.HIGHEST_TRACKABLE_VALUE + 1);
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(2, snapshot.count());
+            assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, snapshot.max());
+            assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, snapshot.p50());
+            assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE, snapshot.mean(), 1.0);
+        }
+
+        @Test
+        @DisplayName("Negative values are recorded as zero")
+        void negativeAsZero() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordValue(-5);
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(1, snapshot.count());
+            assertEquals(0, snapshot.max());
+            assertEquals(0, snapshot.p50());
+            assertEquals(0.0, snapshot.mean());
+        }
+    }
+
+    // ==================== Reset ====================
+
+    @Nested
+    @DisplayName("Reset")
+    class Reset {
+
+        @Test
+        @DisplayName("Reset clears counts, sum and max")
+        void clearsEverything() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordValue(1_000);
+            histogram.recordValue(5_000);
+
+            histogram.reset();
+
+            assertEquals(0, histogram.getCount());
+            assertSame(HistogramSnapshot.EMPTY, histogram.snapshot());
+
+            histogram.recordValue(7);
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(1, snapshot.count());
+            assertEquals(7.0, snapshot.mean());
+            assertEquals(7, snapshot.max());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.orderservice.app.infra.orderstore.contracts;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.orders.entities.CompactOrder;
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+/**
+ * Latency of reading one order, as a new {@link Order}, from a store of
+ * {@link #orders} three-item orders: {@link OffHeapOrderStore} against an
+ * on-heap map of {@link CompactOrder}. {@code offHeapContains} is the index
+ * lookup alone, without decoding the order.
+ *
+ * <p>
+ * Setup also replaces and removes a share of the orders, so that reads go
+ * through reused chunks and an index that has had entries shifted, and
+ * checks that every order reads back unchanged.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OffHeapOrderStoreBenchmark {
+
+    @Param({ "100000" })
+    public int orders;
+
+    private OffHeapOrderStore store;
+    private Map<String, CompactOrder> heap;
+    private String[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        store = new OffHeapOrderStore(4 << 20, 64 << 10, orders * 4, 16);
+        heap = new HashMap<>();
+        ids = new String[orders];
+        Order[] originals = new Order[orders];
+        for (int i = 0; i < orders; i++) {
+            originals[i] = order(random, 3);
+            ids[i] = originals[i].getId();
+            store.put(originals[i]);
+            heap.put(ids[i], CompactOrder.from(originals[i]));
+        }
+        for (int i = 0; i < orders; i += 3) {
+            store.remove(ids[i]);
+            originals[i + 1 < orders ? i + 1 : i].setStatus(OrderStatus.SHIPPED);
+        }
+        for (int i = 0; i < orders; i++) {
+            store.put(originals[i]);
+        }
+        for (int i = 0; i < orders; i++) {
+            check(originals[i], store.get(ids[i]));
+        }
+        if (store.size() != orders) {
+            throw new IllegalStateException("Expected " + orders + " orders, found " + store.size());
+        }
+        shuffle(random);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%d orders: %d MB off-heap reserved, %d MB in use%n", store.size(),
+                store.reservedBytes() >> 20, store.allocatedBytes() >> 20);
+        store.close();
+    }
+
+    @Benchmark
+    public Order offHeap() {
+        return store.get(nextId());
+    }
+
+    @Benchmark
+    public boolean offHeapContains() {
+        return store.contains(nextId());
+    }
+
+    @Benchmark
+    public Order compactOnHeap() {
+        return heap.get(nextId()).toOrder();
+    }
+
+    private String nextId() {
+        String id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return id;
+    }
+
+    private void shuffle(SplittableRandom random) {
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+    }
+
+    private static Order order(SplittableRandom random, int itemCount) {
+        String orderId = UUID.randomUUID().toString();
+        Order order = new Order(orderId, "CUST-" + random.nextInt(1_000_000), "USD");
+        for (int i = 0; i < itemCount; i++) {
+            order.addItem(new OrderItem(UUID.randomUUID().toString(), orderId,
+                    "PROD-" + random.nextInt(10_000), null,
+                    1 + random.nextInt(5), BigDecimal.valueOf(100 + random.nextInt(100_000), 2)));
+        }
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedAt(LocalDateTime.now());
+        return order;
+    }
+
+    private static void check(Order expected, Order actual) {
+        boolean same = actual != null
+                && Objects.equals(expected.getId(), actual.getId())
+                && Objects.equals(expected.getCustomerId(), actual.getCustomerId())
+                && Objects.equals(expected.getStatus(), actual.getStatus())
+                && Objects.equals(expected.getTotalAmount(), actual.getTotalAmount())
+                && Objects.equals(expected.getCreatedAt(), actual.getCreatedAt())
+                && Objects.equals(expected.getUpdatedAt(), actual.getUpdatedAt())
+                && expected.getItems().size() == actual.getItems().size();
+        for (int i = 0; same && i < expected.getItems().size(); i++) {
+            OrderItem e = expected.getItems().get(i);
+            OrderItem a = actual.getItems().get(i);
+            same = Objects.equals(e.getId(), a.getId())
+                    && Objects.equals(e.getOrderId(), a.getOrderId())
+                    && Objects.equals(e.getProductId(), a.getProductId())
+                    && e.getQuantity() == a.getQuantity()
+                    && Objects.equals(e.getUnitPrice(), a.getUnitPrice())
+                    && Objects.equals(e.getTotalPrice(), a.getTotalPrice());
+        }
+        if (!same) {
+            throw new IllegalStateException("Order " + expected.getId() + " did not read back unchanged");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OffHeapOrderStoreBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
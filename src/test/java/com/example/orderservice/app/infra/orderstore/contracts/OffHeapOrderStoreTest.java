@@ -0,0 +1,200 @@
+package com.example.orderservice.app.infra.orderstore.contracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+@DisplayName("OffHeapOrderStore Tests")
+class OffHeapOrderStoreTest {
+
+    private static final int SLAB_BYTES = 64 << 10;
+    private static final int MAX_RECORD_BYTES = 4 << 10;
+
+    private OffHeapOrderStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Order order(String id, int items) {
+        Order order = new Order(id, "CUST-1", "USD");
+        for (int i = 0; i < items; i++) {
+            order.addItem(new OrderItem(UUID.randomUUID().toString(), id, "PROD-" + i, null, 1 + i,
+                    new BigDecimal("9.99")));
+        }
+        return order;
+    }
+
+    // ==================== Reads and Writes ====================
+
+    @Nested
+    @DisplayName("Reads and writes")
+    class ReadsAndWrites {
+
+        @Test
+        @DisplayName("Stored orders read back as new copies")
+        void roundTrip() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 1024, 4);
+            Order order = order("ORD-1", 3);
+
+            assertTrue(store.put(order));
+            Order read = store.get("ORD-1");
+
+            assertNotSame(order, read);
+            assertEquals(order.getTotalAmount(), read.getTotalAmount());
+            assertEquals(order.getItems().get(2).getId(), read.getItems().get(2).getId());
+            assertTrue(store.contains("ORD-1"));
+            assertNull(store.get("ORD-2"));
+        }
+
+        @Test
+        @DisplayName("Replacing an order keeps one copy")
+        void replace() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 1024, 4);
+            Order order = order("ORD-1", 1);
+            store.put(order);
+
+            order.setStatus(OrderStatus.SHIPPED);
+            store.put(order);
+
+            assertEquals(1, store.size());
+            assertEquals(OrderStatus.SHIPPED, store.get("ORD-1").getStatus());
+        }
+
+        @Test
+        @DisplayName("Orders above the record size are not stored and drop the old copy")
+        void oversized() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 1024, 4);
+            store.put(order("ORD-1", 1));
+
+            assertFalse(store.put(order("ORD-1", 200)));
+
+            assertFalse(store.contains("ORD-1"));
+            assertEquals(0, store.size());
+        }
+
+        @Test
+        @DisplayName("Freed chunks are reused instead of growing the slabs")
+        void reusesChunks() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 1024, 1);
+            for (int i = 0; i < 100; i++) {
+                store.put(order("ORD-" + i, 2));
+            }
+            long reserved = store.reservedBytes();
+            long allocated = store.allocatedBytes();
+
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 100; i++) {
+                    assertTrue(store.remove("ORD-" + i));
+                }
+                assertEquals(0, store.allocatedBytes());
+                for (int i = 0; i < 100; i++) {
+                    store.put(order("ORD-" + i, 2));
+                }
+            }
+
+            assertEquals(reserved, store.reservedBytes());
+            assertEquals(allocated, store.allocatedBytes());
+            assertEquals(100, store.size());
+        }
+
+        @Test
+        @DisplayName("Stripe counts must be powers of two within the bound")
+        void invalidStripes() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 1024, 3));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 2, 4));
+        }
+    }
+
+    // ==================== Retention ====================
+
+    @Nested
+    @DisplayName("Retention")
+    class Retention {
+
+        @Test
+        @DisplayName("The oldest writes are evicted beyond the bound")
+        void evictsOldest() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 4, 1);
+
+            for (int i = 0; i < 6; i++) {
+                store.put(order("ORD-" + i, 1));
+            }
+
+            assertEquals(4, store.size());
+            assertEquals(2, store.evicted());
+            assertFalse(store.contains("ORD-0"));
+            assertFalse(store.contains("ORD-1"));
+            assertTrue(store.contains("ORD-2"));
+            assertTrue(store.contains("ORD-5"));
+        }
+
+        @Test
+        @DisplayName("Rewriting an order makes it the newest")
+        void rewriteRefreshes() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 3, 1);
+            store.put(order("ORD-0", 1));
+            store.put(order("ORD-1", 1));
+            store.put(order("ORD-0", 1));
+
+            store.put(order("ORD-2", 1));
+            store.put(order("ORD-3", 1));
+
+            assertTrue(store.contains("ORD-0"));
+            assertFalse(store.contains("ORD-1"));
+            assertTrue(store.contains("ORD-2"));
+            assertTrue(store.contains("ORD-3"));
+            assertEquals(1, store.evicted());
+        }
+
+        @Test
+        @DisplayName("Removed orders are not evicted a second time")
+        void removedSkipped() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 2, 1);
+            store.put(order("ORD-0", 1));
+            store.remove("ORD-0");
+            store.put(order("ORD-1", 1));
+
+            store.put(order("ORD-2", 1));
+
+            assertEquals(0, store.evicted());
+            assertEquals(2, store.size());
+        }
+
+        @Test
+        @DisplayName("Memory stays bounded under a stream of new orders")
+        void bounded() {
+            store = new OffHeapOrderStore(SLAB_BYTES, MAX_RECORD_BYTES, 256, 4);
+            for (int i = 0; i < 256; i++) {
+                store.put(order("ORD-" + i, 2));
+            }
+            long reserved = store.reservedBytes();
+
+            for (int i = 256; i < 20_000; i++) {
+                store.put(order("ORD-" + i, 2));
+            }
+
+            assertTrue(store.size() <= 256);
+            assertTrue(store.contains("ORD-19999"));
+            assertTrue(store.reservedBytes() <= reserved + 4L * SLAB_BYTES,
+                    reserved + " -> " + store.reservedBytes());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.orderservice.app.infra.orderstore.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OffHeapIndex Tests")
+class OffHeapIndexTest {
+
+    /** Slots of an index created for 8 entries; below 2^32 a hash's home slot is hash % SLOTS. */
+    private static final int SLOTS = 32;
+
+    private final OffHeapIndex index = new OffHeapIndex(8);
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * @return the value stored for {@code hash}, or -1
+     */
+    private long lookup(long hash) {
+        for (int slot = index.slotOf(hash);; slot = index.next(slot)) {
+            long stored = index.hashAt(slot);
+            if (stored == 0) {
+                return -1;
+            }
+            if (stored == hash) {
+                return index.valueAt(slot);
+            }
+        }
+    }
+
+    private int slotOfEntry(long hash) {
+        for (int slot = index.slotOf(hash);; slot = index.next(slot)) {
+            if (index.hashAt(slot) == hash) {
+                return slot;
+            }
+        }
+    }
+
+    private void remove(long hash) {
+        index.removeAt(slotOfEntry(hash));
+    }
+
+    // ==================== Lookup ====================
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("Colliding entries are found along the probe sequence")
+        void collisions() {
+            index.insert(5, 50);
+            index.insert(5 + SLOTS, 51);
+            index.insert(6, 60);
+
+            assertEquals(50, lookup(5));
+            assertEquals(51, lookup(5 + SLOTS));
+            assertEquals(60, lookup(6));
+            assertEquals(7, slotOfEntry(6));
+            assertEquals(-1, lookup(5 + 2 * SLOTS));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("Values can be replaced in place")
+        void replaceValue() {
+            index.insert(9, 90);
+
+            index.setValueAt(slotOfEntry(9), 91);
+
+            assertEquals(91, lookup(9));
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        @DisplayName("Growing keeps every entry")
+        void resize() {
+            long before = index.reservedBytes();
+            for (long hash = 1; hash <= 1000; hash++) {
+                index.insert(hash * 0x9E3779B97F4A7C15L, hash);
+            }
+
+            assertTrue(index.reservedBytes() > before);
+            assertEquals(1000, index.size());
+            for (long hash = 1; hash <= 1000; hash++) {
+                assertEquals(hash, lookup(hash * 0x9E3779B97F4A7C15L));
+            }
+        }
+    }
+
+    // ==================== Backward-Shift Delete ====================
+
+    @Nested
+    @DisplayName("Backward-shift delete")
+    class BackwardShift {
+
+        @Test
+        @DisplayName("Removing an entry shifts later entries of its run back")
+        void shiftsBack() {
+            index.insert(5, 50);
+            index.insert(5 + SLOTS, 51);
+            index.insert(5 + 2 * SLOTS, 52);
+
+            remove(5);
+
+            assertEquals(-1, lookup(5));
+            assertEquals(51, lookup(5 + SLOTS));
+            assertEquals(52, lookup(5 + 2 * SLOTS));
+            assertEquals(5, slotOfEntry(5 + SLOTS));
+            assertEquals(6, slotOfEntry(5 + 2 * SLOTS));
+            assertEquals(0, index.hashAt(7));
+        }
+
+        @Test
+        @DisplayName("Entries already in their home slot are not moved")
+        void keepsHomeEntries() {
+            index.insert(5, 50);
+            index.insert(5 + SLOTS, 51);
+            index.insert(6 + SLOTS, 61);
+            index.insert(8, 80);
+
+            remove(5);
+
+            // 5+SLOTS moves to 5, 6+SLOTS back to its home 6, 8 stays home
+            assertEquals(5, slotOfEntry(5 + SLOTS));
+            assertEquals(6, slotOfEntry(6 + SLOTS));
+            assertEquals(8, slotOfEntry(8));
+            assertEquals(0, index.hashAt(7));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("Runs that wrap around the end of the table are shifted across it")
+        void wraps() {
+            index.insert(SLOTS - 1, 1);
+            index.insert(2 * SLOTS - 1, 2);
+            index.insert(3 * SLOTS - 1, 3);
+            index.insert(SLOTS, 4);
+
+            assertEquals(0, slotOfEntry(2 * SLOTS - 1));
+            remove(SLOTS - 1);
+
+            assertEquals(SLOTS - 1, slotOfEntry(2 * SLOTS - 1));
+            assertEquals(0, slotOfEntry(3 * SLOTS - 1));
+            assertEquals(1, slotOfEntry(SLOTS));
+            assertEquals(0, index.hashAt(2));
+            assertEquals(3, lookup(3 * SLOTS - 1));
+            assertEquals(4, lookup(SLOTS));
+        }
+
+        @Test
+        @DisplayName("Random inserts and removes agree with a HashMap")
+        void matchesHashMap() {
+            SplittableRandom random = new SplittableRandom(3);
+            Map<Long, Long> expected = new HashMap<>();
+            for (int i = 0; i < 20_000; i++) {
+                // Few distinct keys over few home slots, so runs are long
+                long hash = 1 + random.nextInt(64) + (long) random.nextInt(4) * SLOTS;
+                if (expected.containsKey(hash)) {
+                    remove(hash);
+                    expected.remove(hash);
+                } else {
+                    index.insert(hash, i);
+                    expected.put(hash, (long) i);
+                }
+                assertEquals(expected.size(), index.size());
+            }
+            for (long hash = 1; hash <= 64 + 3 * SLOTS; hash++) {
+                assertEquals(expected.getOrDefault(hash, -1L), lookup(hash), "hash " + hash);
+            }
+        }
+    }
+}
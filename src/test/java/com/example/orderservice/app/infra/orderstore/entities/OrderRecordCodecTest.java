@@ -0,0 +1,172 @@
+package com.example.orderservice.app.infra.orderstore.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.orderservice.app.core.orders.entities.Order;
+import com.example.orderservice.app.core.orders.entities.OrderItem;
+import com.example.orderservice.app.core.orders.entities.OrderStatus;
+
+@DisplayName("OrderRecordCodec Tests")
+class OrderRecordCodecTest {
+
+    private static final long OFFSET = 24;
+
+    private final Arena arena = Arena.ofConfined();
+
+    @AfterEach
+    void tearDown() {
+        arena.close();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Write {@code order} at {@link #OFFSET} of a segment sized exactly for
+     * it, so a size mismatch fails with an out-of-bounds access.
+     */
+    private MemorySegment write(Order order, int sequence) {
+        UUID[] itemIds = new UUID[order.getItems().size()];
+        int size = OrderRecordCodec.sizeOf(order, itemIds);
+        MemorySegment segment = arena.allocate(OFFSET + size, 8);
+        OrderRecordCodec.write(segment, OFFSET, order, itemIds, OrderRecordCodec.hash(order.getId()), sequence);
+        assertEquals(size, OrderRecordCodec.recordSize(segment, OFFSET));
+        return segment;
+    }
+
+    private static Order order(String id) {
+        Order order = new Order(id, "CUST-1", "USD");
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedAt(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_789));
+        order.setUpdatedAt(LocalDateTime.of(2026, 3, 1, 12, 31));
+        return order;
+    }
+
+    private static void assertSameOrder(Order expected, Order actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getCustomerId(), actual.getCustomerId());
+        assertEquals(expected.getCurrency(), actual.getCurrency());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getTotalAmount(), actual.getTotalAmount());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getItems().size(), actual.getItems().size());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem e = expected.getItems().get(i);
+            OrderItem a = actual.getItems().get(i);
+            assertEquals(e.getId(), a.getId(), "item " + i);
+            assertEquals(e.getOrderId(), a.getOrderId(), "item " + i);
+            assertEquals(e.getProductId(), a.getProductId(), "item " + i);
+            assertEquals(e.getProductName(), a.getProductName(), "item " + i);
+            assertEquals(e.getQuantity(), a.getQuantity(), "item " + i);
+            assertEquals(e.getScale(), a.getScale(), "item " + i);
+            assertEquals(e.getUnitPrice(), a.getUnitPrice(), "item " + i);
+            assertEquals(e.getTotalPrice(), a.getTotalPrice(), "item " + i);
+        }
+    }
+
+    // ==================== Round Trip ====================
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("UUID item ids of the same order read back unchanged")
+        void uuidItems() {
+            String orderId = UUID.randomUUID().toString();
+            Order order = order(orderId);
+            order.addItem(new OrderItem(UUID.randomUUID().toString(), orderId, "PROD-1", "Widget", 2,
+                    new BigDecimal("19.99")));
+            order.addItem(new OrderItem(UUID.randomUUID().toString(), orderId, "PROD-2", null, 1,
+                    new BigDecimal("0.125")));
+
+            MemorySegment segment = write(order, 7);
+
+            assertSameOrder(order, OrderRecordCodec.read(segment, OFFSET));
+            assertEquals(7, OrderRecordCodec.sequenceAt(segment, OFFSET));
+            assertEquals(OrderRecordCodec.hash(orderId), OrderRecordCodec.hashAt(segment, OFFSET));
+        }
+
+        @Test
+        @DisplayName("Other item ids, foreign order ids, nulls and UTF-16 read back unchanged")
+        void stringItems() {
+            Order order = order("ORD-1");
+            order.addItem(new OrderItem("ITEM-1", "ORD-OTHER", "PROD-1", "Café crème", 3,
+                    new BigDecimal("4.5")));
+            order.addItem(new OrderItem(UUID.randomUUID().toString().toUpperCase(), null, "PROD-2",
+                    "商品 😀", 1, new BigDecimal("1000")));
+            OrderItem unpriced = new OrderItem();
+            unpriced.setProductId("PROD-3");
+            unpriced.setQuantity(1);
+            order.addItem(unpriced);
+
+            MemorySegment segment = write(order, -1);
+
+            assertSameOrder(order, OrderRecordCodec.read(segment, OFFSET));
+            assertEquals(-1, OrderRecordCodec.sequenceAt(segment, OFFSET));
+        }
+
+        @Test
+        @DisplayName("An order without items or status reads back unchanged")
+        void emptyOrder() {
+            Order order = new Order("ORD-2", null, "JPY");
+            order.setStatus(null);
+
+            assertSameOrder(order, OrderRecordCodec.read(write(order, 0), OFFSET));
+        }
+
+        @Test
+        @DisplayName("sizeOf reports which item ids are canonical UUIDs")
+        void parsesItemIds() {
+            String uuid = UUID.randomUUID().toString();
+            Order order = order("ORD-3");
+            order.addItem(new OrderItem(uuid, "ORD-3", "PROD-1", null, 1, BigDecimal.ONE));
+            order.addItem(new OrderItem(uuid.toUpperCase(), "ORD-3", "PROD-1", null, 1, BigDecimal.ONE));
+            UUID[] itemIds = new UUID[2];
+
+            OrderRecordCodec.sizeOf(order, itemIds);
+
+            assertEquals(UUID.fromString(uuid), itemIds[0]);
+            assertNull(itemIds[1]);
+        }
+    }
+
+    // ==================== Id Comparison ====================
+
+    @Nested
+    @DisplayName("Id comparison")
+    class IdComparison {
+
+        @Test
+        @DisplayName("idEquals matches only the stored id")
+        void idEquals() {
+            MemorySegment latin1 = write(order("ORD-10"), 0);
+            MemorySegment utf16 = write(order("ORD-Ā"), 0);
+
+            assertTrue(OrderRecordCodec.idEquals(latin1, OFFSET, "ORD-10"));
+            assertFalse(OrderRecordCodec.idEquals(latin1, OFFSET, "ORD-11"));
+            assertFalse(OrderRecordCodec.idEquals(latin1, OFFSET, "ORD-1"));
+            assertTrue(OrderRecordCodec.idEquals(utf16, OFFSET, "ORD-Ā"));
+            assertFalse(OrderRecordCodec.idEquals(utf16, OFFSET, "ORD-A"));
+        }
+
+        @Test
+        @DisplayName("Hashes are never 0")
+        void hashNeverZero() {
+            for (int i = 0; i < 100_000; i++) {
+                assertNotEquals(0, OrderRecordCodec.hash("ORD-" + i));
+            }
+        }
+    }
+}
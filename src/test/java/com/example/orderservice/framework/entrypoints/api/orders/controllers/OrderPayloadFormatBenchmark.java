@@ -0,0 +1,109 @@
+package com.example.orderservice.framework.entrypoints.api.orders.controllers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.INPUT_CreateOrder;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.InputOrderItem;
+import com.example.orderservice.app.core.orders.features.createOrder.schemas.OUTPUT_CreateOrder;
+import com.example.orderservice.app.core.origin.schemas.ServiceOutput;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Serialization cost of one create-order request per wire format: reading an
+ * {@link INPUT_CreateOrder} of {@code items} items from the request body and
+ * writing the {@code ServiceOutput<OUTPUT_CreateOrder>} response. The rest of
+ * the request is the same whatever the format.
+ *
+ * <p>
+ * The setup prints the request and response sizes for each format and checks
+ * that the request reads back equal to what was written.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderPayloadFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    @Param({ "1", "10", "50" })
+    public int items;
+
+    private ObjectMapper mapper;
+    private byte[] request;
+    private ServiceOutput<OUTPUT_CreateOrder> response;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "json" -> JsonMapper.builder().build();
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        List<InputOrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            orderItems.add(new InputOrderItem(String.format("PROD-%03d", i + 1), 1 + i % 5,
+                    BigDecimal.valueOf(999 + 250L * i, 2)));
+        }
+        INPUT_CreateOrder input = new INPUT_CreateOrder("customer-" + items, orderItems, "USD", "DE");
+        request = mapper.writeValueAsBytes(input);
+        if (!input.equals(mapper.readValue(request, INPUT_CreateOrder.class))) {
+            throw new IllegalStateException(format + " request does not read back equal");
+        }
+        response = ServiceOutput.success(new OUTPUT_CreateOrder("0191d5a2-7c1e-7b3a-9f1e-4c2d8a6b1e0f", "CREATED",
+                new BigDecimal("1234.50"), "USD", Instant.parse("2026-01-15T10:15:30.123456Z")));
+        System.out.printf("%n%s, %d items: request %d B, response %d B%n", format, items, request.length,
+                mapper.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public INPUT_CreateOrder readRequest() {
+        return mapper.readValue(request, INPUT_CreateOrder.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] roundTrip() {
+        mapper.readValue(request, INPUT_CreateOrder.class);
+        return mapper.writeValueAsBytes(response);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderPayloadFormatBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}